@@ -0,0 +1,209 @@
+package goorm.ddok.global.persistence;
+
+import goorm.ddok.chat.domain.ChatMessage;
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.domain.ChatRoomType;
+import goorm.ddok.evaluation.domain.TeamEvaluationScore;
+import goorm.ddok.member.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * ChatMessage / TeamEvaluationScore 저장 처리량 (inserts/sec)
+ *
+ * - 실제 엔티티(@SequenceGenerator pooled)와 application.properties 의 spring.jpa.properties.*
+ *   (jdbc.batch_size, order_inserts 등)를 그대로 써서 EntityManager.persist 로 저장한다
+ * - 시작 시 Hibernate 통계로 배치 여부를 확인: 배치가 꺼져 있으면(설정 누락, IDENTITY 복귀 등)
+ *   prepared statement 수가 행 수만큼 나오므로 벤치마크를 실패시킨다
+ * - 기본은 H2(PostgreSQL 모드) 메모리 DB, 실제 수치는 빈 PostgreSQL DB 에서 측정 (스키마를 create-drop 한다)
+ *   ./gradlew jmh -Pjmh.includes=IdGenerationInsert -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench?reWriteBatchedInserts=true
+ * - IDENTITY 와의 비교는 엔티티가 IDENTITY 이던 커밋에서 같은 벤치마크를 돌려 비교한다 (그 경우 배치 확인은 실패로 나온다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationInsertBenchmark {
+
+    /** 트랜잭션 1개에서 저장하는 행 수 */
+    private static final int ROWS = 500;
+    private static final String JPA_PROPERTY_PREFIX = "spring.jpa.properties.";
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory emf;
+    private Statistics statistics;
+    private int batchSize;
+
+    private Long roomId;
+    private Long senderId;
+    private final AtomicLong evaluationIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Properties app = PropertiesLoaderUtils.loadAllProperties("application.properties");
+        Map<String, Object> jpa = new HashMap<>();
+        app.stringPropertyNames().stream()
+                .filter(k -> k.startsWith(JPA_PROPERTY_PREFIX))
+                .forEach(k -> jpa.put(k.substring(JPA_PROPERTY_PREFIX.length()), app.getProperty(k)));
+        batchSize = Integer.parseInt(String.valueOf(jpa.getOrDefault(AvailableSettings.STATEMENT_BATCH_SIZE, "0")));
+        if (batchSize < 2) {
+            throw new IllegalStateException("JDBC batching is off: " + AvailableSettings.STATEMENT_BATCH_SIZE + "=" + batchSize);
+        }
+
+        jpa.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        jpa.put(AvailableSettings.GENERATE_STATISTICS, "true");
+        jpa.put(AvailableSettings.SHOW_SQL, "false");
+        jpa.put(AvailableSettings.FORMAT_SQL, "false");
+        jpa.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        jpa.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:insert_bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", "")));
+        factoryBean.setPackagesToScan("goorm.ddok");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(jpa);
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        Instant now = Instant.now();
+        inTransaction(em -> {
+            User sender = User.builder()
+                    .username("bench")
+                    .password("bench")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            em.persist(sender);
+            ChatRoom room = ChatRoom.builder()
+                    .roomType(ChatRoomType.GROUP)
+                    .name("bench")
+                    .createdAt(now)
+                    .build();
+            em.persist(room);
+            em.flush();
+            senderId = sender.getId();
+            roomId = room.getId();
+        });
+
+        verifyBatched("chat_message", this::chatMessages);
+        verifyBatched("team_evaluation_score", this::teamEvaluationScores);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (factoryBean != null) factoryBean.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void chatMessages() {
+        Instant now = Instant.now();
+        inTransaction(em -> {
+            ChatRoom room = em.getReference(ChatRoom.class, roomId);
+            User sender = em.getReference(User.class, senderId);
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(ChatMessage.builder()
+                        .room(room)
+                        .sender(sender)
+                        .contentText("message " + i)
+                        .createdAt(now)
+                        .build());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void teamEvaluationScores() {
+        Instant now = Instant.now();
+        long evaluationId = evaluationIds.incrementAndGet();
+        inTransaction(em -> {
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(TeamEvaluationScore.builder()
+                        .evaluationId(evaluationId)
+                        .evaluatorUserId(1L)
+                        .targetUserId(2L)
+                        .itemId((long) i)
+                        .score(3)
+                        .createdAt(now)
+                        .build());
+            }
+        });
+    }
+
+    /* ---------- 지원 ---------- */
+
+    /**
+     * ROWS 건 저장에 쓰인 prepared statement 수로 배치 여부 확인
+     * - 배치: INSERT 는 batch_size 건마다 1번, 시퀀스는 ALLOCATION_SIZE 건마다 1번 (+ 최초 할당 여유)
+     * - 비배치: INSERT 마다 1번 (ROWS 이상)
+     */
+    private void verifyBatched(String table, Runnable insert) {
+        statistics.clear();
+        insert.run();
+
+        long inserted = statistics.getEntityInsertCount();
+        long prepared = statistics.getPrepareStatementCount();
+        long expectedMax = ceilDiv(ROWS, batchSize) + ceilDiv(ROWS, IdSequences.ALLOCATION_SIZE) + 2;
+        if (inserted != ROWS || prepared > expectedMax) {
+            throw new IllegalStateException(String.format(
+                    "%s inserts are not batched: inserted=%d, preparedStatements=%d (expected <= %d for batch_size=%d)",
+                    table, inserted, prepared, expectedMax, batchSize));
+        }
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager em = emf.createEntityManager();
+        EntityTransaction tx = em.getTransaction();
+        try {
+            tx.begin();
+            work.accept(em);
+            tx.commit();
+        } finally {
+            if (tx.isActive()) tx.rollback();
+            em.close();
+        }
+    }
+
+    private static long ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+}
@@ -0,0 +1,106 @@
+package goorm.ddok.global.security.jwt;
+
+import goorm.ddok.global.security.auth.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건의 JwtAuthenticationFilter 비용: 검증 토큰 캐시 hit vs miss
+ *
+ * - hit : 같은 토큰 폴링 (SHA-256 + 맵 조회)
+ * - miss: ttl 0 캐시 → 매번 HMAC 검증 + 클레임 파싱 후 저장하지 않음 (캐시 도입 전 경로 + 해시 비용)
+ * - 사용자 조회는 하지 않는다 (클레임 주체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache hitCache;
+    private VerifiedTokenCache missCache;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKeyPlain", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpireMillis", TimeUnit.HOURS.toMillis(1));
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.createToken(42L, "benchmark");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hitCache = new VerifiedTokenCache(meterRegistry, true, 60_000, 50_000);
+        missCache = new VerifiedTokenCache(meterRegistry, true, 0, 50_000);
+
+        // fromClaims 는 저장소를 쓰지 않는다
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null, null);
+        cachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, hitCache);
+        uncachedFilter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, missCache);
+
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+        hitCache.put(token, claims, jwtTokenProvider.getUserId(claims), claims.get(JwtTokenProvider.NICKNAME_CLAIM, String.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int filterCacheHit() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public int filterCacheMiss() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken cacheHit() {
+        return hitCache.get(token);
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken cacheMiss() {
+        VerifiedTokenCache.VerifiedToken verified = missCache.get(token);
+        if (verified != null) return verified;
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+        return missCache.put(token, claims, jwtTokenProvider.getUserId(claims), claims.get(JwtTokenProvider.NICKNAME_CLAIM, String.class));
+    }
+
+    private int runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/chats/rooms/12/messages");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NOOP_CHAIN);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,52 @@
+package goorm.ddok.global.security.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * shouldNotFilter 경로 판정: PathPatternTrie vs 기존 AntPathMatcher 스트림 (두 제외 목록 모두 검사)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathPatternTrieBenchmark {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final PathPatternTrie wsTrie = new PathPatternTrie(JwtAuthenticationFilter.WS_SKIP_PATTERNS);
+    private final PathPatternTrie publicTrie = new PathPatternTrie(JwtAuthenticationFilter.PUBLIC_SKIP_PATTERNS);
+
+    /** 일반 API(둘 다 불일치, 가장 흔함) / WS 경로 / 공개 API */
+    @Param({"/api/chats/rooms/12/messages", "/ws/chats/123/abcd/websocket", "/api/auth/signin"})
+    public String path;
+
+    @Benchmark
+    public boolean trie() {
+        return wsTrie.matches(path) || publicTrie.matches(path);
+    }
+
+    @Benchmark
+    public boolean antPathMatcherStream() {
+        return anyMatch(JwtAuthenticationFilter.WS_SKIP_PATTERNS, path)
+                || anyMatch(JwtAuthenticationFilter.PUBLIC_SKIP_PATTERNS, path);
+    }
+
+    private static boolean anyMatch(List<String> patterns, String uri) {
+        return patterns.stream().anyMatch(p -> PATH_MATCHER.match(p, uri));
+    }
+}
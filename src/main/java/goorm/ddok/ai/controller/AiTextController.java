@@ -5,11 +5,14 @@ import goorm.ddok.ai.dto.request.AiStudyRequest;
 import goorm.ddok.ai.dto.response.AiTextResponse;
 import goorm.ddok.ai.service.AiTextService;
 import goorm.ddok.global.response.ApiResponseDto;
+import goorm.ddok.global.security.auth.CustomUserDetails;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api")
@@ -19,18 +22,52 @@ public class AiTextController {
 
     private final AiTextService ai;
 
+    // force=true: 같은 입력이어도 캐시를 쓰지 않고 다시 생성
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/projects/ai")
-    public ResponseEntity<ApiResponseDto<AiTextResponse>> projectAi(@RequestBody AiProjectRequest req) {
-        String detail = ai.generateProjectDetail(req);
+    public ResponseEntity<ApiResponseDto<AiTextResponse>> projectAi(
+            @RequestBody AiProjectRequest req,
+            @RequestParam(defaultValue = "false") boolean force,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        String detail = ai.generateProjectDetail(me.getId(), req, force);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponseDto.of(201, "상세 내용 생성이 성공했습니다.", new AiTextResponse(detail)));
     }
 
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/studies/ai")
-    public ResponseEntity<ApiResponseDto<AiTextResponse>> studyAi(@RequestBody AiStudyRequest req) {
-        String detail = ai.generateStudyDetail(req);
+    public ResponseEntity<ApiResponseDto<AiTextResponse>> studyAi(
+            @RequestBody AiStudyRequest req,
+            @RequestParam(defaultValue = "false") boolean force,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        String detail = ai.generateStudyDetail(me.getId(), req, force);
         return ResponseEntity.ok(ApiResponseDto.of(200, "요청이 성공적으로 처리되었습니다.", new AiTextResponse(detail)));
     }
+
+    // 스트리밍(SSE): delta → done | error, 프록시 버퍼링 끔
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping(value = "/projects/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> projectAiStream(
+            @RequestBody AiProjectRequest req,
+            @RequestParam(defaultValue = "false") boolean force,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(ai.streamProjectDetail(me.getId(), req, force));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping(value = "/studies/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> studyAiStream(
+            @RequestBody AiStudyRequest req,
+            @RequestParam(defaultValue = "false") boolean force,
+            @AuthenticationPrincipal CustomUserDetails me
+    ) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(ai.streamStudyDetail(me.getId(), req, force));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package goorm.ddok.ai.service;
+
+import goorm.ddok.ai.service.provider.AiModelClient;
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 모델 호출 관문 (AiModelClient 앞단)
+ *
+ * - 전역 동시 호출 max-concurrent 개: 자리가 없으면 acquire-timeout-ms 만큼만 기다리고 429
+ * - 사용자별 동시 호출 per-user-concurrent 개: 초과 시 기다리지 않고 바로 429 (연타 방지)
+ * - 허가는 동기 호출이면 반환 시, 스트림이면 완료/실패/취소 중 먼저 온 시점에 한 번만 반납
+ * - 지표: ai.gateway.admission, ai.gateway.latency(mode/result), ai.gateway.first_delta,
+ *         ai.gateway.queue_wait, ai.gateway.in_flight
+ */
+@Slf4j
+@Component
+public class AiGateway {
+
+    private final AiModelClient model;
+
+    private final int maxConcurrent;
+    private final int perUserConcurrent;
+    private final long acquireTimeoutMs;
+    private final Semaphore global;
+    private final Map<Long, Integer> inFlightByUser = new ConcurrentHashMap<>();
+
+    private final Counter admittedCounter;
+    private final Counter rejectedGlobalCounter;
+    private final Counter rejectedUserCounter;
+    private final Timer queueWaitTimer;
+    private final Timer firstDeltaTimer;
+    private final MeterRegistry meterRegistry;
+
+    public AiGateway(
+            AiModelClient model,
+            MeterRegistry meterRegistry,
+            @Value("${ai.gateway.max-concurrent:32}") int maxConcurrent,
+            @Value("${ai.gateway.per-user-concurrent:1}") int perUserConcurrent,
+            @Value("${ai.gateway.acquire-timeout-ms:2000}") long acquireTimeoutMs
+    ) {
+        this.model = model;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.perUserConcurrent = Math.max(1, perUserConcurrent);
+        this.acquireTimeoutMs = Math.max(0, acquireTimeoutMs);
+        this.global = new Semaphore(this.maxConcurrent, true);
+
+        this.admittedCounter = Counter.builder("ai.gateway.admission")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rejectedGlobalCounter = Counter.builder("ai.gateway.admission")
+                .tag("result", "rejected_global")
+                .register(meterRegistry);
+        this.rejectedUserCounter = Counter.builder("ai.gateway.admission")
+                .tag("result", "rejected_user")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("ai.gateway.queue_wait")
+                .register(meterRegistry);
+        this.firstDeltaTimer = Timer.builder("ai.gateway.first_delta")
+                .register(meterRegistry);
+        Gauge.builder("ai.gateway.in_flight", global, s -> this.maxConcurrent - s.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /** 동기 생성 (요청 스레드에서 완료까지 대기) */
+    public String generate(Long userId, String prompt, int maxTokens) {
+        Permit permit = admit(userId);
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            String text = model.generate(prompt, maxTokens);
+            result = "success";
+            return text;
+        } finally {
+            latency("sync", result, start);
+            permit.release();
+        }
+    }
+
+    /** 스트리밍 생성: 허가를 받은 뒤 바로 반환, 허가는 스트림이 끝날 때 반납 */
+    public AiModelClient.Cancellable stream(Long userId, String prompt, int maxTokens, AiModelClient.StreamListener listener) {
+        Permit permit = admit(userId);
+        long start = System.nanoTime();
+        AtomicBoolean firstDelta = new AtomicBoolean(true);
+
+        AiModelClient.Cancellable upstream;
+        try {
+            upstream = model.stream(prompt, maxTokens, new AiModelClient.StreamListener() {
+                @Override
+                public void onDelta(String delta) {
+                    if (firstDelta.compareAndSet(true, false)) {
+                        firstDeltaTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                    listener.onDelta(delta);
+                }
+
+                @Override
+                public void onComplete(String fullText) {
+                    if (permit.release()) latency("stream", "success", start);
+                    listener.onComplete(fullText);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    if (permit.release()) latency("stream", "error", start);
+                    listener.onError(error);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (permit.release()) latency("stream", "error", start);
+            throw e;
+        }
+
+        return () -> {
+            if (permit.release()) latency("stream", "cancelled", start);
+            upstream.cancel();
+        };
+    }
+
+    public boolean cacheable(String text) {
+        return model.cacheable(text);
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private Permit admit(Long userId) {
+        if (!acquireUser(userId)) {
+            rejectedUserCounter.increment();
+            throw new GlobalException(ErrorCode.AI_USER_CONCURRENCY_EXCEEDED);
+        }
+
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = global.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        queueWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            releaseUser(userId);
+            rejectedGlobalCounter.increment();
+            log.warn("AI gateway saturated: maxConcurrent={}, userId={}", maxConcurrent, userId);
+            throw new GlobalException(ErrorCode.AI_GATEWAY_BUSY);
+        }
+        admittedCounter.increment();
+        return new Permit(userId);
+    }
+
+    private boolean acquireUser(Long userId) {
+        if (userId == null) return true;
+        AtomicBoolean admitted = new AtomicBoolean(false);
+        inFlightByUser.compute(userId, (id, current) -> {
+            int n = (current == null) ? 0 : current;
+            if (n >= perUserConcurrent) return current;
+            admitted.set(true);
+            return n + 1;
+        });
+        return admitted.get();
+    }
+
+    private void releaseUser(Long userId) {
+        if (userId == null) return;
+        // 0 이 되면 항목 제거 (사용자 수만큼 맵이 커지지 않게)
+        inFlightByUser.computeIfPresent(userId, (id, current) -> current > 1 ? current - 1 : null);
+    }
+
+    private void latency(String mode, String result, long startNanos) {
+        Timer.builder("ai.gateway.latency")
+                .tag("mode", mode)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 한 번만 반납되는 허가 (스트림 완료와 취소가 겹쳐도 중복 반납 없음) */
+    private final class Permit {
+        private final Long userId;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Long userId) {
+            this.userId = userId;
+        }
+
+        boolean release() {
+            if (!released.compareAndSet(false, true)) return false;
+            global.release();
+            releaseUser(userId);
+            return true;
+        }
+    }
+}
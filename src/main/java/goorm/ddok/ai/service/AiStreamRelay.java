@@ -0,0 +1,110 @@
+package goorm.ddok.ai.service;
+
+import goorm.ddok.ai.service.provider.AiModelClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 모델 스트림 → 브라우저 SSE 중계
+ *
+ * 이벤트
+ * - delta : {"text": 조각}        (도착하는 대로)
+ * - done  : {"text": 최종 완성본}  (delta 누적 대신 이것으로 교체)
+ * - error : {"message": 사유}
+ * 브라우저 연결이 끊기거나 타임아웃이면 모델 호출도 취소한다.
+ * 허가를 못 받으면(AiGateway 429) emitter 를 만들기 전에 예외로 끝난다.
+ */
+@Slf4j
+@Component
+public class AiStreamRelay {
+
+    private final AiGateway gateway;
+    private final long timeoutMs;
+
+    public AiStreamRelay(
+            AiGateway gateway,
+            @Value("${ai.stream.timeout-ms:60000}") long timeoutMs
+    ) {
+        this.gateway = gateway;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /** onDone: 최종 완성본을 받는 콜백 (결과 캐시 저장용, null 허용) */
+    public SseEmitter relay(Long userId, String prompt, int maxTokens, Consumer<String> onDone) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        AtomicReference<AiModelClient.Cancellable> upstream = new AtomicReference<>();
+
+        Runnable cancel = () -> {
+            closed.set(true);
+            AiModelClient.Cancellable c = upstream.get();
+            if (c != null) c.cancel();
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(() -> {
+            cancel.run();
+            emitter.complete();
+        });
+        emitter.onError(e -> cancel.run());
+
+        upstream.set(gateway.stream(userId, prompt, maxTokens, new AiModelClient.StreamListener() {
+            @Override
+            public void onDelta(String delta) {
+                send(emitter, closed, "delta", Map.of("text", delta));
+            }
+
+            @Override
+            public void onComplete(String fullText) {
+                if (onDone != null) {
+                    try {
+                        onDone.accept(fullText);
+                    } catch (Exception e) {
+                        log.warn("AI stream done callback failed", e);
+                    }
+                }
+                if (send(emitter, closed, "done", Map.of("text", fullText))) emitter.complete();
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                log.warn("AI stream failed", error);
+                if (send(emitter, closed, "error", Map.of("message", "AI 응답 생성에 실패했습니다."))) emitter.complete();
+            }
+        }));
+        // 스트림 시작 전에 이미 끊긴 경우
+        if (closed.get()) cancel.run();
+
+        return emitter;
+    }
+
+    /** 이미 만들어 둔 결과를 같은 이벤트 순서(delta → done)로 바로 보낸다 */
+    public SseEmitter replay(String text) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        if (send(emitter, closed, "delta", Map.of("text", text))
+                && send(emitter, closed, "done", Map.of("text", text))) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private static boolean send(SseEmitter emitter, AtomicBoolean closed, String event, Object data) {
+        if (closed.get()) return false;
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+            return true;
+        } catch (Exception e) {
+            // 브라우저 연결 종료 → 이후 조각은 버리고 상위 호출 취소
+            closed.set(true);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package goorm.ddok.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * AI 생성 결과 캐시 (Redis, 프롬프트 내용 주소)
+ *
+ * - 키 = ai:text:{SHA-256(모델, maxTokens, 공백 정규화한 프롬프트)}
+ *   · 프롬프트는 정규화된 요청 필드(trim, 빈 값 제거)로 만들어지므로 같은 입력 → 같은 키
+ *   · 프롬프트 템플릿이나 모델이 바뀌면 키도 바뀐다 (따로 무효화할 필요 없음)
+ * - ttl-seconds 가 지나면 만료, max-entries 를 넘으면 오래된 것부터 지운다 (인덱스 ZSET)
+ * - Redis 장애는 캐시 미스로 취급 (생성은 계속)
+ * - 지표: ai.text.cache{result=hit|miss|bypass}
+ */
+@Slf4j
+@Component
+public class AiTextCache {
+
+    private static final String KEY_PREFIX = "ai:text:";
+    /** 저장 순서 인덱스 (ZSET, score = 저장 시각 ms) */
+    private static final String INDEX = "ai:text:index";
+
+    /** 저장 + 인덱스 갱신 + 만료/초과분 정리를 한 번에 */
+    private static final DefaultRedisScript<Long> PUT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], KEYS[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3] - ARGV[2])
+            local over = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4])
+            if over > 1000 then over = 1000 end
+            if over > 0 then
+              local oldest = redis.call('ZRANGE', KEYS[2], 0, over - 1)
+              redis.call('ZREMRANGEBYRANK', KEYS[2], 0, over - 1)
+              redis.call('DEL', unpack(oldest))
+            end
+            return over
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final boolean enabled;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final String model;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public AiTextCache(
+            StringRedisTemplate redis,
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.enabled:true}") boolean enabled,
+            @Value("${ai.cache.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${ai.cache.max-entries:10000}") int maxEntries,
+            @Value("${ai.clova.model:HCX-005}") String model
+    ) {
+        this.redis = redis;
+        this.enabled = enabled;
+        this.ttlMs = Math.max(1, ttlSeconds) * 1000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.model = model;
+        this.hitCounter = Counter.builder("ai.text.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("ai.text.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder("ai.text.cache")
+                .tag("result", "bypass")
+                .register(meterRegistry);
+    }
+
+    public String key(String prompt, int maxTokens) {
+        String normalized = (prompt == null) ? "" : prompt.strip().replaceAll("\\s+", " ");
+        return KEY_PREFIX + sha256(model + '\n' + maxTokens + '\n' + normalized);
+    }
+
+    /** 캐시된 결과, 없거나 force 면 null */
+    public String get(String key, boolean force) {
+        if (!enabled) return null;
+        if (force) {
+            bypassCounter.increment();
+            return null;
+        }
+        try {
+            String cached = redis.opsForValue().get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("AI text cache read failed: key={}", key, e);
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /** force 로 다시 만든 결과도 덮어쓴다 (다음 요청은 새 결과를 받음) */
+    public void put(String key, String text) {
+        if (!enabled || text == null || text.isBlank()) return;
+        try {
+            redis.execute(PUT, List.of(key, INDEX),
+                    text,
+                    String.valueOf(ttlMs),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(maxEntries));
+        } catch (Exception e) {
+            log.warn("AI text cache write failed: key={}", key, e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
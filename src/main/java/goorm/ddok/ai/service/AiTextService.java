@@ -3,10 +3,10 @@ package goorm.ddok.ai.service;
 import goorm.ddok.ai.dto.request.AiProjectRequest;
 import goorm.ddok.ai.dto.request.AiStudyRequest;
 import goorm.ddok.ai.service.prompt.AiPromptFactory;
-import goorm.ddok.ai.service.provider.AiModelClient;
 import goorm.ddok.global.dto.LocationDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,10 +15,57 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AiTextService {
 
-    private final AiModelClient model; // ClovaStreamClient 또는 ClovaModelClient 주입
+    private static final int MAX_TOKENS = 800;
 
-    public String generateProjectDetail(AiProjectRequest req) {
-        String prompt = AiPromptFactory.buildProjectPrompt(
+    private final AiGateway gateway; // 동시 호출 제한 후 AiModelClient 로 위임
+    private final AiStreamRelay streamRelay;
+    private final AiTextCache cache;
+
+    /** force = true 면 캐시를 건너뛰고 다시 생성 (결과는 캐시에 덮어씀) */
+    public String generateProjectDetail(Long userId, AiProjectRequest req, boolean force) {
+        // 템플릿은 충분히 길 수 있으니 maxTokens 넉넉히
+        return generate(userId, projectPrompt(req), force);
+    }
+
+    public String generateStudyDetail(Long userId, AiStudyRequest req, boolean force) {
+        return generate(userId, studyPrompt(req), force);
+    }
+
+    /** 생성되는 대로 SSE 로 전달 (요청 스레드는 바로 반환), 캐시 적중이면 바로 done */
+    public SseEmitter streamProjectDetail(Long userId, AiProjectRequest req, boolean force) {
+        return stream(userId, projectPrompt(req), force);
+    }
+
+    public SseEmitter streamStudyDetail(Long userId, AiStudyRequest req, boolean force) {
+        return stream(userId, studyPrompt(req), force);
+    }
+
+    private String generate(Long userId, String prompt, boolean force) {
+        String key = cache.key(prompt, MAX_TOKENS);
+        String cached = cache.get(key, force);
+        if (cached != null) return cached;
+
+        String text = gateway.generate(userId, prompt, MAX_TOKENS);
+        if (gateway.cacheable(text)) cache.put(key, text);
+        return text;
+    }
+
+    private SseEmitter stream(Long userId, String prompt, boolean force) {
+        String key = cache.key(prompt, MAX_TOKENS);
+        String cached = cache.get(key, force);
+        if (cached != null) return streamRelay.replay(cached);
+
+        return streamRelay.relay(userId, prompt, MAX_TOKENS, text -> {
+            if (gateway.cacheable(text)) cache.put(key, text);
+        });
+    }
+
+    /* =========================
+     * prompts
+     * ========================= */
+
+    private static String projectPrompt(AiProjectRequest req) {
+        return AiPromptFactory.buildProjectPrompt(
                 safe(req.getTitle()),
                 toDateString(req.getExpectedStart()),
                 req.getExpectedMonth(),
@@ -30,12 +77,10 @@ public class AiTextService {
                 safe(req.getLeaderPosition()),
                 safe(req.getDetail())
         );
-        // 템플릿은 충분히 길 수 있으니 maxTokens 넉넉히
-        return model.generate(prompt, 800);
     }
 
-    public String generateStudyDetail(AiStudyRequest req) {
-        String prompt = AiPromptFactory.buildStudyPrompt(
+    private static String studyPrompt(AiStudyRequest req) {
+        return AiPromptFactory.buildStudyPrompt(
                 safe(req.getTitle()),
                 toDateString(req.getExpectedStart()),
                 req.getExpectedMonth(),
@@ -46,7 +91,6 @@ public class AiTextService {
                 safe(req.getStudyType()),
                 safe(req.getDetail())
         );
-        return model.generate(prompt, 800);
     }
 
     /* =========================
@@ -2,4 +2,39 @@ package goorm.ddok.ai.service.provider;
 
 public interface AiModelClient {
     String generate(String prompt, int maxTokens);
-}
\ No newline at end of file
+
+    /**
+     * 스트리밍 생성: 호출 즉시 반환하고, 조각(delta)이 도착하는 대로 listener 로 전달한다.
+     * 콜백은 모델 클라이언트의 I/O 스레드에서 호출된다.
+     * 기본 구현은 스트리밍을 지원하지 않는 클라이언트용 (generate 결과를 한 번에 전달, 호출 스레드 사용)
+     */
+    default Cancellable stream(String prompt, int maxTokens, StreamListener listener) {
+        try {
+            String text = generate(prompt, maxTokens);
+            listener.onDelta(text);
+            listener.onComplete(text);
+        } catch (Exception e) {
+            listener.onError(e);
+        }
+        return () -> {};
+    }
+
+    /** 캐시해도 되는 결과인지 (비활성/빈 응답 안내 문구 등은 제외) */
+    default boolean cacheable(String text) {
+        return text != null && !text.isBlank();
+    }
+
+    interface StreamListener {
+        void onDelta(String delta);
+
+        /** 최종 완성본 (delta 누적과 다를 수 있으므로 클라이언트는 이것으로 교체) */
+        void onComplete(String fullText);
+
+        void onError(Throwable error);
+    }
+
+    /** 진행 중인 스트림 중단 (브라우저 연결 종료/타임아웃 시) */
+    interface Cancellable {
+        void cancel();
+    }
+}
@@ -1,23 +1,44 @@
 package goorm.ddok.ai.service.provider;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import okhttp3.*;
 import okio.BufferedSource;
+import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * Clova Studio chat-completions (SSE) 클라이언트
+ *
+ * - OkHttpClient 는 인스턴스 하나를 공유 (디스패처/커넥션 풀 재사용)
+ *   · 기본 디스패처는 호스트당 동시 5개 → 비동기 스트림이 조용히 줄을 서므로 max-requests 로 맞춘다
+ *   · read-timeout 은 SSE 조각 사이 간격, call-timeout 은 호출 전체 상한
+ * - 동시 호출 수 제한/허가는 AiGateway 가 담당
+ * - 응답 usage 가 오면 ai.tokens{type=prompt|completion} 에 누적
+ */
 @Component
 @Primary
-@RequiredArgsConstructor
 public class ClovaStreamClient implements AiModelClient {
 
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
-    private final OkHttpClient http = new OkHttpClient();
+    private static final String DISABLED_MESSAGE = "[CLOVA STREAM 비활성화] studio-api-key 미설정";
+    private static final String EMPTY_MESSAGE = "[CLOVA 응답 없음]";
+    private final OkHttpClient http;
+    private final Counter promptTokenCounter;
+    private final Counter completionTokenCounter;
 
     @Value("${ai.clova.streamUrl:https://clovastudio.stream.ntruss.com}")
     private String streamUrl;
@@ -33,12 +54,107 @@ public class ClovaStreamClient implements AiModelClient {
     @Value("${ai.topP:0.8}")        private double topP;
     @Value("${ai.topK:0}")          private int topK;
 
+    public ClovaStreamClient(
+            MeterRegistry meterRegistry,
+            @Value("${ai.clova.http.max-requests:32}") int maxRequests,
+            @Value("${ai.clova.http.max-idle-connections:8}") int maxIdleConnections,
+            @Value("${ai.clova.http.keep-alive-ms:300000}") long keepAliveMs,
+            @Value("${ai.clova.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${ai.clova.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${ai.clova.http.call-timeout-ms:90000}") long callTimeoutMs
+    ) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(1, maxRequests));
+        dispatcher.setMaxRequestsPerHost(Math.max(1, maxRequests)); // 호출 대상 호스트는 하나
+
+        this.http = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(Math.max(1, maxIdleConnections), keepAliveMs, TimeUnit.MILLISECONDS))
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .build();
+
+        this.promptTokenCounter = Counter.builder("ai.tokens")
+                .tag("type", "prompt")
+                .register(meterRegistry);
+        this.completionTokenCounter = Counter.builder("ai.tokens")
+                .tag("type", "completion")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        http.dispatcher().cancelAll();
+        http.dispatcher().executorService().shutdown();
+        http.connectionPool().evictAll();
+    }
+
     @Override
     public String generate(String prompt, int maxTokens) {
         if (studioApiKey == null || studioApiKey.isBlank()) {
-            return "[CLOVA STREAM 비활성화] studio-api-key 미설정";
+            return DISABLED_MESSAGE;
+        }
+
+        StringBuilder combined = new StringBuilder();
+
+        try (Response res = http.newCall(buildRequest(prompt, maxTokens)).execute()) {
+            if (!res.isSuccessful()) {
+                throw new RuntimeException("Clova STREAM error: HTTP " + res.code());
+            }
+            readEvents(res.body().source(), combined, null);
+        } catch (Exception e) {
+            throw new RuntimeException("CLOVA STREAM 호출 실패", e);
         }
 
+        return finish(combined);
+    }
+
+    /**
+     * 비동기 스트리밍: OkHttp 디스패처 스레드에서 SSE 를 읽으며 delta 를 바로 넘긴다
+     * (호출한 요청 스레드는 즉시 반환)
+     */
+    @Override
+    public Cancellable stream(String prompt, int maxTokens, StreamListener listener) {
+        if (studioApiKey == null || studioApiKey.isBlank()) {
+            listener.onDelta(DISABLED_MESSAGE);
+            listener.onComplete(DISABLED_MESSAGE);
+            return () -> {};
+        }
+
+        Call call = http.newCall(buildRequest(prompt, maxTokens));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call c, @NotNull IOException e) {
+                if (!c.isCanceled()) listener.onError(new RuntimeException("CLOVA STREAM 호출 실패", e));
+            }
+
+            @Override
+            public void onResponse(@NotNull Call c, @NotNull Response res) {
+                try (res) {
+                    if (!res.isSuccessful()) {
+                        listener.onError(new RuntimeException("Clova STREAM error: HTTP " + res.code()));
+                        return;
+                    }
+                    StringBuilder combined = new StringBuilder();
+                    readEvents(res.body().source(), combined, listener::onDelta);
+                    listener.onComplete(finish(combined));
+                } catch (Exception e) {
+                    if (!c.isCanceled()) listener.onError(new RuntimeException("CLOVA STREAM 호출 실패", e));
+                }
+            }
+        });
+        return call::cancel;
+    }
+
+    @Override
+    public boolean cacheable(String text) {
+        return AiModelClient.super.cacheable(text) && !DISABLED_MESSAGE.equals(text) && !EMPTY_MESSAGE.equals(text);
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private Request buildRequest(String prompt, int maxTokens) {
         String url = streamUrl.replaceAll("/+$", "") + "/v3/chat-completions/" + model;
 
         JSONObject body = new JSONObject()
@@ -54,7 +170,7 @@ public class ClovaStreamClient implements AiModelClient {
                 .put("seed", 0)
                 .put("includeAiFilters", true);
 
-        Request req = new Request.Builder()
+        return new Request.Builder()
                 .url(url)
                 .header("Authorization", "Bearer " + studioApiKey)
                 .header("X-NCP-CLOVASTUDIO-REQUEST-ID", UUID.randomUUID().toString())
@@ -62,78 +178,186 @@ public class ClovaStreamClient implements AiModelClient {
                 .header("Content-Type", "application/json; charset=utf-8")
                 .post(RequestBody.create(body.toString(), JSON))
                 .build();
+    }
 
-        StringBuilder combined = new StringBuilder();
+    /**
+     * SSE 라인을 끝(또는 최종 이벤트)까지 읽으며 combined 에 누적
+     * onDelta 가 있으면 delta 마다 호출, 최종 완성본이 오면 combined 를 그것으로 교체
+     */
+    private void readEvents(BufferedSource source, StringBuilder combined, Consumer<String> onDelta) throws IOException {
+        while (!source.exhausted()) {
+            String line = source.readUtf8Line(); // null 허용
+            if (line == null || line.isBlank()) continue;
+            if (!line.startsWith("data:")) continue;
 
-        try (Response res = http.newCall(req).execute()) {
-            if (!res.isSuccessful()) {
-                throw new RuntimeException("Clova STREAM error: HTTP " + res.code());
+            String json = line.substring("data:".length()).trim();
+            if ("[DONE]".equalsIgnoreCase(json)) break;
+
+            ClovaEvent chunk;
+            try {
+                chunk = ClovaEvent.parse(json);
+            } catch (IOException ignore) {
+                continue; // 비 JSON 라인 무시
             }
-            BufferedSource source = res.body().source();
-
-            while (!source.exhausted()) {
-                String line = source.readUtf8Line(); // null 허용
-                if (line == null || line.isBlank()) continue;
-                if (!line.startsWith("data:")) continue;
-
-                String json = line.substring("data:".length()).trim();
-                if ("[DONE]".equalsIgnoreCase(json)) break;
-
-                try {
-                    JSONObject chunk = new JSONObject(json);
-
-                    // 우선 message/finishReason 중심으로 판단
-                    JSONObject msg = chunk.optJSONObject("message");
-                    String finish = chunk.has("finishReason")
-                            ? chunk.optString("finishReason", null)
-                            : (chunk.optJSONObject("result") != null
-                            ? chunk.optJSONObject("result").optString("finishReason", null)
-                            : null);
-
-                    if (msg != null) {
-                        String content = msg.optString("content", "");
-                        if (finish == null || finish.isBlank()) {
-                            // delta: 누적
-                            if (!content.isBlank()) combined.append(content);
-                        } else {
-                            // final: 완성본으로 교체 후 종료
-                            if (!content.isBlank()) {
-                                combined.setLength(0);
-                                combined.append(content);
-                            }
-                            break;
-                        }
-                        continue;
+            if (chunk == null) continue;
+            recordUsage(chunk);
+
+            // 우선 message/finishReason 중심으로 판단
+            if (chunk.hasMessage) {
+                String content = (chunk.content != null) ? chunk.content : "";
+                String finish = chunk.finishReason();
+                if (finish == null || finish.isBlank()) {
+                    // delta: 누적
+                    if (!content.isBlank()) {
+                        combined.append(content);
+                        if (onDelta != null) onDelta.accept(content);
+                    }
+                } else {
+                    // final: 완성본으로 교체 후 종료
+                    if (!content.isBlank()) {
+                        combined.setLength(0);
+                        combined.append(content);
                     }
+                    break;
+                }
+                continue;
+            }
+
+            // event=result 류 스키마 대응(최종 한 번에 도착)
+            if ("result".equalsIgnoreCase(chunk.event) || chunk.hasResult) {
+                String content = (chunk.resultContent != null) ? chunk.resultContent
+                        : (chunk.output != null) ? chunk.output : chunk.resultText; // 문자열로 담기는 스키마
+                if (content != null && !content.isBlank()) {
+                    combined.setLength(0);
+                    combined.append(content);
+                }
+                break;
+            }
+
+            // 그 외 keepalive 등은 무시
+        }
+    }
+
+    private void recordUsage(ClovaEvent chunk) {
+        if (chunk.promptTokens > 0) promptTokenCounter.increment(chunk.promptTokens);
+        if (chunk.completionTokens > 0) completionTokenCounter.increment(chunk.completionTokens);
+    }
+
+    private static String finish(StringBuilder combined) {
+        String out = combined.toString().trim();
+        return out.isBlank() ? EMPTY_MESSAGE : out;
+    }
+
+    /**
+     * SSE data 한 줄에서 필요한 필드만 뽑는다
+     * Jackson 토큰 스트림으로 읽고 나머지(aiFilter 등)는 건너뛴다 → 줄마다 트리/맵을 만들지 않음
+     */
+    static final class ClovaEvent {
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        boolean hasMessage;
+        String content;
+        String topFinishReason;
+        String event;
+        boolean hasResult;
+        String resultContent;
+        String resultFinishReason;
+        String resultText;
+        String output;
+        long promptTokens;
+        long completionTokens;
+
+        /** 최상위 finishReason, 없으면 result.finishReason */
+        String finishReason() {
+            return (topFinishReason != null) ? topFinishReason : resultFinishReason;
+        }
 
-                    // event=result 류 스키마 대응(최종 한 번에 도착)
-                    String event = chunk.optString("event", "");
-                    if ("result".equalsIgnoreCase(event) || chunk.optJSONObject("result") != null) {
-                        JSONObject result = chunk.optJSONObject("result");
-                        String content = null;
-                        if (result != null && result.optJSONObject("message") != null) {
-                            content = result.getJSONObject("message").optString("content", null);
-                        } else {
-                            // 특수 스키마(문자열로 담기는 경우) 방지
-                            content = chunk.optString("output", chunk.optString("result", null));
+        /** 최상위가 객체가 아니면 null */
+        static ClovaEvent parse(String json) throws IOException {
+            try (JsonParser p = JSON_FACTORY.createParser(json)) {
+                if (p.nextToken() != JsonToken.START_OBJECT) return null;
+                ClovaEvent e = new ClovaEvent();
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    JsonToken value = p.nextToken();
+                    switch (name) {
+                        case "message" -> {
+                            if (value == JsonToken.START_OBJECT) {
+                                e.hasMessage = true;
+                                e.content = readContent(p);
+                            } else {
+                                p.skipChildren();
+                            }
                         }
-                        if (content != null && !content.isBlank()) {
-                            combined.setLength(0);
-                            combined.append(content);
+                        case "finishReason" -> e.topFinishReason = text(p, value);
+                        case "event" -> e.event = text(p, value);
+                        case "output" -> e.output = text(p, value);
+                        case "result" -> {
+                            if (value == JsonToken.START_OBJECT) {
+                                e.hasResult = true;
+                                readResult(p, e);
+                            } else {
+                                e.resultText = text(p, value);
+                            }
                         }
-                        break;
+                        case "usage" -> readUsage(p, e, value);
+                        default -> p.skipChildren();
                     }
+                }
+                return e;
+            }
+        }
 
-                    // 그 외 keepalive 등은 무시
-                } catch (Exception ignore) {
-                    // 비 JSON 라인 무시
+        private static void readResult(JsonParser p, ClovaEvent e) throws IOException {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (name) {
+                    case "message" -> {
+                        if (value == JsonToken.START_OBJECT) e.resultContent = readContent(p);
+                        else p.skipChildren();
+                    }
+                    case "finishReason" -> e.resultFinishReason = text(p, value);
+                    case "usage" -> readUsage(p, e, value);
+                    default -> p.skipChildren();
                 }
             }
-        } catch (Exception e) {
-            throw new RuntimeException("CLOVA STREAM 호출 실패", e);
         }
 
-        String out = combined.toString().trim();
-        return out.isBlank() ? "[CLOVA 응답 없음]" : out;
+        /** message 객체에서 content 만 (커서는 message 의 END_OBJECT 에서 끝남) */
+        private static String readContent(JsonParser p) throws IOException {
+            String content = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("content".equals(name)) content = text(p, value);
+                else p.skipChildren();
+            }
+            return content;
+        }
+
+        private static void readUsage(JsonParser p, ClovaEvent e, JsonToken value) throws IOException {
+            if (value != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken v = p.nextToken();
+                if ("promptTokens".equals(name) && v.isNumeric()) e.promptTokens = p.getLongValue();
+                else if ("completionTokens".equals(name) && v.isNumeric()) e.completionTokens = p.getLongValue();
+                else p.skipChildren();
+            }
+        }
+
+        /** 문자열이면 값, null 이면 null, 객체/배열은 건너뛰고 null */
+        private static String text(JsonParser p, JsonToken value) throws IOException {
+            if (value == JsonToken.VALUE_STRING) return p.getText();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                p.skipChildren();
+                return null;
+            }
+            return (value == JsonToken.VALUE_NULL) ? null : p.getText();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package goorm.ddok.badge.domain;
 
+import goorm.ddok.global.persistence.IdSequences;
 import goorm.ddok.member.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -30,7 +31,8 @@ import java.time.Instant;
 public class UserBadge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.USER_BADGE)
+    @SequenceGenerator(name = IdSequences.USER_BADGE, sequenceName = IdSequences.USER_BADGE, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
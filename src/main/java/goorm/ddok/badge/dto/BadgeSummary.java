@@ -0,0 +1,17 @@
+package goorm.ddok.badge.dto;
+
+import goorm.ddok.global.dto.AbandonBadgeDto;
+import goorm.ddok.global.dto.BadgeDto;
+
+/**
+ * 사용자 1명의 배지 요약 (대표 착한 배지 + 탈주 배지)
+ * - 목록 화면에서 여러 사용자 배지를 한 번에 채울 때 사용
+ */
+public record BadgeSummary(
+        BadgeDto representative,   // 없으면 null
+        AbandonBadgeDto abandon
+) {
+    public static BadgeSummary empty() {
+        return new BadgeSummary(null, AbandonBadgeDto.builder().IsGranted(false).count(0).build());
+    }
+}
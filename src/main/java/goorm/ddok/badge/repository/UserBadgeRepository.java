@@ -5,6 +5,7 @@ import goorm.ddok.badge.domain.BadgeType;
 import goorm.ddok.member.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,7 @@ public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
 
     // 특정 유저 + 여러 배지 타입 조회
     List<UserBadge> findByUserAndBadgeTypeIn(User user, List<BadgeType> badgeTypes);
+
+    // 여러 유저의 배지 일괄 조회 (목록 화면 배지 채우기용)
+    List<UserBadge> findByUser_IdIn(Collection<Long> userIds);
 }
@@ -1,10 +1,9 @@
 package goorm.ddok.badge.service;
 
 import goorm.ddok.badge.domain.BadgeTier;
-import goorm.ddok.badge.domain.BadgeTierRule;
 import goorm.ddok.badge.domain.BadgeType;
 import goorm.ddok.badge.domain.UserBadge;
-import goorm.ddok.badge.repository.BadgeTierRuleRepository;
+import goorm.ddok.badge.dto.BadgeSummary;
 import goorm.ddok.badge.repository.UserBadgeRepository;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
@@ -23,13 +22,18 @@ import java.util.*;
 @RequiredArgsConstructor
 public class BadgeService {
     private final UserBadgeRepository userBadgeRepository;
-    private final BadgeTierRuleRepository badgeTierRuleRepository;
+    private final BadgeTierTable badgeTierTable;
     private final ApplicationEventPublisher publisher;
 
     /** 티어 규칙이 있는 배지 세트 */
     private static final Set<BadgeType> TIERED_BADGES =
             EnumSet.of(BadgeType.complete, BadgeType.leader_complete, BadgeType.login);
 
+    /** 대표 배지 선정 기준: 누적 횟수 → 최근 갱신 순 */
+    private static final Comparator<UserBadge> REPRESENTATIVE_ORDER =
+            Comparator.comparingInt(UserBadge::getTotalCnt)
+                    .thenComparing(UserBadge::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
     /**
      * 배지 카운트 증가 (+ 이벤트 발행)
      *
@@ -112,11 +116,8 @@ public class BadgeService {
     }
 
     /** 누적 카운트 기준 티어 계산 (룰 없으면 bronze 기본) */
-    private BadgeTier resolveTier(BadgeType type, int totalCnt) {
-        return badgeTierRuleRepository
-                .findTopByBadgeTypeAndRequiredCntLessThanEqualOrderByRequiredCntDesc(type, totalCnt)
-                .map(BadgeTierRule::getTier)
-                .orElse(BadgeTier.bronze);
+    public BadgeTier resolveTier(BadgeType type, int totalCnt) {
+        return badgeTierTable.resolve(type, totalCnt);
     }
 
     /** 로그인 배지 (1일 1회) */
@@ -141,6 +142,39 @@ public class BadgeService {
         }
     }
 
+    /**
+     * 여러 유저의 대표 착한 배지 + 탈주 배지 일괄 조회
+     *
+     * - 배지 행 1회 조회로 끝낸다 (유저별 조회 N+1 제거, 티어는 BadgeTierTable)
+     * - 배지가 없는 유저도 빈 요약으로 포함된다
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, BadgeSummary> getBadgeSummaries(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, UserBadge> bestGood = new HashMap<>();
+        Map<Long, UserBadge> abandon = new HashMap<>();
+        for (UserBadge b : userBadgeRepository.findByUser_IdIn(new HashSet<>(userIds))) {
+            Long uid = b.getUser().getId();
+            if (b.getBadgeType() == BadgeType.abandon) {
+                abandon.put(uid, b);
+            } else if (TIERED_BADGES.contains(b.getBadgeType())) {
+                bestGood.merge(uid, b, (x, y) -> REPRESENTATIVE_ORDER.compare(x, y) >= 0 ? x : y);
+            }
+        }
+
+        Map<Long, BadgeSummary> result = new HashMap<>(userIds.size() * 2);
+        for (Long uid : userIds) {
+            UserBadge good = bestGood.get(uid);
+            BadgeDto representative = (good == null) ? null : BadgeDto.builder()
+                    .type(good.getBadgeType())
+                    .tier(resolveTier(good.getBadgeType(), good.getTotalCnt()))
+                    .build();
+            result.put(uid, new BadgeSummary(representative, AbandonBadgeDto.from(abandon.get(uid))));
+        }
+        return result;
+    }
+
     /** 대표 착한 배지 조회 */
     @Transactional(readOnly = true)
     public BadgeDto getRepresentativeGoodBadge(User user) {
@@ -149,8 +183,7 @@ public class BadgeService {
                 List.of(BadgeType.complete, BadgeType.leader_complete, BadgeType.login)
         );
         return badges.stream()
-                .max(Comparator.comparingInt(UserBadge::getTotalCnt)
-                        .thenComparing(UserBadge::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .max(REPRESENTATIVE_ORDER)
                 .map(b -> BadgeDto.builder()
                         .type(b.getBadgeType())
                         .tier(resolveTier(b.getBadgeType(), b.getTotalCnt()))
@@ -0,0 +1,84 @@
+package goorm.ddok.badge.service;
+
+import goorm.ddok.badge.domain.BadgeTier;
+import goorm.ddok.badge.domain.BadgeTierRule;
+import goorm.ddok.badge.domain.BadgeType;
+import goorm.ddok.badge.repository.BadgeTierRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 배지 티어 규칙 인메모리 테이블
+ *
+ * - badge_tier_rule 을 한 번 읽어 배지 타입별 requiredCnt 오름차순 int 배열로 보관
+ * - 티어 계산은 이진 탐색 (DB 조회 없음)
+ * - 규칙을 수정했다면 reload() 로 교체 (관리자 API 제공)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeTierTable {
+
+    private final BadgeTierRuleRepository badgeTierRuleRepository;
+
+    private volatile Map<BadgeType, Rules> snapshot;
+
+    /** 서버 시작 시 1회 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /** 규칙 재적재 (불변 스냅샷 교체) */
+    public synchronized int reload() {
+        Map<BadgeType, List<BadgeTierRule>> grouped = new EnumMap<>(BadgeType.class);
+        List<BadgeTierRule> all = badgeTierRuleRepository.findAll();
+        for (BadgeTierRule rule : all) {
+            grouped.computeIfAbsent(rule.getBadgeType(), t -> new ArrayList<>()).add(rule);
+        }
+
+        Map<BadgeType, Rules> next = new EnumMap<>(BadgeType.class);
+        grouped.forEach((type, rules) -> {
+            rules.sort(Comparator.comparingInt(BadgeTierRule::getRequiredCnt)
+                    .thenComparing(BadgeTierRule::getTier));
+            // requiredCnt 가 같은 규칙이 여럿이면 높은 티어 하나만 (이진 탐색이 임의 위치를 고르지 않도록)
+            int[] required = new int[rules.size()];
+            BadgeTier[] tiers = new BadgeTier[rules.size()];
+            int n = 0;
+            for (BadgeTierRule rule : rules) {
+                if (n > 0 && required[n - 1] == rule.getRequiredCnt()) n--;
+                required[n] = rule.getRequiredCnt();
+                tiers[n] = rule.getTier();
+                n++;
+            }
+            next.put(type, new Rules(Arrays.copyOf(required, n), Arrays.copyOf(tiers, n)));
+        });
+
+        this.snapshot = Collections.unmodifiableMap(next);
+        log.info("Badge tier rules loaded: {} rules", all.size());
+        return all.size();
+    }
+
+    /** 누적 카운트 이하 중 가장 큰 requiredCnt 의 티어 (룰 없으면 bronze) */
+    public BadgeTier resolve(BadgeType type, int totalCnt) {
+        Map<BadgeType, Rules> current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+
+        Rules rules = current.get(type);
+        if (rules == null) return BadgeTier.bronze;
+
+        int idx = Arrays.binarySearch(rules.required(), totalCnt);
+        if (idx < 0) idx = -idx - 2; // 삽입 위치 바로 앞 = totalCnt 이하 최댓값
+        return (idx < 0) ? BadgeTier.bronze : rules.tiers()[idx];
+    }
+
+    private record Rules(int[] required, BadgeTier[] tiers) {}
+}
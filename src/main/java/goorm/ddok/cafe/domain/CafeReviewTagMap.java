@@ -1,5 +1,6 @@
 package goorm.ddok.cafe.domain;
 
+import goorm.ddok.global.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,7 +11,9 @@ import lombok.*;
 @Table(name = "cafe_review_tag_map")
 public class CafeReviewTagMap {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.CAFE_REVIEW_TAG_MAP)
+    @SequenceGenerator(name = IdSequences.CAFE_REVIEW_TAG_MAP, sequenceName = IdSequences.CAFE_REVIEW_TAG_MAP, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -68,6 +68,28 @@ public interface CafeRepository extends JpaRepository<Cafe, Long> {
             @Param("neLng") BigDecimal neLng
     );
 
+    @Query("""
+        select
+          c.id as id,
+          c.name as title,
+          c.bannerImageUrl as bannerImageUrl,
+          c.region1depthName as region1depthName,
+          c.region2depthName as region2depthName,
+          c.region3depthName as region3depthName,
+          c.roadName as roadName,
+          c.mainBuildingNo as mainBuildingNo,
+          c.subBuildingNo as subBuildingNo,
+          c.zoneNo as zoneNo,
+          c.activityLatitude as latitude,
+          c.activityLongitude as longitude
+        from Cafe c
+        where c.id = :id
+          and c.deletedAt is null
+          and c.activityLatitude is not null
+          and c.activityLongitude is not null
+    """)
+    Optional<ProjectRecruitmentRepository.MapRow> findMapRowById(@Param("id") Long id);
+
     interface CafeOverlayRow {
         Long getId();
         String getName();
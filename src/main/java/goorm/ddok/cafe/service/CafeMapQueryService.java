@@ -3,7 +3,7 @@ package goorm.ddok.cafe.service;
 import goorm.ddok.cafe.dto.response.CafeMapItemResponse;
 import goorm.ddok.cafe.repository.CafeRepository;
 import goorm.ddok.global.dto.LocationDto;
-import goorm.ddok.map.service.MapService;
+import goorm.ddok.map.index.GeoDistance;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -64,7 +64,7 @@ public class CafeMapQueryService {
 
             items = items.stream()
                     .sorted(Comparator.comparingDouble(p ->
-                            MapService.haversineKm(
+                            GeoDistance.haversineKm(
                                     cLat, cLng,
                                     p.getLocation().getLatitude().doubleValue(),
                                     p.getLocation().getLongitude().doubleValue()
@@ -200,13 +200,22 @@ public class ChatController {
     }
 
     @GetMapping("/{roomId}/messages")
-    @Operation(summary = "채팅방 메세지 조회", description = "키워드로 채팅 내용을 조회합니다.")
+    @Operation(summary = "채팅방 메세지 조회", description = """
+            키워드로 채팅 내용을 조회합니다.
+            - cursor=true 또는 beforeMessageId/afterMessageId 지정 시 커서 조회 (전체 개수 계산 없음, 깊이와 무관하게 일정한 속도)
+            - beforeMessageId: 해당 메시지보다 과거, afterMessageId: 해당 메시지보다 최신 (동시 지정 불가)
+            - 아직 조회할 수 없는 메시지 id 를 커서로 주면 400 (잠시 후 다시 요청)
+            - 커서 조회 응답은 pagination 대신 cursor 를 포함합니다.
+            """)
     public ResponseEntity<ApiResponseDto<ChatMessageListResponse>> getMessages(
             @Parameter(description = "채팅방 ID", example = "123", required = true, in = ParameterIn.PATH)
             @PathVariable Long roomId,
             @RequestParam(value = "search", required = false) String search,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "커서 조회 사용 여부 (커서 없이 최신부터)") @RequestParam(defaultValue = "false") boolean cursor,
+            @Parameter(description = "이 메시지보다 과거 메시지 조회", example = "120") @RequestParam(required = false) Long beforeMessageId,
+            @Parameter(description = "이 메시지보다 최신 메시지 조회", example = "149") @RequestParam(required = false) Long afterMessageId,
             @AuthenticationPrincipal CustomUserDetails loginUser
     ) {
 
@@ -221,6 +230,16 @@ public class ChatController {
 
         Long userId = loginUser.getId();
 
+        if (beforeMessageId != null && afterMessageId != null) {
+            throw new GlobalException(ErrorCode.INVALID_INPUT);
+        }
+        if (cursor || beforeMessageId != null || afterMessageId != null) {
+            if (size < 1) size = 10;
+            ChatMessageListResponse response = chatMessageService.getChatMessagesByCursor(
+                    userId, roomId, beforeMessageId, afterMessageId, size, search);
+            return ResponseEntity.ok(ApiResponseDto.of(200, "채팅방 메세지 조회 성공", response));
+        }
+
         Pageable pageable = PageRequest.of(page, size);
 
         ChatMessageListResponse response =
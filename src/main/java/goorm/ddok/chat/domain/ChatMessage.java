@@ -1,5 +1,6 @@
 package goorm.ddok.chat.domain;
 
+import goorm.ddok.global.persistence.IdSequences;
 import goorm.ddok.member.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -28,7 +29,8 @@ import java.time.Instant;
 public class ChatMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.CHAT_MESSAGE)
+    @SequenceGenerator(name = IdSequences.CHAT_MESSAGE, sequenceName = IdSequences.CHAT_MESSAGE, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
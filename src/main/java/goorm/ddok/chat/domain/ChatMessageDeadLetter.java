@@ -0,0 +1,61 @@
+package goorm.ddok.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * write-behind 로 저장하지 못한 채팅 메시지 (dead letter)
+ *
+ * - 건별 저장에서도 실패한 행(FK/제약 위반 등)만 남긴다. 일시 장애는 재시도하므로 여기 오지 않는다.
+ * - 메시지 내용은 로그가 아니라 이 테이블에만 보관한다 (운영자가 확인 후 복구/삭제)
+ * - ChatMessageWriteBehindService 가 JDBC 로 직접 INSERT 한다 (스키마는 ddl-auto)
+ */
+@Entity
+@Table(
+        name = "chat_message_dead_letter",
+        indexes = @Index(name = "idx_chat_dead_letter_room", columnList = "room_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ChatMessageDeadLetter {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 선할당됐던 chat_message id (클라이언트가 받은 messageId) */
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false)
+    private ChatContentType contentType;
+
+    @Column(name = "content_text", columnDefinition = "TEXT")
+    private String contentText;
+
+    @Column(name = "file_url", columnDefinition = "TEXT")
+    private String fileUrl;
+
+    @Column(name = "reply_to_id")
+    private Long replyToId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /** 실패 원인 (예외 클래스와 메시지, 최대 500자) */
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "failed_at", nullable = false)
+    private Instant failedAt;
+}
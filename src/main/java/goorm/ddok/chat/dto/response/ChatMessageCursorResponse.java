@@ -0,0 +1,27 @@
+package goorm.ddok.chat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 페이징 정보")
+public class ChatMessageCursorResponse {
+
+    @Schema(description = "페이지 크기", example = "30")
+    private Integer pageSize;
+
+    @Schema(description = "조회 방향으로 더 불러올 메시지 존재 여부", example = "true")
+    private Boolean hasMore;
+
+    @Schema(description = "이전(과거) 메시지 조회용 커서 = 이번 목록의 가장 오래된 메시지 ID", example = "120")
+    private Long nextBeforeMessageId;
+
+    @Schema(description = "이후(최신) 메시지 조회용 커서 = 이번 목록의 가장 최근 메시지 ID", example = "149")
+    private Long nextAfterMessageId;
+}
@@ -1,5 +1,6 @@
 package goorm.ddok.chat.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -19,6 +20,11 @@ public class ChatMessageListResponse {
     @Schema(description = "채팅 메세지 목록")
     private List<ChatMessageResponse> messages;
 
-    @Schema(description = "페이징 정보")
+    @Schema(description = "페이징 정보 (page/size 조회)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private PaginationResponse pagination;
+
+    @Schema(description = "커서 페이징 정보 (beforeMessageId/afterMessageId 조회)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ChatMessageCursorResponse cursor;
 }
@@ -0,0 +1,8 @@
+package goorm.ddok.chat.event;
+
+/**
+ * 채팅방 멤버 구성(참여/퇴장/강퇴)이 변경되었음을 알리는 이벤트
+ * - 커밋 이후 해당 방의 멤버십 캐시를 비운다.
+ */
+public record ChatMembershipChangedEvent(Long roomId) {
+}
@@ -0,0 +1,10 @@
+package goorm.ddok.chat.event;
+
+import java.time.Instant;
+
+/**
+ * 채팅 메시지가 저장되었음을 알리는 이벤트
+ * - 커밋 이후 메시지 검색 인덱스(elasticsearch 모드)에 증분 반영한다.
+ */
+public record ChatMessageSavedEvent(Long id, Long roomId, String contentText, Instant createdAt) {
+}
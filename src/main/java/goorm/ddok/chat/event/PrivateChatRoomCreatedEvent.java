@@ -0,0 +1,8 @@
+package goorm.ddok.chat.event;
+
+/**
+ * 1:1 채팅방이 생성되었음을 알리는 이벤트
+ * - 커밋 이후 두 사용자의 관계(chatRoomId / dmRequestPending) 캐시를 비운다.
+ */
+public record PrivateChatRoomCreatedEvent(Long roomId, Long userId1, Long userId2) {
+}
@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,8 +29,35 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
         Instant getCreatedAt();
     }
 
+    interface IndexRow {
+        Long getId();
+        Long getRoomId();
+        String getContentText();
+        Instant getCreatedAt();
+    }
+
     Optional<ChatMessage> findById(Long id);
 
+    // id 목록으로 메시지 뷰 조회 (검색 엔진 결과 보강용, 순서 보장 안 함)
+    @Query("""
+      select new goorm.ddok.chat.repository.projection.MessageViewImpl(
+        m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
+      )
+      from ChatMessage m
+      join m.sender s
+      where m.id in :ids and m.deletedAt is null
+    """)
+    List<MessageView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // 검색 인덱스 초기 적재용 (id 키셋 청크)
+    @Query("""
+      select m.id as id, m.room.id as roomId, m.contentText as contentText, m.createdAt as createdAt
+      from ChatMessage m
+      where m.id > :lastId and m.contentText is not null
+      order by m.id asc
+    """)
+    List<IndexRow> findIndexRowsAfter(@Param("lastId") Long lastId, Pageable limit);
+
     @Query("""
       select new goorm.ddok.chat.repository.projection.MessageViewImpl(
         m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
@@ -54,4 +82,77 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Page<MessageView> pageViewsByRoomAndKeyword(@Param("room") ChatRoom room,
                                                 @Param("keyword") String keyword,
                                                 Pageable pageable);
-}
\ No newline at end of file
+
+    /* ---------- 키셋(커서) 조회: (created_at, id) 기준, count 쿼리 없음 ---------- */
+
+    // 커서 메시지의 시각 (같은 방 메시지만 허용)
+    @Query("""
+      select m.createdAt from ChatMessage m
+      where m.id = :id and m.room.id = :roomId
+    """)
+    Optional<Instant> findCreatedAtInRoom(@Param("id") Long id, @Param("roomId") Long roomId);
+
+    @Query("""
+      select new goorm.ddok.chat.repository.projection.MessageViewImpl(
+        m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
+      )
+      from ChatMessage m
+      join m.sender s
+      where m.room = :room and m.deletedAt is null
+        and (m.createdAt < :at or (m.createdAt = :at and m.id < :id))
+      order by m.createdAt desc, m.id desc
+    """)
+    List<MessageView> sliceViewsBefore(@Param("room") ChatRoom room,
+                                       @Param("at") Instant at,
+                                       @Param("id") Long id,
+                                       Pageable limit);
+
+    @Query("""
+      select new goorm.ddok.chat.repository.projection.MessageViewImpl(
+        m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
+      )
+      from ChatMessage m
+      join m.sender s
+      where m.room = :room and m.deletedAt is null
+        and (m.createdAt > :at or (m.createdAt = :at and m.id > :id))
+      order by m.createdAt asc, m.id asc
+    """)
+    List<MessageView> sliceViewsAfter(@Param("room") ChatRoom room,
+                                      @Param("at") Instant at,
+                                      @Param("id") Long id,
+                                      Pageable limit);
+
+    @Query("""
+      select new goorm.ddok.chat.repository.projection.MessageViewImpl(
+        m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
+      )
+      from ChatMessage m
+      join m.sender s
+      where m.room = :room and m.deletedAt is null
+        and m.contentText like concat('%', :keyword, '%')
+        and (m.createdAt < :at or (m.createdAt = :at and m.id < :id))
+      order by m.createdAt desc, m.id desc
+    """)
+    List<MessageView> sliceViewsBeforeWithKeyword(@Param("room") ChatRoom room,
+                                                  @Param("keyword") String keyword,
+                                                  @Param("at") Instant at,
+                                                  @Param("id") Long id,
+                                                  Pageable limit);
+
+    @Query("""
+      select new goorm.ddok.chat.repository.projection.MessageViewImpl(
+        m.id, s.id, s.nickname, m.contentType, m.contentText, m.fileUrl, m.createdAt
+      )
+      from ChatMessage m
+      join m.sender s
+      where m.room = :room and m.deletedAt is null
+        and m.contentText like concat('%', :keyword, '%')
+        and (m.createdAt > :at or (m.createdAt = :at and m.id > :id))
+      order by m.createdAt asc, m.id asc
+    """)
+    List<MessageView> sliceViewsAfterWithKeyword(@Param("room") ChatRoom room,
+                                                 @Param("keyword") String keyword,
+                                                 @Param("at") Instant at,
+                                                 @Param("id") Long id,
+                                                 Pageable limit);
+}
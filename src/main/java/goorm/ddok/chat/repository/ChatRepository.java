@@ -1,5 +1,7 @@
 package goorm.ddok.chat.repository;
 
+import goorm.ddok.chat.domain.ChatContentType;
+import goorm.ddok.chat.domain.ChatMemberRole;
 import goorm.ddok.chat.domain.ChatMessage;
 import goorm.ddok.chat.domain.ChatRoom;
 import goorm.ddok.chat.domain.ChatRoomMember;
@@ -13,12 +15,96 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRepository extends JpaRepository<ChatRoom, Long> {
 
+    /* ---------- 채팅 목록 페이지 단위 조회용 프로젝션 ---------- */
+
+    interface MyMembershipRow {
+        Long getRoomId();
+        ChatMemberRole getRole();
+        Instant getLastReadAt();
+    }
+
+    interface PeerRow {
+        Long getRoomId();
+        Long getUserId();
+        String getNickname();
+        String getProfileImageUrl();
+        BigDecimal getTemperature();
+    }
+
+    interface MemberCountRow {
+        Long getRoomId();
+        Long getCnt();
+    }
+
+    interface LastMessageRow {
+        Long getRoomId();
+        Long getId();
+        ChatContentType getContentType();
+        String getContentText();
+        Instant getCreatedAt();
+        Long getSenderId();
+    }
+
+    // 내 멤버십(역할) + 마지막으로 읽은 메시지 시각
+    @Query("""
+        SELECT crm.room.id AS roomId, crm.role AS role, lm.createdAt AS lastReadAt
+        FROM ChatRoomMember crm
+        LEFT JOIN ChatMessage lm ON lm.id = crm.lastReadMessageId
+        WHERE crm.room.id IN :roomIds
+        AND crm.user.id = :userId
+        AND crm.deletedAt IS NULL
+        """)
+    List<MyMembershipRow> findMyMemberships(@Param("roomIds") Collection<Long> roomIds,
+                                            @Param("userId") Long userId);
+
+    // 나를 제외한 멤버 (가입순) + 온도
+    @Query("""
+        SELECT crm.room.id AS roomId, u.id AS userId, u.nickname AS nickname,
+               u.profileImageUrl AS profileImageUrl, ur.temperature AS temperature
+        FROM ChatRoomMember crm
+        JOIN crm.user u
+        LEFT JOIN UserReputation ur ON ur.user.id = u.id
+        WHERE crm.room.id IN :roomIds
+        AND crm.user.id <> :userId
+        AND crm.deletedAt IS NULL
+        ORDER BY crm.room.id, crm.createdAt ASC
+        """)
+    List<PeerRow> findPeersExcluding(@Param("roomIds") Collection<Long> roomIds,
+                                     @Param("userId") Long userId);
+
+    // 방별 멤버 수
+    @Query("""
+        SELECT crm.room.id AS roomId, COUNT(crm) AS cnt
+        FROM ChatRoomMember crm
+        WHERE crm.room.id IN :roomIds
+        AND crm.deletedAt IS NULL
+        GROUP BY crm.room.id
+        """)
+    List<MemberCountRow> countMembersByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 방별 마지막 메시지 ((room_id, created_at) 인덱스 사용)
+    @Query("""
+        SELECT cm.room.id AS roomId, cm.id AS id, cm.contentType AS contentType,
+               cm.contentText AS contentText, cm.createdAt AS createdAt, cm.sender.id AS senderId
+        FROM ChatMessage cm
+        WHERE cm.room.id IN :roomIds
+        AND cm.deletedAt IS NULL
+        AND cm.createdAt = (
+            SELECT MAX(c2.createdAt) FROM ChatMessage c2
+            WHERE c2.room.id = cm.room.id AND c2.deletedAt IS NULL
+        )
+        """)
+    List<LastMessageRow> findLastMessagesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
     // 특정 채팅방에 대한 사용자의 멤버십 조회
     @Query("""
         SELECT crm FROM ChatRoomMember crm
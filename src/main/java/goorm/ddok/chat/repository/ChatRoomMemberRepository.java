@@ -45,6 +45,26 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
 
     boolean existsByRoom_IdAndUser_IdAndDeletedAtIsNull(Long roomId, Long userId);
 
+    // 방의 활성 멤버 user id 목록 (멤버십 캐시 적재용)
+    @Query("""
+          select m.user.id from ChatRoomMember m
+          where m.room.id = :roomId
+            and m.deletedAt is null
+        """)
+    List<Long> findActiveUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    // 활성 멤버이면 닉네임 반환 (멤버십 확인 + 발신자 조회를 한 번에)
+    @Query("""
+          select u.nickname from ChatRoomMember m
+          join m.room r
+          join m.user u
+          where r.id = :roomId
+            and u.id = :userId
+            and m.deletedAt is null
+        """)
+    Optional<String> findActiveMemberNickname(@Param("roomId") Long roomId,
+                                              @Param("userId") Long userId);
+
     @Query(value = """
         select *
           from chat_room_member
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
@@ -24,4 +26,25 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             @Param("userId1") Long userId1,
             @Param("userId2") Long userId2
     );
+
+    interface PeerRoomRow {
+        Long getUserId();
+        Long getRoomId();
+    }
+
+    /** 나와 여러 사용자 사이의 1:1 방 id 일괄 조회 */
+    @Query("""
+        SELECT m2.user.id AS userId, r.id AS roomId
+        FROM ChatRoom r
+        JOIN r.members m1
+        JOIN r.members m2
+        WHERE r.roomType = :roomType
+          AND m1.user.id = :meId
+          AND m2.user.id IN :otherIds
+    """)
+    List<PeerRoomRow> findPrivateRoomIdsWithUsers(
+            @Param("roomType") ChatRoomType roomType,
+            @Param("meId") Long meId,
+            @Param("otherIds") Collection<Long> otherIds
+    );
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DmRequestRepository extends JpaRepository<DmRequest, Long> {
@@ -69,4 +70,21 @@ public interface DmRequestRepository extends JpaRepository<DmRequest, Long> {
         return existsByFromUser_IdAndToUser_IdAndStatusIn(userId1, userId2, statuses)
                 || existsByFromUser_IdAndToUser_IdAndStatusIn(userId2, userId1, statuses);
     }
-}
\ No newline at end of file
+
+    /** 나와 여러 사용자 사이에 주어진 상태의 DM 요청이 있는 상대 id (방향 무관) */
+    @Query("""
+        select case when dr.fromUser.id = :meId then dr.toUser.id else dr.fromUser.id end
+        from DmRequest dr
+        where dr.status in :statuses
+          and (
+            (dr.fromUser.id = :meId and dr.toUser.id in :otherIds)
+            or
+            (dr.toUser.id = :meId and dr.fromUser.id in :otherIds)
+          )
+    """)
+    List<Long> findCounterpartIdsWithStatuses(
+            @Param("meId") Long meId,
+            @Param("otherIds") Collection<Long> otherIds,
+            @Param("statuses") Collection<DmRequestStatus> statuses
+    );
+}
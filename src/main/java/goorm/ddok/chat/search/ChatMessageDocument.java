@@ -0,0 +1,35 @@
+package goorm.ddok.chat.search;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(indexName = "chat_messages", createIndex = false)
+public class ChatMessageDocument {
+
+    /** chat_message.id */
+    @Id
+    private String id;
+
+    /** 정렬 동순위 처리용 (최신순: createdAt desc, messageId desc) */
+    @Field(type = FieldType.Long)
+    private Long messageId;
+
+    @Field(type = FieldType.Long)
+    private Long roomId;
+
+    /** 부분 문자열(LIKE) 검색용 wildcard 필드 */
+    @Field(type = FieldType.Wildcard)
+    private String contentText;
+
+    /** epoch millis */
+    @Field(type = FieldType.Long)
+    private Long createdAt;
+}
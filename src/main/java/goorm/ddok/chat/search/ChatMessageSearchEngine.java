@@ -0,0 +1,32 @@
+package goorm.ddok.chat.search;
+
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.repository.ChatMessageRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 채팅 메시지 키워드 검색 엔진 (app.chat.search.engine)
+ * - like(기본): 기존 LIKE '%keyword%' 조회
+ * - postgres: 같은 LIKE 조회 + pg_trgm GIN 인덱스
+ * - elasticsearch: chat_messages 인덱스(wildcard 필드) 조회 후 DB 에서 본문/발신자 보강
+ *
+ * 어떤 엔진이든 결과 집합/정렬(최신순)은 LIKE 조회와 같다.
+ * 오프셋 목록(search)과 커서 목록(searchSlice) 모두 이 엔진을 거친다.
+ */
+public interface ChatMessageSearchEngine {
+
+    Page<ChatMessageRepository.MessageView> search(ChatRoom room, String keyword, Pageable pageable);
+
+    /**
+     * 키셋(커서) 검색: (at, id) 기준
+     * - after=false: 그보다 이전 메시지, 최신순 (createdAt desc, id desc)
+     * - after=true : 그보다 이후 메시지, 오래된 순 (createdAt asc, id asc)
+     * 최대 limit 개
+     */
+    List<ChatMessageRepository.MessageView> searchSlice(ChatRoom room, String keyword, Instant at, Long id,
+                                                         boolean after, int limit);
+}
@@ -0,0 +1,251 @@
+package goorm.ddok.chat.search;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.json.JsonData;
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.event.ChatMessageSavedEvent;
+import goorm.ddok.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Elasticsearch 기반 채팅 메시지 검색
+ * - contentText 는 wildcard 필드: '*keyword*' 로 LIKE 와 같은 부분 문자열(대소문자 구분) 매칭
+ * - 검색은 id 만 받아오고, 본문/발신자는 DB 에서 보강 (닉네임 변경 등 최신 상태 반영)
+ * - 오프셋 목록(search)과 커서 목록(searchSlice) 모두 지원
+ * - 색인: 메시지 저장 커밋 이후 큐에 쌓았다가 주기적으로 bulk 저장, 최초 1회 전체 적재
+ * - ES 장애 시 LIKE 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.chat.search.engine", havingValue = "elasticsearch")
+public class ElasticsearchChatMessageSearchEngine implements ChatMessageSearchEngine {
+
+    private static final int BACKFILL_CHUNK = 1000;
+    /** 커서 검색에서 커서와 같은 밀리초에 있을 수 있는 행 여유분 */
+    private static final int SAME_MILLIS_SLACK = 20;
+
+    private final ElasticsearchOperations operations;
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final Queue<ChatMessageDocument> pending = new ConcurrentLinkedQueue<>();
+
+    /** 인덱스가 없으면 생성 후 기존 메시지 전체 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            IndexOperations io = operations.indexOps(ChatMessageDocument.class);
+            if (io.exists()) return;
+
+            io.create(Document.from(Map.of(
+                    "number_of_shards", 1,
+                    "number_of_replicas", 0
+            )));
+            io.putMapping(Document.from(Map.of(
+                    "properties", Map.of(
+                            "messageId", Map.of("type", "long"),
+                            "roomId", Map.of("type", "long"),
+                            "contentText", Map.of("type", "wildcard"),
+                            "createdAt", Map.of("type", "long")
+                    )
+            )));
+            backfill();
+        } catch (Exception e) {
+            log.warn("[ChatMessageSearch] index init failed", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ChatMessageSavedEvent e) {
+        if (e.contentText() == null) return;
+        pending.add(toDocument(e.id(), e.roomId(), e.contentText(), e.createdAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.search.index-flush-ms:1000}")
+    public void flushPending() {
+        if (pending.isEmpty()) return;
+
+        List<ChatMessageDocument> batch = new ArrayList<>();
+        ChatMessageDocument doc;
+        while (batch.size() < BACKFILL_CHUNK && (doc = pending.poll()) != null) {
+            batch.add(doc);
+        }
+        try {
+            operations.save(batch);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            pending.addAll(batch);
+            log.warn("[ChatMessageSearch] bulk index failed: {} docs", batch.size(), e);
+        }
+    }
+
+    @Override
+    public Page<ChatMessageRepository.MessageView> search(ChatRoom room, String keyword, Pageable pageable) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(QueryBuilders.bool().filter(matching(room, keyword)).build()._toQuery())
+                .withSort(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("messageId").order(SortOrder.Desc)))
+                .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<ChatMessageDocument> hits;
+        try {
+            hits = operations.search(query, ChatMessageDocument.class);
+        } catch (Exception e) {
+            log.warn("[ChatMessageSearch] search failed, falling back to LIKE: roomId={}", room.getId(), e);
+            return chatMessageRepository.pageViewsByRoomAndKeyword(room, keyword, pageable);
+        }
+        return new PageImpl<>(hydrate(hits), pageable, hits.getTotalHits());
+    }
+
+    /**
+     * 커서 검색
+     * - 색인의 createdAt 은 밀리초라 커서와 같은 밀리초 구간을 포함해 넉넉히 받은 뒤,
+     *   DB 값(createdAt, id)으로 정확히 거르고 정렬한다 (결과 집합/순서는 LIKE 커서 조회와 동일)
+     */
+    @Override
+    public List<ChatMessageRepository.MessageView> searchSlice(ChatRoom room, String keyword, Instant at, Long id,
+                                                                boolean after, int limit) {
+        long atMillis = at.toEpochMilli();
+        SortOrder order = after ? SortOrder.Asc : SortOrder.Desc;
+        List<Query> filters = matching(room, keyword);
+        filters.add(after
+                ? QueryBuilders.range().field("createdAt").gte(JsonData.of(atMillis)).build()._toQuery()
+                : QueryBuilders.range().field("createdAt").lte(JsonData.of(atMillis)).build()._toQuery());
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(QueryBuilders.bool().filter(filters).build()._toQuery())
+                .withSort(s -> s.field(f -> f.field("createdAt").order(order)))
+                .withSort(s -> s.field(f -> f.field("messageId").order(order)))
+                .withPageable(PageRequest.of(0, limit + SAME_MILLIS_SLACK))
+                .build();
+
+        SearchHits<ChatMessageDocument> hits;
+        try {
+            hits = operations.search(query, ChatMessageDocument.class);
+        } catch (Exception e) {
+            log.warn("[ChatMessageSearch] cursor search failed, falling back to LIKE: roomId={}", room.getId(), e);
+            Pageable page = PageRequest.of(0, limit);
+            return after
+                    ? chatMessageRepository.sliceViewsAfterWithKeyword(room, keyword, at, id, page)
+                    : chatMessageRepository.sliceViewsBeforeWithKeyword(room, keyword, at, id, page);
+        }
+
+        Comparator<ChatMessageRepository.MessageView> byKey =
+                Comparator.comparing(ChatMessageRepository.MessageView::getCreatedAt)
+                        .thenComparing(ChatMessageRepository.MessageView::getId);
+        if (!after) byKey = byKey.reversed();
+
+        return hydrate(hits).stream()
+                .filter(v -> {
+                    int c = v.getCreatedAt().compareTo(at);
+                    if (c == 0) c = Long.compare(v.getId(), id);
+                    return after ? c > 0 : c < 0;
+                })
+                .sorted(byKey)
+                .limit(limit)
+                .toList();
+    }
+
+    /* ---------- 내부 ---------- */
+
+    /** 방 + 키워드(LIKE 와 같은 부분 문자열) 필터 */
+    private static List<Query> matching(ChatRoom room, String keyword) {
+        List<Query> filters = new ArrayList<>(3);
+        filters.add(QueryBuilders.term().field("roomId").value(room.getId()).build()._toQuery());
+        filters.add(QueryBuilders.wildcard()
+                .field("contentText")
+                .value("*" + toWildcard(keyword) + "*")
+                .build()._toQuery());
+        return filters;
+    }
+
+    /** 검색 결과 id 를 DB 뷰로 보강 (검색 순서 유지, 삭제된 메시지 제외) */
+    private List<ChatMessageRepository.MessageView> hydrate(SearchHits<ChatMessageDocument> hits) {
+        List<Long> ids = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(ChatMessageDocument::getMessageId)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, ChatMessageRepository.MessageView> byId = new HashMap<>();
+        for (ChatMessageRepository.MessageView v : chatMessageRepository.findViewsByIds(ids)) {
+            byId.put(v.getId(), v);
+        }
+
+        List<ChatMessageRepository.MessageView> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ChatMessageRepository.MessageView v = byId.get(id);
+            if (v != null) content.add(v);
+        }
+        return content;
+    }
+
+    private void backfill() {
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            List<ChatMessageRepository.IndexRow> rows =
+                    chatMessageRepository.findIndexRowsAfter(lastId, PageRequest.of(0, BACKFILL_CHUNK));
+            if (rows.isEmpty()) break;
+
+            List<ChatMessageDocument> docs = new ArrayList<>(rows.size());
+            for (ChatMessageRepository.IndexRow r : rows) {
+                docs.add(toDocument(r.getId(), r.getRoomId(), r.getContentText(), r.getCreatedAt()));
+            }
+            operations.save(docs);
+            total += docs.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+        log.info("[ChatMessageSearch] indexed {} messages into Elasticsearch", total);
+    }
+
+    private static ChatMessageDocument toDocument(Long id, Long roomId, String contentText, Instant createdAt) {
+        return ChatMessageDocument.builder()
+                .id(String.valueOf(id))
+                .messageId(id)
+                .roomId(roomId)
+                .contentText(contentText)
+                .createdAt(createdAt == null ? null : createdAt.toEpochMilli())
+                .build();
+    }
+
+    /** LIKE 패턴과 같은 의미로 변환: ES 특수문자 이스케이프, % → *, _ → ? */
+    private static String toWildcard(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 8);
+        for (char c : keyword.toCharArray()) {
+            switch (c) {
+                case '\\', '*', '?' -> sb.append('\\').append(c);
+                case '%' -> sb.append('*');
+                case '_' -> sb.append('?');
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
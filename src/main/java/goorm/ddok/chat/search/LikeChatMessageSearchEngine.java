@@ -0,0 +1,35 @@
+package goorm.ddok.chat.search;
+
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.chat.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeChatMessageSearchEngine implements ChatMessageSearchEngine {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Override
+    public Page<ChatMessageRepository.MessageView> search(ChatRoom room, String keyword, Pageable pageable) {
+        return chatMessageRepository.pageViewsByRoomAndKeyword(room, keyword, pageable);
+    }
+
+    @Override
+    public List<ChatMessageRepository.MessageView> searchSlice(ChatRoom room, String keyword, Instant at, Long id,
+                                                                boolean after, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        return after
+                ? chatMessageRepository.sliceViewsAfterWithKeyword(room, keyword, at, id, page)
+                : chatMessageRepository.sliceViewsBeforeWithKeyword(room, keyword, at, id, page);
+    }
+}
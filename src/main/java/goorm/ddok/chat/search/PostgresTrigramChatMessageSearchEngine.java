@@ -0,0 +1,61 @@
+package goorm.ddok.chat.search;
+
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PostgreSQL pg_trgm 기반 검색
+ * - LIKE '%keyword%' 는 trigram GIN 인덱스를 그대로 탈 수 있으므로 조회 쿼리는 like 엔진과 같다.
+ *   (tsvector 는 형태소/토큰 단위 매칭이라 부분 문자열 결과가 달라져 사용하지 않음)
+ * - 서버 시작 시 확장/인덱스가 없으면 생성 (CONCURRENTLY, 실패 시 경고만 남기고 기존 방식으로 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.chat.search.engine", havingValue = "postgres")
+public class PostgresTrigramChatMessageSearchEngine implements ChatMessageSearchEngine {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("""
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_message_content_trgm
+                        ON chat_message USING gin (content_text gin_trgm_ops)
+                    """);
+            log.info("Chat message trigram index ready");
+        } catch (Exception e) {
+            log.warn("Chat message trigram index setup failed; keyword search falls back to sequential scan", e);
+        }
+    }
+
+    @Override
+    public Page<ChatMessageRepository.MessageView> search(ChatRoom room, String keyword, Pageable pageable) {
+        return chatMessageRepository.pageViewsByRoomAndKeyword(room, keyword, pageable);
+    }
+
+    @Override
+    public List<ChatMessageRepository.MessageView> searchSlice(ChatRoom room, String keyword, Instant at, Long id,
+                                                                boolean after, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        return after
+                ? chatMessageRepository.sliceViewsAfterWithKeyword(room, keyword, at, id, page)
+                : chatMessageRepository.sliceViewsBeforeWithKeyword(room, keyword, at, id, page);
+    }
+}
@@ -5,20 +5,25 @@ import goorm.ddok.chat.domain.*;
 import goorm.ddok.chat.dto.request.ChatMessageRequest;
 import goorm.ddok.chat.dto.request.LastReadMessageRequest;
 import goorm.ddok.chat.dto.response.*;
+import goorm.ddok.chat.event.ChatMessageSavedEvent;
 import goorm.ddok.chat.repository.ChatMessageRepository;
 import goorm.ddok.chat.repository.ChatRepository;
 import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import goorm.ddok.chat.search.ChatMessageSearchEngine;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 
 
@@ -31,6 +36,12 @@ public class ChatMessageService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
+    private final ChatMessageSearchEngine chatMessageSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatPendingMessages pendingMessages;
+
+    /** 커서 없이 최신부터 조회할 때 쓰는 상한 커서 */
+    private static final Instant LATEST_AT = Instant.parse("9999-12-31T23:59:59Z");
 
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
@@ -65,6 +76,8 @@ public class ChatMessageService {
                 .build());
 
         room.setLastMessageAt(saved.getCreatedAt());
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(
+                saved.getId(), room.getId(), saved.getContentText(), saved.getCreatedAt()));
 
         return ChatMessageResponse.builder()
                 .messageId(saved.getId())
@@ -91,7 +104,7 @@ public class ChatMessageService {
         Page<ChatMessageRepository.MessageView> page =
                 (search == null || search.isBlank())
                         ? chatMessageRepository.pageViewsByRoom(room, pageable)
-                        : chatMessageRepository.pageViewsByRoomAndKeyword(room, search, pageable);
+                        : chatMessageSearchEngine.search(room, search, pageable);
 
         List<ChatMessageResponse> messages = page.getContent().stream()
                 .map(v -> ChatMessageResponse.builder()
@@ -112,6 +125,74 @@ public class ChatMessageService {
                 .build();
     }
 
+    /**
+     * 채팅 메시지 커서 조회 (count 쿼리 없음)
+     * - beforeMessageId: 해당 메시지보다 과거 메시지 (없으면 최신부터)
+     * - afterMessageId: 해당 메시지보다 최신 메시지
+     * - 커서가 write-behind 대기 중이면 대기 목록의 생성 시각을 쓰고,
+     *   어디에도 없는 커서는 before/after 모두 INVALID_INPUT
+     *   (다른 노드 큐에 있는 id 를 "더 최신 메시지 없음"으로 답하면 클라이언트가 새 메시지를 놓친다)
+     * - 응답 순서는 기존 목록과 동일하게 최신순
+     */
+    public ChatMessageListResponse getChatMessagesByCursor(Long userId, Long roomId,
+                                                           Long beforeMessageId, Long afterMessageId,
+                                                           int size, String search) {
+        ChatRoom room = getRoomById(roomId);
+        if (!chatRoomMemberRepository.existsByRoom_IdAndUser_IdAndDeletedAtIsNull(roomId, userId)) {
+            throw new GlobalException(ErrorCode.NOT_CHAT_MEMBER);
+        }
+
+        boolean after = afterMessageId != null;
+        Long cursorId = after ? afterMessageId : beforeMessageId;
+        Instant cursorAt = LATEST_AT;
+        if (cursorId != null) {
+            Long id = cursorId;
+            Optional<Instant> found = pendingMessages.findCreatedAtInRoom(id, roomId)
+                    .or(() -> chatMessageRepository.findCreatedAtInRoom(id, roomId));
+            cursorAt = found.orElseThrow(() -> new GlobalException(ErrorCode.INVALID_INPUT));
+        } else {
+            cursorId = Long.MAX_VALUE;
+        }
+
+        // 1개 더 읽어서 hasMore 판단, 키워드 검색은 오프셋 목록과 같은 검색 엔진을 거친다
+        List<ChatMessageRepository.MessageView> rows;
+        if (search != null && !search.isBlank()) {
+            rows = chatMessageSearchEngine.searchSlice(room, search, cursorAt, cursorId, after, size + 1);
+        } else {
+            Pageable limit = PageRequest.of(0, size + 1);
+            rows = after
+                    ? chatMessageRepository.sliceViewsAfter(room, cursorAt, cursorId, limit)
+                    : chatMessageRepository.sliceViewsBefore(room, cursorAt, cursorId, limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<ChatMessageRepository.MessageView> pageRows = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (after) Collections.reverse(pageRows); // after 는 오래된 순으로 읽었으므로 최신순으로 뒤집는다
+
+        List<ChatMessageResponse> messages = pageRows.stream()
+                .map(v -> ChatMessageResponse.builder()
+                        .messageId(v.getId())
+                        .roomId(room.getId())
+                        .senderId(v.getSenderId())
+                        .senderNickname(v.getSenderNickname())
+                        .contentType(v.getContentType())
+                        .contentText(v.getContentText())
+                        .fileUrl(v.getFileUrl())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .toList();
+
+        return ChatMessageListResponse.builder()
+                .messages(messages)
+                .cursor(ChatMessageCursorResponse.builder()
+                        .pageSize(size)
+                        .hasMore(hasMore)
+                        .nextBeforeMessageId(messages.isEmpty() ? beforeMessageId : messages.get(messages.size() - 1).getMessageId())
+                        .nextAfterMessageId(messages.isEmpty() ? afterMessageId : messages.get(0).getMessageId())
+                        .build())
+                .build();
+    }
+
     // 마지막 읽은 메시지 처리
     @Transactional
     public ChatReadResponse lastReadMessage(Long userId, Long roomId, LastReadMessageRequest request) {
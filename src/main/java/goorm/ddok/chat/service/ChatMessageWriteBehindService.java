@@ -0,0 +1,416 @@
+package goorm.ddok.chat.service;
+
+import goorm.ddok.chat.domain.ChatContentType;
+import goorm.ddok.chat.dto.request.ChatMessageRequest;
+import goorm.ddok.chat.dto.response.ChatMessageResponse;
+import goorm.ddok.chat.event.ChatMessageSavedEvent;
+import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
+import goorm.ddok.global.persistence.IdSequences;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 전송 경로 (app.chat.write-behind.enabled=true 일 때만 사용)
+ *
+ * - 멤버십/닉네임은 쿼리 1회로 확인하고, 메시지 id 는 시퀀스 블록에서 미리 할당한다.
+ * - 응답(브로드캐스트용)은 즉시 반환하고, 저장은 전용 스레드가 모아서 처리한다.
+ *   · 한 번의 flush = 트랜잭션 1개: multi-row INSERT + 방별 last_message_at UPDATE 1회
+ * - 순서: id 할당과 큐 적재를 같은 락 안에서 하므로 큐 순서 = id 순서 = INSERT 순서
+ * - 내구성: 큐가 가득 차면 기존 동기 저장으로 대체(backpressure)
+ *   · 일시 장애(연결 실패, 타임아웃, 락 등): 같은 배치를 백오프하며 계속 재시도 (그동안 큐가 차면 동기 경로)
+ *   · 그 밖의 실패(FK/제약 위반 등): 건별로 저장하고, 실패한 행만 chat_message_dead_letter 에 남긴다
+ *   · 종료 시 들고 있던 배치와 큐에 남은 메시지를 순서대로 flush 한다
+ *   (ack 후 flush 전까지, 최대 flush-interval-ms 동안은 메모리에만 존재)
+ * - id 는 chat_message_seq 블록 단위로 선할당한다 (엔티티 저장 경로와 같은 시퀀스·블록 규칙).
+ */
+@Slf4j
+@Service
+public class ChatMessageWriteBehindService {
+
+    private static final String INSERT_PREFIX =
+            "insert into chat_message (id, room_id, sender_id, content_type, content_text, file_url, reply_to_id, created_at, updated_at) values ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DEAD_LETTER =
+            "insert into chat_message_dead_letter (message_id, room_id, sender_id, content_type, content_text, file_url, reply_to_id, created_at, error, failed_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long RETRY_BACKOFF_MS = 500;
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ChatMessageService chatMessageService;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatPendingMessages pendingMessages;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final Object allocLock = new Object();
+    private final Deque<Long> reservedIds = new ArrayDeque<>();
+
+    private volatile boolean running = false;
+    private Thread flusher;
+    /** 종료 시 flusher 가 들고 있던(아직 저장 못한) 배치 → shutdown() 이 큐보다 먼저 처리 */
+    private volatile List<Pending> leftover = List.of();
+
+    public ChatMessageWriteBehindService(
+            ChatMessageService chatMessageService,
+            ChatRoomMemberRepository chatRoomMemberRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ChatPendingMessages pendingMessages,
+            @Value("${app.chat.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.chat.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${app.chat.write-behind.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.chatMessageService = chatMessageService;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.pendingMessages = pendingMessages;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) return;
+        running = true;
+        flusher = new Thread(this::flushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Chat write-behind enabled: batchSize={}, flushIntervalMs={}", batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 메시지 전송
+     * - 비활성/큐 포화 시 기존 동기 저장(ChatMessageService.sendMessage)으로 처리
+     */
+    public ChatMessageResponse send(Long userId, Long roomId, ChatMessageRequest request) {
+        if (!running) {
+            return chatMessageService.sendMessage(userId, roomId, request);
+        }
+
+        String nickname = chatRoomMemberRepository.findActiveMemberNickname(roomId, userId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.NOT_CHAT_MEMBER));
+
+        ChatContentType contentType = (request.getContentType() == null)
+                ? ChatContentType.TEXT : request.getContentType();
+
+        Pending pending;
+        synchronized (allocLock) {
+            if (queue.remainingCapacity() == 0) {
+                log.warn("Chat write-behind queue full, falling back to synchronous save: roomId={}", roomId);
+                pending = null;
+            } else {
+                pending = new Pending(nextId(), roomId, userId, contentType,
+                        request.getContentText(), request.getFileUrl(), request.getReplyToId(), Instant.now());
+                pendingMessages.add(pending.id(), roomId, pending.createdAt());
+                queue.add(pending);
+            }
+        }
+        if (pending == null) {
+            return chatMessageService.sendMessage(userId, roomId, request);
+        }
+
+        return ChatMessageResponse.builder()
+                .messageId(pending.id())
+                .roomId(roomId)
+                .senderId(userId)
+                .senderNickname(nickname)
+                .contentType(contentType)
+                .contentText(pending.contentText())
+                .fileUrl(pending.fileUrl())
+                .createdAt(pending.createdAt())
+                .build();
+    }
+
+    /** 종료 시 남은 메시지 flush (flusher 가 멈춘 뒤, 들고 있던 배치 → 큐 순서) */
+    @PreDestroy
+    public void shutdown() {
+        if (!running) return;
+        running = false;
+        if (flusher != null) {
+            // 종료 중에는 재시도하지 않으므로 진행 중인 flush 1회 안에 멈춘다
+            flusher.interrupt();
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<Pending> rest = new ArrayList<>(leftover);
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            List<Pending> unsaved = save(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+            if (!unsaved.isEmpty()) {
+                log.error("Chat write-behind stopped with {} unsaved messages (ids {}..{})",
+                        unsaved.size(), unsaved.get(0).id(), unsaved.get(unsaved.size() - 1).id());
+                unsaved.forEach(p -> pendingMessages.remove(p.id()));
+            }
+        }
+    }
+
+    /* ---------- flush ---------- */
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        int failures = 0;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) continue;
+                    batch.add(first);
+                    // 짧게 모아서 group commit
+                    long deadline = System.currentTimeMillis() + flushIntervalMs;
+                    while (batch.size() < batchSize) {
+                        long wait = deadline - System.currentTimeMillis();
+                        if (wait <= 0) break;
+                        Pending next = queue.poll(wait, TimeUnit.MILLISECONDS);
+                        if (next == null) break;
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+                batch = save(batch);
+                if (batch.isEmpty()) {
+                    failures = 0;
+                    continue;
+                }
+                // 일시 장애: 같은 배치를 재시도 (순서 유지를 위해 다음 메시지로 넘어가지 않는다)
+                failures++;
+                if (!running) break;
+                long backoff = Math.min(MAX_RETRY_BACKOFF_MS, RETRY_BACKOFF_MS << Math.min(failures - 1, 4));
+                log.warn("Chat write-behind flush failed, retrying {} messages in {} ms (attempt {})",
+                        batch.size(), backoff, failures);
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                // 종료 신호: 들고 있던 배치는 아래에서 shutdown() 으로 넘긴다
+            }
+        }
+        leftover = List.copyOf(batch);
+    }
+
+    /**
+     * 배치 저장
+     * - 실패 원인이 일시 장애면 배치 전체를, 건별 저장 중 일시 장애를 만나면 그 이후를 돌려준다 (재시도 대상)
+     * - 그 밖의 실패는 건별 저장으로 넘겨 문제 행만 dead letter 로 남긴다
+     * @return 저장하지 못한 메시지 (모두 저장/dead letter 처리되면 빈 리스트)
+     */
+    private List<Pending> save(List<Pending> batch) {
+        try {
+            flush(batch);
+            return new ArrayList<>(batchSize);
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                log.warn("Chat write-behind flush failed (transient): {} messages", batch.size(), e);
+                return new ArrayList<>(batch);
+            }
+            log.warn("Chat write-behind batch rejected, saving {} messages one by one", batch.size(), e);
+            return flushEach(batch);
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> validReplyIds = resolveReplyTargets(batch);
+            insertRows(batch, validReplyIds);
+            touchRooms(batch);
+            for (Pending p : batch) {
+                eventPublisher.publishEvent(new ChatMessageSavedEvent(p.id(), p.roomId(), p.contentText(), p.createdAt()));
+            }
+        });
+        // 커밋 이후 제거 (그 전까지 커서 조회는 대기 목록에서 찾는다)
+        for (Pending p : batch) pendingMessages.remove(p.id());
+    }
+
+    /** 건별 저장: 행 자체가 거부되면 dead letter 테이블로, 일시 장애면 남은 메시지를 돌려준다 */
+    private List<Pending> flushEach(List<Pending> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Pending p = batch.get(i);
+            try {
+                flush(List.of(p));
+            } catch (Exception e) {
+                if (isTransient(e)) return new ArrayList<>(batch.subList(i, batch.size()));
+                try {
+                    deadLetter(p, e);
+                } catch (Exception dle) {
+                    if (isTransient(dle)) return new ArrayList<>(batch.subList(i, batch.size()));
+                    log.error("Chat write-behind dropped message without dead letter: id={}, roomId={}",
+                            p.id(), p.roomId(), dle);
+                }
+                pendingMessages.remove(p.id());
+            }
+        }
+        return new ArrayList<>(batchSize);
+    }
+
+    private void deadLetter(Pending p, Exception cause) {
+        String error = cause.getClass().getSimpleName() + ": " + mostSpecificMessage(cause);
+        if (error.length() > MAX_ERROR_LENGTH) error = error.substring(0, MAX_ERROR_LENGTH);
+        String reason = error;
+        jdbcTemplate.update(INSERT_DEAD_LETTER, ps -> {
+            ps.setLong(1, p.id());
+            ps.setLong(2, p.roomId());
+            ps.setLong(3, p.senderId());
+            ps.setString(4, p.contentType().name());
+            ps.setString(5, p.contentText());
+            ps.setString(6, p.fileUrl());
+            setNullableLong(ps, 7, p.replyToId());
+            ps.setObject(8, OffsetDateTime.ofInstant(p.createdAt(), ZoneOffset.UTC));
+            ps.setString(9, reason);
+            ps.setObject(10, OffsetDateTime.now(ZoneOffset.UTC));
+        });
+        // 내용은 테이블에만 남기고 로그에는 식별자만
+        log.error("Chat write-behind moved message to dead letter: id={}, roomId={}, senderId={}, cause={}",
+                p.id(), p.roomId(), p.senderId(), cause.getClass().getSimpleName());
+    }
+
+    /** 연결 실패/타임아웃/락 경합 등 재시도하면 성공할 수 있는 실패인지 */
+    static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            // SQLState 08xxx: connection exception
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String mostSpecificMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        return String.valueOf(root.getMessage());
+    }
+
+    /** 존재하는 답장 대상만 유지 (동기 경로와 동일하게 없으면 null) */
+    private Set<Long> resolveReplyTargets(List<Pending> batch) {
+        Set<Long> inBatch = new HashSet<>();
+        Set<Long> lookup = new HashSet<>();
+        for (Pending p : batch) {
+            if (p.replyToId() != null && !inBatch.contains(p.replyToId())) lookup.add(p.replyToId());
+            inBatch.add(p.id());
+        }
+
+        Set<Long> valid = new HashSet<>(inBatch);
+        if (!lookup.isEmpty()) {
+            String marks = String.join(",", Collections.nCopies(lookup.size(), "?"));
+            valid.addAll(jdbcTemplate.queryForList(
+                    "select id from chat_message where deleted_at is null and id in (" + marks + ")",
+                    Long.class, lookup.toArray()));
+        }
+        return valid;
+    }
+
+    private void insertRows(List<Pending> batch, Set<Long> validReplyIds) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (INSERT_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append(INSERT_ROW);
+        }
+
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int i = 1;
+            for (Pending p : batch) {
+                OffsetDateTime at = OffsetDateTime.ofInstant(p.createdAt(), ZoneOffset.UTC);
+                Long replyTo = (p.replyToId() != null && validReplyIds.contains(p.replyToId()))
+                        ? p.replyToId() : null;
+                ps.setLong(i++, p.id());
+                ps.setLong(i++, p.roomId());
+                ps.setLong(i++, p.senderId());
+                ps.setString(i++, p.contentType().name());
+                ps.setString(i++, p.contentText());
+                ps.setString(i++, p.fileUrl());
+                setNullableLong(ps, i++, replyTo);
+                ps.setObject(i++, at);
+                ps.setObject(i++, at);
+            }
+        });
+    }
+
+    /** 방별 마지막 메시지 시각만 1회 갱신 (역행 방지) */
+    private void touchRooms(List<Pending> batch) {
+        Map<Long, Instant> latest = new LinkedHashMap<>();
+        for (Pending p : batch) {
+            latest.merge(p.roomId(), p.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+
+        List<Object[]> args = new ArrayList<>(latest.size());
+        latest.forEach((roomId, at) -> {
+            OffsetDateTime odt = OffsetDateTime.ofInstant(at, ZoneOffset.UTC);
+            args.add(new Object[]{odt, roomId, odt});
+        });
+        jdbcTemplate.batchUpdate(
+                "update chat_room set last_message_at = ? where id = ? and (last_message_at is null or last_message_at < ?)",
+                args);
+    }
+
+    /* ---------- id 선할당 ---------- */
+
+    /** allocLock 안에서만 호출 */
+    private long nextId() {
+        if (reservedIds.isEmpty()) {
+            // nextval 1번 = id 블록 1개 (Hibernate pooled 할당과 같은 규칙)
+            Long hi = jdbcTemplate.queryForObject("select nextval('" + IdSequences.CHAT_MESSAGE + "')", Long.class);
+            long high = (hi == null) ? 0L : hi;
+            for (long id = Math.max(1L, high - IdSequences.ALLOCATION_SIZE + 1); id <= high; id++) {
+                reservedIds.addLast(id);
+            }
+        }
+        return reservedIds.pollFirst();
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int idx, Long value) throws SQLException {
+        if (value == null) ps.setNull(idx, Types.BIGINT);
+        else ps.setLong(idx, value);
+    }
+
+    private record Pending(long id, Long roomId, Long senderId, ChatContentType contentType,
+                           String contentText, String fileUrl, Long replyToId, Instant createdAt) {}
+}
@@ -1,45 +1,153 @@
 package goorm.ddok.chat.service;
 
-import goorm.ddok.chat.domain.ChatRoomMember;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import goorm.ddok.chat.dto.response.ChatMessageResponse;
-import goorm.ddok.chat.repository.ChatRoomMemberRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 새 메시지 알림(NEW_MESSAGE_FLAG) fan-out
+ * - 멤버 목록은 ChatRoomMembershipCache 재사용 (메시지마다 DB 조회하지 않음)
+ * - payload 는 메시지당 1번만 직렬화하고 같은 byte[] 를 모든 멤버에게 전송
+ * - (user, room) 별로 coalesce-window-ms 안의 반복 알림은 합치고,
+ *   창이 끝나면 가장 최근 createdAt 으로 한 번 더 보낸다 (trailing)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatNotificationService {
 
+    private static final String TYPE = "NEW_MESSAGE_FLAG";
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final ChatRoomMemberRepository memberRepo;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ObjectMapper objectMapper;
+    private final long windowMs;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+
+    public ChatNotificationService(
+            SimpMessagingTemplate messagingTemplate,
+            ChatRoomMembershipCache membershipCache,
+            ObjectMapper objectMapper,
+            @Value("${app.chat.notification.coalesce-window-ms:1000}") long windowMs
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.membershipCache = membershipCache;
+        this.objectMapper = objectMapper;
+        this.windowMs = windowMs;
+    }
 
     public void notifyNewMessage(ChatMessageResponse saved) {
 
         Long roomId = saved.getRoomId();
-        Long senderId = saved.getSenderId();
+        long senderId = saved.getSenderId() == null ? -1L : saved.getSenderId();
         Instant createdAt = saved.getCreatedAt();
 
-        // 멤버 조회
-        List<ChatRoomMember> members =
-                memberRepo.findActiveMembersExcludingSender(roomId, senderId == null ? -1L : senderId);
+        long[] members = membershipCache.activeUserIds(roomId);
+        if (members.length == 0) return;
+
+        Message<byte[]> message = null;
+        long now = System.currentTimeMillis();
+
+        for (long userId : members) {
+            if (userId == senderId) continue;
+            if (!acquire(userId, roomId, createdAt, now)) continue;
 
-        for (ChatRoomMember m : members) {
-            Long userId = m.getUser().getId();
+            if (message == null) message = buildMessage(roomId, createdAt);
+            if (message == null) return;
+            messagingTemplate.send(destinationOf(userId), message);
+        }
+    }
+
+    /** 창이 끝난 (user, room) 의 보류 알림 전송 + 오래된 슬롯 정리 */
+    @Scheduled(fixedDelayString = "${app.chat.notification.flush-interval-ms:500}")
+    public void flushCoalesced() {
+        if (slots.isEmpty()) return;
 
-            Map<String, Object> payload = Map.of(
-                    "type", "NEW_MESSAGE_FLAG",
-                    "roomId", roomId,
-                    "createdAt", createdAt
-            );
+        long now = System.currentTimeMillis();
+        Map<String, Message<byte[]>> built = new HashMap<>();
 
-            String destination = "/sub/users/" + userId + "/notifications";
-            messagingTemplate.convertAndSend(destination, payload);
+        for (Iterator<Map.Entry<Key, Slot>> it = slots.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, Slot> e = it.next();
+            Key key = e.getKey();
+            Slot slot = e.getValue();
+
+            Instant pending;
+            synchronized (slot) {
+                if (slot.windowEnd > now) continue;
+                pending = slot.pending;
+                if (pending == null) {
+                    // 한 창 이상 조용했던 슬롯은 제거
+                    if (slot.windowEnd + windowMs <= now) it.remove();
+                    continue;
+                }
+                slot.pending = null;
+                slot.windowEnd = now + windowMs;
+            }
+
+            Message<byte[]> message = built.computeIfAbsent(key.roomId() + ":" + pending,
+                    k -> buildMessage(key.roomId(), pending));
+            if (message != null) messagingTemplate.send(destinationOf(key.userId()), message);
         }
     }
 
+    /* ---------- 내부 ---------- */
+
+    /** 지금 보내도 되면 true, 창 안이면 보류 처리 후 false */
+    private boolean acquire(long userId, long roomId, Instant createdAt, long now) {
+        if (windowMs <= 0) return true;
 
+        Slot slot = slots.computeIfAbsent(new Key(userId, roomId), k -> new Slot());
+        synchronized (slot) {
+            if (slot.windowEnd <= now) {
+                slot.windowEnd = now + windowMs;
+                slot.pending = null;
+                return true;
+            }
+            if (slot.pending == null || (createdAt != null && createdAt.isAfter(slot.pending))) {
+                slot.pending = createdAt;
+            }
+            return false;
+        }
+    }
+
+    private Message<byte[]> buildMessage(Long roomId, Instant createdAt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", TYPE);
+        payload.put("roomId", roomId);
+        payload.put("createdAt", createdAt);
+
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            return MessageBuilder.createMessage(objectMapper.writeValueAsBytes(payload), accessor.getMessageHeaders());
+        } catch (JsonProcessingException e) {
+            log.warn("NEW_MESSAGE_FLAG serialize failed: roomId={}", roomId, e);
+            return null;
+        }
+    }
+
+    private static String destinationOf(long userId) {
+        return "/sub/users/" + userId + "/notifications";
+    }
+
+    private record Key(long userId, long roomId) {}
+
+    private static final class Slot {
+        private long windowEnd;
+        private Instant pending;
+    }
 }
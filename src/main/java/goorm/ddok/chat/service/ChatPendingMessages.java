@@ -0,0 +1,38 @@
+package goorm.ddok.chat.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * write-behind 큐에 있어 아직 DB 에 없는 메시지 (id → 방/생성 시각)
+ *
+ * - 브로드캐스트로 id 를 받은 클라이언트가 flush 전에 그 id 를 커서로 써도 조회가 되도록 한다
+ * - 커밋 이후에 제거하므로, 먼저 여기를 보고 없으면 DB 를 보면 항상 둘 중 한 곳에서 찾는다
+ */
+@Component
+public class ChatPendingMessages {
+
+    private final Map<Long, Entry> pending = new ConcurrentHashMap<>();
+
+    void add(long messageId, Long roomId, Instant createdAt) {
+        pending.put(messageId, new Entry(roomId, createdAt));
+    }
+
+    void remove(long messageId) {
+        pending.remove(messageId);
+    }
+
+    /** 같은 방의 대기 중 메시지면 생성 시각 */
+    public Optional<Instant> findCreatedAtInRoom(Long messageId, Long roomId) {
+        if (messageId == null) return Optional.empty();
+        Entry entry = pending.get(messageId);
+        if (entry == null || !entry.roomId().equals(roomId)) return Optional.empty();
+        return Optional.of(entry.createdAt());
+    }
+
+    private record Entry(Long roomId, Instant createdAt) {}
+}
@@ -1,6 +1,8 @@
 package goorm.ddok.chat.service;
 
 import goorm.ddok.chat.domain.*;
+import goorm.ddok.chat.event.ChatMembershipChangedEvent;
+import goorm.ddok.chat.event.PrivateChatRoomCreatedEvent;
 import goorm.ddok.chat.repository.ChatRepository;
 import goorm.ddok.chat.repository.ChatRoomMemberRepository;
 import goorm.ddok.global.exception.ErrorCode;
@@ -10,6 +12,7 @@ import goorm.ddok.team.domain.Team;
 import goorm.ddok.team.domain.TeamMemberRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ import java.util.*;
 public class ChatRoomManagementService {
     private final ChatRepository chatRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createPrivateChatRoom(User sender, User receiver) {
@@ -40,6 +44,8 @@ public class ChatRoomManagementService {
                 .room(room).user(receiver).role(ChatMemberRole.MEMBER).build();
 
         chatRoomMemberRepository.saveAll(List.of(admin, member));
+        eventPublisher.publishEvent(new ChatMembershipChangedEvent(room.getId()));
+        eventPublisher.publishEvent(new PrivateChatRoomCreatedEvent(room.getId(), sender.getId(), receiver.getId()));
     }
 
     @Transactional
@@ -79,6 +85,7 @@ public class ChatRoomManagementService {
             m.setRole(ChatMemberRole.MEMBER);
             m.restore();
             chatRoomMemberRepository.save(m);
+            eventPublisher.publishEvent(new ChatMembershipChangedEvent(roomId));
             return;
         }
 
@@ -88,6 +95,7 @@ public class ChatRoomManagementService {
                 .role(ChatMemberRole.MEMBER)
                 .build();
         chatRoomMemberRepository.save(created);
+        eventPublisher.publishEvent(new ChatMembershipChangedEvent(roomId));
     }
 
     @Transactional
@@ -100,6 +108,7 @@ public class ChatRoomManagementService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.NOT_CHAT_MEMBER));
 
         chatMember.expel();
+        eventPublisher.publishEvent(new ChatMembershipChangedEvent(chatRoom.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,91 @@
+package goorm.ddok.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import goorm.ddok.chat.event.ChatMembershipChangedEvent;
+import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방 멤버십 캐시 (노드 로컬)
+ * - 방 id → 활성 멤버 user id 정렬 배열(long[]), 포함 여부는 이진 탐색
+ * - 참여/퇴장/강퇴 시 ChatMembershipChangedEvent 로 커밋 이후 해당 방만 무효화
+ * - 다른 노드의 변경은 TTL(기본 60초)로 보정
+ * - max-rooms 를 넘으면 Caffeine 이 오래 안 쓴 방부터 내보낸다 (전체를 비우지 않음)
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final Cache<Long, long[]> rooms;
+    /** 무효화 세대: 적재 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ChatRoomMembershipCache(
+            ChatRoomMemberRepository chatRoomMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.chat.membership-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${app.chat.membership-cache.max-rooms:10000}") int maxRooms
+    ) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+        this.hitCounter = Counter.builder("chat.membership.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.membership.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isActiveMember(Long roomId, Long userId) {
+        if (roomId == null || userId == null) return false;
+        return Arrays.binarySearch(activeUserIds(roomId), userId) >= 0;
+    }
+
+    /** 방의 활성 멤버 user id (정렬됨, 읽기 전용으로 사용) */
+    public long[] activeUserIds(Long roomId) {
+        long[] cached = rooms.getIfPresent(roomId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long gen = generation.get();
+        List<Long> ids = chatRoomMemberRepository.findActiveUserIdsByRoomId(roomId);
+        long[] sorted = new long[ids.size()];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = ids.get(i);
+        Arrays.sort(sorted);
+
+        if (generation.get() == gen) rooms.put(roomId, sorted);
+        return sorted;
+    }
+
+    public void invalidate(Long roomId) {
+        generation.incrementAndGet();
+        if (roomId != null) rooms.invalidate(roomId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ChatMembershipChangedEvent e) {
+        invalidate(e.roomId());
+    }
+}
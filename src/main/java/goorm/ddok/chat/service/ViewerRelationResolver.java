@@ -0,0 +1,148 @@
+package goorm.ddok.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import goorm.ddok.chat.domain.ChatRoomType;
+import goorm.ddok.chat.domain.DmRequestStatus;
+import goorm.ddok.chat.event.PrivateChatRoomCreatedEvent;
+import goorm.ddok.chat.repository.ChatRoomRepository;
+import goorm.ddok.chat.repository.DmRequestRepository;
+import goorm.ddok.notification.event.DmRequestCreatedEvent;
+import goorm.ddok.notification.event.DmRequestDecisionEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회자(viewer) 기준 상대 사용자들과의 관계 일괄 조회
+ * - chatRoomId: 1:1 채팅방 id (없으면 null)
+ * - dmPending : 1:1 방이 있거나 PENDING/ACCEPTED DM 요청이 있으면 true
+ *   (ChatRoomService.findPrivateRoomId + DmRequestCommandService.isDmPendingOrAcceptedOrChatExists 와 동일)
+ *
+ * N명을 한 번에 물으면 방 조회 1번 + DM 조회 1번으로 끝난다.
+ * 결과는 viewer 별로 짧게(TTL) 캐시하고, DM 요청 생성/수락/거절·1:1 방 생성 시 커밋 이후 양쪽 viewer 캐시를 비운다.
+ * viewer 수는 Caffeine 으로 max-viewers 까지 제한한다 (넘으면 오래 안 쓴 viewer 부터 내보냄).
+ */
+@Component
+public class ViewerRelationResolver {
+
+    private static final Set<DmRequestStatus> ACTIVE_STATUSES =
+            EnumSet.of(DmRequestStatus.PENDING, DmRequestStatus.ACCEPTED);
+
+    public record Relation(Long chatRoomId, boolean dmPending) {
+        public static final Relation NONE = new Relation(null, false);
+    }
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final DmRequestRepository dmRequestRepository;
+    private final Cache<Long, Map<Long, Relation>> viewers;
+    /** 무효화 세대: 조회 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public ViewerRelationResolver(
+            ChatRoomRepository chatRoomRepository,
+            DmRequestRepository dmRequestRepository,
+            @Value("${app.chat.viewer-relation-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${app.chat.viewer-relation-cache.max-viewers:10000}") int maxViewers
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.dmRequestRepository = dmRequestRepository;
+        this.viewers = Caffeine.newBuilder()
+                .maximumSize(maxViewers)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /** 단건 (본인/비로그인이면 NONE) */
+    public Relation resolve(Long viewerId, Long otherId) {
+        if (viewerId == null || otherId == null || viewerId.equals(otherId)) return Relation.NONE;
+        return resolveAll(viewerId, List.of(otherId)).getOrDefault(otherId, Relation.NONE);
+    }
+
+    /** 여러 명 일괄 (본인/비로그인은 NONE, 반환 맵에 모든 otherId 포함) */
+    public Map<Long, Relation> resolveAll(Long viewerId, Collection<Long> otherIds) {
+        Map<Long, Relation> result = new HashMap<>();
+        if (otherIds == null || otherIds.isEmpty()) return result;
+
+        Set<Long> targets = new LinkedHashSet<>();
+        for (Long id : otherIds) {
+            if (id == null) continue;
+            if (viewerId == null || viewerId.equals(id)) result.put(id, Relation.NONE);
+            else targets.add(id);
+        }
+        if (targets.isEmpty()) return result;
+
+        Map<Long, Relation> entry = viewers.getIfPresent(viewerId);
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : targets) {
+            Relation cached = (entry == null) ? null : entry.get(id);
+            if (cached != null) result.put(id, cached);
+            else missing.add(id);
+        }
+        if (missing.isEmpty()) return result;
+
+        long gen = generation.get();
+        Map<Long, Relation> loaded = load(viewerId, missing);
+        result.putAll(loaded);
+
+        if (generation.get() == gen) {
+            // 만료 시각은 viewer 항목이 처음 만들어질 때 기준 (이후 추가되는 상대는 같은 항목에 합친다)
+            if (entry == null) entry = viewers.get(viewerId, k -> new ConcurrentHashMap<>());
+            entry.putAll(loaded);
+        }
+        return result;
+    }
+
+    public void invalidate(Long userId1, Long userId2) {
+        generation.incrementAndGet();
+        if (userId1 != null) viewers.invalidate(userId1);
+        if (userId2 != null) viewers.invalidate(userId2);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(PrivateChatRoomCreatedEvent e) {
+        invalidate(e.userId1(), e.userId2());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(DmRequestCreatedEvent e) {
+        invalidate(e.getFromUserId(), e.getToUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(DmRequestDecisionEvent e) {
+        invalidate(e.getApproverUserId(), e.getRequesterUserId());
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private Map<Long, Relation> load(Long viewerId, List<Long> otherIds) {
+        Map<Long, Long> roomByUser = new HashMap<>();
+        for (ChatRoomRepository.PeerRoomRow row :
+                chatRoomRepository.findPrivateRoomIdsWithUsers(ChatRoomType.PRIVATE, viewerId, otherIds)) {
+            roomByUser.merge(row.getUserId(), row.getRoomId(), Math::min);
+        }
+
+        // 방이 이미 있는 상대는 DM 상태를 볼 필요가 없음
+        List<Long> withoutRoom = otherIds.stream().filter(id -> !roomByUser.containsKey(id)).toList();
+        Set<Long> dmActive = withoutRoom.isEmpty()
+                ? Set.of()
+                : new HashSet<>(dmRequestRepository.findCounterpartIdsWithStatuses(viewerId, withoutRoom, ACTIVE_STATUSES));
+
+        Map<Long, Relation> loaded = new HashMap<>();
+        for (Long id : otherIds) {
+            Long roomId = roomByUser.get(id);
+            loaded.put(id, roomId != null
+                    ? new Relation(roomId, true)
+                    : (dmActive.contains(id) ? new Relation(null, true) : Relation.NONE));
+        }
+        return loaded;
+    }
+}
@@ -1,30 +1,24 @@
 package goorm.ddok.chat.util;
 
-import goorm.ddok.chat.domain.ChatMessage;
+import goorm.ddok.chat.domain.ChatContentType;
 import goorm.ddok.chat.domain.ChatRoom;
-import goorm.ddok.chat.domain.ChatRoomMember;
 import goorm.ddok.chat.domain.ChatRoomType;
 import goorm.ddok.chat.dto.response.ChatRoomResponse;
 import goorm.ddok.chat.dto.response.LastMessageResponse;
 import goorm.ddok.chat.dto.response.OtherUserResponse;
 import goorm.ddok.chat.dto.response.UserSimpleResponse;
 import goorm.ddok.chat.repository.ChatRepository;
-import goorm.ddok.chat.repository.ChatRoomMemberRepository;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
-import goorm.ddok.reputation.domain.UserReputation;
-import goorm.ddok.reputation.repository.UserReputationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
@@ -32,22 +26,77 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatMapper {
     private final ChatRepository chatRepository;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final UserRepository userRepository;
-    private final UserReputationRepository userReputationRepository;
 
+    /**
+     * 채팅방 목록 변환 (페이지 단위 일괄 조회)
+     * - 방 개수와 무관하게 고정 횟수 쿼리: 내 멤버십/미읽음, 마지막 메시지,
+     *   (1:1) 상대+온도, (그룹) 멤버 수 + 방장
+     */
     public List<ChatRoomResponse> toChatRoomDtoList(List<ChatRoom> chatRooms, Long currentUserId) {
-        return chatRooms.stream()
-                .map(chatRoom -> toChatRoomDto(chatRoom, currentUserId))
-                .collect(Collectors.toList());
+        if (chatRooms.isEmpty()) return List.of();
+
+        List<Long> roomIds = new ArrayList<>(chatRooms.size());
+        List<Long> privateRoomIds = new ArrayList<>();
+        List<Long> groupRoomIds = new ArrayList<>();
+        Set<Long> ownerIds = new HashSet<>();
+        for (ChatRoom room : chatRooms) {
+            roomIds.add(room.getId());
+            if (room.getRoomType() == ChatRoomType.PRIVATE) {
+                privateRoomIds.add(room.getId());
+            } else {
+                groupRoomIds.add(room.getId());
+                if (room.getOwnerUserId() != null) ownerIds.add(room.getOwnerUserId());
+            }
+        }
+
+        Map<Long, ChatRepository.MyMembershipRow> memberships = new HashMap<>();
+        for (ChatRepository.MyMembershipRow row : chatRepository.findMyMemberships(roomIds, currentUserId)) {
+            memberships.put(row.getRoomId(), row);
+        }
+
+        Map<Long, ChatRepository.LastMessageRow> lastMessages = new HashMap<>();
+        for (ChatRepository.LastMessageRow row : chatRepository.findLastMessagesByRoomIds(roomIds)) {
+            // 같은 시각 메시지가 여럿이면 id 가 큰 쪽
+            lastMessages.merge(row.getRoomId(), row, (a, b) -> a.getId() >= b.getId() ? a : b);
+        }
+
+        // 1:1 상대: 가입순 첫 번째 (기존 단건 조회와 동일 기준)
+        Map<Long, ChatRepository.PeerRow> peers = new HashMap<>();
+        if (!privateRoomIds.isEmpty()) {
+            for (ChatRepository.PeerRow row : chatRepository.findPeersExcluding(privateRoomIds, currentUserId)) {
+                peers.putIfAbsent(row.getRoomId(), row);
+            }
+        }
+
+        Map<Long, Long> memberCounts = new HashMap<>();
+        Map<Long, User> owners = Map.of();
+        if (!groupRoomIds.isEmpty()) {
+            for (ChatRepository.MemberCountRow row : chatRepository.countMembersByRoomIds(groupRoomIds)) {
+                memberCounts.put(row.getRoomId(), row.getCnt());
+            }
+            if (!ownerIds.isEmpty()) owners = getUserMap(new ArrayList<>(ownerIds));
+        }
+
+        List<ChatRoomResponse> result = new ArrayList<>(chatRooms.size());
+        for (ChatRoom room : chatRooms) {
+            result.add(toChatRoomDto(room, memberships.get(room.getId()), lastMessages.get(room.getId()),
+                    peers.get(room.getId()), memberCounts.getOrDefault(room.getId(), 0L), owners));
+        }
+        return result;
     }
 
-    // ChatRoom을 ChatRoomResponse로 변환
-    public ChatRoomResponse toChatRoomDto(ChatRoom chatRoom, Long currentUserId) {
+    // ChatRoom을 ChatRoomResponse로 변환 (일괄 조회 결과 사용)
+    private ChatRoomResponse toChatRoomDto(ChatRoom chatRoom,
+                                           ChatRepository.MyMembershipRow membership,
+                                           ChatRepository.LastMessageRow lastMessage,
+                                           ChatRepository.PeerRow peer,
+                                           long memberCount,
+                                           Map<Long, User> owners) {
         ChatRoomResponse.ChatRoomResponseBuilder builder = ChatRoomResponse.builder()
                 .roomId(chatRoom.getId())
                 .roomType(chatRoom.getRoomType())
-                .hasUnreadMessages(chatRepository.hasUnreadByTime(chatRoom.getId(), currentUserId))
+                .hasUnreadMessages(hasUnread(chatRoom, membership))
                 .isPinned(false) // TODO: 고정 기능 구현 시 실제 값으로 변경
                 .updatedAt(Optional.ofNullable(chatRoom.getLastMessageAt())
                         .orElse(chatRoom.getCreatedAt()));
@@ -58,46 +107,44 @@ public class ChatMapper {
 
         // 채팅방 타입에 따라 다른 정보 설정
         if (chatRoom.getRoomType() == ChatRoomType.PRIVATE) {
-            setPrivateChatInfo(builder, chatRoom, currentUserId);
+            setPrivateChatInfo(builder, chatRoom, peer);
         } else {
-            setGroupChatInfo(builder, chatRoom, currentUserId);
+            setGroupChatInfo(builder, chatRoom, membership, memberCount, owners);
         }
 
         // 마지막 메시지 설정
-        setLastMessage(builder, chatRoom);
+        setLastMessage(builder, lastMessage);
 
         return builder.build();
     }
 
+    // 미읽음: 마지막 메시지 시각이 마지막으로 읽은 메시지 시각보다 뒤 (hasUnreadByTime 과 동일 기준)
+    private Boolean hasUnread(ChatRoom chatRoom, ChatRepository.MyMembershipRow membership) {
+        if (membership == null) return null;
+        Instant lastMessageAt = chatRoom.getLastMessageAt();
+        if (lastMessageAt == null) return false;
+        return membership.getLastReadAt() == null || membership.getLastReadAt().isBefore(lastMessageAt);
+    }
+
     // 개인 채팅 정보 설정
     private void setPrivateChatInfo(ChatRoomResponse.ChatRoomResponseBuilder builder,
-                                    ChatRoom chatRoom, Long currentUserId) {
-        try {
-            User otherUser = chatRoomMemberRepository
-                    .findFirstByRoom_IdAndDeletedAtIsNullAndUser_IdNotOrderByCreatedAtAsc(
-                            chatRoom.getId(), currentUserId)
-                    .map(ChatRoomMember::getUser)
-                    .orElseThrow(() -> new GlobalException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-
-            String roomName = (chatRoom.getName() != null && !chatRoom.getName().isBlank())
-                    ? chatRoom.getName()
-                    : getNickname(otherUser);
-
-            builder.name(roomName)
-                    .otherUser(OtherUserResponse.builder()
-                            .id(otherUser.getId())
-                            .nickname(getNickname(otherUser))
-                            .profileImage(getProfileImageUrl(otherUser))
-                            .temperature(getTemperature(otherUser))
-                            .build());
-
-        } catch (GlobalException e) {
-            throw e;
-        } catch (Exception e) {
-            // 예기치 못한 예외는 로깅 후 기본 값으로 처리
-            log.error("개인 채팅 정보 설정 중 오류 발생 - roomId: {}", chatRoom.getId(), e);
-            builder.name(chatRoom.getName() != null ? chatRoom.getName() : "채팅방");
+                                    ChatRoom chatRoom, ChatRepository.PeerRow peer) {
+        if (peer == null) {
+            throw new GlobalException(ErrorCode.CHAT_ROOM_NOT_FOUND);
         }
+
+        String nickname = (peer.getNickname() != null) ? peer.getNickname() : "사용자" + peer.getUserId();
+        String roomName = (chatRoom.getName() != null && !chatRoom.getName().isBlank())
+                ? chatRoom.getName()
+                : nickname;
+
+        builder.name(roomName)
+                .otherUser(OtherUserResponse.builder()
+                        .id(peer.getUserId())
+                        .nickname(nickname)
+                        .profileImage(peer.getProfileImageUrl())
+                        .temperature(Optional.ofNullable(peer.getTemperature()).orElse(BigDecimal.valueOf(36.5)))
+                        .build());
     }
 
     private String getProfileImageUrl(User user) {
@@ -117,25 +164,18 @@ public class ChatMapper {
         }
     }
 
-    private BigDecimal getTemperature(User user) {
-        return userReputationRepository.findByUserId(user.getId())
-                .map(UserReputation::getTemperature)
-                .orElse(BigDecimal.valueOf(36.5));
-    }
-
     // 그룹 채팅 정보 설정
     private void setGroupChatInfo(ChatRoomResponse.ChatRoomResponseBuilder builder,
-                                  ChatRoom chatRoom, Long currentUserId) {
+                                  ChatRoom chatRoom,
+                                  ChatRepository.MyMembershipRow membership,
+                                  long memberCount,
+                                  Map<Long, User> owners) {
         builder.name(chatRoom.getName());
-
-        // 멤버 수 조회
-        Long memberCount = chatRepository.countMembersByRoomId(chatRoom.getId());
-        builder.memberCount(memberCount.intValue());
+        builder.memberCount((int) memberCount);
 
         // 방장 정보 설정
         if (chatRoom.getOwnerUserId() != null) {
-            User owner = userRepository.findById(chatRoom.getOwnerUserId())
-                    .orElse(null);
+            User owner = owners.get(chatRoom.getOwnerUserId());
 
             if (owner != null) {
                 builder.owner(UserSimpleResponse.builder()
@@ -146,36 +186,31 @@ public class ChatMapper {
             }
         }
 
-        // 현재 사용자의 역할 조회
-        Optional<ChatRoomMember> currentMember = chatRepository.findMembershipByRoomIdAndUserId(
-                chatRoom.getId(), currentUserId);
-        currentMember.ifPresent(member -> builder.myRole(member.getRole()));
+        // 현재 사용자의 역할
+        if (membership != null) builder.myRole(membership.getRole());
     }
 
     // 마지막 메시지 정보 설정
-    private void setLastMessage(ChatRoomResponse.ChatRoomResponseBuilder builder, ChatRoom chatRoom) {
-        Optional<ChatMessage> lastMessage = chatRepository.findLastMessageByRoomId(chatRoom.getId());
-
-        lastMessage.ifPresent(message -> {
-            String content = getMessageContent(message);
-
-            builder.lastMessage(LastMessageResponse.builder()
-                    .messageId(message.getId())
-                    .type(message.getContentType())
-                    .content(content)
-                    .createdAt(message.getCreatedAt())
-                    .senderId(message.getSender().getId())
-                    .build());
-        });
+    private void setLastMessage(ChatRoomResponse.ChatRoomResponseBuilder builder,
+                                ChatRepository.LastMessageRow message) {
+        if (message == null) return;
+
+        builder.lastMessage(LastMessageResponse.builder()
+                .messageId(message.getId())
+                .type(message.getContentType())
+                .content(getMessageContent(message.getContentType(), message.getContentText()))
+                .createdAt(message.getCreatedAt())
+                .senderId(message.getSenderId())
+                .build());
     }
 
     // 메시지 내용 추출 (타입에 따라 다르게 처리)
-    private String getMessageContent(ChatMessage message) {
-        return switch (message.getContentType()) {
-            case TEXT -> message.getContentText();
+    private String getMessageContent(ChatContentType contentType, String contentText) {
+        return switch (contentType) {
+            case TEXT -> contentText;
             case IMAGE -> "이미지";
             case FILE -> "파일";
-            case SYSTEM -> message.getContentText();
+            case SYSTEM -> contentText;
         };
     }
 
@@ -6,6 +6,7 @@ import goorm.ddok.chat.dto.request.ChatMessageRequest;
 import goorm.ddok.chat.dto.response.ChatMessageResponse;
 import goorm.ddok.chat.repository.ChatRoomMemberRepository;
 import goorm.ddok.chat.service.ChatMessageService;
+import goorm.ddok.chat.service.ChatMessageWriteBehindService;
 import goorm.ddok.chat.service.ChatNotificationService;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
@@ -29,10 +30,12 @@ public class ChatWsController {
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
     private final ChatNotificationService chatNotificationService;
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
 
     /**
      * 클라 SEND: /pub/chats/{roomId}/send
      * 서버 SUB:  /sub/chats/{roomId}
+     * - write-behind 활성 시 id 선할당 후 즉시 브로드캐스트, 저장은 배치로 처리
      */
     @MessageMapping("/chats/{roomId}/send")
     public void send(@DestinationVariable Long roomId,
@@ -42,14 +45,11 @@ public class ChatWsController {
         Long userId = (Long) sessionAttrs.get("userId");
         if (userId == null) throw new GlobalException(ErrorCode.UNAUTHORIZED);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-
         if (payload.getContentType() == null) {
             payload.setContentType(ChatContentType.TEXT);
         }
 
-        ChatMessageResponse saved = chatMessageService.sendMessage(userId, roomId, payload);
+        ChatMessageResponse saved = chatMessageWriteBehindService.send(userId, roomId, payload);
 
         messagingTemplate.convertAndSend("/sub/chats/" + roomId, saved);
 
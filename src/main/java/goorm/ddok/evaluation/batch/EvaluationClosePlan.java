@@ -0,0 +1,12 @@
+package goorm.ddok.evaluation.batch;
+
+import java.util.List;
+
+/**
+ * 평가 라운드 1개의 마감 계획 (Processor → Writer)
+ * - targets: 자동 입력으로 평가자가 늘어나는 대상별 기존/추가 고유 평가자 수
+ */
+public record EvaluationClosePlan(Long evaluationId, Long teamId, List<TargetUpdate> targets) {
+
+    public record TargetUpdate(long targetUserId, int existingEvaluators, int autoEvaluators) {}
+}
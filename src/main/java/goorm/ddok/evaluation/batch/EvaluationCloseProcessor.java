@@ -0,0 +1,66 @@
+package goorm.ddok.evaluation.batch;
+
+import goorm.ddok.evaluation.domain.EvaluationStatus;
+import goorm.ddok.evaluation.domain.TeamEvaluation;
+import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
+import goorm.ddok.evaluation.repository.TeamEvaluationScoreRepository;
+import goorm.ddok.team.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 라운드별 마감 계획 계산
+ * - 팀 멤버 user id 를 정렬 배열로 인덱싱하고, 제출된 (evaluator, target) 쌍은 BitSet(evaluatorIdx * m + targetIdx) 로 표시
+ * - 대상별 "기존 고유 평가자 수"와 "자동 입력으로 추가될 평가자 수"만 넘기고 점수 행은 Writer 에서 SQL 로 채운다
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationCloseProcessor implements ItemProcessor<Long, EvaluationClosePlan> {
+
+    private final TeamEvaluationRepository evaluationRepository;
+    private final TeamEvaluationScoreRepository scoreRepository;
+    private final TeamMemberRepository teamMemberRepository;
+
+    @Override
+    public EvaluationClosePlan process(Long evaluationId) {
+        TeamEvaluation eval = evaluationRepository.findById(evaluationId).orElse(null);
+        if (eval == null || eval.getStatus() != EvaluationStatus.OPEN) return null;
+
+        Long teamId = eval.getTeam().getId();
+        long[] members = teamMemberRepository.findDistinctUserIdsByTeamId(teamId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        int m = members.length;
+        if (m < 2) return new EvaluationClosePlan(evaluationId, teamId, List.of());
+
+        BitSet submitted = new BitSet(m * m);
+        int[] existing = new int[m];
+        for (Object[] row : scoreRepository.findSubmittedPairs(evaluationId)) {
+            int ti = Arrays.binarySearch(members, ((Number) row[1]).longValue());
+            if (ti < 0) continue;
+            existing[ti]++;
+
+            int ei = Arrays.binarySearch(members, ((Number) row[0]).longValue());
+            if (ei >= 0) submitted.set(ei * m + ti);
+        }
+
+        List<EvaluationClosePlan.TargetUpdate> targets = new ArrayList<>();
+        for (int ti = 0; ti < m; ti++) {
+            int auto = 0;
+            for (int ei = 0; ei < m; ei++) {
+                if (ei != ti && !submitted.get(ei * m + ti)) auto++;
+            }
+            if (auto > 0) {
+                targets.add(new EvaluationClosePlan.TargetUpdate(members[ti], existing[ti], auto));
+            }
+        }
+        return new EvaluationClosePlan(evaluationId, teamId, targets);
+    }
+}
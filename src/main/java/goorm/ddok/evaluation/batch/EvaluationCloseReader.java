@@ -0,0 +1,59 @@
+package goorm.ddok.evaluation.batch;
+
+import goorm.ddok.evaluation.domain.EvaluationStatus;
+import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 마감 대상(OPEN && closesAt < cutoff) 라운드 id 를 id 순 keyset 으로 읽는다
+ * - 처리된 라운드는 CLOSED 가 되어 조건에서 빠지므로 offset 페이징 대신 lastId 이후만 조회
+ * - lastId 는 ExecutionContext 에 저장 → 실패 후 재시작 시 커밋된 청크 다음부터 이어서 처리
+ */
+public class EvaluationCloseReader implements ItemStreamReader<Long> {
+
+    private static final String LAST_ID_KEY = "evaluationClose.lastId";
+
+    private final TeamEvaluationRepository evaluationRepository;
+    private final Instant cutoff;
+    private final int pageSize;
+
+    private final Deque<Long> buffer = new ArrayDeque<>();
+    private long lastId;
+
+    public EvaluationCloseReader(TeamEvaluationRepository evaluationRepository, Instant cutoff, int pageSize) {
+        this.evaluationRepository = evaluationRepository;
+        this.cutoff = cutoff;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Long read() {
+        if (buffer.isEmpty()) {
+            List<Long> ids = evaluationRepository.findIdsToClose(
+                    EvaluationStatus.OPEN, cutoff, lastId, PageRequest.of(0, pageSize));
+            if (ids.isEmpty()) return null;
+            buffer.addAll(ids);
+        }
+        Long id = buffer.poll();
+        lastId = id;
+        return id;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastId = executionContext.getLong(LAST_ID_KEY, 0L);
+        buffer.clear();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastId);
+    }
+}
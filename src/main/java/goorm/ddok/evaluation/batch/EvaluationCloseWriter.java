@@ -0,0 +1,124 @@
+package goorm.ddok.evaluation.batch;
+
+import goorm.ddok.evaluation.domain.EvaluationStatus;
+import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
+import goorm.ddok.evaluation.repository.TeamEvaluationScoreRepository;
+import goorm.ddok.member.domain.User;
+import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.reputation.domain.UserReputation;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
+import goorm.ddok.reputation.repository.UserReputationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 청크(라운드 N개) 단위 마감 반영 — 청크마다 별도 트랜잭션
+ * 1) 미제출 조합 기본 점수: 라운드당 INSERT ... SELECT 1번
+ * 2) 라운드 상태 CLOSED: 청크당 UPDATE 1번
+ * 3) 온도: 청크의 대상 평판을 한 번에 읽어 갱신 후 saveAll, 커밋 이후 리더보드 반영 이벤트 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EvaluationCloseWriter implements ItemWriter<EvaluationClosePlan> {
+
+    private final TeamEvaluationRepository evaluationRepository;
+    private final TeamEvaluationScoreRepository scoreRepository;
+    private final UserRepository userRepository;
+    private final UserReputationRepository userReputationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 자동 입력 점수 (1~5) */
+    private static final int DEFAULT_SCORE = 3;
+    /** 완충 상수 */
+    private static final double C = 10.0;
+
+    @Override
+    public void write(Chunk<? extends EvaluationClosePlan> chunk) {
+        Instant now = Instant.now();
+
+        List<Long> evaluationIds = new ArrayList<>(chunk.size());
+        int insertedScores = 0;
+        for (EvaluationClosePlan plan : chunk) {
+            insertedScores += scoreRepository.insertDefaultScoresForMissingPairs(
+                    plan.evaluationId(), plan.teamId(), DEFAULT_SCORE, now);
+            evaluationIds.add(plan.evaluationId());
+        }
+        if (evaluationIds.isEmpty()) return;
+
+        evaluationRepository.updateStatusByIdIn(evaluationIds, EvaluationStatus.CLOSED, now);
+
+        int updatedReps = applyTemperatures(chunk, now);
+
+        log.info("CLOSED evaluations={} insertedScores={} updatedReps={}",
+                evaluationIds.size(), insertedScores, updatedReps);
+    }
+
+    /* ---------- 온도 ---------- */
+
+    private int applyTemperatures(Chunk<? extends EvaluationClosePlan> chunk, Instant now) {
+        Set<Long> targetIds = new HashSet<>();
+        for (EvaluationClosePlan plan : chunk) {
+            for (EvaluationClosePlan.TargetUpdate t : plan.targets()) targetIds.add(t.targetUserId());
+        }
+        if (targetIds.isEmpty()) return 0;
+
+        Map<Long, UserReputation> reps = loadOrCreate(targetIds);
+
+        // 같은 사용자가 청크 안 여러 라운드의 대상이면 라운드 순서대로 누적
+        for (EvaluationClosePlan plan : chunk) {
+            for (EvaluationClosePlan.TargetUpdate t : plan.targets()) {
+                UserReputation rep = reps.get(t.targetUserId());
+                if (rep == null) continue;
+                rep.applyTemperature(step(rep.getTemperature(), t.existingEvaluators(), t.autoEvaluators()));
+            }
+        }
+
+        userReputationRepository.saveAll(reps.values());
+        reps.forEach((userId, rep) ->
+                eventPublisher.publishEvent(new TemperatureChangedEvent(userId, rep.getTemperature(), now)));
+        return reps.size();
+    }
+
+    private Map<Long, UserReputation> loadOrCreate(Set<Long> userIds) {
+        Map<Long, UserReputation> reps = new HashMap<>();
+        for (UserReputation rep : userReputationRepository.findAllByUser_IdIn(userIds)) {
+            reps.put(rep.getUser().getId(), rep);
+        }
+
+        List<Long> missing = userIds.stream().filter(id -> !reps.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findAllById(missing)) {
+                reps.put(user.getId(), UserReputation.builder().user(user).build());
+            }
+        }
+        return reps;
+    }
+
+    /**
+     * 자동 입력 평가자를 한 명씩 반영 (평균 3점 → 100점 스케일 30)
+     * n = 기존 고유 평가자 + 이번까지 추가된 수, alpha = 1 / (n + C), 매 단계 소수 첫째 자리 반올림
+     */
+    private static BigDecimal step(BigDecimal temperature, int existingEvaluators, int autoEvaluators) {
+        double targetScore100 = DEFAULT_SCORE * 10.0;
+        BigDecimal result = temperature;
+        for (int k = 1; k <= autoEvaluators; k++) {
+            double alpha = 1.0 / (existingEvaluators + k + C);
+            double current = result.doubleValue();
+            double updated = current + alpha * (targetScore100 - current);
+            if (updated < 0.0) updated = 0.0;
+            if (updated > 100.0) updated = 100.0;
+            result = BigDecimal.valueOf(updated).setScale(1, RoundingMode.HALF_UP);
+        }
+        return result;
+    }
+}
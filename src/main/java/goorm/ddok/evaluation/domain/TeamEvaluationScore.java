@@ -1,5 +1,6 @@
 package goorm.ddok.evaluation.domain;
 
+import goorm.ddok.global.persistence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,7 +20,9 @@ import java.time.Instant;
 @AllArgsConstructor @Builder(toBuilder = true)
 public class TeamEvaluationScore {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.TEAM_EVALUATION_SCORE)
+    @SequenceGenerator(name = IdSequences.TEAM_EVALUATION_SCORE, sequenceName = IdSequences.TEAM_EVALUATION_SCORE, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name="evaluation_id", nullable=false)
@@ -2,9 +2,14 @@ package goorm.ddok.evaluation.repository;
 
 import goorm.ddok.evaluation.domain.EvaluationStatus;
 import goorm.ddok.evaluation.domain.TeamEvaluation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +19,21 @@ public interface TeamEvaluationRepository extends JpaRepository<TeamEvaluation,
     List<TeamEvaluation> findAllByStatusAndClosesAtBefore(EvaluationStatus status, Instant before);
 
     boolean existsByTeam_IdAndStatus(Long teamId, EvaluationStatus status);
+
+    /** 마감 대상 라운드 id (keyset: afterId 이후) */
+    @Query("""
+    select e.id from TeamEvaluation e
+    where e.status = :status and e.closesAt < :before and e.id > :afterId
+    order by e.id asc
+""")
+    List<Long> findIdsToClose(@Param("status") EvaluationStatus status,
+                              @Param("before") Instant before,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TeamEvaluation e set e.status = :status, e.updatedAt = :now where e.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") EvaluationStatus status,
+                           @Param("now") Instant now);
 }
\ No newline at end of file
@@ -2,9 +2,11 @@ package goorm.ddok.evaluation.repository;
 
 import goorm.ddok.evaluation.domain.TeamEvaluationScore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface TeamEvaluationScoreRepository extends JpaRepository<TeamEvaluationScore, Long> {
@@ -21,4 +23,40 @@ public interface TeamEvaluationScoreRepository extends JpaRepository<TeamEvaluat
     long countDistinctEvaluatorsByTargetUserId(@Param("targetUserId") Long targetUserId);
 
     List<TeamEvaluationScore> findByEvaluationId(Long evaluationId);
+
+    /** 라운드에 이미 제출된 (evaluator, target) 쌍 */
+    @Query("""
+    select distinct s.evaluatorUserId, s.targetUserId
+    from TeamEvaluationScore s
+    where s.evaluationId = :evaluationId
+""")
+    List<Object[]> findSubmittedPairs(@Param("evaluationId") Long evaluationId);
+
+    /**
+     * 미제출 (evaluator → target) 조합에 전 항목 기본 점수를 한 번에 채운다 (INSERT ... SELECT)
+     * - 팀 멤버 x 팀 멤버(본인 제외) x 평가 항목, 이미 제출된 쌍은 제외
+     * - id 는 행마다 nextval (값 하나가 블록 하나를 차지하므로 엔티티 저장 경로와 겹치지 않음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+    insert into team_evaluation_score (id, evaluation_id, evaluator_user_id, target_user_id, item_id, score, created_at)
+    select nextval('team_evaluation_score_seq'), :evaluationId, p.evaluator_id, p.target_id, i.id, :score, :createdAt
+    from (
+        select distinct ev.user_id as evaluator_id, tg.user_id as target_id
+        from team_members ev
+        join team_members tg on tg.team_id = ev.team_id and tg.user_id <> ev.user_id
+        where ev.team_id = :teamId
+    ) p
+    cross join evaluation_item i
+    where not exists (
+        select 1 from team_evaluation_score s
+        where s.evaluation_id = :evaluationId
+          and s.evaluator_user_id = p.evaluator_id
+          and s.target_user_id = p.target_id
+    )
+""", nativeQuery = true)
+    int insertDefaultScoresForMissingPairs(@Param("evaluationId") Long evaluationId,
+                                           @Param("teamId") Long teamId,
+                                           @Param("score") int score,
+                                           @Param("createdAt") Instant createdAt);
 }
\ No newline at end of file
@@ -9,9 +9,11 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
 import goorm.ddok.reputation.domain.UserReputation;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
 import goorm.ddok.reputation.repository.UserReputationRepository;
 import goorm.ddok.team.repository.TeamMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class EvaluationCommandService {
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
     private final UserReputationRepository userReputationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 온도 누적 가중치 완충값 */
     private static final double REPUTATION_DAMPING_C = 10.0;
@@ -120,6 +123,7 @@ public class EvaluationCommandService {
 
         rep.applyTemperature(BigDecimal.valueOf(updated).setScale(1, RoundingMode.HALF_UP));
         userReputationRepository.save(rep);
+        eventPublisher.publishEvent(new TemperatureChangedEvent(targetUserId, rep.getTemperature(), Instant.now()));
 
         return SaveScoresResponse.builder()
                 .evaluationId(evaluationId)
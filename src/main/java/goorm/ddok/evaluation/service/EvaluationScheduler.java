@@ -10,11 +10,13 @@ import goorm.ddok.evaluation.repository.TeamEvaluationScoreRepository;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
 import goorm.ddok.reputation.domain.UserReputation;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
 import goorm.ddok.reputation.repository.UserReputationRepository;
 import goorm.ddok.team.domain.TeamMember;
 import goorm.ddok.team.repository.TeamMemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +39,7 @@ public class EvaluationScheduler {
 
     private final UserRepository userRepository;
     private final UserReputationRepository userReputationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 완충값 c: 평가 초반 과민 반응 억제 / 후반 안정화 */
     private static final double C = 10.0;
@@ -135,6 +138,7 @@ public class EvaluationScheduler {
 
                     rep.applyTemperature(BigDecimal.valueOf(updated).setScale(1, RoundingMode.HALF_UP));
                     userReputationRepository.save(rep);
+                    eventPublisher.publishEvent(new TemperatureChangedEvent(targetId, rep.getTemperature(), now));
                 }
             }
 
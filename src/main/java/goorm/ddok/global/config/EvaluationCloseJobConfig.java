@@ -1,14 +1,20 @@
 package goorm.ddok.global.config;
 
-import goorm.ddok.evaluation.batch.EvaluationCloseTasklet;
+import goorm.ddok.evaluation.batch.EvaluationClosePlan;
+import goorm.ddok.evaluation.batch.EvaluationCloseProcessor;
+import goorm.ddok.evaluation.batch.EvaluationCloseReader;
+import goorm.ddok.evaluation.batch.EvaluationCloseWriter;
+import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -20,7 +26,9 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class EvaluationCloseJobConfig {
 
-    private final EvaluationCloseTasklet evaluationCloseTasklet;
+    private final TeamEvaluationRepository evaluationRepository;
+    private final EvaluationCloseProcessor evaluationCloseProcessor;
+    private final EvaluationCloseWriter evaluationCloseWriter;
 
     @Bean
     public Job evaluationCloseJob(JobRepository jobRepository, Step evaluationCloseStep) {
@@ -30,14 +38,26 @@ public class EvaluationCloseJobConfig {
                 .build();
     }
 
+    /** 라운드 20개씩 청크 트랜잭션 (실패 시 같은 파라미터로 재실행하면 마지막 커밋 이후부터) */
     @Bean
     public Step evaluationCloseStep(JobRepository jobRepository,
-                                    PlatformTransactionManager tx) {
+                                    PlatformTransactionManager tx,
+                                    EvaluationCloseReader evaluationCloseReader) {
         return new StepBuilder("evaluationCloseStep", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    evaluationCloseTasklet.run(Instant.now());
-                    return org.springframework.batch.repeat.RepeatStatus.FINISHED;
-                }, tx)
+                .<Long, EvaluationClosePlan>chunk(20, tx)
+                .reader(evaluationCloseReader)
+                .processor(evaluationCloseProcessor)
+                .writer(evaluationCloseWriter)
                 .build();
     }
+
+    /** 기준 시각은 잡 파라미터 ts (재시작해도 같은 대상) */
+    @Bean
+    @StepScope
+    public EvaluationCloseReader evaluationCloseReader(
+            @Value("#{jobParameters['ts']}") Long ts
+    ) {
+        Instant cutoff = (ts == null) ? Instant.now() : Instant.ofEpochMilli(ts);
+        return new EvaluationCloseReader(evaluationRepository, cutoff, 100);
+    }
 }
@@ -0,0 +1,24 @@
+package goorm.ddok.global.config;
+
+import goorm.ddok.global.persistence.SampledSqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    /** app.jpa.sql-log.sample-rate (0 ~ 1) > 0 일 때만 SQL 샘플 로깅 */
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggingCustomizer(
+            @Value("${app.jpa.sql-log.sample-rate:0}") double sampleRate
+    ) {
+        return props -> {
+            if (sampleRate > 0) {
+                props.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlStatementInspector(sampleRate));
+            }
+        };
+    }
+}
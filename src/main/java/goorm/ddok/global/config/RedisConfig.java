@@ -1,10 +1,14 @@
 package goorm.ddok.global.config;
 
+import goorm.ddok.reputation.batch.ReputationRankingCacheService;
+import goorm.ddok.reputation.cache.ReputationRankRedisKeys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 @RequiredArgsConstructor
@@ -14,4 +18,17 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
         return new StringRedisTemplate(redisConnectionFactory);
     }
+
+    /** 랭킹 L1 캐시 무효화 구독 */
+    @Bean
+    public RedisMessageListenerContainer reputationRankingListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            ReputationRankingCacheService reputationRankingCacheService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(reputationRankingCacheService,
+                new ChannelTopic(ReputationRankRedisKeys.INVALIDATE_CHANNEL));
+        return container;
+    }
 }
@@ -2,6 +2,7 @@ package goorm.ddok.global.config;
 
 import goorm.ddok.reputation.batch.ReputationRankingWriter;
 import goorm.ddok.reputation.service.ReputationQueryService;
+import goorm.ddok.reputation.service.TemperatureLeaderboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -22,6 +23,7 @@ public class ReputationRankingJobConfig {
 
     private final ReputationQueryService reputationQueryService;
     private final ReputationRankingWriter writer;
+    private final TemperatureLeaderboardService leaderboard;
 
     @Bean
     public Job reputationRankingJob(JobRepository jobRepository, Step computeRankingStep) {
@@ -50,6 +52,9 @@ public class ReputationRankingJobConfig {
             // 필요하면 reason/asOfEpochMs 사용
             var now = java.time.Instant.now();
 
+            // 실시간 리더보드가 비어 있으면(최초 기동/Redis 초기화) DB 로 재적재
+            leaderboard.rebuildIfMissing();
+
             var top1 = reputationQueryService.getTop1TemperatureRank(null);
             if (top1 == null || top1.getUserId() == null) {
                 writer.writeTop1(null, now);
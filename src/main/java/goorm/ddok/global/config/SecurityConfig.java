@@ -1,8 +1,11 @@
 package goorm.ddok.global.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.http.HttpMethod;
+import goorm.ddok.global.security.auth.CustomUserDetailsService;
 import goorm.ddok.global.security.jwt.JwtAuthenticationFilter;
 import goorm.ddok.global.security.jwt.JwtTokenProvider;
+import goorm.ddok.global.security.jwt.VerifiedTokenCache;
 import goorm.ddok.global.util.sentry.SentryUserContextFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -12,7 +15,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -29,8 +31,9 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final SentryUserContextFilter sentryUserContextFilter;
 
     @Bean
@@ -96,6 +99,8 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(new AntPathRequestMatcher("/api/auth/signout")).authenticated()
                         .requestMatchers(new AntPathRequestMatcher("/api/auth/preferences")).authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/projects", "/api/projects/*").permitAll()
@@ -121,7 +126,7 @@ public class SecurityConfig {
                 )
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
+                        new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, verifiedTokenCache),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .addFilterAfter(sentryUserContextFilter, JwtAuthenticationFilter.class);
@@ -0,0 +1,52 @@
+package goorm.ddok.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import goorm.ddok.global.websocket.ClusterMessagingTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
+
+/**
+ * WebSocket 다중 노드 전파 설정 (app.websocket.broker.mode=redis)
+ * - SimpMessagingTemplate 주입 지점은 모두 ClusterMessagingTemplate(@Primary) 을 받는다.
+ */
+@Configuration
+@ConditionalOnProperty(value = "app.websocket.broker.mode", havingValue = "redis")
+public class WebSocketClusterConfig {
+
+    @Bean
+    @Primary
+    public ClusterMessagingTemplate clusterMessagingTemplate(
+            @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            @Qualifier("brokerMessageConverter") MessageConverter brokerMessageConverter,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.websocket.broker.redis-topic:ws:broadcast}") String topic
+    ) {
+        ClusterMessagingTemplate template = new ClusterMessagingTemplate(
+                brokerChannel, stringRedisTemplate, objectMapper, topic);
+        template.setMessageConverter(brokerMessageConverter);
+        template.setUserDestinationPrefix("/user/");
+        return template;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer webSocketRelayListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            ClusterMessagingTemplate clusterMessagingTemplate
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(clusterMessagingTemplate, new ChannelTopic(clusterMessagingTemplate.getTopic()));
+        return container;
+    }
+}
@@ -1,6 +1,7 @@
 package goorm.ddok.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -15,6 +16,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final goorm.ddok.global.websocket.StompAuthChannelInterceptor stompAuthChannelInterceptor;
 
+    /** simple(기본, 단일 노드) | redis(Redis pub/sub 전파) | relay(외부 STOMP 브로커) */
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chats")
@@ -30,7 +47,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub", "/queue");
+        if ("relay".equals(brokerMode)) {
+            // 사용자 목적지는 노드 간 브로드캐스트로 해석 (sticky session 불필요)
+            registry.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setUserDestinationBroadcast("/sub/_system/unresolved-user")
+                    .setUserRegistryBroadcast("/sub/_system/user-registry");
+        } else {
+            registry.enableSimpleBroker("/sub", "/queue");
+        }
         registry.setApplicationDestinationPrefixes("/pub");
         registry.setUserDestinationPrefix("/user");
     }
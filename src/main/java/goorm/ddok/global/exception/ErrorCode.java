@@ -138,6 +138,8 @@ public enum ErrorCode {
 
     // 429 TOO MANY REQUESTS
     KAKAO_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "카카오 토큰 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    AI_GATEWAY_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AI 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_USER_CONCURRENCY_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "이미 진행 중인 AI 생성 요청이 있습니다. 완료 후 다시 시도해주세요."),
 
     // 500 INTERNAL SERVER ERROR
     SMS_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SMS 발송 실패"),
@@ -0,0 +1,56 @@
+package goorm.ddok.global.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY → 시퀀스 전환 후 기존 데이터와 id 가 겹치지 않도록 시퀀스를 max(id) 위로 맞춘다
+ * - ddl-auto 가 시퀀스를 만든 직후(싱글톤 초기화 완료, 웹 서버 기동 전)에 실행
+ * - PostgreSQL: 이미 더 앞서 있으면 그대로 둔다 (다른 노드가 할당한 블록을 되돌리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        boolean postgres = isPostgres();
+
+        IdSequences.BY_TABLE.forEach((table, sequence) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+                long max = (maxId == null) ? 0L : maxId;
+
+                if (postgres) {
+                    jdbcTemplate.queryForObject(
+                            "select setval(?::regclass, greatest(?, (select last_value from " + sequence + ")))",
+                            Long.class, sequence, Math.max(1L, max));
+                } else {
+                    // 다음 값 = max + ALLOCATION_SIZE → 첫 블록이 (max + 1 .. max + ALLOCATION_SIZE)
+                    jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (max + IdSequences.ALLOCATION_SIZE));
+                }
+                log.debug("Aligned {} above {}.max(id)={}", sequence, table, max);
+            } catch (DataAccessException e) {
+                log.warn("Failed to align sequence {} for table {}", sequence, table, e);
+            }
+        });
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            return product != null && product.toLowerCase().contains("postgres");
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
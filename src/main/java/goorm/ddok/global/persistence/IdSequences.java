@@ -0,0 +1,30 @@
+package goorm.ddok.global.persistence;
+
+import java.util.Map;
+
+/**
+ * 쓰기량이 많은 테이블의 id 시퀀스 정의
+ * - IDENTITY 는 insert 마다 생성된 id 를 돌려받아야 해서 Hibernate JDBC 배치가 꺼진다 → pooled 시퀀스로 전환
+ * - 시퀀스 값 V 하나가 id 블록 (V - ALLOCATION_SIZE + 1 .. V) 를 뜻한다 (Hibernate pooled optimizer 와 동일 규칙)
+ *   → JDBC 로 직접 id 를 선할당하는 코드도 같은 규칙을 따르면 Hibernate 와 겹치지 않는다
+ */
+public final class IdSequences {
+    private IdSequences() {}
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String CHAT_MESSAGE = "chat_message_seq";
+    public static final String NOTIFICATION = "notification_seq";
+    public static final String TEAM_EVALUATION_SCORE = "team_evaluation_score_seq";
+    public static final String USER_BADGE = "user_badge_seq";
+    public static final String CAFE_REVIEW_TAG_MAP = "cafe_review_tag_map_seq";
+
+    /** 테이블 → 시퀀스 (기동 시 기존 id 위로 정렬) */
+    public static final Map<String, String> BY_TABLE = Map.of(
+            "chat_message", CHAT_MESSAGE,
+            "notification", NOTIFICATION,
+            "team_evaluation_score", TEAM_EVALUATION_SCORE,
+            "user_badge", USER_BADGE,
+            "cafe_review_tag_map", CAFE_REVIEW_TAG_MAP
+    );
+}
@@ -0,0 +1,27 @@
+package goorm.ddok.global.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * show-sql 대체: 실행 SQL 을 sample-rate 비율로만 로그에 남긴다 (SQL 은 변경하지 않음)
+ */
+@Slf4j
+public class SampledSqlStatementInspector implements StatementInspector {
+
+    private final double sampleRate;
+
+    public SampledSqlStatementInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("[sql] {}", sql);
+        }
+        return sql;
+    }
+}
@@ -7,11 +7,41 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.security.Principal;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Function;
 
-public record CustomUserDetails(User user) implements UserDetails, Principal {
+/**
+ * 인증 주체
+ * - JWT 필터에서는 토큰 클레임(id, nickname)만으로 만든다 (요청마다 users 조회 없음)
+ * - User 엔티티는 getUser() 를 처음 부를 때 userLoader 로 불러와 요청 동안 재사용
+ */
+public final class CustomUserDetails implements UserDetails, Principal {
+
+    private final Long id;
+    private final String nickname;
+    private final Function<Long, User> userLoader;
+    private User user;
+
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getNickname(), null);
+        this.user = user;
+    }
+
+    public CustomUserDetails(Long id, String nickname, Function<Long, User> userLoader) {
+        this.id = id;
+        this.nickname = nickname;
+        this.userLoader = userLoader;
+    }
 
     public Long getId() {
-        return user.getId();
+        return id;
+    }
+
+    /** 토큰 클레임 닉네임 (클레임이 없는 이전 토큰이면 User 에서) */
+    public String getNickname() {
+        if (nickname != null) return nickname;
+        User u = getUser();
+        return (u != null) ? u.getNickname() : null;
     }
 
     @Override
@@ -21,13 +51,15 @@ public record CustomUserDetails(User user) implements UserDetails, Principal {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        User u = getUser();
+        return (u != null) ? u.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
         // unique한 값이면 email, username, id 모두 가능
-        return user.getEmail();
+        User u = getUser();
+        return (u != null) ? u.getEmail() : String.valueOf(id);
     }
 
     @Override
@@ -52,10 +84,30 @@ public record CustomUserDetails(User user) implements UserDetails, Principal {
 
     @Override
     public String getName() {
-        return String.valueOf(user.getId());
+        return String.valueOf(id);
     }
 
     public User getUser() {
+        if (user == null && userLoader != null) {
+            user = userLoader.apply(id);
+        }
         return user;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CustomUserDetails other)) return false;
+        return Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomUserDetails[id=" + id + "]";
+    }
 }
@@ -1,7 +1,12 @@
 package goorm.ddok.global.security.auth;
 
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,10 +16,28 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     // 생성자 주입 (lombok @RequiredArgsConstructor 써도 OK)
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, EntityManagerFactory entityManagerFactory) {
         this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /** JWT 클레임만으로 인증 주체 생성 (users 조회는 getUser() 시점으로 미룸) */
+    public CustomUserDetails fromClaims(Long userId, String nickname) {
+        return new CustomUserDetails(userId, nickname, this::loadUser);
+    }
+
+    /**
+     * 요청에 묶인 영속성 컨텍스트(OSIV/트랜잭션)가 있으면 프록시를 돌려줘 id 외 필드 접근 시 로딩,
+     * 없으면 바로 조회
+     */
+    private User loadUser(Long userId) {
+        EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (em != null) return em.getReference(User.class, userId);
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
     }
 
     // userId를 문자열로 받아서 User 조회
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import goorm.ddok.global.response.ApiResponseDto;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
+import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.global.security.auth.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,9 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -24,11 +24,11 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // SockJS / WebSocket 트랜스포트 경로 및 핸드셰이크 경로는 필터 제외
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
-    private static final List<String> WS_SKIP_PATTERNS = List.of(
+    static final List<String> WS_SKIP_PATTERNS = List.of(
             "/ws/**",
             "/ws/chats/**",
             "/sockjs/**",
@@ -39,7 +39,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/**/xhr_streaming",
             "/**/iframe.html"
     );
-    private static final List<String> PUBLIC_SKIP_PATTERNS = List.of(
+    static final List<String> PUBLIC_SKIP_PATTERNS = List.of(
             // Swagger & springdoc
             "/swagger-ui.html",
             "/swagger-ui/**",
@@ -67,10 +67,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/api/teams/count"
     );
 
+    // 제외 목록은 기동 시 트라이로 한 번만 컴파일
+    private static final PathPatternTrie WS_SKIP_PATHS = new PathPatternTrie(WS_SKIP_PATTERNS);
+    private static final PathPatternTrie PUBLIC_SKIP_PATHS = new PathPatternTrie(PUBLIC_SKIP_PATTERNS);
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -80,12 +87,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return true;
         }
         String uri = request.getRequestURI();
-        if (WS_SKIP_PATTERNS.stream().anyMatch(p -> PATH_MATCHER.match(p, uri))) {
+        if (WS_SKIP_PATHS.matches(uri)) {
             log.debug("🧵 Skip JWT filter for WS path: {}", uri);
             return true;
         }
         // Swagger/H2/Public-Auth-only는 계속 스킵
-        return PUBLIC_SKIP_PATTERNS.stream().anyMatch(p -> PATH_MATCHER.match(p, uri));
+        return PUBLIC_SKIP_PATHS.matches(uri);
     }
 
     @Override
@@ -102,10 +109,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            jwtTokenProvider.validateToken(token);
-
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(userId));
+            // 최근 검증한 토큰이면 캐시, 아니면 검증 + 클레임 추출 1회
+            VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified == null) {
+                Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+                verified = verifiedTokenCache.put(token, claims,
+                        jwtTokenProvider.getUserId(claims),
+                        claims.get(JwtTokenProvider.NICKNAME_CLAIM, String.class));
+            }
+            // 사용자 조회 없이 클레임으로 주체 생성
+            CustomUserDetails userDetails = userDetailsService.fromClaims(verified.userId(), verified.nickname());
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -15,6 +15,9 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    /** Access Token 닉네임 클레임 (표시용, 권한 판단에 쓰지 않음) */
+    public static final String NICKNAME_CLAIM = "nickname";
+
     @Value("${jwt.secret}")
     private String secretKeyPlain;
 
@@ -30,18 +33,32 @@ public class JwtTokenProvider {
 
     private Key secretKey;
 
+    /** 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe) */
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyPlain.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     // Access Token 생성
     public String createToken(Long userId) {
+        return createToken(userId, null);
+    }
+
+    // Access Token 생성 (닉네임 클레임 포함)
+    public String createToken(Long userId, String nickname) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessTokenExpireMillis);
 
-        return Jwts.builder()
-                .setSubject(String.valueOf(userId))
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(String.valueOf(userId));
+        if (nickname != null) builder.claim(NICKNAME_CLAIM, nickname);
+
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -76,13 +93,13 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // JWT 토큰 유효성 검증
-    public void validateToken(String token) {
+    /**
+     * 서명/만료 검증과 클레임 추출을 한 번에 (검증 + 파싱 1회)
+     * 유효하지 않으면 INVALID_TOKEN
+     */
+    public Claims parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            return parser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | ExpiredJwtException |
                  UnsupportedJwtException | IllegalArgumentException |
                  io.jsonwebtoken.security.SignatureException e) {
@@ -90,21 +107,26 @@ public class JwtTokenProvider {
         }
     }
 
+    // JWT 토큰 유효성 검증
+    public void validateToken(String token) {
+        parseVerifiedClaims(token);
+    }
+
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.valueOf(claims.getSubject());
+        return getUserId(parser.parseClaimsJws(token).getBody());
     }
 
     // 클레임 추출
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /** 검증된 클레임의 subject → userId */
+    public Long getUserId(Claims claims) {
+        try {
+            return Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new GlobalException(ErrorCode.INVALID_TOKEN);
+        }
     }
 }
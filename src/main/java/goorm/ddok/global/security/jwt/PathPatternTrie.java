@@ -0,0 +1,98 @@
+package goorm.ddok.global.security.jwt;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 제외 경로 매칭용 세그먼트 트라이 (Ant 패턴을 기동 시 한 번만 컴파일)
+ *
+ * - 리터럴 세그먼트와 '**'(0개 이상 세그먼트)를 트라이로 매칭 → 요청마다 패턴 수만큼 AntPathMatcher 를 돌지 않는다
+ * - '*', '?', '{var}' 가 들어간 패턴과 '/' 로 끝나는 요청 경로는 AntPathMatcher 로 처리 (기존 의미 유지)
+ */
+final class PathPatternTrie {
+
+    private static final String DOUBLE_STAR = "**";
+
+    private final Node root = new Node();
+    private final List<String> fallbackPatterns = new ArrayList<>();
+    private final List<String> allPatterns;
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    PathPatternTrie(List<String> patterns) {
+        this.allPatterns = List.copyOf(patterns);
+        for (String pattern : patterns) {
+            if (isLiteralOrDoubleStar(pattern)) insert(pattern);
+            else fallbackPatterns.add(pattern);
+        }
+    }
+
+    boolean matches(String path) {
+        if (path == null || !path.startsWith("/")) return false;
+        if (path.length() > 1 && path.endsWith("/")) {
+            // 끝 '/' 처리 규칙은 AntPathMatcher 에 맡긴다 (드문 경로)
+            return allPatterns.stream().anyMatch(p -> antPathMatcher.match(p, path));
+        }
+        if (match(root, segments(path), 0)) return true;
+        for (String p : fallbackPatterns) {
+            if (antPathMatcher.match(p, path)) return true;
+        }
+        return false;
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void insert(String pattern) {
+        Node node = root;
+        for (String segment : segments(pattern)) {
+            node = DOUBLE_STAR.equals(segment)
+                    ? (node.doubleStar != null ? node.doubleStar : (node.doubleStar = new Node()))
+                    : node.children.computeIfAbsent(segment, k -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    private static boolean match(Node node, String[] segments, int index) {
+        if (node.doubleStar != null) {
+            // '**' 가 0..n 개 세그먼트를 먹는 경우를 모두 시도
+            for (int i = index; i <= segments.length; i++) {
+                if (match(node.doubleStar, segments, i)) return true;
+            }
+        }
+        if (index == segments.length) return node.terminal;
+
+        Node next = node.children.get(segments[index]);
+        return next != null && match(next, segments, index + 1);
+    }
+
+    private static boolean isLiteralOrDoubleStar(String pattern) {
+        if (!pattern.startsWith("/")) return false;
+        for (String segment : segments(pattern)) {
+            if (DOUBLE_STAR.equals(segment)) continue;
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) return false;
+        }
+        return true;
+    }
+
+    /** 빈 세그먼트는 무시 (AntPathMatcher 토큰화와 동일) */
+    private static String[] segments(String path) {
+        List<String> out = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) out.add(path.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return out.toArray(String[]::new);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node doubleStar;
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,101 @@
+package goorm.ddok.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 검증을 마친 Access Token 의 클레임 캐시
+ *
+ * - 같은 토큰으로 폴링하는 요청은 HMAC 검증 + JSON 파싱 없이 id/nickname 을 돌려준다
+ * - 키는 토큰 원문이 아니라 SHA-256 (힙에 토큰을 남기지 않음)
+ * - 항목 만료 = min(토큰 exp, 캐시 시각 + ttl-ms) → 만료된 토큰은 캐시에서도 통과시키지 않는다
+ * - 크기는 Caffeine 으로 max-entries 까지 제한 (넘으면 오래 안 쓴 토큰부터 내보냄)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(Long userId, String nickname) {}
+
+    private final boolean enabled;
+    private final long ttlMs;
+
+    private final Cache<String, Entry> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.jwt.verified-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.jwt.verified-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${app.security.jwt.verified-cache.max-entries:50000}") int maxEntries
+    ) {
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(Math.max(1, ttlMs)))
+                .build();
+        this.hitCounter = Counter.builder("security.jwt.verified.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.jwt.verified.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /** 캐시에 있고 아직 유효하면 반환, 아니면 null */
+    public VerifiedToken get(String token) {
+        if (!enabled) return null;
+        String key = hash(token);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.asMap().remove(key, entry);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.token();
+    }
+
+    /** 방금 검증한 토큰 저장 */
+    public VerifiedToken put(String token, Claims claims, Long userId, String nickname) {
+        VerifiedToken verified = new VerifiedToken(userId, nickname);
+        if (!enabled) return verified;
+
+        long now = System.currentTimeMillis();
+        Date exp = claims.getExpiration();
+        long expiresAt = Math.min(now + ttlMs, (exp != null) ? exp.getTime() : now + ttlMs);
+        if (expiresAt <= now) return verified;
+
+        entries.put(hash(token), new Entry(verified, expiresAt));
+        return verified;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(VerifiedToken token, long expiresAt) {}
+}
@@ -35,15 +35,14 @@ public class ReauthTokenService {
         String stored = find(key);
         if (stored == null || !stored.equals(token)) return false;
 
-        // validateToken이 void이므로 예외 기반 처리
+        // 검증 + 클레임 추출 1회 (유효하지 않으면 예외)
+        Claims claims;
         try {
-            jwtTokenProvider.validateToken(token);
+            claims = jwtTokenProvider.parseVerifiedClaims(token);
         } catch (Exception e) {
             return false;
         }
 
-        Claims claims = jwtTokenProvider.getClaims(token);
-
         return username.equals(claims.get("username", String.class)) &&
                 email.equals(claims.get("email", String.class)) &&
                 phoneNumber.equals(claims.get("phoneNumber", String.class)) &&
@@ -29,28 +29,28 @@ public class SentryUserContextService {
         }
     }
 
+    /**
+     * 토큰 클레임(id, nickname)만 사용 (매 요청 필터에서 호출되므로 User 엔티티를 불러오지 않는다)
+     */
     public void setUserContext(CustomUserDetails customUserDetails) {
         if (customUserDetails != null) {
-            goorm.ddok.member.domain.User domainUser = customUserDetails.getUser();
+            Long id = customUserDetails.getId();
+            String nickname = customUserDetails.getNickname();
 
             io.sentry.protocol.User sentryUser = new io.sentry.protocol.User();
-            sentryUser.setId(domainUser.getId() != null ? String.valueOf(domainUser.getId()) : null);
-            sentryUser.setUsername(domainUser.getUsername());
-            sentryUser.setEmail(domainUser.getEmail());
+            sentryUser.setId(id != null ? String.valueOf(id) : null);
+            sentryUser.setUsername(nickname);
 
             Sentry.configureScope(scope -> {
                 scope.setUser(sentryUser);
 
-                scope.setTag("user_id", domainUser.getId() != null ? String.valueOf(domainUser.getId()) : "unknown");
-                scope.setTag("user_email", domainUser.getEmail());
-                scope.setTag("user_name", domainUser.getUsername());
-                scope.setTag("user_nickname", domainUser.getNickname() != null ? domainUser.getNickname() : "unknown");
+                scope.setTag("user_id", id != null ? String.valueOf(id) : "unknown");
+                scope.setTag("user_nickname", nickname != null ? nickname : "unknown");
 
-                scope.setExtra("user_created_at", domainUser.getCreatedAt() != null ? domainUser.getCreatedAt().toString() : "unknown");
                 scope.setExtra("authenticated", String.valueOf(true));
             });
 
-            log.debug("🎭 Sentry에 사용자 정보 설정 완료: {}", domainUser.getUsername() + ": " + domainUser.getNickname());
+            log.debug("🎭 Sentry에 사용자 정보 설정 완료: {}", id + ": " + nickname);
         }
     }
 
@@ -95,6 +95,7 @@ public class SentryUserContextService {
             scope.removeTag("user_id");
             scope.removeTag("user_email");
             scope.removeTag("user_name");
+            scope.removeTag("user_nickname");
             scope.removeExtra("user_created_at");
             scope.removeExtra("authenticated");
         });
@@ -0,0 +1,103 @@
+package goorm.ddok.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 다중 노드용 메시지 템플릿 (app.websocket.broker.mode=redis)
+ *
+ * - 서버가 보내는 /sub, /queue, /user 메시지를 Redis pub/sub 으로 모든 노드에 전파하고,
+ *   각 노드는 받은 메시지를 자기 로컬 simple broker 로 전달한다.
+ * - /user/{id}/... 는 해석 전 목적지를 그대로 전파하므로, 세션이 붙어 있는 노드에서만
+ *   해석·전달된다 (sticky session 불필요).
+ */
+@Slf4j
+public class ClusterMessagingTemplate extends SimpMessagingTemplate implements MessageListener {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ClusterMessagingTemplate(MessageChannel brokerChannel,
+                                    StringRedisTemplate redis,
+                                    ObjectMapper objectMapper,
+                                    String topic) {
+        super(brokerChannel);
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    @Override
+    protected void doSend(String destination, Message<?> message) {
+        if (!isRelayable(destination) || !(message.getPayload() instanceof byte[] payload)) {
+            super.doSend(destination, message);
+            return;
+        }
+
+        MimeType contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        Envelope envelope = new Envelope(
+                nodeId,
+                destination,
+                contentType == null ? null : contentType.toString(),
+                Base64.getEncoder().encodeToString(payload));
+
+        try {
+            redis.convertAndSend(topic, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 전파 실패 시 최소한 로컬 구독자에게는 전달
+            log.warn("WebSocket relay publish failed, delivering locally: destination={}", destination, e);
+            super.doSend(destination, message);
+        }
+    }
+
+    /** Redis 구독 콜백: 다른 노드(및 자기 자신)가 발행한 메시지를 로컬 브로커로 전달 */
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        deliver(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void deliver(String json) {
+        try {
+            Envelope e = objectMapper.readValue(json, Envelope.class);
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            if (e.contentType() != null) accessor.setContentType(MimeType.valueOf(e.contentType()));
+            accessor.setLeaveMutable(true);
+
+            Message<byte[]> local = MessageBuilder.createMessage(
+                    Base64.getDecoder().decode(e.payload()), accessor.getMessageHeaders());
+            super.doSend(e.destination(), local);
+        } catch (Exception ex) {
+            log.warn("WebSocket relay delivery failed", ex);
+        }
+    }
+
+    private static boolean isRelayable(String destination) {
+        return destination != null
+                && (destination.startsWith("/sub/")
+                || destination.startsWith("/queue/")
+                || destination.startsWith("/user/"));
+    }
+
+    public record Envelope(String origin, String destination, String contentType, String payload) {}
+}
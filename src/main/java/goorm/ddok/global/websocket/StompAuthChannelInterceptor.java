@@ -1,6 +1,6 @@
 package goorm.ddok.global.websocket;
 
-import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import goorm.ddok.chat.service.ChatRoomMembershipCache;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.jwt.JwtTokenProvider;
@@ -21,7 +21,7 @@ import java.util.regex.Pattern;
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     private static final Pattern SUB_ROOM_PATTERN = Pattern.compile("^/sub/chats/(\\d+)$");
     private static final Pattern PUB_ROOM_PATTERN = Pattern.compile("^/pub/chats/(\\d+)(?:/.*)?$");
@@ -55,6 +55,9 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
                 if (dest.startsWith("/user/")) break;
 
+                // 브로커 릴레이 내부 채널은 구독 불가
+                if (dest.startsWith("/sub/_system/")) throw new GlobalException(ErrorCode.FORBIDDEN);
+
                 Long roomId = extractId(dest, SUB_ROOM_PATTERN);
                 if (roomId != null && !isActiveMember(roomId, userId)) {
                     throw new GlobalException(ErrorCode.FORBIDDEN);
@@ -88,6 +91,6 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
     }
 
     private boolean isActiveMember(Long roomId, Long userId) {
-        return chatRoomMemberRepository.existsByRoom_IdAndUser_IdAndDeletedAtIsNull(roomId, userId);
+        return chatRoomMembershipCache.isActiveMember(roomId, userId);
     }
 }
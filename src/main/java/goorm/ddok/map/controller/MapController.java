@@ -155,6 +155,95 @@ public class MapController {
         return ResponseEntity.ok(ApiResponseDto.of(200, "지도 전체 조회에 성공하였습니다.", data));
     }
 
+    @Operation(
+            summary = "지도 뷰포트 조회(줌 기반 클러스터링)",
+            description = """
+                지도 영역(bounding box) 내의 핀을 줌 레벨에 따라 클러스터 또는 개별 핀으로 조회합니다.
+                - zoom 이 클러스터 기준(기본 15) 미만이면 카테고리별 클러스터(개수, 중심, 경계)만 반환합니다.
+                - 기준 이상이면 /api/map/all 과 동일한 개별 핀 목록을 반환합니다.
+                - clusterPrecision: 타일 한 변을 몇 칸으로 나눌지 (클수록 촘촘한 클러스터)
+                - swLat ≤ neLat, swLng ≤ neLng 이어야 합니다.
+                """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ApiResponseDto.class),
+                            examples = @ExampleObject(name = "성공 예시", value = """
+                    {
+                      "status": 200,
+                      "message": "지도 뷰포트 조회에 성공하였습니다.",
+                      "data": {
+                        "zoom": 11,
+                        "clustered": true,
+                        "clusters": [
+                          {
+                            "category": "project",
+                            "count": 12,
+                            "latitude": 37.5642,
+                            "longitude": 126.9851,
+                            "bounds": { "swLat": 37.5512, "swLng": 126.9704, "neLat": 37.5791, "neLng": 126.9998 }
+                          },
+                          {
+                            "category": "cafe",
+                            "count": 1,
+                            "id": 3,
+                            "latitude": 37.5702,
+                            "longitude": 126.9822,
+                            "bounds": { "swLat": 37.5702, "swLng": 126.9822, "neLat": 37.5702, "neLng": 126.9822 }
+                          }
+                        ]
+                      }
+                    }
+                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 경계값",
+                    content = @Content(schema = @Schema(implementation = ApiResponseDto.class),
+                            examples = @ExampleObject(name = "경계 오류 예시", value = """
+                    { "status": 400, "message": "잘못된 지도 경계값입니다.", "data": null }
+                    """))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ApiResponseDto.class),
+                            examples = @ExampleObject(value = """
+                    { "status": 500, "message": "서버 내부 오류", "data": null }
+                    """)))
+    })
+    @GetMapping("/viewport")
+    public ResponseEntity<ApiResponseDto<MapViewportResponse>> getViewport(
+            @Parameter(description = "남서쪽 위도", example = "37.55")
+            @RequestParam @DecimalMin(value = "-90")  @DecimalMax(value = "90")  BigDecimal swLat,
+
+            @Parameter(description = "남서쪽 경도", example = "126.97")
+            @RequestParam @DecimalMin(value = "-180") @DecimalMax(value = "180") BigDecimal swLng,
+
+            @Parameter(description = "북동쪽 위도", example = "37.58")
+            @RequestParam @DecimalMin(value = "-90")  @DecimalMax(value = "90")  BigDecimal neLat,
+
+            @Parameter(description = "북동쪽 경도", example = "127.02")
+            @RequestParam @DecimalMin(value = "-180") @DecimalMax(value = "180") BigDecimal neLng,
+
+            @Parameter(description = "중심 위도(선택)", example = "37.5665")
+            @RequestParam(required = false) BigDecimal lat,
+
+            @Parameter(description = "중심 경도(선택)", example = "126.978")
+            @RequestParam(required = false) BigDecimal lng,
+
+            @Parameter(description = "줌 레벨(0~21, 클수록 확대)", example = "11")
+            @RequestParam(defaultValue = "15") int zoom,
+
+            @Parameter(description = "클러스터 정밀도(타일 한 변 분할 수, 1~64)", example = "4")
+            @RequestParam(defaultValue = "4") int clusterPrecision,
+
+            @Parameter(description = "카테고리(project,study,player,cafe)", example = "project,study,player,cafe")
+            @RequestParam(required = false) String category,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = (userDetails != null) ? userDetails.getId() : null;
+        MapViewportResponse data = mapService.getViewport(
+                swLat, swLng, neLat, neLng, lat, lng, zoom, clusterPrecision, category, userId);
+
+        return ResponseEntity.ok(ApiResponseDto.of(200, "지도 뷰포트 조회에 성공하였습니다.", data));
+    }
+
     @Operation(
             summary = "프로젝트 전체 조회(지도 범위)",
             description = """
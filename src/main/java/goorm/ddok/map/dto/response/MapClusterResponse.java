@@ -0,0 +1,45 @@
+package goorm.ddok.map.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "MapClusterResponse", description = "지도 클러스터 셀 (카테고리별)")
+public class MapClusterResponse {
+
+    @Schema(description = "카테고리", example = "project", allowableValues = {"project", "study", "player", "cafe"})
+    private final String category;
+
+    @Schema(description = "셀에 포함된 핀 개수", example = "12")
+    private final int count;
+
+    @Schema(description = "핀이 1개일 때 해당 리소스 ID (오버레이 조회용)", example = "1", nullable = true)
+    private final Long id;
+
+    @Schema(description = "중심(평균) 위도", example = "37.5665")
+    private final double latitude;
+
+    @Schema(description = "중심(평균) 경도", example = "126.978")
+    private final double longitude;
+
+    @Schema(description = "셀 내 핀들의 경계")
+    private final Bounds bounds;
+
+    @Getter
+    @Builder
+    @Schema(name = "MapClusterBounds", description = "클러스터 경계")
+    public static class Bounds {
+        @Schema(description = "남서쪽 위도", example = "37.55")
+        private final double swLat;
+        @Schema(description = "남서쪽 경도", example = "126.97")
+        private final double swLng;
+        @Schema(description = "북동쪽 위도", example = "37.58")
+        private final double neLat;
+        @Schema(description = "북동쪽 경도", example = "127.02")
+        private final double neLng;
+    }
+}
@@ -0,0 +1,34 @@
+package goorm.ddok.map.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+        name = "MapViewportResponse",
+        description = """
+        지도 뷰포트 응답.
+        - clustered=true: clusters 만 포함 (저줌)
+        - clustered=false: items 만 포함 (고줌, /api/map/all 과 동일한 핀 목록)
+        """
+)
+public class MapViewportResponse {
+
+    @Schema(description = "요청 줌 레벨", example = "11")
+    private final int zoom;
+
+    @Schema(description = "클러스터 응답 여부", example = "true")
+    private final boolean clustered;
+
+    @Schema(description = "클러스터 목록 (clustered=true)", nullable = true)
+    private final List<MapClusterResponse> clusters;
+
+    @Schema(description = "핀 목록 (clustered=false)", nullable = true)
+    private final List<AllMapItemResponse> items;
+}
@@ -0,0 +1,26 @@
+package goorm.ddok.map.event;
+
+import goorm.ddok.map.index.MapPinCategory;
+
+/**
+ * 지도 핀 원본(모집글/사용자 위치/카페)이 변경되었음을 알리는 이벤트
+ * - 커밋 이후 공간 인덱스가 해당 핀만 다시 적재한다.
+ */
+public record MapPinChangedEvent(MapPinCategory category, Long id) {
+
+    public static MapPinChangedEvent project(Long projectId) {
+        return new MapPinChangedEvent(MapPinCategory.PROJECT, projectId);
+    }
+
+    public static MapPinChangedEvent study(Long studyId) {
+        return new MapPinChangedEvent(MapPinCategory.STUDY, studyId);
+    }
+
+    public static MapPinChangedEvent player(Long userId) {
+        return new MapPinChangedEvent(MapPinCategory.PLAYER, userId);
+    }
+
+    public static MapPinChangedEvent cafe(Long cafeId) {
+        return new MapPinChangedEvent(MapPinCategory.CAFE, cafeId);
+    }
+}
@@ -0,0 +1,23 @@
+package goorm.ddok.map.index;
+
+/**
+ * 위경도 거리 계산
+ * - 공간 인덱스와 지도/카페 조회가 함께 쓴다 (index 패키지가 service 에 의존하지 않도록 여기 둔다)
+ */
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoDistance() {}
+
+    /** 두 좌표 사이의 대원 거리(km) */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2.0 * Math.atan2(Math.sqrt(a), Math.sqrt(1.0 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+}
@@ -0,0 +1,72 @@
+package goorm.ddok.map.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 클러스터 셀 집계기 (단일 패스)
+ * - add() 한 번에 개수/좌표합/경계만 갱신하고, 핀 DTO 는 만들지 않는다.
+ * - 셀 키: (위도 셀 인덱스 << 32 | 경도 셀 인덱스) 에 카테고리를 섞은 값
+ */
+public class MapClusterGrid {
+
+    private final double cellDegree;
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    public MapClusterGrid(double cellDegree) {
+        this.cellDegree = cellDegree;
+    }
+
+    public void add(MapPinCategory category, long id, double lat, double lng) {
+        int latIdx = (int) Math.floor((lat + 90.0) / cellDegree);
+        int lngIdx = (int) Math.floor((lng + 180.0) / cellDegree);
+        long key = ((((long) latIdx << 32) | (lngIdx & 0xffffffffL)) * 4) + category.ordinal();
+
+        Cell cell = cells.get(key);
+        if (cell == null) {
+            cell = new Cell(category);
+            cells.put(key, cell);
+        }
+        cell.add(id, lat, lng);
+    }
+
+    /** 개수 내림차순 */
+    public List<Cell> result() {
+        List<Cell> list = new ArrayList<>(cells.values());
+        list.sort((a, b) -> Integer.compare(b.count, a.count));
+        return list;
+    }
+
+    @Getter
+    public static final class Cell {
+        private final MapPinCategory category;
+        private int count;
+        /** 마지막으로 합쳐진 핀 id (count == 1 이면 해당 핀) */
+        private long lastId;
+        private double sumLat, sumLng;
+        private double minLat = Double.MAX_VALUE, minLng = Double.MAX_VALUE;
+        private double maxLat = -Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+
+        private Cell(MapPinCategory category) {
+            this.category = category;
+        }
+
+        private void add(long id, double lat, double lng) {
+            count++;
+            lastId = id;
+            sumLat += lat;
+            sumLng += lng;
+            if (lat < minLat) minLat = lat;
+            if (lat > maxLat) maxLat = lat;
+            if (lng < minLng) minLng = lng;
+            if (lng > maxLng) maxLng = lng;
+        }
+
+        public double getCentroidLat() { return sumLat / count; }
+        public double getCentroidLng() { return sumLng / count; }
+    }
+}
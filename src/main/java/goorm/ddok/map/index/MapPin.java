@@ -0,0 +1,31 @@
+package goorm.ddok.map.index;
+
+import goorm.ddok.global.dto.LocationDto;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 공간 인덱스에 적재되는 지도 핀 (불변)
+ * - 좌표는 primitive double 로 보관해 범위 판정/거리 계산 시 BigDecimal 연산을 피한다.
+ * - location(도로명 주소 합성 포함)은 적재 시점에 한 번만 만든다.
+ */
+@Getter
+@Builder
+public class MapPin {
+
+    private final MapPinCategory category;
+    private final long id;
+    private final double latitude;
+    private final double longitude;
+
+    /** project|study|cafe: 제목, player: 닉네임 */
+    private final String title;
+
+    /** project|study: 정규화된 팀 상태 */
+    private final String teamStatus;
+
+    /** player: 대표 포지션 */
+    private final String position;
+
+    private final LocationDto location;
+}
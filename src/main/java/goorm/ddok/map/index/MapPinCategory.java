@@ -0,0 +1,16 @@
+package goorm.ddok.map.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MapPinCategory {
+    PROJECT("project"),
+    STUDY("study"),
+    PLAYER("player"),
+    CAFE("cafe");
+
+    /** API 응답의 category 값 */
+    private final String key;
+}
@@ -0,0 +1,39 @@
+package goorm.ddok.map.index;
+
+/**
+ * 지도 핀/응답 공통 표기 규칙
+ * - 공간 인덱스 적재와 MapService 응답이 같은 표기를 쓰도록 여기 둔다
+ */
+public final class MapPinFormat {
+
+    private MapPinFormat() {}
+
+    /** 도로명 주소 표기 (값이 하나도 없으면 "-") */
+    public static String composeRoadAddress(String r1, String r2, String r3,
+                                            String road, String mainNo, String subNo) {
+        if (road == null && r1 == null && r2 == null) return "-";
+        var sb = new StringBuilder();
+        if (r1 != null && !r1.isBlank()) sb.append(r1).append(" ");
+        if (r2 != null && !r2.isBlank()) sb.append(r2).append(" ");
+        if (r3 != null && !r3.isBlank()) sb.append(r3).append(" ");
+        if (road != null && !road.isBlank()) sb.append(road).append(" ");
+
+        String main = mainNo == null ? "" : mainNo.trim();
+        String sub  = subNo == null ? "" : subNo.trim();
+        if (!main.isEmpty() && !sub.isEmpty()) sb.append(main).append("-").append(sub);
+        else if (!main.isEmpty()) sb.append(main);
+
+        return sb.toString().trim();
+    }
+
+    /** 지도에서는 CLOSED 도 ONGOING 으로 표기 */
+    public static String normalizeProjectTeamStatus(goorm.ddok.project.domain.TeamStatus status) {
+        if (status == null) return "ONGOING";
+        return (status == goorm.ddok.project.domain.TeamStatus.CLOSED) ? "ONGOING" : status.name();
+    }
+
+    public static String normalizeStudyTeamStatus(goorm.ddok.study.domain.TeamStatus status) {
+        if (status == null) return "ONGOING";
+        return (status == goorm.ddok.study.domain.TeamStatus.CLOSED) ? "ONGOING" : status.name();
+    }
+}
@@ -0,0 +1,247 @@
+package goorm.ddok.map.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 핀 인메모리 공간 인덱스 (고정 크기 위경도 셀 그리드)
+ * - 셀 키: (위도 셀 인덱스 << 32) | 경도 셀 인덱스
+ * - 뷰포트 조회는 겹치는 셀만 훑고, 결과 개수는 maxResults 로 제한한다.
+ * - ready 전(최초 적재 전)에는 MapService 가 기존 DB 조회로 대체한다.
+ */
+@Slf4j
+@Component
+public class MapSpatialIndex {
+
+    private final double cellDegree;
+    private final int maxResults;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 셀 키 → 셀에 속한 핀 */
+    private Map<Long, List<MapPin>> cells = new HashMap<>();
+    /** 핀 키(id, category) → 핀 */
+    private Map<Long, MapPin> pins = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public MapSpatialIndex(
+            @Value("${app.map.index.cell-degree:0.05}") double cellDegree,
+            @Value("${app.map.index.max-results:2000}") int maxResults
+    ) {
+        this.cellDegree = cellDegree;
+        this.maxResults = maxResults;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return pins.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 재적재: 새 구조를 락 밖에서 만든 뒤 교체 */
+    public void replaceAll(Collection<MapPin> all) {
+        Map<Long, List<MapPin>> nextCells = new HashMap<>();
+        Map<Long, MapPin> nextPins = new HashMap<>(Math.max(16, all.size() * 2));
+        for (MapPin pin : all) {
+            nextPins.put(pinKey(pin.getCategory(), pin.getId()), pin);
+            nextCells.computeIfAbsent(cellKeyOf(pin.getLatitude(), pin.getLongitude()), k -> new ArrayList<>())
+                    .add(pin);
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.cells = nextCells;
+            this.pins = nextPins;
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(MapPin pin) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(pin.getCategory(), pin.getId());
+            pins.put(pinKey(pin.getCategory(), pin.getId()), pin);
+            cells.computeIfAbsent(cellKeyOf(pin.getLatitude(), pin.getLongitude()), k -> new ArrayList<>())
+                    .add(pin);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(MapPinCategory category, long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(category, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 뷰포트 내 핀 조회
+     * - 중심점이 있으면 거리순(가까운 순), 없으면 카테고리 순(project → study → player → cafe)
+     * - 최대 maxResults 개
+     */
+    public List<MapPin> query(double swLat, double swLng, double neLat, double neLng,
+                              Set<MapPinCategory> categories,
+                              Double centerLat, Double centerLng) {
+        List<List<MapPin>> buckets = new ArrayList<>(MapPinCategory.values().length);
+        for (int i = 0; i < MapPinCategory.values().length; i++) buckets.add(new ArrayList<>());
+
+        lock.readLock().lock();
+        try {
+            int minLat = latIndex(swLat), maxLat = latIndex(neLat);
+            int minLng = lngIndex(swLng), maxLng = lngIndex(neLng);
+            long span = (long) (maxLat - minLat + 1) * (maxLng - minLng + 1);
+
+            if (span > cells.size()) {
+                // 저줌: 겹치는 셀 수보다 실제 셀이 적으면 전체 셀을 훑는 편이 싸다
+                for (List<MapPin> cell : cells.values()) {
+                    collect(cell, swLat, swLng, neLat, neLng, categories, buckets);
+                }
+            } else {
+                for (int la = minLat; la <= maxLat; la++) {
+                    for (int ln = minLng; ln <= maxLng; ln++) {
+                        List<MapPin> cell = cells.get(cellKey(la, ln));
+                        if (cell != null) collect(cell, swLat, swLng, neLat, neLng, categories, buckets);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (centerLat == null || centerLng == null) {
+            List<MapPin> result = new ArrayList<>();
+            for (List<MapPin> bucket : buckets) {
+                for (MapPin pin : bucket) {
+                    if (result.size() >= maxResults) return result;
+                    result.add(pin);
+                }
+            }
+            return result;
+        }
+
+        final double cLat = centerLat;
+        final double cLng = centerLng;
+        List<Hit> hits = new ArrayList<>();
+        for (List<MapPin> bucket : buckets) {
+            for (MapPin pin : bucket) {
+                hits.add(new Hit(pin, GeoDistance.haversineKm(cLat, cLng, pin.getLatitude(), pin.getLongitude())));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::km));
+
+        int n = Math.min(hits.size(), maxResults);
+        List<MapPin> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) result.add(hits.get(i).pin());
+        return result;
+    }
+
+    /**
+     * 뷰포트 내 핀을 clusterDegree 크기 셀로 묶어 집계 (핀 DTO 생성 없음)
+     */
+    public List<MapClusterGrid.Cell> cluster(double swLat, double swLng, double neLat, double neLng,
+                                             Set<MapPinCategory> categories,
+                                             double clusterDegree) {
+        MapClusterGrid grid = new MapClusterGrid(clusterDegree);
+
+        lock.readLock().lock();
+        try {
+            int minLat = latIndex(swLat), maxLat = latIndex(neLat);
+            int minLng = lngIndex(swLng), maxLng = lngIndex(neLng);
+            long span = (long) (maxLat - minLat + 1) * (maxLng - minLng + 1);
+
+            if (span > cells.size()) {
+                for (List<MapPin> cell : cells.values()) {
+                    accumulate(cell, swLat, swLng, neLat, neLng, categories, grid);
+                }
+            } else {
+                for (int la = minLat; la <= maxLat; la++) {
+                    for (int ln = minLng; ln <= maxLng; ln++) {
+                        List<MapPin> cell = cells.get(cellKey(la, ln));
+                        if (cell != null) accumulate(cell, swLat, swLng, neLat, neLng, categories, grid);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return grid.result();
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void accumulate(List<MapPin> cell,
+                            double swLat, double swLng, double neLat, double neLng,
+                            Set<MapPinCategory> categories,
+                            MapClusterGrid grid) {
+        for (MapPin pin : cell) {
+            double lat = pin.getLatitude();
+            double lng = pin.getLongitude();
+            if (lat < swLat || lat > neLat || lng < swLng || lng > neLng) continue;
+            if (!categories.contains(pin.getCategory())) continue;
+            grid.add(pin.getCategory(), pin.getId(), lat, lng);
+        }
+    }
+
+    private record Hit(MapPin pin, double km) {}
+
+    private void collect(List<MapPin> cell,
+                         double swLat, double swLng, double neLat, double neLng,
+                         Set<MapPinCategory> categories,
+                         List<List<MapPin>> buckets) {
+        for (MapPin pin : cell) {
+            double lat = pin.getLatitude();
+            double lng = pin.getLongitude();
+            if (lat < swLat || lat > neLat || lng < swLng || lng > neLng) continue;
+            if (!categories.contains(pin.getCategory())) continue;
+            buckets.get(pin.getCategory().ordinal()).add(pin);
+        }
+    }
+
+    private void removeInternal(MapPinCategory category, long id) {
+        MapPin old = pins.remove(pinKey(category, id));
+        if (old == null) return;
+
+        long key = cellKeyOf(old.getLatitude(), old.getLongitude());
+        List<MapPin> cell = cells.get(key);
+        if (cell == null) return;
+        cell.remove(old);
+        if (cell.isEmpty()) cells.remove(key);
+    }
+
+    private static long pinKey(MapPinCategory category, long id) {
+        return (id << 2) | category.ordinal();
+    }
+
+    private long cellKeyOf(double lat, double lng) {
+        return cellKey(latIndex(lat), lngIndex(lng));
+    }
+
+    private static long cellKey(int latIdx, int lngIdx) {
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    private int latIndex(double lat) {
+        return (int) Math.floor((lat + 90.0) / cellDegree);
+    }
+
+    private int lngIndex(double lng) {
+        return (int) Math.floor((lng + 180.0) / cellDegree);
+    }
+}
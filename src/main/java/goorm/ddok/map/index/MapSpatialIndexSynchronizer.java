@@ -0,0 +1,179 @@
+package goorm.ddok.map.index;
+
+import goorm.ddok.cafe.repository.CafeRepository;
+import goorm.ddok.global.dto.LocationDto;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.project.repository.ProjectRecruitmentRepository;
+import goorm.ddok.study.repository.StudyRecruitmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지도 공간 인덱스 동기화
+ * - 서버 시작 시 전체 적재
+ * - 모집글/위치/공개 여부 변경 시 커밋 이후 해당 핀만 재적재
+ * - 배치 상태 변경 등 이벤트가 없는 변경은 주기적 전체 재적재로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.map.index.enabled", havingValue = "true", matchIfMissing = true)
+public class MapSpatialIndexSynchronizer {
+
+    private static final BigDecimal MIN_LAT = BigDecimal.valueOf(-90);
+    private static final BigDecimal MAX_LAT = BigDecimal.valueOf(90);
+    private static final BigDecimal MIN_LNG = BigDecimal.valueOf(-180);
+    private static final BigDecimal MAX_LNG = BigDecimal.valueOf(180);
+
+    private final MapSpatialIndex index;
+    private final ProjectRecruitmentRepository projectRecruitmentRepository;
+    private final StudyRecruitmentRepository studyRecruitmentRepository;
+    private final UserRepository userRepository;
+    private final CafeRepository cafeRepository;
+
+    /** 서버 시작 시 1회 전체 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild("startup");
+    }
+
+    /** 주기적 전체 재적재 (기본 10분) */
+    @Scheduled(
+            fixedDelayString = "${app.map.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.map.index.rebuild-interval-ms:600000}"
+    )
+    public void rebuildPeriodically() {
+        rebuild("periodic");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MapPinChangedEvent e) {
+        if (e.id() == null || !index.isReady()) return;
+        try {
+            Optional<MapPin> pin = switch (e.category()) {
+                case PROJECT -> projectRecruitmentRepository.findMapRowById(e.id()).map(this::toProjectPin);
+                case STUDY -> studyRecruitmentRepository.findMapRowById(e.id()).map(this::toStudyPin);
+                case PLAYER -> userRepository.findPublicPlayerMapRowById(e.id()).map(this::toPlayerPin);
+                case CAFE -> cafeRepository.findMapRowById(e.id()).map(this::toCafePin);
+            };
+            if (pin.isPresent()) index.upsert(pin.get());
+            else index.remove(e.category(), e.id());
+        } catch (Exception ex) {
+            // 실패해도 다음 주기적 재적재에서 보정된다
+            log.warn("Map index refresh failed: category={}, id={}", e.category(), e.id(), ex);
+        }
+    }
+
+    public void rebuild(String reason) {
+        try {
+            long started = System.currentTimeMillis();
+            List<MapPin> all = new ArrayList<>();
+
+            projectRecruitmentRepository.findAllInBounds(MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG)
+                    .forEach(r -> all.add(toProjectPin(r)));
+            studyRecruitmentRepository.findAllInBounds(MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG)
+                    .forEach(r -> all.add(toStudyPin(r)));
+            userRepository.findPublicPlayersInBounds(MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG)
+                    .forEach(r -> all.add(toPlayerPin(r)));
+            cafeRepository.findAllInBounds(MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG)
+                    .forEach(r -> all.add(toCafePin(r)));
+
+            index.replaceAll(all);
+            log.info("Map index rebuilt (reason={}): {} pins in {}ms",
+                    reason, all.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Map index rebuild failed (reason={})", reason, e);
+        }
+    }
+
+    /* ---------- 변환 ---------- */
+
+    private MapPin toProjectPin(ProjectRecruitmentRepository.MapRow r) {
+        return MapPin.builder()
+                .category(MapPinCategory.PROJECT)
+                .id(r.getId())
+                .latitude(r.getLatitude().doubleValue())
+                .longitude(r.getLongitude().doubleValue())
+                .title(r.getTitle())
+                .teamStatus(MapPinFormat.normalizeProjectTeamStatus(r.getTeamStatus()))
+                .location(toLocation(
+                        r.getRegion1depthName(), r.getRegion2depthName(), r.getRegion3depthName(),
+                        r.getRoadName(), r.getMainBuildingNo(), r.getSubBuildingNo(), r.getZoneNo(),
+                        r.getLatitude(), r.getLongitude()))
+                .build();
+    }
+
+    private MapPin toStudyPin(StudyRecruitmentRepository.MapRow r) {
+        return MapPin.builder()
+                .category(MapPinCategory.STUDY)
+                .id(r.getId())
+                .latitude(r.getLatitude().doubleValue())
+                .longitude(r.getLongitude().doubleValue())
+                .title(r.getTitle())
+                .teamStatus(MapPinFormat.normalizeStudyTeamStatus(r.getTeamStatus()))
+                .location(toLocation(
+                        r.getRegion1depthName(), r.getRegion2depthName(), r.getRegion3depthName(),
+                        r.getRoadName(), r.getMainBuildingNo(), r.getSubBuildingNo(), r.getZoneNo(),
+                        r.getLatitude(), r.getLongitude()))
+                .build();
+    }
+
+    private MapPin toPlayerPin(UserRepository.MapRow r) {
+        return MapPin.builder()
+                .category(MapPinCategory.PLAYER)
+                .id(r.getId())
+                .latitude(r.getLatitude().doubleValue())
+                .longitude(r.getLongitude().doubleValue())
+                .title(r.getNickname())
+                .position(r.getPositionName())
+                .location(toLocation(
+                        r.getRegion1DepthName(), r.getRegion2DepthName(), r.getRegion3DepthName(),
+                        r.getRoadName(), r.getMainBuildingNo(), r.getSubBuildingNo(), r.getZoneNo(),
+                        r.getLatitude(), r.getLongitude()))
+                .build();
+    }
+
+    private MapPin toCafePin(ProjectRecruitmentRepository.MapRow r) {
+        return MapPin.builder()
+                .category(MapPinCategory.CAFE)
+                .id(r.getId())
+                .latitude(r.getLatitude().doubleValue())
+                .longitude(r.getLongitude().doubleValue())
+                .title(r.getTitle())
+                .location(toLocation(
+                        r.getRegion1depthName(), r.getRegion2depthName(), r.getRegion3depthName(),
+                        r.getRoadName(), r.getMainBuildingNo(), r.getSubBuildingNo(), r.getZoneNo(),
+                        r.getLatitude(), r.getLongitude()))
+                .build();
+    }
+
+    private LocationDto toLocation(String r1, String r2, String r3,
+                                   String road, String mainNo, String subNo, String zoneNo,
+                                   BigDecimal lat, BigDecimal lng) {
+        return LocationDto.builder()
+                .address(MapPinFormat.composeRoadAddress(r1, r2, r3, road, mainNo, subNo))
+                .region1depthName(r1)
+                .region2depthName(r2)
+                .region3depthName(r3)
+                .roadName(road)
+                .mainBuildingNo(mainNo)
+                .subBuildingNo(subNo)
+                .zoneNo(zoneNo)
+                .latitude(lat)
+                .longitude(lng)
+                .build();
+    }
+}
@@ -1,16 +1,23 @@
 package goorm.ddok.map.service;
 
+import goorm.ddok.badge.dto.BadgeSummary;
 import goorm.ddok.badge.service.BadgeService;
 import goorm.ddok.cafe.repository.CafeRepository;
 import goorm.ddok.global.dto.*;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.map.dto.response.*;
+import goorm.ddok.map.index.MapClusterGrid;
+import goorm.ddok.map.index.MapPin;
+import goorm.ddok.map.index.MapPinCategory;
+import goorm.ddok.map.index.MapPinFormat;
+import goorm.ddok.map.index.MapSpatialIndex;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
 import goorm.ddok.project.repository.ProjectRecruitmentRepository;
 import goorm.ddok.study.repository.StudyRecruitmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +28,8 @@ import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static goorm.ddok.map.index.GeoDistance.haversineKm;
+
 @Service
 @RequiredArgsConstructor
 public class MapService {
@@ -30,18 +39,58 @@ public class MapService {
     private final UserRepository userRepository;
     private final CafeRepository cafeRepository;
     private final BadgeService badgeService;
+    private final MapSpatialIndex mapSpatialIndex;
+
+    /** 이 줌 이상이면 클러스터 대신 개별 핀을 내려준다 */
+    @Value("${app.map.cluster.max-zoom:15}")
+    private int clusterMaxZoom;
 
     public List<AllMapItemResponse> getAllInBounds(
             BigDecimal swLat, BigDecimal swLng,
             BigDecimal neLat, BigDecimal neLng,
             BigDecimal centerLat, BigDecimal centerLng,
             Long userId
+    ){
+        return getAllInBounds(swLat, swLng, neLat, neLng, centerLat, centerLng, userId,
+                EnumSet.allOf(MapPinCategory.class));
+    }
+
+    /**
+     * 요청 카테고리만 조회 (인덱스는 카테고리 필터 후 maxResults 적용, DB 는 해당 테이블만 조회)
+     */
+    private List<AllMapItemResponse> getAllInBounds(
+            BigDecimal swLat, BigDecimal swLng,
+            BigDecimal neLat, BigDecimal neLng,
+            BigDecimal centerLat, BigDecimal centerLng,
+            Long userId,
+            Set<MapPinCategory> categories
     ){
         validateBounds(swLat, swLng, neLat, neLng);
 
+        if (mapSpatialIndex.isReady()) {
+            return queryIndex(swLat, swLng, neLat, neLng, centerLat, centerLng,
+                    categories).stream()
+                    .map(pin -> AllMapItemResponse.builder()
+                            .category(pin.getCategory().getKey())
+                            .projectId(pin.getCategory() == MapPinCategory.PROJECT ? pin.getId() : null)
+                            .studyId(pin.getCategory() == MapPinCategory.STUDY ? pin.getId() : null)
+                            .cafeId(pin.getCategory() == MapPinCategory.CAFE ? pin.getId() : null)
+                            .userId(pin.getCategory() == MapPinCategory.PLAYER ? pin.getId() : null)
+                            .nickname(pin.getCategory() == MapPinCategory.PLAYER ? pin.getTitle() : null)
+                            .position(pin.getPosition())
+                            .IsMine(pin.getCategory() == MapPinCategory.PLAYER
+                                    && userId != null && userId == pin.getId())
+                            .title(pin.getCategory() == MapPinCategory.PLAYER ? null : pin.getTitle())
+                            .teamStatus(pin.getTeamStatus())
+                            .location(pin.getLocation())
+                            .build())
+                    .toList();
+        }
+
         List<AllMapItemResponse> result = new ArrayList<>();
 
-        var projectRows = projectRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng);
+        var projectRows = categories.contains(MapPinCategory.PROJECT)
+                ? projectRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng) : null;
         if (projectRows != null) {
             List<AllMapItemResponse> finalResult = result;
             projectRows.forEach(r -> finalResult.add(AllMapItemResponse.builder()
@@ -70,7 +119,8 @@ public class MapService {
                     .build()));
         }
 
-        var studyRows = studyRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng);
+        var studyRows = categories.contains(MapPinCategory.STUDY)
+                ? studyRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng) : null;
         if (studyRows != null) {
             List<AllMapItemResponse> finalResult1 = result;
             studyRows.forEach(r -> finalResult1.add(AllMapItemResponse.builder()
@@ -99,7 +149,8 @@ public class MapService {
                     .build()));
         }
 
-        var playerRows = userRepository.findPublicPlayersInBounds(swLat, neLat, swLng, neLng);
+        var playerRows = categories.contains(MapPinCategory.PLAYER)
+                ? userRepository.findPublicPlayersInBounds(swLat, neLat, swLng, neLng) : null;
         if (playerRows != null) {
             List<AllMapItemResponse> finalResult2 = result;
             playerRows.forEach(r -> finalResult2.add(AllMapItemResponse.builder()
@@ -129,7 +180,8 @@ public class MapService {
                     .build()));
         }
 
-        var cafeRows = cafeRepository.findAllInBounds(swLat, neLat, swLng, neLng);
+        var cafeRows = categories.contains(MapPinCategory.CAFE)
+                ? cafeRepository.findAllInBounds(swLat, neLat, swLng, neLng) : null;
         if (cafeRows != null) {
             List<AllMapItemResponse> finalResult3 = result;
             cafeRows.forEach(r -> finalResult3.add(AllMapItemResponse.builder()
@@ -188,6 +240,19 @@ public class MapService {
     ) {
         validateBounds(swLat, swLng, neLat, neLng);
 
+        if (mapSpatialIndex.isReady()) {
+            return queryIndex(swLat, swLng, neLat, neLng, centerLat, centerLng,
+                    EnumSet.of(MapPinCategory.PROJECT)).stream()
+                    .map(pin -> ProjectMapItemResponse.builder()
+                            .category("project")
+                            .projectId(pin.getId())
+                            .title(pin.getTitle())
+                            .teamStatus(pin.getTeamStatus())
+                            .location(pin.getLocation())
+                            .build())
+                    .toList();
+        }
+
         var rows = projectRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng);
 
         if (rows == null || rows.isEmpty()) {
@@ -247,6 +312,19 @@ public class MapService {
     ) {
         validateBounds(swLat, swLng, neLat, neLng);
 
+        if (mapSpatialIndex.isReady()) {
+            return queryIndex(swLat, swLng, neLat, neLng, centerLat, centerLng,
+                    EnumSet.of(MapPinCategory.STUDY)).stream()
+                    .map(pin -> StudyMapItemResponse.builder()
+                            .category("study")
+                            .studyId(pin.getId())
+                            .title(pin.getTitle())
+                            .teamStatus(pin.getTeamStatus())
+                            .location(pin.getLocation())
+                            .build())
+                    .toList();
+        }
+
         var rows = studyRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng);
 
         if (rows == null || rows.isEmpty()) {
@@ -298,6 +376,123 @@ public class MapService {
         return items;
     }
 
+    /**
+     * 줌 레벨에 따른 뷰포트 조회
+     * - zoom < clusterMaxZoom: 카테고리별 클러스터 셀(개수/중심/경계)만 단일 패스로 계산
+     * - zoom ≥ clusterMaxZoom: getAllInBounds 와 동일한 개별 핀
+     * 셀 크기(도) = 360 / 2^zoom / clusterPrecision (타일 하나를 clusterPrecision² 셀로 분할)
+     */
+    @Transactional(readOnly = true)
+    public MapViewportResponse getViewport(
+            BigDecimal swLat, BigDecimal swLng,
+            BigDecimal neLat, BigDecimal neLng,
+            BigDecimal centerLat, BigDecimal centerLng,
+            int zoom, int clusterPrecision,
+            String categoryCsv,
+            Long userId
+    ) {
+        validateBounds(swLat, swLng, neLat, neLng);
+        if (swLat == null) throw new GlobalException(ErrorCode.REQUIRED_PARAMETER_MISSING);
+
+        zoom = Math.max(0, Math.min(zoom, 21));
+        clusterPrecision = Math.max(1, Math.min(clusterPrecision, 64));
+        Set<MapPinCategory> categories = toPinCategories(parseCategories(categoryCsv));
+
+        if (zoom >= clusterMaxZoom) {
+            List<AllMapItemResponse> items =
+                    getAllInBounds(swLat, swLng, neLat, neLng, centerLat, centerLng, userId, categories);
+            return MapViewportResponse.builder()
+                    .zoom(zoom)
+                    .clustered(false)
+                    .items(items)
+                    .build();
+        }
+
+        double clusterDegree = 360.0 / (1L << zoom) / clusterPrecision;
+        List<MapClusterGrid.Cell> cells;
+        if (mapSpatialIndex.isReady()) {
+            cells = mapSpatialIndex.cluster(
+                    swLat.doubleValue(), swLng.doubleValue(),
+                    neLat.doubleValue(), neLng.doubleValue(),
+                    categories, clusterDegree);
+        } else {
+            cells = clusterFromDatabase(swLat, swLng, neLat, neLng, categories, clusterDegree);
+        }
+
+        List<MapClusterResponse> clusters = cells.stream()
+                .map(c -> MapClusterResponse.builder()
+                        .category(c.getCategory().getKey())
+                        .count(c.getCount())
+                        .id(c.getCount() == 1 ? c.getLastId() : null)
+                        .latitude(c.getCentroidLat())
+                        .longitude(c.getCentroidLng())
+                        .bounds(MapClusterResponse.Bounds.builder()
+                                .swLat(c.getMinLat())
+                                .swLng(c.getMinLng())
+                                .neLat(c.getMaxLat())
+                                .neLng(c.getMaxLng())
+                                .build())
+                        .build())
+                .toList();
+
+        return MapViewportResponse.builder()
+                .zoom(zoom)
+                .clustered(true)
+                .clusters(clusters)
+                .build();
+    }
+
+    private List<MapClusterGrid.Cell> clusterFromDatabase(BigDecimal swLat, BigDecimal swLng,
+                                                          BigDecimal neLat, BigDecimal neLng,
+                                                          Set<MapPinCategory> categories,
+                                                          double clusterDegree) {
+        MapClusterGrid grid = new MapClusterGrid(clusterDegree);
+        if (categories.contains(MapPinCategory.PROJECT)) {
+            projectRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng)
+                    .forEach(r -> grid.add(MapPinCategory.PROJECT, r.getId(),
+                            r.getLatitude().doubleValue(), r.getLongitude().doubleValue()));
+        }
+        if (categories.contains(MapPinCategory.STUDY)) {
+            studyRecruitmentRepository.findAllInBounds(swLat, neLat, swLng, neLng)
+                    .forEach(r -> grid.add(MapPinCategory.STUDY, r.getId(),
+                            r.getLatitude().doubleValue(), r.getLongitude().doubleValue()));
+        }
+        if (categories.contains(MapPinCategory.PLAYER)) {
+            userRepository.findPublicPlayersInBounds(swLat, neLat, swLng, neLng)
+                    .forEach(r -> grid.add(MapPinCategory.PLAYER, r.getId(),
+                            r.getLatitude().doubleValue(), r.getLongitude().doubleValue()));
+        }
+        if (categories.contains(MapPinCategory.CAFE)) {
+            cafeRepository.findAllInBounds(swLat, neLat, swLng, neLng)
+                    .forEach(r -> grid.add(MapPinCategory.CAFE, r.getId(),
+                            r.getLatitude().doubleValue(), r.getLongitude().doubleValue()));
+        }
+        return grid.result();
+    }
+
+    private Set<MapPinCategory> toPinCategories(Set<String> keys) {
+        Set<MapPinCategory> result = EnumSet.noneOf(MapPinCategory.class);
+        for (MapPinCategory c : MapPinCategory.values()) {
+            if (keys.contains(c.getKey())) result.add(c);
+        }
+        return result;
+    }
+
+    private List<MapPin> queryIndex(BigDecimal swLat, BigDecimal swLng,
+                                    BigDecimal neLat, BigDecimal neLng,
+                                    BigDecimal centerLat, BigDecimal centerLng,
+                                    Set<MapPinCategory> categories) {
+        if (swLat == null) return List.of(); // validateBounds 통과 후에는 전부 null 이거나 전부 존재
+        boolean hasCenter = centerLat != null && centerLng != null;
+        return mapSpatialIndex.query(
+                swLat.doubleValue(), swLng.doubleValue(),
+                neLat.doubleValue(), neLng.doubleValue(),
+                categories,
+                hasCenter ? centerLat.doubleValue() : null,
+                hasCenter ? centerLng.doubleValue() : null
+        );
+    }
+
     public void validateBounds(BigDecimal swLat, BigDecimal swLng, BigDecimal neLat, BigDecimal neLng) {
         boolean hasAny = swLat != null || swLng != null || neLat != null || neLng != null;
         boolean hasAll = swLat != null && swLng != null && neLat != null && neLng != null;
@@ -311,40 +506,15 @@ public class MapService {
 
     public String composeRoadAddress(String r1, String r2, String r3,
                                      String road, String mainNo, String subNo) {
-        if (road == null && r1 == null && r2 == null) return "-";
-        var sb = new StringBuilder();
-        if (r1 != null && !r1.isBlank()) sb.append(r1).append(" ");
-        if (r2 != null && !r2.isBlank()) sb.append(r2).append(" ");
-        if (r3 != null && !r3.isBlank()) sb.append(r3).append(" ");
-        if (road != null && !road.isBlank()) sb.append(road).append(" ");
-
-        String main = mainNo == null ? "" : mainNo.trim();
-        String sub  = subNo == null ? "" : subNo.trim();
-        if (!main.isEmpty() && !sub.isEmpty()) sb.append(main).append("-").append(sub);
-        else if (!main.isEmpty()) sb.append(main);
-
-        return sb.toString().trim();
+        return MapPinFormat.composeRoadAddress(r1, r2, r3, road, mainNo, subNo);
     }
 
-    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2.0 * Math.atan2(Math.sqrt(a), Math.sqrt(1.0 - a));
-        return R * c;
+    public String normalizeProjectTeamStatus(goorm.ddok.project.domain.TeamStatus status) {
+        return MapPinFormat.normalizeProjectTeamStatus(status);
     }
 
-    private String normalizeProjectTeamStatus(goorm.ddok.project.domain.TeamStatus status) {
-        if (status == null) return "ONGOING";
-        return (status == goorm.ddok.project.domain.TeamStatus.CLOSED) ? "ONGOING" : status.name();
-    }
-
-    private String normalizeStudyTeamStatus(goorm.ddok.study.domain.TeamStatus status) {
-        if (status == null) return "ONGOING";
-        return (status == goorm.ddok.study.domain.TeamStatus.CLOSED) ? "ONGOING" : status.name();
+    public String normalizeStudyTeamStatus(goorm.ddok.study.domain.TeamStatus status) {
+        return MapPinFormat.normalizeStudyTeamStatus(status);
     }
 
     @Transactional(readOnly = true)
@@ -356,6 +526,20 @@ public class MapService {
     ) {
         validateBounds(swLat, swLng, neLat, neLng);
 
+        if (mapSpatialIndex.isReady()) {
+            return queryIndex(swLat, swLng, neLat, neLng, centerLat, centerLng,
+                    EnumSet.of(MapPinCategory.PLAYER)).stream()
+                    .map(pin -> PlayerMapItemResponse.builder()
+                            .category("player")
+                            .userId(pin.getId())
+                            .nickname(pin.getTitle())
+                            .position(pin.getPosition())
+                            .IsMine(userId != null && userId == pin.getId())
+                            .location(pin.getLocation())
+                            .build())
+                    .toList();
+        }
+
         var rows = userRepository.findPublicPlayersInBounds(swLat, neLat, swLng, neLng);
         if (rows == null || rows.isEmpty()) return java.util.Collections.emptyList();
 
@@ -494,12 +678,15 @@ public class MapService {
         if (categories.contains("player")) {
             var rows = userRepository.findPublicPlayersInBounds(swLat, neLat, swLng, neLng);
             if (rows != null) {
+                // 배지는 한 번에 조회 (행마다 유저/배지/티어 조회하던 N+1 제거)
+                Map<Long, BadgeSummary> badges = badgeService.getBadgeSummaries(
+                        rows.stream().map(UserRepository.MapRow::getId).toList());
+
                 rows.forEach(r -> {
-                    User user = userRepository.findById(r.getId())
-                            .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
+                    BadgeSummary summary = badges.getOrDefault(r.getId(), BadgeSummary.empty());
 
                     // 대표 배지
-                    BadgeDto representative = badgeService.getRepresentativeGoodBadge(user);
+                    BadgeDto representative = summary.representative();
                     AllMapItemSearchResponse.MainBadge mainBadge = null;
                     if (representative != null) {
                         mainBadge = AllMapItemSearchResponse.MainBadge.builder()
@@ -509,7 +696,7 @@ public class MapService {
                     }
 
                     // 나쁜 배지
-                    AbandonBadgeDto abandon = badgeService.getAbandonBadge(user);
+                    AbandonBadgeDto abandon = summary.abandon();
                     AllMapItemSearchResponse.AbandonBadge abandonBadge =
                             AllMapItemSearchResponse.AbandonBadge.builder()
                                     .IsGranted(abandon.isIsGranted())
@@ -1,6 +1,7 @@
 package goorm.ddok.member.controller;
 
 
+import goorm.ddok.badge.service.BadgeTierTable;
 import goorm.ddok.global.response.ApiResponseDto;
 import goorm.ddok.member.service.TechStackReindexService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import java.util.Map;
 public class AdminMaintenanceController {
 
     private final TechStackReindexService svc;
+    private final BadgeTierTable badgeTierTable;
 
     @PostMapping("/reindex/tech-stacks")
     public ResponseEntity<ApiResponseDto<Map<String, Object>>> reindex(
@@ -26,4 +28,11 @@ public class AdminMaintenanceController {
         int count = svc.reindexAll(purge);
         return ResponseEntity.ok(ApiResponseDto.of(200, "reindexed", Map.of("count", count, "purge", purge)));
     }
+
+    /** badge_tier_rule 수정 후 인메모리 티어 테이블 재적재 */
+    @PostMapping("/reload/badge-tier-rules")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> reloadBadgeTierRules() {
+        int count = badgeTierTable.reload();
+        return ResponseEntity.ok(ApiResponseDto.of(200, "reloaded", Map.of("count", count)));
+    }
 }
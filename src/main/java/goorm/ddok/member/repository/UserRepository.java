@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -94,6 +95,39 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
             @Param("neLng") BigDecimal neLng
     );
 
+    @Query("""
+        select distinct
+          u.id as id,
+          u.nickname as nickname,
+          u.profileImageUrl as profileImageUrl,
+          coalesce(pPri.positionName, pSec1.positionName) as positionName,
+          l.region1DepthName as region1DepthName,
+          l.region2DepthName as region2DepthName,
+          l.region3DepthName as region3DepthName,
+          l.roadName as roadName,
+          l.mainBuildingNo as mainBuildingNo,
+          l.subBuildingNo as subBuildingNo,
+          l.zoneNo as zoneNo,
+          l.activityLatitude as latitude,
+          l.activityLongitude as longitude,
+          r.temperature as temperature
+        from User u
+        join u.location l
+        left join goorm.ddok.member.domain.UserPosition pPri
+          on pPri.user = u and pPri.type = goorm.ddok.member.domain.UserPositionType.PRIMARY
+        left join goorm.ddok.member.domain.UserPosition pSec1
+          on pSec1.user = u
+         and pSec1.type = goorm.ddok.member.domain.UserPositionType.SECONDARY
+         and pSec1.ord = 1
+        left join goorm.ddok.reputation.domain.UserReputation r
+          on r.user = u
+        where u.id = :id
+          and u.isPublic = true
+          and l.activityLatitude  is not null
+          and l.activityLongitude is not null
+    """)
+    Optional<MapRow> findPublicPlayerMapRowById(@Param("id") Long id);
+
 
     @Query("select u from User u where u.id = :userId")
     Optional<User> findByUserId(@Param("userId") Long userId);
@@ -255,4 +289,19 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     ORDER BY LOWER(u.nickname) ASC, u.id ASC
     """)
     List<User> findUsersByIdsWithDetails(@Param("userIds") List<Long> userIds);
+
+    /** 알림 행위자 보강용: 닉네임 + 온도 (평판 없으면 null) */
+    interface ActorRow {
+        Long getId();
+        String getNickname();
+        BigDecimal getTemperature();
+    }
+
+    @Query("""
+    SELECT u.id AS id, u.nickname AS nickname, r.temperature AS temperature
+    FROM User u
+    LEFT JOIN u.reputation r
+    WHERE u.id IN :userIds
+    """)
+    List<ActorRow> findActorRowsByIdIn(@Param("userIds") Collection<Long> userIds);
 }
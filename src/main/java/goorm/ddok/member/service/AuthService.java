@@ -144,7 +144,7 @@ public class AuthService {
 //            emailVerificationService.handleEmailVerification(user.getEmail());
 //        }
 
-        String accessToken = jwtTokenProvider.createToken(user.getId());
+        String accessToken = jwtTokenProvider.createToken(user.getId(), user.getNickname());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
 
         refreshTokenService.save(user.getId(), refreshToken);
@@ -196,9 +196,9 @@ public class AuthService {
         }
         String accessToken = authorizationHeader.substring(7);
 
-        jwtTokenProvider.validateToken(accessToken); // 유효하지 않으면 예외(401)
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(accessToken); // 유효하지 않으면 예외(401)
 
-        Long userId = jwtTokenProvider.getUserIdFromToken(accessToken);
+        Long userId = jwtTokenProvider.getUserId(claims);
         refreshTokenService.delete(userId);
     }
 
@@ -275,9 +275,7 @@ public class AuthService {
 
         String reauthToken = authorizationHeader.replace("Bearer ", "");
 
-        jwtTokenProvider.validateToken(reauthToken); // 예외 방식으로 수정
-
-        Claims claims = jwtTokenProvider.getClaims(reauthToken);
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(reauthToken); // 예외 방식으로 수정
         String username = claims.get("username", String.class);
         String email = claims.get("email", String.class);
         String phoneNumber = claims.get("phoneNumber", String.class);
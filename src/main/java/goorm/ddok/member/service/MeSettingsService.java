@@ -5,11 +5,13 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.file.FileService;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.global.security.token.CustomReauthTokenService;
+import goorm.ddok.map.event.MapPinChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.dto.request.*;
 import goorm.ddok.member.dto.response.SettingsPageResponse;
 import goorm.ddok.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,7 @@ public class MeSettingsService {
     private final ProfileImageService imageService;
     private final PasswordEncoder passwordEncoder;
     private final CustomReauthTokenService customReauthTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public String verifyPasswordAndIssueReauthToken(PasswordVerifyRequest req, CustomUserDetails me) {
         var user = userRepository.findById(me.getId())
@@ -90,6 +93,7 @@ public class MeSettingsService {
 
         user.setNickname(nick);
         userRepository.save(user);
+        eventPublisher.publishEvent(MapPinChangedEvent.player(user.getId()));
         return toSettingsDto(user);
     }
 
@@ -115,6 +119,7 @@ public class MeSettingsService {
         User user = requireMe(me);
         // 연관관계는 User 엔티티에 Cascade REMOVE가 이미 걸려 있으므로 하드 딜리트 가능
         userRepository.delete(user);
+        eventPublisher.publishEvent(MapPinChangedEvent.player(user.getId()));
     }
 
     private SettingsPageResponse toSettingsDto(User user) {
@@ -1,13 +1,13 @@
 package goorm.ddok.member.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.map.event.MapPinChangedEvent;
 import goorm.ddok.member.domain.*;
 import goorm.ddok.member.dto.ProfileDto;
 import goorm.ddok.member.dto.request.*;
@@ -17,6 +17,7 @@ import goorm.ddok.reputation.repository.UserReputationRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -40,8 +41,8 @@ public class PlayerProfileService {
     private final UserReputationRepository userReputationRepository;
     private final UserPortfolioRepository userPortfolioRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager em;
@@ -90,6 +91,7 @@ public class PlayerProfileService {
         for (String s : subs) user.getPositions().add(UserPosition.secondaryOf(user, s, ord++));
 
         userRepository.save(user);
+        eventPublisher.publishEvent(MapPinChangedEvent.player(user.getId()));
         return buildProfile(user, me);
     }
 
@@ -276,6 +278,7 @@ public class PlayerProfileService {
         fresh.setPublic(!current);
 
         userRepository.save(fresh);
+        eventPublisher.publishEvent(MapPinChangedEvent.player(fresh.getId()));
 
         return buildProfile(fresh, me);
     }
@@ -290,16 +293,9 @@ public class PlayerProfileService {
 
         boolean isMine = meId != null && Objects.equals(meId, fresh.getId());
 
-        Long chatRoomId = null;
-        if (!isMine && meId != null) {
-            chatRoomId = chatRoomService.findPrivateRoomId(meId, fresh.getId()).orElse(null);
-        }
-
-        boolean dmPending = false;
-        if (!isMine && meId != null) {
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, fresh.getId());
-        }
+        ViewerRelationResolver.Relation relation = viewerRelationResolver.resolve(meId, fresh.getId());
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
         BadgeDto mainBadge = badgeService.getRepresentativeGoodBadge(fresh);
         AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(fresh);
 
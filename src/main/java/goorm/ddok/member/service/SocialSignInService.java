@@ -49,7 +49,7 @@ public class SocialSignInService {
         badgeService.grantLoginBadge(user);
 
         // 4) JWT 발급
-        String accessToken  = jwtTokenProvider.createToken(user.getId());
+        String accessToken  = jwtTokenProvider.createToken(user.getId(), user.getNickname());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
 
         // 5) JWT RefreshToken 저장
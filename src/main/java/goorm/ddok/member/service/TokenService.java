@@ -6,6 +6,7 @@ import goorm.ddok.global.security.jwt.JwtTokenProvider;
 import goorm.ddok.global.security.token.RefreshTokenService;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,10 +19,10 @@ public class TokenService {
 
     public String reissueAccessToken(String refreshToken) {
         // 1. 토큰 유효성 검증 (예외 기반)
-        jwtTokenProvider.validateToken(refreshToken); // 예외 발생 시 자동 중단
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(refreshToken); // 예외 발생 시 자동 중단
 
         // 2. 토큰에서 사용자 ID 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        Long userId = jwtTokenProvider.getUserId(claims);
 
         // 3. Redis에 저장된 리프레시 토큰과 비교
         String savedToken = refreshTokenService.find(userId)
@@ -35,6 +36,6 @@ public class TokenService {
                 .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
         // 5. 새 Access Token 발급
-        return jwtTokenProvider.createToken(user.getId());
+        return jwtTokenProvider.createToken(user.getId(), user.getNickname());
     }
 }
@@ -4,6 +4,7 @@ import goorm.ddok.global.dto.LocationDto;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.map.event.MapPinChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.domain.UserLocation;
 import goorm.ddok.member.dto.request.LocationUpdateRequest;
@@ -11,6 +12,7 @@ import goorm.ddok.member.dto.response.LocationResponse;
 import goorm.ddok.member.repository.UserLocationRepository;
 import goorm.ddok.member.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class UserLocationService {
 
     private final UserRepository userRepository;
     private final UserLocationRepository userLocationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LocationResponse updateLocation(LocationUpdateRequest req, CustomUserDetails me) {
         if (me == null || me.getUser() == null) throw new GlobalException(ErrorCode.UNAUTHORIZED);
@@ -56,6 +59,7 @@ public class UserLocationService {
                 .build();
 
         UserLocation saved = userLocationRepository.save(loc);
+        eventPublisher.publishEvent(MapPinChangedEvent.player(user.getId()));
 
         // 응답 address는 합성해서 내려줌
         String address = composeFullAddress(
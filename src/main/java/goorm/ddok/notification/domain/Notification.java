@@ -1,5 +1,6 @@
 package goorm.ddok.notification.domain;
 
+import goorm.ddok.global.persistence.IdSequences;
 import goorm.ddok.member.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -22,7 +23,8 @@ import java.time.Instant;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.NOTIFICATION)
+    @SequenceGenerator(name = IdSequences.NOTIFICATION, sequenceName = IdSequences.NOTIFICATION, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /** 알림 수신자 */
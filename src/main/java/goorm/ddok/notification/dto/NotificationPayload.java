@@ -33,4 +33,7 @@ public class NotificationPayload {
     private String achievementName;
     private String teamId;
     private String teamName;
+
+    /** type = UNREAD_COUNT 일 때 현재 미확인 알림 수 */
+    private Long unreadCount;
 }
@@ -0,0 +1,9 @@
+package goorm.ddok.notification.event;
+
+/**
+ * 안 읽은 알림이 읽음으로 바뀜 (미확인 카운터 감소용)
+ */
+public record NotificationReadEvent(
+        Long receiverUserId,
+        int count
+) {}
@@ -2,41 +2,24 @@ package goorm.ddok.notification.listener;
 
 import goorm.ddok.badge.domain.BadgeTier;
 import goorm.ddok.badge.domain.BadgeType;
-import goorm.ddok.member.domain.User;
-import goorm.ddok.notification.domain.Notification;
 import goorm.ddok.notification.domain.NotificationType;
 import goorm.ddok.notification.dto.NotificationPayload;
 import goorm.ddok.notification.event.BadgeAchievementEvent;
-import goorm.ddok.notification.repository.NotificationRepository;
-import goorm.ddok.notification.service.NotificationPushService;
-import goorm.ddok.notification.support.NotificationMessageHelper;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import goorm.ddok.notification.service.NotificationDraft;
+import goorm.ddok.notification.service.NotificationPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.Instant;
-
 @Component
 @RequiredArgsConstructor
 public class BadgeAchievementListener {
 
-    private final NotificationRepository notificationRepository;
-    private final NotificationPushService pushService;
-    private final NotificationMessageHelper messageHelper;
-
-    @PersistenceContext
-    private EntityManager em;
+    private final NotificationPipeline pipeline;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(BadgeAchievementEvent e) {
-        User receiver = em.getReference(User.class, e.userId());
-
         String badgeKo = toKoName(e.badgeType());
         String tierKo = e.newTier() != null ? toKoTier(e.newTier()) : null;
 
@@ -49,34 +32,30 @@ public class BadgeAchievementListener {
 
         String achievementName = (tierKo == null) ? badgeKo : (badgeKo + " - " + tierKo);
 
-        Notification noti = Notification.builder()
-                .receiver(receiver)
-                .type(NotificationType.ACHIEVEMENT)
-                .message(base)
-                .read(false)
-                .processed(false)
-                .createdAt(Instant.now())
-                .achievementName(achievementName)
-                .applicantUserId(e.userId())
-                .build();
-
-        noti = notificationRepository.save(noti);
-
-        var payload = NotificationPayload.builder()
-                .id(String.valueOf(noti.getId()))
-                .type(NotificationType.ACHIEVEMENT.name())
-                .message(base)
-                .IsRead(false)
-                .createdAt(noti.getCreatedAt())
-                .achievementName(achievementName)
-                .actorUserId(String.valueOf(e.userId()))
-                .actorNickname(receiver.getNickname())
-                .actorTemperature(null)
-                .userId(String.valueOf(e.userId()))
-                .userNickname(receiver.getNickname())
-                .build();
-
-        pushService.pushToUser(e.userId(), payload);
+        // 행위자 = 수신자 본인 (온도 접미사 없음)
+        pipeline.submit(NotificationDraft.builder()
+                .receiverUserId(e.userId())
+                .actorUserId(e.userId())
+                .temperatureSuffix(false)
+                .message(actor -> base)
+                .entity(b -> b
+                        .type(NotificationType.ACHIEVEMENT)
+                        .achievementName(achievementName)
+                        .applicantUserId(e.userId()))
+                .payload((noti, receiver) -> NotificationPayload.builder()
+                        .id(String.valueOf(noti.getId()))
+                        .type(NotificationType.ACHIEVEMENT.name())
+                        .message(noti.getMessage())
+                        .IsRead(false)
+                        .createdAt(noti.getCreatedAt())
+                        .achievementName(achievementName)
+                        .actorUserId(String.valueOf(e.userId()))
+                        .actorNickname(receiver.nickname())
+                        .actorTemperature(null)
+                        .userId(String.valueOf(e.userId()))
+                        .userNickname(receiver.nickname())
+                        .build())
+                .build());
     }
 
     private String toKoName(BadgeType type) {
@@ -1,78 +1,48 @@
 package goorm.ddok.notification.listener;
 
-import goorm.ddok.member.domain.User;
-import goorm.ddok.notification.domain.Notification;
 import goorm.ddok.notification.domain.NotificationType;
 import goorm.ddok.notification.dto.NotificationPayload;
 import goorm.ddok.notification.event.DmRequestDecisionEvent;
-import goorm.ddok.notification.repository.NotificationRepository;
-import goorm.ddok.notification.service.NotificationPushService;
-import goorm.ddok.notification.support.NotificationMessageHelper;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import goorm.ddok.notification.service.NotificationDraft;
+import goorm.ddok.notification.service.NotificationPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.Instant;
-
 @Component
 @RequiredArgsConstructor
 public class DmRequestDecisionListener {
 
-    private final NotificationRepository notificationRepository;
-    private final NotificationPushService pushService;
-    private final NotificationMessageHelper messageHelper;
-
-    @PersistenceContext
-    private EntityManager em;
+    private final NotificationPipeline pipeline;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(DmRequestDecisionEvent e) {
-        try {
-            User requester = em.getReference(User.class, e.getRequesterUserId());
-            User approver  = em.getReference(User.class, e.getApproverUserId());
-
-            boolean accepted = "accept".equalsIgnoreCase(e.getDecision());
-            NotificationType type = accepted ? NotificationType.DM_APPROVED : NotificationType.DM_REJECTED;
-
-            String base = approver.getNickname() + (accepted ? "님이 DM 요청을 수락했습니다." : "님이 DM 요청을 거절했습니다.");
-            String msg  = messageHelper.withTemperatureSuffix(e.getApproverUserId(), base);
-
-            Notification noti = notificationRepository.save(
-                    Notification.builder()
-                            .receiver(requester)
-                            .type(type)
-                            .message(msg)
-                            .read(false)
-                            .processed(false)
-                            .applicantUserId(e.getRequesterUserId())
-                            .requesterUserId(e.getApproverUserId())
-                            .createdAt(Instant.now())
-                            .build()
-            );
-
-            NotificationPayload payload = NotificationPayload.builder()
-                    .id(String.valueOf(noti.getId()))
-                    .type(noti.getType().name())
-                    .message(msg)
-                    .IsRead(false)
-                    .createdAt(noti.getCreatedAt())
-                    .IsProcessed(false)
-                    .actorUserId(String.valueOf(e.getApproverUserId()))
-                    .actorNickname(approver.getNickname())
-                    .actorTemperature(approver.getReputation() != null ? approver.getReputation().getTemperature() : null)
-                    .userId(String.valueOf(e.getApproverUserId()))
-                    .userNickname(approver.getNickname())
-                    .build();
-
-            pushService.pushToUser(e.getRequesterUserId(), payload);
-        } catch (Exception ex) {
-            // log.error("DM decision listener failed", ex);
-        }
+        boolean accepted = "accept".equalsIgnoreCase(e.getDecision());
+        NotificationType type = accepted ? NotificationType.DM_APPROVED : NotificationType.DM_REJECTED;
+
+        pipeline.submit(NotificationDraft.builder()
+                .receiverUserId(e.getRequesterUserId())
+                .actorUserId(e.getApproverUserId())
+                .temperatureSuffix(true)
+                .message(approver -> approver.nickname() + (accepted ? "님이 DM 요청을 수락했습니다." : "님이 DM 요청을 거절했습니다."))
+                .entity(b -> b
+                        .type(type)
+                        .applicantUserId(e.getRequesterUserId())
+                        .requesterUserId(e.getApproverUserId()))
+                .payload((noti, approver) -> NotificationPayload.builder()
+                        .id(String.valueOf(noti.getId()))
+                        .type(noti.getType().name())
+                        .message(noti.getMessage())
+                        .IsRead(false)
+                        .createdAt(noti.getCreatedAt())
+                        .IsProcessed(false)
+                        .actorUserId(String.valueOf(e.getApproverUserId()))
+                        .actorNickname(approver.nickname())
+                        .actorTemperature(approver.temperature())
+                        .userId(String.valueOf(e.getApproverUserId()))
+                        .userNickname(approver.nickname())
+                        .build())
+                .build());
     }
 }
@@ -1,80 +1,53 @@
 package goorm.ddok.notification.listener;
 
-import goorm.ddok.member.domain.User;
-import goorm.ddok.notification.domain.Notification;
 import goorm.ddok.notification.domain.NotificationType;
 import goorm.ddok.notification.dto.NotificationPayload;
 import goorm.ddok.notification.event.StudyJoinRequestedEvent;
-import goorm.ddok.notification.repository.NotificationRepository;
-import goorm.ddok.notification.service.NotificationPushService;
-import goorm.ddok.notification.support.NotificationMessageHelper; // ★ 추가
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import goorm.ddok.notification.service.NotificationDraft;
+import goorm.ddok.notification.service.NotificationPipeline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.Instant;
-
 @Component
 @RequiredArgsConstructor
 public class StudyJoinRequestedListener {
 
-    private final NotificationRepository notificationRepository;
-    private final NotificationPushService pushService;
-    private final NotificationMessageHelper messageHelper;
-
-    @PersistenceContext private EntityManager em;
+    private final NotificationPipeline pipeline;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(StudyJoinRequestedEvent e) {
-        User ownerRef = em.getReference(User.class, e.getOwnerUserId());
-
-        User applicantRef = em.getReference(User.class, e.getApplicantUserId());
-        String actorNick = (e.getApplicantNickname() != null) ? e.getApplicantNickname() : applicantRef.getNickname();
-        var actorTemp = (applicantRef.getReputation() != null)
-                ? applicantRef.getReputation().getTemperature()
-                : null;
-
-        String base = "당신의 \"" + e.getStudyTitle() + "\" 스터디에 "
-                + e.getApplicantNickname() + "님이 참여 승인 요청을 보냈습니다.";
-        String msg  = messageHelper.withTemperatureSuffix(e.getApplicantUserId(), base); // ★ 신청자 온도 포함
-
-        Notification noti = Notification.builder()
-                .receiver(ownerRef)
-                .type(NotificationType.STUDY_JOIN_REQUEST)
-                .message(msg)
-                .read(false)
-                .processed(false)
-                .studyId(e.getStudyId())
-                .studyTitle(e.getStudyTitle())
-                .applicantUserId(e.getApplicantUserId())
-                .createdAt(Instant.now())
-                .build();
-
-        noti = notificationRepository.save(noti);
-
-        var payload = NotificationPayload.builder()
-                .id(String.valueOf(noti.getId()))
-                .type("STUDY_JOIN_REQUEST")
-                .message(msg)
-                .IsRead(false)
-                .IsProcessed(false)
-                .processedAt(null)
-                .createdAt(noti.getCreatedAt())
-                .projectId(String.valueOf(e.getStudyId()))
-                .projectTitle(e.getStudyTitle())
-                .actorUserId(String.valueOf(e.getApplicantUserId()))
-                .actorNickname(actorNick)
-                .actorTemperature(actorTemp)
-                .userId(String.valueOf(e.getApplicantUserId()))
-                .userNickname(actorNick)
-                .build();
-
-        pushService.pushToUser(e.getOwnerUserId(), payload);
+        pipeline.submit(NotificationDraft.builder()
+                .receiverUserId(e.getOwnerUserId())
+                .actorUserId(e.getApplicantUserId())
+                .temperatureSuffix(true) // ★ 신청자 온도 포함
+                .message(actor -> "당신의 \"" + e.getStudyTitle() + "\" 스터디에 "
+                        + e.getApplicantNickname() + "님이 참여 승인 요청을 보냈습니다.")
+                .entity(b -> b
+                        .type(NotificationType.STUDY_JOIN_REQUEST)
+                        .studyId(e.getStudyId())
+                        .studyTitle(e.getStudyTitle())
+                        .applicantUserId(e.getApplicantUserId()))
+                .payload((noti, actor) -> {
+                    String actorNick = (e.getApplicantNickname() != null) ? e.getApplicantNickname() : actor.nickname();
+                    return NotificationPayload.builder()
+                            .id(String.valueOf(noti.getId()))
+                            .type("STUDY_JOIN_REQUEST")
+                            .message(noti.getMessage())
+                            .IsRead(false)
+                            .IsProcessed(false)
+                            .processedAt(null)
+                            .createdAt(noti.getCreatedAt())
+                            .projectId(String.valueOf(e.getStudyId()))
+                            .projectTitle(e.getStudyTitle())
+                            .actorUserId(String.valueOf(e.getApplicantUserId()))
+                            .actorNickname(actorNick)
+                            .actorTemperature(actor.temperature())
+                            .userId(String.valueOf(e.getApplicantUserId()))
+                            .userNickname(actorNick)
+                            .build();
+                })
+                .build());
     }
 }
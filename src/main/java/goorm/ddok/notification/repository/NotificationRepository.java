@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -23,6 +25,21 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     long countByReceiver_IdAndReadFalse(Long receiverId);
 
+    interface UnreadCountRow {
+        Long getReceiverId();
+        long getUnread();
+    }
+
+    /** 여러 수신자의 미확인 수 (0 인 수신자는 결과에 없음) */
+    @Query("""
+      select n.receiver.id as receiverId, count(n) as unread
+        from Notification n
+       where n.receiver.id in :receiverIds
+         and n.read = false
+       group by n.receiver.id
+    """)
+    List<UnreadCountRow> countUnreadByReceiverIds(@Param("receiverIds") Collection<Long> receiverIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
       update Notification n
@@ -10,6 +10,7 @@ import goorm.ddok.member.domain.User;
 import goorm.ddok.member.repository.UserRepository;
 import goorm.ddok.notification.domain.Notification;
 import goorm.ddok.notification.domain.NotificationType;
+import goorm.ddok.notification.event.NotificationReadEvent;
 import goorm.ddok.notification.repository.NotificationRepository;
 import goorm.ddok.project.domain.ProjectApplication;
 import goorm.ddok.project.repository.ProjectApplicationRepository;
@@ -94,10 +95,12 @@ public class NotificationActionService {
             throw new GlobalException(ErrorCode.INVALID_NOTIFICATION_ACTION);
         }
 
+        boolean wasUnread = !Boolean.TRUE.equals(n.getRead());
         n.setProcessed(true);
         n.setProcessedAt(Instant.now());
         n.setRead(true);
         notificationRepository.save(n);
+        if (wasUnread) eventPublisher.publishEvent(new NotificationReadEvent(n.getReceiver().getId(), 1));
     }
 
     private Long resolveTeamId(Notification n, TeamType type, Long recruitmentId) {
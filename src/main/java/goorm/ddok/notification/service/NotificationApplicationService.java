@@ -4,6 +4,7 @@ import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.notification.dto.NotificationPayload;
 import goorm.ddok.notification.event.DmRequestDecisionEvent;
+import goorm.ddok.notification.event.NotificationReadEvent;
 import goorm.ddok.notification.event.ProjectJoinRequestDecisionEvent;
 import goorm.ddok.notification.event.StudyJoinRequestDecisionEvent;
 import goorm.ddok.notification.repository.NotificationRepository;
@@ -68,10 +69,12 @@ public class NotificationApplicationService {
         }
 
         // 처리 상태 업데이트
+        boolean wasUnread = !Boolean.TRUE.equals(noti.getRead());
         noti.setProcessed(true);
         noti.setProcessedAt(Instant.now());
         noti.setRead(true); // 액션과 동시에 읽음 처리하는 정책
         notificationRepository.save(noti);
+        if (wasUnread) eventPublisher.publishEvent(new NotificationReadEvent(me, 1));
 
         pushService.pushToUser(me, NotificationPayload.builder()
                 .id(String.valueOf(noti.getId()))
@@ -0,0 +1,30 @@
+package goorm.ddok.notification.service;
+
+import goorm.ddok.notification.domain.Notification;
+import goorm.ddok.notification.dto.NotificationPayload;
+import goorm.ddok.notification.support.NotificationActorCache.Actor;
+import lombok.Builder;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 알림 파이프라인에 넘기는 알림 1건 (저장/푸시 전 상태)
+ *
+ * @param receiverUserId    수신자
+ * @param actorUserId       행위자 (닉네임/온도 보강 대상, 없으면 null)
+ * @param temperatureSuffix 본문 끝에 행위자 온도를 붙일지
+ * @param message           행위자 정보로 본문 구성
+ * @param entity            수신자/본문/읽음/생성시각 외 컬럼 채우기 (type, 대상 id 등)
+ * @param payload           저장된 알림 + 행위자로 WebSocket 페이로드 구성
+ */
+@Builder
+public record NotificationDraft(
+        Long receiverUserId,
+        Long actorUserId,
+        boolean temperatureSuffix,
+        Function<Actor, String> message,
+        Consumer<Notification.NotificationBuilder> entity,
+        BiFunction<Notification, Actor, NotificationPayload> payload
+) {}
@@ -0,0 +1,354 @@
+package goorm.ddok.notification.service;
+
+import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.notification.domain.Notification;
+import goorm.ddok.notification.dto.NotificationPayload;
+import goorm.ddok.notification.repository.NotificationRepository;
+import goorm.ddok.notification.support.NotificationActorCache;
+import goorm.ddok.notification.support.NotificationActorCache.Actor;
+import goorm.ddok.notification.support.NotificationMessageHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 알림 fan-out 파이프라인
+ *
+ * - 리스너는 커밋 이후 초안(NotificationDraft)만 큐에 넣고 바로 반환한다 (요청 스레드에서 저장/푸시 안 함)
+ * - 전용 스레드가 초안을 모아서(batch-size / flush-interval-ms) 한 번에 처리
+ *   · 행위자 닉네임/온도: NotificationActorCache 로 배치당 최대 쿼리 1번
+ *   · 저장: 트랜잭션 1개에 saveAll (notification_seq 풀링 + JDBC 배치)
+ *   · 커밋 직전 미확인 카운터 증가, 커밋 이후 수신자별 STOMP 푸시 + 미확인 수 푸시
+ * - 큐가 가득 차면 호출 스레드에서 바로 처리(backpressure), 비활성이면 항상 호출 스레드에서 처리
+ * - 기본 비활성 (app.notification.pipeline.enabled=true 일 때만 사용): 큐는 메모리에만 있어서
+ *   프로세스가 비정상 종료되면 이미 커밋된 승인/거절 등의 알림이 유실될 수 있다
+ * - 배치 저장이 실패하면 건별로 다시 저장해 문제 있는 알림만 버린다
+ */
+@Slf4j
+@Service
+public class NotificationPipeline {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final NotificationActorCache actorCache;
+    private final NotificationMessageHelper messageHelper;
+    private final NotificationPushService pushService;
+    private final NotificationUnreadCounter unreadCounter;
+    /** AFTER_COMMIT 콜백에서도 호출되므로 항상 새 트랜잭션 */
+    private final TransactionTemplate txNew;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<Pending> queue;
+
+    private final Counter queuedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter persistedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public NotificationPipeline(
+            NotificationRepository notificationRepository,
+            UserRepository userRepository,
+            NotificationActorCache actorCache,
+            NotificationMessageHelper messageHelper,
+            NotificationPushService pushService,
+            NotificationUnreadCounter unreadCounter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.pipeline.enabled:false}") boolean enabled,
+            @Value("${app.notification.pipeline.batch-size:100}") int batchSize,
+            @Value("${app.notification.pipeline.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${app.notification.pipeline.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.actorCache = actorCache;
+        this.messageHelper = messageHelper;
+        this.pushService = pushService;
+        this.unreadCounter = unreadCounter;
+        this.txNew = new TransactionTemplate(transactionManager);
+        this.txNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        this.queuedCounter = Counter.builder("notification.pipeline")
+                .tag("result", "queued")
+                .register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("notification.pipeline")
+                .tag("result", "caller_runs")
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("notification.pipeline")
+                .tag("result", "persisted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.pipeline")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("notification.pipeline.flush")
+                .register(meterRegistry);
+        Gauge.builder("notification.pipeline.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("notification.pipeline.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) return;
+        running = true;
+        worker = new Thread(this::loop, "notification-pipeline");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Notification pipeline enabled: batchSize={}, flushIntervalMs={}", batchSize, flushIntervalMs);
+    }
+
+    public void submit(NotificationDraft draft) {
+        submitAll(List.of(draft));
+    }
+
+    public void submitAll(List<NotificationDraft> drafts) {
+        if (drafts == null || drafts.isEmpty()) return;
+        Instant now = Instant.now();
+
+        List<Pending> overflow = new ArrayList<>();
+        for (NotificationDraft draft : drafts) {
+            Pending pending = new Pending(draft, now);
+            if (running && queue.offer(pending)) queuedCounter.increment();
+            else overflow.add(pending);
+        }
+        if (overflow.isEmpty()) return;
+
+        if (running) log.warn("Notification queue full, processing {} on caller thread", overflow.size());
+        callerRunsCounter.increment(overflow.size());
+        process(overflow);
+    }
+
+    /**
+     * 종료 시 남은 알림 처리
+     * - 워커가 처리 중인 배치와 겹치지 않도록 워커가 끝날 때까지 기다린 뒤 큐를 비운다
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!running) return;
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            boolean interrupted = false;
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            process(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+        }
+    }
+
+    /* ---------- 처리 ---------- */
+
+    private void loop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.currentTimeMillis();
+                    if (wait <= 0) break;
+                    Pending next = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    process(batch);
+                    return;
+                }
+            }
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void process(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        flushTimer.record(() -> {
+            List<Prepared> prepared = prepare(batch);
+            if (prepared.isEmpty()) return;
+
+            List<Saved> saved;
+            try {
+                saved = List.of(save(prepared));
+            } catch (Exception e) {
+                if (prepared.size() == 1) {
+                    failedCounter.increment();
+                    log.error("Notification save failed: receiverId={}", prepared.get(0).receiverUserId(), e);
+                    return;
+                }
+                log.warn("Notification batch save failed, retrying one by one: size={}", prepared.size(), e);
+                saved = saveEach(prepared);
+            }
+            for (Saved s : saved) {
+                persistedCounter.increment(s.rows().size());
+                s.rows().forEach(this::push);
+                pushUnread(s.unread());
+            }
+        });
+    }
+
+    /** 행위자 일괄 조회 후 본문/엔티티 구성 (트랜잭션 밖) */
+    private List<Prepared> prepare(List<Pending> batch) {
+        Set<Long> actorIds = new HashSet<>();
+        for (Pending p : batch) {
+            if (p.draft().actorUserId() != null) actorIds.add(p.draft().actorUserId());
+        }
+
+        Map<Long, Actor> actors;
+        try {
+            actors = actorCache.getAll(actorIds);
+        } catch (Exception e) {
+            log.warn("Notification actor lookup failed, sending without enrichment", e);
+            actors = Map.of();
+        }
+
+        List<Prepared> prepared = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            NotificationDraft d = p.draft();
+            try {
+                Actor actor = actors.getOrDefault(d.actorUserId(), new Actor(d.actorUserId(), null, null));
+                String base = d.message().apply(actor);
+                String msg = d.temperatureSuffix()
+                        ? messageHelper.withTemperatureSuffix(actor.temperature(), base)
+                        : base;
+
+                Notification.NotificationBuilder builder = Notification.builder()
+                        .message(msg)
+                        .read(false)
+                        .processed(false)
+                        .createdAt(p.createdAt());
+                d.entity().accept(builder);
+                prepared.add(new Prepared(d, actor, builder));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Notification draft rejected: receiverId={}", d.receiverUserId(), e);
+            }
+        }
+        return prepared;
+    }
+
+    private Saved save(List<Prepared> prepared) {
+        Map<Long, Integer> byReceiver = new HashMap<>();
+        for (Prepared p : prepared) byReceiver.merge(p.receiverUserId(), 1, Integer::sum);
+
+        AtomicReference<Map<Long, Long>> unread = new AtomicReference<>(Map.of());
+        try {
+            List<Prepared> rows = saveInTx(prepared, byReceiver, unread);
+            return new Saved(rows, unread.get());
+        } catch (RuntimeException e) {
+            unreadCounter.onRolledBack(unread.get());
+            throw e;
+        }
+    }
+
+    private List<Prepared> saveInTx(List<Prepared> prepared, Map<Long, Integer> byReceiver,
+                                    AtomicReference<Map<Long, Long>> unread) {
+        return txNew.execute(status -> {
+            List<Notification> entities = new ArrayList<>(prepared.size());
+            for (Prepared p : prepared) {
+                entities.add(p.builder()
+                        .receiver(userRepository.getReferenceById(p.receiverUserId()))
+                        .build());
+            }
+            List<Notification> saved = notificationRepository.saveAll(entities);
+
+            List<Prepared> result = new ArrayList<>(prepared.size());
+            for (int i = 0; i < prepared.size(); i++) result.add(prepared.get(i).withSaved(saved.get(i)));
+
+            // 커밋 직전 (커밋 이후에 올리면 그 사이 DB 로 채운 값과 이중 집계)
+            unread.set(unreadCounter.addBeforeCommit(byReceiver));
+            return result;
+        });
+    }
+
+    private List<Saved> saveEach(List<Prepared> prepared) {
+        List<Saved> result = new ArrayList<>(prepared.size());
+        for (Prepared p : prepared) {
+            try {
+                result.add(save(List.of(p)));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Notification save failed: receiverId={}", p.receiverUserId(), e);
+            }
+        }
+        return result;
+    }
+
+    private void push(Prepared p) {
+        try {
+            NotificationPayload payload = p.draft().payload().apply(p.saved(), p.actor());
+            pushService.pushToUser(p.receiverUserId(), payload);
+        } catch (Exception e) {
+            log.warn("Notification push failed: notificationId={}", p.saved().getId(), e);
+        }
+    }
+
+    /** 수신자별 새 미확인 수 푸시 */
+    private void pushUnread(Map<Long, Long> unread) {
+        try {
+            unreadCounter.onCommitted(unread);
+        } catch (Exception e) {
+            log.warn("Unread counter update failed: receivers={}", unread.keySet(), e);
+        }
+    }
+
+    private record Pending(NotificationDraft draft, Instant createdAt) {}
+
+    private record Saved(List<Prepared> rows, Map<Long, Long> unread) {}
+
+    private record Prepared(NotificationDraft draft, Actor actor, Notification.NotificationBuilder builder, Notification saved) {
+        Prepared(NotificationDraft draft, Actor actor, Notification.NotificationBuilder builder) {
+            this(draft, actor, builder, null);
+        }
+
+        Long receiverUserId() {
+            return draft.receiverUserId();
+        }
+
+        Prepared withSaved(Notification notification) {
+            return new Prepared(draft, actor, builder, notification);
+        }
+    }
+}
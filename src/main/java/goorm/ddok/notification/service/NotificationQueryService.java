@@ -7,8 +7,10 @@ import goorm.ddok.member.repository.UserRepository;
 import goorm.ddok.notification.domain.Notification;
 import goorm.ddok.notification.domain.NotificationType;
 import goorm.ddok.notification.dto.response.NotificationResponse;
+import goorm.ddok.notification.event.NotificationReadEvent;
 import goorm.ddok.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,8 @@ public class NotificationQueryService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> list(Long userId, Boolean isRead, String type, int page, int size) {
@@ -73,7 +77,7 @@ public class NotificationQueryService {
 
     @Transactional(readOnly = true)
     public long unreadCount(Long userId) {
-        return notificationRepository.countByReceiver_IdAndReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     @Transactional
@@ -87,6 +91,7 @@ public class NotificationQueryService {
         if (Boolean.FALSE.equals(n.getRead())) {
             n.markRead();
             notificationRepository.save(n);
+            eventPublisher.publishEvent(new NotificationReadEvent(userId, 1));
         }
     }
 
@@ -0,0 +1,254 @@
+package goorm.ddok.notification.service;
+
+import goorm.ddok.notification.dto.NotificationPayload;
+import goorm.ddok.notification.event.NotificationReadEvent;
+import goorm.ddok.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 사용자별 미확인 알림 수 (Redis 카운터)
+ *
+ * - noti:unread:{userId} 가 있으면 그 값을, 없으면 DB COUNT 로 채운 뒤 돌려준다
+ * - 알림 저장(파이프라인)은 +n, 읽음 처리는 -n 을 모두 해당 트랜잭션 커밋 직전에 반영
+ *   · 커밋 이후에 반영하면, 커밋~반영 사이에 DB 로 채운 값에 변경이 이미 들어 있어 두 번 반영된다
+ *   · 키가 없어 반영 못 한 사용자는 커밋 이후 키를 지우고 DB 에서 다시 채운다 (그 사이 채운 값 무효화)
+ *   · 롤백되면 미리 반영한 키를 지운다
+ * - 값이 바뀌면 /user/queue/notifications 로 UNREAD_COUNT 를 푸시 (클라이언트 폴링 대체)
+ * - 주기적으로 추적 중인 사용자 카운터를 DB 와 비교해 어긋난 키는 지운다 (다음 조회 때 다시 채움)
+ */
+@Slf4j
+@Service
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "noti:unread:";
+    /** 카운터가 있는 사용자 (SET, 정합성 점검 대상) */
+    private static final String TRACKED = "noti:unread:tracked";
+    private static final String UNREAD_COUNT_TYPE = "UNREAD_COUNT";
+
+    /** 키가 있을 때만 증감 (음수 방지), 없으면 -1 */
+    private static final DefaultRedisScript<Long> ADD_IF_EXISTS = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if v < 0 then
+              redis.call('SET', KEYS[1], 0)
+              v = 0
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return v
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushService pushService;
+    private final Duration ttl;
+    private final int reconcileBatchSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter driftCounter;
+
+    public NotificationUnreadCounter(
+            StringRedisTemplate redis,
+            NotificationRepository notificationRepository,
+            NotificationPushService pushService,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.unread.ttl-seconds:604800}") long ttlSeconds,
+            @Value("${app.notification.unread.reconcile-batch-size:500}") int reconcileBatchSize
+    ) {
+        this.redis = redis;
+        this.notificationRepository = notificationRepository;
+        this.pushService = pushService;
+        this.ttl = Duration.ofSeconds(Math.max(60, ttlSeconds));
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+        this.hitCounter = Counter.builder("notification.unread.counter")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("notification.unread.counter")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("notification.unread.counter.drift")
+                .register(meterRegistry);
+    }
+
+    /** 현재 미확인 수 (Redis 장애 시 DB COUNT) */
+    public long get(Long userId) {
+        try {
+            String cached = redis.opsForValue().get(key(userId));
+            if (cached != null) {
+                hitCounter.increment();
+                return Math.max(0L, Long.parseLong(cached));
+            }
+        } catch (Exception e) {
+            log.warn("Unread counter read failed: userId={}", userId, e);
+            return notificationRepository.countByReceiver_IdAndReadFalse(userId);
+        }
+        missCounter.increment();
+        return load(userId);
+    }
+
+    /**
+     * 트랜잭션 안, 커밋 직전에 호출 (사용자별 증감: 저장 +n, 읽음 -n)
+     * @return 사용자별 반영 후 값, 키가 없었거나 실패했으면 -1
+     */
+    public Map<Long, Long> addBeforeCommit(Map<Long, Integer> deltaByReceiver) {
+        Map<Long, Long> applied = new HashMap<>(deltaByReceiver.size() * 2);
+        deltaByReceiver.forEach((receiverId, n) -> {
+            long v = -1L;
+            try {
+                Long r = redis.execute(ADD_IF_EXISTS, List.of(key(receiverId)),
+                        String.valueOf(n), String.valueOf(ttl.toSeconds()));
+                if (r != null) v = r;
+            } catch (Exception e) {
+                log.warn("Unread counter pre-commit update failed: userId={}", receiverId, e);
+            }
+            applied.put(receiverId, v);
+        });
+        return applied;
+    }
+
+    /** 커밋 이후: 미리 반영한 값은 그대로 푸시, 못 한 사용자는 다시 채워서 푸시 */
+    public void onCommitted(Map<Long, Long> applied) {
+        applied.forEach((receiverId, v) -> {
+            if (v >= 0) {
+                push(receiverId, v);
+                return;
+            }
+            evictQuietly(receiverId);
+            long count;
+            try {
+                count = load(receiverId);
+            } catch (Exception e) {
+                log.warn("Unread counter reload failed: userId={}", receiverId, e);
+                return;
+            }
+            push(receiverId, count);
+        });
+    }
+
+    /** 롤백: 미리 반영한 키는 지워서 다음 조회 때 DB 로 채운다 */
+    public void onRolledBack(Map<Long, Long> applied) {
+        applied.forEach((receiverId, v) -> {
+            if (v >= 0) evictQuietly(receiverId);
+        });
+    }
+
+    /** 읽음 처리: 저장과 같이 커밋 직전에 -n, 커밋/롤백 이후 처리는 onCommitted/onRolledBack */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(NotificationReadEvent e) {
+        if (e.receiverUserId() == null || e.count() <= 0) return;
+        Map<Long, Long> applied = addBeforeCommit(Map.of(e.receiverUserId(), -e.count()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖 발행 (이미 반영된 상태)
+            onCommitted(applied);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) onCommitted(applied);
+                else onRolledBack(applied);
+            }
+        });
+    }
+
+    /** 추적 중인 카운터를 DB 와 비교해 어긋난 키 제거 */
+    @Scheduled(fixedDelayString = "${app.notification.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(reconcileBatchSize);
+        try (Cursor<String> cursor = redis.opsForSet().scan(TRACKED, ScanOptions.scanOptions().count(reconcileBatchSize).build())) {
+            while (cursor.hasNext()) {
+                userIds.add(Long.valueOf(cursor.next()));
+                if (userIds.size() >= reconcileBatchSize) {
+                    reconcileBatch(userIds);
+                    userIds.clear();
+                }
+            }
+            if (!userIds.isEmpty()) reconcileBatch(userIds);
+        } catch (Exception e) {
+            log.warn("Unread counter reconcile failed", e);
+        }
+    }
+
+    /* ---------- 내부 ---------- */
+
+    /** DB COUNT 로 채움 (이미 다른 곳에서 채웠으면 그 값 유지) */
+    private long load(Long userId) {
+        long count = notificationRepository.countByReceiver_IdAndReadFalse(userId);
+        try {
+            redis.opsForValue().setIfAbsent(key(userId), String.valueOf(count), ttl);
+            redis.opsForSet().add(TRACKED, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("Unread counter fill failed: userId={}", userId, e);
+        }
+        return count;
+    }
+
+    private void reconcileBatch(List<Long> userIds) {
+        List<String> keys = userIds.stream().map(NotificationUnreadCounter::key).toList();
+        List<String> cached = redis.opsForValue().multiGet(keys);
+
+        Map<Long, Long> actual = new HashMap<>();
+        for (NotificationRepository.UnreadCountRow row : notificationRepository.countUnreadByReceiverIds(userIds)) {
+            actual.put(row.getReceiverId(), row.getUnread());
+        }
+
+        List<String> drifted = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            String value = (cached == null) ? null : cached.get(i);
+            if (value == null) {
+                expired.add(String.valueOf(userId));
+            } else if (Long.parseLong(value) != actual.getOrDefault(userId, 0L)) {
+                drifted.add(keys.get(i));
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            redis.delete(drifted);
+            driftCounter.increment(drifted.size());
+            log.info("Unread counters drifted: {} of {}", drifted.size(), userIds.size());
+        }
+        if (!expired.isEmpty()) redis.opsForSet().remove(TRACKED, expired.toArray());
+    }
+
+    private void push(Long userId, long count) {
+        try {
+            pushService.pushToUser(userId, NotificationPayload.builder()
+                    .type(UNREAD_COUNT_TYPE)
+                    .unreadCount(count)
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Unread count push failed: userId={}", userId, e);
+        }
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            redis.delete(key(userId));
+        } catch (Exception ignore) {
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
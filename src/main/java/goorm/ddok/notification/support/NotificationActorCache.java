@@ -0,0 +1,81 @@
+package goorm.ddok.notification.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 행위자(닉네임 + 온도) 캐시
+ * - 알림 배치 하나에 등장하는 행위자를 쿼리 1번으로 읽는다 (User.reputation lazy 로딩 + 온도 단건 조회 대체)
+ * - 짧은 TTL 로 보관하고, 온도가 바뀌면 커밋 이후 해당 사용자만 비운다
+ * - 크기는 Caffeine 으로 max-entries 까지 제한 (넘으면 오래 안 쓴 사용자부터 내보냄)
+ */
+@Component
+public class NotificationActorCache {
+
+    public record Actor(Long userId, String nickname, BigDecimal temperature) {}
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Actor> actors;
+    /** 무효화 세대: 조회 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public NotificationActorCache(
+            UserRepository userRepository,
+            @Value("${app.notification.actor-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${app.notification.actor-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.userRepository = userRepository;
+        this.actors = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /** 여러 명 일괄 (없는 사용자는 결과에서 빠진다) */
+    public Map<Long, Actor> getAll(Collection<Long> userIds) {
+        Map<Long, Actor> result = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) return result;
+
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : userIds) {
+            if (id == null) continue;
+            Actor cached = actors.getIfPresent(id);
+            if (cached != null) result.put(id, cached);
+            else missing.add(id);
+        }
+        if (missing.isEmpty()) return result;
+
+        long gen = generation.get();
+        List<Actor> loaded = userRepository.findActorRowsByIdIn(missing).stream()
+                .map(r -> new Actor(r.getId(), r.getNickname(), r.getTemperature()))
+                .toList();
+
+        boolean cacheable = generation.get() == gen;
+        for (Actor actor : loaded) {
+            result.put(actor.userId(), actor);
+            if (cacheable) actors.put(actor.userId(), actor);
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        generation.incrementAndGet();
+        if (userId != null) actors.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(TemperatureChangedEvent e) {
+        evict(e.userId());
+    }
+}
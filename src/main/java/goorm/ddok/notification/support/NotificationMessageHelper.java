@@ -18,7 +18,11 @@ public class NotificationMessageHelper {
         BigDecimal temp = reputationRepository.findByUser_Id(counterpartUserId)
                 .map(UserReputation::getTemperature)
                 .orElse(null);
+        return withTemperatureSuffix(temp, baseMessage);
+    }
 
+    /** 온도를 이미 알고 있을 때 (알림 파이프라인) */
+    public String withTemperatureSuffix(BigDecimal temp, String baseMessage) {
         if (temp == null) return baseMessage;
 
         BigDecimal oneDecimal = temp.setScale(1, RoundingMode.HALF_UP);
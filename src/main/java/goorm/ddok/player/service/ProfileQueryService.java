@@ -1,12 +1,9 @@
 package goorm.ddok.player.service;
 
 import goorm.ddok.badge.domain.BadgeTier;
-import goorm.ddok.badge.domain.BadgeTierRule;
 import goorm.ddok.badge.domain.BadgeType;
-import goorm.ddok.badge.repository.BadgeTierRuleRepository;
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.exception.ErrorCode;
@@ -32,10 +29,8 @@ public class ProfileQueryService {
 
     private final UserRepository userRepository;
     private final UserPortfolioRepository userPortfolioRepository;
-    private final BadgeTierRuleRepository badgeTierRuleRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
     public ProfileDetailResponse getProfile(Long targetUserId, Long loginUserId) {
         User user = userRepository.findById(targetUserId)
@@ -43,16 +38,9 @@ public class ProfileQueryService {
 
         boolean isMine = targetUserId.equals(loginUserId);
 
-        Long chatRoomId = null;
-        if (!isMine && loginUserId != null) {
-            chatRoomId = chatRoomService.findPrivateRoomId(loginUserId, targetUserId).orElse(null);
-        }
-
-        boolean dmPending = false;
-        if (!isMine && loginUserId != null) {
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(loginUserId, targetUserId);
-        }
+        ViewerRelationResolver.Relation relation = viewerRelationResolver.resolve(loginUserId, targetUserId);
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
 
         // 프로필 공개 여부 확인
@@ -158,12 +146,7 @@ public class ProfileQueryService {
         return user.getBadges().stream()
                 .filter(badge -> badge.getDeletedAt() == null && isGoodBadge(badge.getBadgeType()))
                 .map(badge -> {
-                    BadgeTier tier = badgeTierRuleRepository
-                            .findTopByBadgeTypeAndRequiredCntLessThanEqualOrderByRequiredCntDesc(
-                                    badge.getBadgeType(), badge.getTotalCnt()
-                            )
-                            .map(BadgeTierRule::getTier)
-                            .orElse(BadgeTier.bronze);
+                    BadgeTier tier = badgeService.resolveTier(badge.getBadgeType(), badge.getTotalCnt());
                     return BadgeDto.builder()
                             .type(badge.getBadgeType())
                             .tier(tier)
@@ -1,8 +1,7 @@
 package goorm.ddok.player.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.member.domain.User;
@@ -35,8 +34,7 @@ public class ProfileSearchService {
     private final UserRepository userRepository;
     private final UserReputationRepository userReputationRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
     @Transactional(readOnly = true)
     public Page<ProfileSearchResponse> searchPlayers(String keyword, int page, int size, Long currentUserId) {
@@ -70,8 +68,13 @@ public class ProfileSearchService {
                 .filter(Objects::nonNull)
                 .toList();
 
+        // 채팅방/DM 상태는 페이지 단위로 한 번에 조회
+        Map<Long, ViewerRelationResolver.Relation> relations =
+                viewerRelationResolver.resolveAll(currentUserId, userIds);
+
         List<ProfileSearchResponse> responses = sortedUsers.stream()
-                .map(u -> toResponse(u, currentUserId))
+                .map(u -> toResponse(u, currentUserId,
+                        relations.getOrDefault(u.getId(), ViewerRelationResolver.Relation.NONE)))
                 .toList();
 
         return new PageImpl<>(responses, pageable, userIdPage.getTotalElements());
@@ -79,7 +82,7 @@ public class ProfileSearchService {
 
 
     // 나머지 메서드들은 그대로 유지
-    private ProfileSearchResponse toResponse(User u, Long currentUserId) {
+    private ProfileSearchResponse toResponse(User u, Long currentUserId, ViewerRelationResolver.Relation relation) {
         // 기존 코드 그대로
         boolean isMine = Objects.equals(u.getId(), currentUserId);
         boolean isPublic = u.isPublic();
@@ -115,13 +118,8 @@ public class ProfileSearchService {
                         .count(abandon.getCount())
                         .build();
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-        if (!isMine && currentUserId != null) {
-            chatRoomId = chatRoomService.findPrivateRoomId(currentUserId, u.getId()).orElse(null);
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(currentUserId, u.getId());
-        }
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return ProfileSearchResponse.builder()
                 .userId(u.getId())
@@ -1,5 +1,7 @@
 package goorm.ddok.project.batch;
 
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.service.RecruitmentCardProjector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -25,6 +27,7 @@ public class ProjectStatusUpdateJobTrigger {
     private final JobLauncher jobLauncher;
     private final Job projectStatusUpdateJob;
     private final JobExplorer jobExplorer;
+    private final RecruitmentCardProjector recruitmentCardProjector;
 
     @EventListener(ApplicationReadyEvent.class)
     public void runOnceAtStartup() {
@@ -54,6 +57,9 @@ public class ProjectStatusUpdateJobTrigger {
 
             JobExecution exec = jobLauncher.run(projectStatusUpdateJob, params);
             log.info("Triggered {} (reason={}) execId={}", name, reason, exec.getId());
+
+            // JpaItemWriter 로 바뀐 상태를 목록 카드에도 반영
+            recruitmentCardProjector.syncStatuses(RecruitmentKind.PROJECT);
         } catch (Exception e) {
             log.error("Failed to run {}", name, e);
         }
@@ -5,6 +5,7 @@ import goorm.ddok.global.dto.PageResponse;
 import goorm.ddok.global.response.ApiResponseDto;
 import goorm.ddok.project.dto.response.ProjectListResponse;
 import goorm.ddok.project.service.ProjectListService;
+import goorm.ddok.recruitment.dto.response.RecruitmentFacetPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -265,4 +266,60 @@ public class ProjectListController {
                 ApiResponseDto.of(200, "프로젝트 리스트 검색이 성공했습니다.", PageResponse.of(result))
         );
     }
+
+    @Operation(
+            summary = "프로젝트 리스트 검색 (facet 포함)",
+            description = """
+                프로젝트 검색 결과와 필터별 건수(facets)를 한 번에 조회합니다.
+                - 파라미터는 /search 와 동일
+                - facets: 필터 이름 → (값 → 건수), 각 필터의 건수는 자기 자신을 제외한 나머지 조건 기준
+                - 검색 엔진(Elasticsearch)을 사용할 수 없으면 facets 없이 /search 와 같은 결과를 반환
+                """)
+    @ApiResponse(responseCode = "200", description = "프로젝트 리스트 검색 성공",
+            content = @Content(schema = @Schema(implementation = ApiResponseDto.class)))
+    @GetMapping("/search/facets")
+    public ResponseEntity<ApiResponseDto<RecruitmentFacetPageResponse<ProjectListResponse>>> searchWithFacets(
+            @Parameter(description = "검색어(제목 및 주소)", example = "구지라지,서울,강남구")
+            @RequestParam(required = false) String keyword,
+
+            @Parameter(description = "상태", example = "RECRUITING,ONGOING,CLOSED")
+            @RequestParam(required = false) String status,
+
+            @Parameter(description = "포지션명", example = "백엔드")
+            @RequestParam(required = false) String position,
+
+            @Parameter(description = "정원(이상)", example = "4")
+            @RequestParam(required = false) Integer capacity,
+
+            @Parameter(description = "모드(online|offline)", example = "offline,online")
+            @RequestParam(required = false) String mode,
+
+            @Parameter(description = "최소 연령", example = "20", name = "ageMin")
+            @RequestParam(name = "ageMin", required = false) Integer ageMin,
+
+            @Parameter(description = "최대 연령", example = "30", name = "ageMax")
+            @RequestParam(name = "ageMax", required = false) Integer ageMax,
+
+            @Parameter(description = "예상 개월 수(정확히 일치)", example = "3", name = "expectedMonth")
+            @RequestParam(name = "expectedMonth", required = false) Integer expectedMonth,
+
+            @Parameter(description = "시작일(이후)", example = "2025-09-10", name = "startDate")
+            @RequestParam(name = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+
+            @Parameter(description = "페이지(0-base)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "페이지 크기", example = "4")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        var result = projectListService.searchProjectsWithFacets(
+                keyword, status, position, capacity, mode,
+                ageMin, ageMax, expectedMonth, startDate,
+                page, size
+        );
+        return ResponseEntity.ok(
+                ApiResponseDto.of(200, "프로젝트 리스트 검색이 성공했습니다.", result)
+        );
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,7 @@ public interface ProjectRecruitmentPositionRepository extends JpaRepository<Proj
             "and p.positionName not in :names")
     int deleteAllByRecruitmentAndNameNotIn(@Param("recruitment") ProjectRecruitment recruitment,
                                            @Param("names") List<String> names);
+
+    /** 여러 모집글의 포지션 일괄 조회 (목록 카드 재적재용) */
+    List<ProjectRecruitmentPosition> findByProjectRecruitment_IdIn(Collection<Long> projectIds);
 }
@@ -63,6 +63,29 @@ public interface ProjectRecruitmentRepository extends JpaRepository<ProjectRecru
             @Param("neLng") BigDecimal neLng
     );
 
+    @Query("""
+        select
+          pr.id as id,
+          pr.title as title,
+          pr.teamStatus as teamStatus,
+          pr.bannerImageUrl as bannerImageUrl,
+          pr.region1depthName as region1depthName,
+          pr.region2depthName as region2depthName,
+          pr.region3depthName as region3depthName,
+          pr.roadName as roadName,
+          pr.mainBuildingNo as mainBuildingNo,
+          pr.subBuildingNo as subBuildingNo,
+          pr.zoneNo as zoneNo,
+          pr.latitude as latitude,
+          pr.longitude as longitude
+        from ProjectRecruitment pr
+        where pr.id = :id
+          and pr.deletedAt is null
+          and pr.latitude is not null
+          and pr.longitude is not null
+    """)
+    Optional<MapRow> findMapRowById(@Param("id") Long id);
+
     @Query("""
     select distinct
       pr.id                as id,
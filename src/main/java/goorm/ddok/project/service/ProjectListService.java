@@ -7,11 +7,22 @@ import goorm.ddok.project.domain.ProjectRecruitmentPosition;
 import goorm.ddok.project.domain.TeamStatus;
 import goorm.ddok.project.dto.response.ProjectListResponse;
 import goorm.ddok.project.repository.ProjectRecruitmentRepository;
+import goorm.ddok.recruitment.domain.RecruitmentCard;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.dto.response.RecruitmentFacetPageResponse;
+import goorm.ddok.recruitment.repository.RecruitmentCardRepository;
+import goorm.ddok.recruitment.search.RecruitmentSearchCriteria;
+import goorm.ddok.recruitment.search.RecruitmentSearchResult;
+import goorm.ddok.recruitment.search.RecruitmentSearchService;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,16 +34,27 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProjectListService {
 
     private final ProjectRecruitmentRepository projectRecruitmentRepository;
+    private final RecruitmentCardRepository recruitmentCardRepository;
+    private final ObjectProvider<RecruitmentSearchService> recruitmentSearchService;
+
+    /** 목록/검색을 recruitment_card 읽기 모델에서 조회 (false 면 원본 테이블 조회) */
+    @Value("${app.recruitment.card.enabled:true}")
+    private boolean cardEnabled;
 
     @Transactional(readOnly = true)
     public Page<ProjectListResponse> getProjects(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
+        if (cardEnabled) {
+            return recruitmentCardRepository.findByKind(RecruitmentKind.PROJECT, pageable).map(this::toResponse);
+        }
+
         Page<ProjectRecruitment> rows = projectRecruitmentRepository.findByDeletedAtIsNull(pageable);
 
         return rows.map(this::toResponse);
@@ -45,12 +67,68 @@ public class ProjectListService {
             int page, int size
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        if (cardEnabled) {
+            var cardSpec = buildCardSpec(keyword, statusCsv, positionLike, capacity, mode, ageMin, ageMax, expectedMonth, startDate);
+            return recruitmentCardRepository.findAll(cardSpec, pageable).map(this::toResponse);
+        }
+
         var spec = buildSpec(keyword, statusCsv, positionLike, capacity, mode, ageMin, ageMax, expectedMonth, startDate);
 
         Page<ProjectRecruitment> rows = projectRecruitmentRepository.findAll(spec, pageable);
         return rows.map(this::toResponse);
     }
 
+    /**
+     * 검색 + 필터별 facet 건수 (Elasticsearch 한 번 조회)
+     * - 검색 엔진이 꺼져 있거나 실패하면 기존 검색 결과만 반환 (facets = null)
+     */
+    @Transactional(readOnly = true)
+    public RecruitmentFacetPageResponse<ProjectListResponse> searchProjectsWithFacets(
+            String keyword, String statusCsv, String positionLike, Integer capacity, String mode,
+            Integer ageMin, Integer ageMax, Integer expectedMonth, LocalDate startDate,
+            int page, int size
+    ) {
+        RecruitmentSearchService engine = recruitmentSearchService.getIfAvailable();
+        if (engine != null) {
+            ProjectMode parsedMode = parseMode(mode);
+            var criteria = new RecruitmentSearchCriteria(
+                    RecruitmentKind.PROJECT,
+                    keyword,
+                    parseStatuses(statusCsv).stream().map(Enum::name).collect(Collectors.toSet()),
+                    positionLike,
+                    Set.of(),
+                    parsedMode == null ? Set.of() : Set.of(parsedMode.name()),
+                    (capacity != null && capacity > 0) ? capacity : null,
+                    ageMin, ageMax,
+                    (expectedMonth != null && expectedMonth > 0) ? expectedMonth : null,
+                    startDate
+            );
+            try {
+                RecruitmentSearchResult result = engine.search(criteria, PageRequest.of(page, size));
+                List<ProjectListResponse> items = loadCardsInOrder(result.ids()).stream().map(this::toResponse).toList();
+                return RecruitmentFacetPageResponse.of(
+                        new PageImpl<>(items, PageRequest.of(page, size), result.total()), result.facets());
+            } catch (Exception e) {
+                log.warn("Project search engine failed, falling back to DB search", e);
+            }
+        }
+
+        Page<ProjectListResponse> rows = searchProjects(keyword, statusCsv, positionLike, capacity, mode,
+                ageMin, ageMax, expectedMonth, startDate, page, size);
+        return RecruitmentFacetPageResponse.of(rows, null);
+    }
+
+    /** 검색 결과 id 순서대로 카드 조회 */
+    private List<RecruitmentCard> loadCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, RecruitmentCard> byId = new HashMap<>();
+        for (RecruitmentCard c : recruitmentCardRepository.findByKindAndRecruitmentIdIn(RecruitmentKind.PROJECT, ids)) {
+            byId.put(c.getRecruitmentId(), c);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     private Specification<ProjectRecruitment> buildSpec(
             String keyword, String statusCsv, String positionLike, Integer capacity, String mode,
             Integer ageMin, Integer ageMax, Integer expectedMonth, LocalDate startDate
@@ -156,6 +234,74 @@ public class ProjectListService {
         };
     }
 
+    /** buildSpec 과 같은 조건을 카드 단일 테이블 조건으로 (조인/distinct 없음) */
+    private Specification<RecruitmentCard> buildCardSpec(
+            String keyword, String statusCsv, String positionLike, Integer capacity, String mode,
+            Integer ageMin, Integer ageMax, Integer expectedMonth, LocalDate startDate
+    ) {
+        return (root, query, cb) -> {
+            List<Predicate> preds = new ArrayList<>();
+            preds.add(cb.equal(root.get("kind"), RecruitmentKind.PROJECT));
+
+            // 제목 + 주소 요소 + "시 구" 가 search_text 한 컬럼에 모여 있음 (trigram 인덱스)
+            if (keyword != null && !keyword.isBlank()) {
+                String kw = "%" + keyword.trim().toLowerCase() + "%";
+                preds.add(cb.like(cb.lower(root.get("searchText")), kw));
+            }
+
+            Set<TeamStatus> statuses = parseStatuses(statusCsv);
+            if (!statuses.isEmpty()) {
+                preds.add(root.get("teamStatus").in(statuses.stream().map(Enum::name).toList()));
+            }
+
+            // 포지션명은 positions_text 에 구분자로 이어져 있음
+            if (positionLike != null && !positionLike.isBlank()) {
+                String pv = "%" + positionLike.trim().toLowerCase() + "%";
+                preds.add(cb.like(cb.lower(root.get("positionsText")), pv));
+            }
+
+            if (capacity != null && capacity > 0) {
+                preds.add(cb.equal(root.get("capacity"), capacity));
+            }
+
+            ProjectMode parsedMode = parseMode(mode);
+            if (parsedMode != null) {
+                preds.add(cb.equal(root.get("mode"), parsedMode.name()));
+            }
+
+            if (ageMin != null || ageMax != null) {
+                Integer reqMin = ageMin;
+                Integer reqMax = ageMax;
+                if (reqMin != null && reqMax != null && reqMin > reqMax) {
+                    int tmp = reqMin; reqMin = reqMax; reqMax = tmp;
+                }
+
+                preds.add((reqMin != null && reqMax != null)
+                        ? cb.and(
+                        cb.or(cb.equal(root.get("ageMin"), 0), cb.lessThanOrEqualTo(root.get("ageMin"), reqMin)),
+                        cb.or(cb.equal(root.get("ageMax"), 0), cb.greaterThanOrEqualTo(root.get("ageMax"), reqMax))
+                )
+                        : (reqMin != null)
+                        ? cb.or(cb.equal(root.get("ageMax"), 0), cb.greaterThanOrEqualTo(root.get("ageMax"), reqMin))
+                        : cb.or(cb.equal(root.get("ageMin"), 0), cb.lessThanOrEqualTo(root.get("ageMin"), reqMax)));
+            }
+
+            if (expectedMonth != null && expectedMonth > 0) {
+                if (expectedMonth >= 5) {
+                    preds.add(cb.greaterThanOrEqualTo(root.get("expectedMonths"), 5));
+                } else {
+                    preds.add(cb.equal(root.get("expectedMonths"), expectedMonth));
+                }
+            }
+
+            if (startDate != null) {
+                preds.add(cb.greaterThanOrEqualTo(root.get("startDate"), startDate));
+            }
+
+            return cb.and(preds.toArray(new Predicate[0]));
+        };
+    }
+
     private Set<TeamStatus> parseStatuses(String csv) {
         if (csv == null || csv.isBlank()) return Collections.emptySet();
         return Arrays.stream(csv.split(","))
@@ -206,6 +352,27 @@ public class ProjectListService {
                 .build();
     }
 
+    /** 카드 → 응답 (포지션/주소는 이미 정리되어 저장됨) */
+    private ProjectListResponse toResponse(RecruitmentCard c) {
+        List<String> positions = c.getPositionsText() == null || c.getPositionsText().isEmpty()
+                ? List.of()
+                : List.of(c.getPositionsText().split(RecruitmentCard.SEPARATOR));
+
+        return ProjectListResponse.builder()
+                .projectId(c.getRecruitmentId())
+                .title(c.getTitle())
+                .teamStatus(c.getTeamStatus())
+                .bannerImageUrl(c.getBannerImageUrl())
+                .positions(positions)
+                .capacity(c.getCapacity())
+                .mode(ProjectMode.valueOf(c.getMode()))
+                .address(c.getAddress())
+                .preferredAges(PreferredAgesDto.of(c.getAgeMin(), c.getAgeMax()))
+                .expectedMonth(c.getExpectedMonths())
+                .startDate(c.getStartDate())
+                .build();
+    }
+
     private String shortAddress(String region1, String region2) {
         String r1 = region1 == null ? "" : region1.trim();
         String r2 = region2 == null ? "" : region2.trim();
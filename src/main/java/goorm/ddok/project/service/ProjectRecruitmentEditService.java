@@ -1,8 +1,7 @@
 package goorm.ddok.project.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.dto.LocationDto;
@@ -12,6 +11,8 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.file.FileService;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.global.util.BannerImageService;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.member.domain.UserPosition;
 import goorm.ddok.member.domain.UserPositionType;
@@ -27,6 +28,7 @@ import goorm.ddok.project.repository.ProjectApplicationRepository;
 import goorm.ddok.project.repository.ProjectParticipantRepository;
 import goorm.ddok.project.repository.ProjectRecruitmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -49,8 +51,8 @@ public class ProjectRecruitmentEditService {
     private final FileService fileService;
     private final BannerImageService bannerImageService;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /* =========================
@@ -268,6 +270,8 @@ public class ProjectRecruitmentEditService {
         syncLeaderPositionTo(pr, req.getLeaderPosition());
 
         ProjectRecruitment saved = recruitmentRepository.save(pr);
+        eventPublisher.publishEvent(MapPinChangedEvent.project(saved.getId()));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.project(saved.getId()));
 
         return buildUpdateResult(saved, me);
     }
@@ -549,13 +553,9 @@ public class ProjectRecruitmentEditService {
                     BadgeDto mainBadge = badgeService.getRepresentativeGoodBadge(u);
                     AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(u);
 
-                    Long chatRoomId = null;
-                    boolean dmPending = false;
-                    if (meId != null && !Objects.equals(meId, u.getId())) {
-                        chatRoomId = chatRoomService.findPrivateRoomId(meId, u.getId()).orElse(null);
-                        dmPending = (chatRoomId != null)
-                                || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, u.getId()); // ✅
-                    }
+                    ViewerRelationResolver.Relation relation = viewerRelationResolver.resolve(meId, u.getId());
+                    Long chatRoomId = relation.chatRoomId();
+                    boolean dmPending = relation.dmPending();
 
 
                     return ProjectUpdateResultResponse.ParticipantBlock.builder()
@@ -592,13 +592,10 @@ public class ProjectRecruitmentEditService {
         BadgeDto mainBadge = badgeService.getRepresentativeGoodBadge(u);
         AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(u);
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-        if (currentUser != null && !Objects.equals(currentUser.getId(), u.getId())) {
-            chatRoomId = chatRoomService.findPrivateRoomId(currentUser.getId(), u.getId()).orElse(null);
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(currentUser.getId(), u.getId()); // ✅
-        }
+        ViewerRelationResolver.Relation relation =
+                viewerRelationResolver.resolve(currentUser == null ? null : currentUser.getId(), u.getId());
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return ProjectUserSummaryDto.builder()
                 .userId(u.getId())
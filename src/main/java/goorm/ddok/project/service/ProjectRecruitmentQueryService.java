@@ -1,8 +1,7 @@
 package goorm.ddok.project.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.LocationDto;
 import goorm.ddok.global.dto.PreferredAgesDto;
 import goorm.ddok.global.dto.BadgeDto;
@@ -46,8 +45,7 @@ public class ProjectRecruitmentQueryService {
     private final UserReputationRepository userReputationRepository;
     private final TeamRepository teamRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
 
     /** 프로젝트 모집글 상세 조회 */
@@ -203,16 +201,10 @@ public class ProjectRecruitmentQueryService {
                 .findFirst()
                 .orElse(null);
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-
-        if (currentUser != null && !Objects.equals(currentUser.getId(), user.getId())) {
-            Long meId = currentUser.getId();
-            Long otherId = user.getId();
-
-            chatRoomId = chatRoomService.findPrivateRoomId(meId, otherId).orElse(null);
-            dmPending = (chatRoomId != null) || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, otherId);
-        }
+        ViewerRelationResolver.Relation relation =
+                viewerRelationResolver.resolve(currentUser == null ? null : currentUser.getId(), user.getId());
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return ProjectUserSummaryDto.builder()
                 .userId(user.getId())
@@ -7,6 +7,8 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.file.FileService;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.global.util.BannerImageService;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.notification.event.ProjectJoinRequestedEvent;
 import goorm.ddok.project.domain.*;
@@ -202,6 +204,9 @@ public class ProjectRecruitmentService {
                 .build();
         participantRepository.save(leader);
 
+        eventPublisher.publishEvent(MapPinChangedEvent.project(recruitment.getId()));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.project(recruitment.getId()));
+
         // 10) 응답 DTO: 주소는 합쳐서 내려주기(offline일 때만)
         LocationDto respLocation = null;
         if (recruitment.getProjectMode() == ProjectMode.offline) {
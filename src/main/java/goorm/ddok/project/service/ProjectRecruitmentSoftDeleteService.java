@@ -3,12 +3,15 @@ package goorm.ddok.project.service;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.project.domain.ProjectParticipant;
 import goorm.ddok.project.domain.ProjectRecruitment;
 import goorm.ddok.project.dto.request.ProjectDeleteRequest;
 import goorm.ddok.project.repository.ProjectParticipantRepository;
 import goorm.ddok.project.repository.ProjectRecruitmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,7 @@ public class ProjectRecruitmentSoftDeleteService {
 
     private final ProjectRecruitmentRepository recruitmentRepository;
     private final ProjectParticipantRepository participantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void softDelete(Long projectId, ProjectDeleteRequest req, CustomUserDetails me) {
         if (me == null || me.getUser() == null) throw new GlobalException(ErrorCode.UNAUTHORIZED);
@@ -60,5 +64,7 @@ public class ProjectRecruitmentSoftDeleteService {
             }
         }
 
+        eventPublisher.publishEvent(MapPinChangedEvent.project(projectId));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.project(projectId));
     }
 }
\ No newline at end of file
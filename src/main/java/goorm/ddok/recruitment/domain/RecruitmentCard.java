@@ -0,0 +1,101 @@
+package goorm.ddok.recruitment.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 프로젝트/스터디 목록 카드 (읽기 모델)
+ *
+ * - 모집글 생성/수정/삭제/상태 변경 시 RecruitmentCardProjector 가 같은 트랜잭션에서 갱신
+ * - 목록/검색은 이 테이블 한 곳만 조회 (포지션 지연 로딩, distinct 조인 없음)
+ * - positionsText / searchText 는 구분자(\u001F)로 이어 붙인 값 → like 한 번으로 요소별 매칭과 동일
+ */
+@Entity
+@Table(
+        name = "recruitment_card",
+        uniqueConstraints = @UniqueConstraint(name = "uk_recruitment_card_kind_id", columnNames = {"kind", "recruitment_id"}),
+        indexes = @Index(name = "idx_recruitment_card_kind_created", columnList = "kind, created_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RecruitmentCard {
+
+    public static final String SEPARATOR = "\u001F";
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RecruitmentKind kind;
+
+    /** project_recruitment.id / study_recruitment.id */
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    /** TeamStatus enum name */
+    @Column(name = "team_status", nullable = false, length = 20)
+    private String teamStatus;
+
+    @Column(name = "banner_image_url", length = 1024)
+    private String bannerImageUrl;
+
+    private Integer capacity;
+
+    /** online / offline */
+    @Column(nullable = false, length = 20)
+    private String mode;
+
+    /** 응답용 짧은 주소 ("online" / "시 구" / "-") */
+    @Column(nullable = false, length = 120)
+    private String address;
+
+    @Column(name = "region1depth_name", length = 50)
+    private String region1depthName;
+
+    @Column(name = "region2depth_name", length = 50)
+    private String region2depthName;
+
+    @Column(precision = 9, scale = 6)
+    private BigDecimal latitude;
+
+    @Column(precision = 9, scale = 6)
+    private BigDecimal longitude;
+
+    @Column(name = "age_min")
+    private Integer ageMin;
+
+    @Column(name = "age_max")
+    private Integer ageMax;
+
+    @Column(name = "expected_months")
+    private Integer expectedMonths;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    /** 스터디 유형 enum name (프로젝트는 null) */
+    @Column(name = "study_type", length = 30)
+    private String studyType;
+
+    /** 정렬·중복 제거된 포지션명 (구분자 연결, 스터디는 빈 문자열) */
+    @Column(name = "positions_text", nullable = false, columnDefinition = "TEXT")
+    private String positionsText;
+
+    /** 제목 + 주소 요소 + "시 구" (구분자 연결, 원문 대소문자 유지) */
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    /** 원본 모집글의 작성 시각 (정렬 기준) */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
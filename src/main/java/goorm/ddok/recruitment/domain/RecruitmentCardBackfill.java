@@ -0,0 +1,29 @@
+package goorm.ddok.recruitment.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 목록 카드 전체 적재 완료 표시 (모집 종류별 1행)
+ *
+ * - RecruitmentCardProjector 가 종류별 적재를 끝까지 마친 뒤에만 남긴다
+ * - 행이 없으면 다음 시작 때 그 종류를 다시 적재 (이미 있는 카드는 건너뜀)
+ */
+@Entity
+@Table(name = "recruitment_card_backfill")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecruitmentCardBackfill {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private RecruitmentKind kind;
+
+    @Column(name = "completed_at", nullable = false)
+    private Instant completedAt;
+}
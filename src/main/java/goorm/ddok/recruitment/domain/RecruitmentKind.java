@@ -0,0 +1,7 @@
+package goorm.ddok.recruitment.domain;
+
+/** 모집글 종류 */
+public enum RecruitmentKind {
+    PROJECT,
+    STUDY
+}
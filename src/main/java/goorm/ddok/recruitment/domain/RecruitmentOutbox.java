@@ -0,0 +1,35 @@
+package goorm.ddok.recruitment.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 모집글 검색 색인 outbox
+ *
+ * - 모집글 변경과 같은 트랜잭션에서 (kind, recruitmentId) 한 줄을 남긴다
+ * - RecruitmentIndexer 가 주기적으로 읽어 Elasticsearch 에 반영한 뒤 삭제
+ *   (ES 장애 시 행이 남아 있으므로 다음 주기에 재시도)
+ */
+@Entity
+@Table(name = "recruitment_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecruitmentOutbox {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RecruitmentKind kind;
+
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
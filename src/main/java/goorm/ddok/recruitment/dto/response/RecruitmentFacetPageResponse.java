@@ -0,0 +1,41 @@
+package goorm.ddok.recruitment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import goorm.ddok.global.dto.PageResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "facet 건수를 포함한 검색 페이지 응답 DTO")
+public class RecruitmentFacetPageResponse<T> {
+
+    @Schema(description = "페이지네이션 정보")
+    private PageResponse.Pagination pagination;
+
+    @Schema(description = "조회 데이터 목록")
+    private List<T> items;
+
+    @Schema(description = "필터별 값 → 건수 (검색 엔진을 사용할 수 없으면 null)",
+            example = "{\"teamStatus\":{\"RECRUITING\":12,\"ONGOING\":3},\"mode\":{\"online\":9,\"offline\":6}}")
+    private Map<String, Map<String, Long>> facets;
+
+    public static <T> RecruitmentFacetPageResponse<T> of(Page<T> page, Map<String, Map<String, Long>> facets) {
+        PageResponse<T> base = PageResponse.of(page);
+        return RecruitmentFacetPageResponse.<T>builder()
+                .pagination(base.getPagination())
+                .items(base.getItems())
+                .facets(facets)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package goorm.ddok.recruitment.event;
+
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+
+/**
+ * 모집글(프로젝트/스터디)이 생성/수정/삭제/상태 변경되었음을 알리는 이벤트
+ * - 커밋 직전 목록 카드(recruitment_card)를 같은 트랜잭션에서 갱신한다.
+ */
+public record RecruitmentChangedEvent(RecruitmentKind kind, Long id) {
+
+    public static RecruitmentChangedEvent project(Long projectId) {
+        return new RecruitmentChangedEvent(RecruitmentKind.PROJECT, projectId);
+    }
+
+    public static RecruitmentChangedEvent study(Long studyId) {
+        return new RecruitmentChangedEvent(RecruitmentKind.STUDY, studyId);
+    }
+}
@@ -0,0 +1,12 @@
+package goorm.ddok.recruitment.event;
+
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+
+import java.util.List;
+
+/**
+ * 상태 변경 배치 이후 목록 카드의 모집 상태를 일괄 반영했음을 알리는 이벤트
+ * - 개별 RecruitmentChangedEvent 대신 바뀐 id 목록을 한 번에 전달한다.
+ */
+public record RecruitmentStatusSyncedEvent(RecruitmentKind kind, List<Long> ids) {
+}
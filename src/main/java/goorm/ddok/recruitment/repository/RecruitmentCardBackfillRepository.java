@@ -0,0 +1,8 @@
+package goorm.ddok.recruitment.repository;
+
+import goorm.ddok.recruitment.domain.RecruitmentCardBackfill;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RecruitmentCardBackfillRepository extends JpaRepository<RecruitmentCardBackfill, RecruitmentKind> {
+}
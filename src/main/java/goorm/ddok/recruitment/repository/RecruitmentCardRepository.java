@@ -0,0 +1,71 @@
+package goorm.ddok.recruitment.repository;
+
+import goorm.ddok.recruitment.domain.RecruitmentCard;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecruitmentCardRepository extends JpaRepository<RecruitmentCard, Long>, JpaSpecificationExecutor<RecruitmentCard> {
+
+    Optional<RecruitmentCard> findByKindAndRecruitmentId(RecruitmentKind kind, Long recruitmentId);
+
+    Page<RecruitmentCard> findByKind(RecruitmentKind kind, Pageable pageable);
+
+    long countByKind(RecruitmentKind kind);
+
+    List<RecruitmentCard> findByKindAndRecruitmentIdIn(RecruitmentKind kind, Collection<Long> recruitmentIds);
+
+    /** id 기준 keyset 순회 (검색 색인 전체 적재용) */
+    List<RecruitmentCard> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from RecruitmentCard c where c.kind = :kind and c.recruitmentId = :recruitmentId")
+    int deleteByKindAndRecruitmentId(@Param("kind") RecruitmentKind kind, @Param("recruitmentId") Long recruitmentId);
+
+    /** 원본과 모집 상태가 달라진 프로젝트 카드 */
+    @Query(value = """
+            select c.recruitment_id from recruitment_card c
+              join project_recruitment p on p.id = c.recruitment_id
+             where c.kind = 'PROJECT' and p.team_status <> c.team_status
+            """, nativeQuery = true)
+    List<Long> findProjectStatusDriftIds();
+
+    /** 원본과 모집 상태가 달라진 스터디 카드 */
+    @Query(value = """
+            select c.recruitment_id from recruitment_card c
+              join study_recruitment s on s.id = c.recruitment_id
+             where c.kind = 'STUDY' and s.team_status <> c.team_status
+            """, nativeQuery = true)
+    List<Long> findStudyStatusDriftIds();
+
+    /** 배치(JpaItemWriter)로 바뀐 프로젝트 모집 상태를 카드에 일괄 반영 */
+    @Modifying
+    @Query(value = """
+            update recruitment_card c
+               set team_status = (select p.team_status from project_recruitment p where p.id = c.recruitment_id)
+             where c.kind = 'PROJECT'
+               and exists (select 1 from project_recruitment p
+                            where p.id = c.recruitment_id and p.team_status <> c.team_status)
+            """, nativeQuery = true)
+    int syncProjectStatuses();
+
+    /** 배치(JpaItemWriter)로 바뀐 스터디 모집 상태를 카드에 일괄 반영 */
+    @Modifying
+    @Query(value = """
+            update recruitment_card c
+               set team_status = (select s.team_status from study_recruitment s where s.id = c.recruitment_id)
+             where c.kind = 'STUDY'
+               and exists (select 1 from study_recruitment s
+                            where s.id = c.recruitment_id and s.team_status <> c.team_status)
+            """, nativeQuery = true)
+    int syncStudyStatuses();
+}
@@ -0,0 +1,21 @@
+package goorm.ddok.recruitment.repository;
+
+import goorm.ddok.recruitment.domain.RecruitmentOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecruitmentOutboxRepository extends JpaRepository<RecruitmentOutbox, Long> {
+
+    @Query("select o from RecruitmentOutbox o order by o.id asc")
+    List<RecruitmentOutbox> findOldest(Pageable pageable);
+
+    @Modifying
+    @Query("delete from RecruitmentOutbox o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
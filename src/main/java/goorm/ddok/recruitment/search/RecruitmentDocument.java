@@ -0,0 +1,83 @@
+package goorm.ddok.recruitment.search;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(indexName = "recruitments", createIndex = false)
+public class RecruitmentDocument {
+
+    /** "{kind}-{recruitmentId}" (예: PROJECT-12) */
+    @Id
+    private String id;
+
+    /** PROJECT / STUDY */
+    @Field(type = FieldType.Keyword)
+    private String kind;
+
+    @Field(type = FieldType.Long)
+    private Long recruitmentId;
+
+    @Field(type = FieldType.Text)
+    private String title;
+
+    /** 제목 + 주소 요소 (recruitment_card.search_text 와 동일, 부분 문자열 검색용) */
+    @Field(type = FieldType.Wildcard)
+    private String searchText;
+
+    @Field(type = FieldType.Keyword)
+    private String region1;
+
+    @Field(type = FieldType.Keyword)
+    private String region2;
+
+    /** 모집 포지션 (facet) */
+    @Field(type = FieldType.Keyword)
+    private List<String> positions;
+
+    /** 포지션 부분 문자열 검색용 */
+    @Field(type = FieldType.Wildcard)
+    private String positionsText;
+
+    @Field(type = FieldType.Keyword)
+    private String mode;
+
+    @Field(type = FieldType.Keyword)
+    private String teamStatus;
+
+    @Field(type = FieldType.Keyword)
+    private String studyType;
+
+    @Field(type = FieldType.Integer)
+    private Integer capacity;
+
+    /** 연령 제한 (무관: 0) */
+    @Field(type = FieldType.Integer)
+    private Integer ageMin;
+
+    @Field(type = FieldType.Integer)
+    private Integer ageMax;
+
+    @Field(type = FieldType.Integer)
+    private Integer expectedMonths;
+
+    /** yyyy-MM-dd */
+    @Field(type = FieldType.Keyword)
+    private String startDate;
+
+    private GeoPoint location;
+
+    /** epoch millis (정렬) */
+    @Field(type = FieldType.Long)
+    private Long createdAt;
+}
@@ -0,0 +1,191 @@
+package goorm.ddok.recruitment.search;
+
+import goorm.ddok.recruitment.domain.RecruitmentCard;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.domain.RecruitmentOutbox;
+import goorm.ddok.recruitment.repository.RecruitmentCardRepository;
+import goorm.ddok.recruitment.repository.RecruitmentOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 모집글 검색 인덱스(recruitments) 관리
+ * - 인덱스가 없으면 생성 후 recruitment_card 전체 적재
+ *   · 적재를 끝까지 마치면 매핑 _meta 에 완료 표시를 남긴다
+ *   · 표시가 없으면(적재 도중 실패/재시작) 다음 시작 때 다시 적재 (문서 id 가 같아 덮어쓰기)
+ * - recruitment_outbox 를 주기적으로 읽어 카드 기준으로 upsert / 삭제 후 outbox 제거
+ *   (같은 모집글의 중복 이벤트는 한 번만 처리, ES 실패 시 outbox 를 남겨 다음 주기 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.recruitment.search.enabled", havingValue = "true")
+public class RecruitmentIndexer {
+
+    private static final int CHUNK = 500;
+    /** 매핑 _meta 의 전체 적재 완료 표시 */
+    static final String BACKFILL_COMPLETED = "backfillCompleted";
+
+    private final ElasticsearchOperations operations;
+    private final RecruitmentCardRepository recruitmentCardRepository;
+    private final RecruitmentOutboxRepository recruitmentOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.recruitment.search.outbox-batch-size:500}")
+    private int outboxBatchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            IndexOperations io = operations.indexOps(RecruitmentDocument.class);
+            if (io.exists()) {
+                if (isBackfillCompleted(io.getMapping())) return;
+                log.info("[RecruitmentSearch] previous backfill did not complete, indexing again");
+            } else {
+                io.create(Document.from(Map.of(
+                        "number_of_shards", 1,
+                        "number_of_replicas", 0
+                )));
+            }
+            io.putMapping(Document.from(Map.of(
+                    "properties", Map.ofEntries(
+                            Map.entry("kind", Map.of("type", "keyword")),
+                            Map.entry("recruitmentId", Map.of("type", "long")),
+                            Map.entry("title", Map.of("type", "text")),
+                            Map.entry("searchText", Map.of("type", "wildcard")),
+                            Map.entry("region1", Map.of("type", "keyword")),
+                            Map.entry("region2", Map.of("type", "keyword")),
+                            Map.entry("positions", Map.of("type", "keyword")),
+                            Map.entry("positionsText", Map.of("type", "wildcard")),
+                            Map.entry("mode", Map.of("type", "keyword")),
+                            Map.entry("teamStatus", Map.of("type", "keyword")),
+                            Map.entry("studyType", Map.of("type", "keyword")),
+                            Map.entry("capacity", Map.of("type", "integer")),
+                            Map.entry("ageMin", Map.of("type", "integer")),
+                            Map.entry("ageMax", Map.of("type", "integer")),
+                            Map.entry("expectedMonths", Map.of("type", "integer")),
+                            Map.entry("startDate", Map.of("type", "keyword")),
+                            Map.entry("location", Map.of("type", "geo_point")),
+                            Map.entry("createdAt", Map.of("type", "long"))
+                    )
+            )));
+            backfill();
+            io.putMapping(Document.from(Map.of("_meta", Map.of(BACKFILL_COMPLETED, true))));
+        } catch (Exception e) {
+            log.warn("[RecruitmentSearch] index init failed", e);
+        }
+    }
+
+    /** outbox → ES 반영 */
+    @Scheduled(fixedDelayString = "${app.recruitment.search.outbox-poll-ms:1000}")
+    public void relayOutbox() {
+        List<RecruitmentOutbox> entries = recruitmentOutboxRepository.findOldest(PageRequest.of(0, outboxBatchSize));
+        if (entries.isEmpty()) return;
+
+        Map<RecruitmentKind, Set<Long>> byKind = new EnumMap<>(RecruitmentKind.class);
+        for (RecruitmentOutbox o : entries) {
+            byKind.computeIfAbsent(o.getKind(), k -> new LinkedHashSet<>()).add(o.getRecruitmentId());
+        }
+
+        try {
+            List<RecruitmentDocument> upserts = new ArrayList<>();
+            List<String> deletes = new ArrayList<>();
+            byKind.forEach((kind, ids) -> {
+                Map<Long, RecruitmentCard> cards = new HashMap<>();
+                for (RecruitmentCard c : recruitmentCardRepository.findByKindAndRecruitmentIdIn(kind, ids)) {
+                    cards.put(c.getRecruitmentId(), c);
+                }
+                for (Long id : ids) {
+                    RecruitmentCard card = cards.get(id);
+                    if (card != null) upserts.add(toDocument(card));
+                    else deletes.add(documentId(kind, id));
+                }
+            });
+
+            if (!upserts.isEmpty()) operations.save(upserts);
+            for (String id : deletes) {
+                operations.delete(id, RecruitmentDocument.class);
+            }
+        } catch (Exception e) {
+            log.warn("[RecruitmentSearch] outbox relay failed: {} entries, retry next round", entries.size(), e);
+            return;
+        }
+
+        List<Long> done = entries.stream().map(RecruitmentOutbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> recruitmentOutboxRepository.deleteByIdIn(done));
+    }
+
+    /* ---------- 내부 ---------- */
+
+    static boolean isBackfillCompleted(Map<String, Object> mapping) {
+        return mapping != null
+                && mapping.get("_meta") instanceof Map<?, ?> meta
+                && Boolean.TRUE.equals(meta.get(BACKFILL_COMPLETED));
+    }
+
+    private void backfill() {
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            List<RecruitmentCard> cards =
+                    recruitmentCardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, CHUNK));
+            if (cards.isEmpty()) break;
+
+            operations.save(cards.stream().map(RecruitmentIndexer::toDocument).toList());
+            total += cards.size();
+            lastId = cards.get(cards.size() - 1).getId();
+        }
+        log.info("[RecruitmentSearch] indexed {} recruitments into Elasticsearch", total);
+    }
+
+    static String documentId(RecruitmentKind kind, Long recruitmentId) {
+        return kind.name() + "-" + recruitmentId;
+    }
+
+    private static RecruitmentDocument toDocument(RecruitmentCard c) {
+        List<String> positions = c.getPositionsText() == null || c.getPositionsText().isEmpty()
+                ? List.of()
+                : List.of(c.getPositionsText().split(RecruitmentCard.SEPARATOR));
+
+        GeoPoint location = (c.getLatitude() != null && c.getLongitude() != null)
+                ? new GeoPoint(c.getLatitude().doubleValue(), c.getLongitude().doubleValue())
+                : null;
+
+        return RecruitmentDocument.builder()
+                .id(documentId(c.getKind(), c.getRecruitmentId()))
+                .kind(c.getKind().name())
+                .recruitmentId(c.getRecruitmentId())
+                .title(c.getTitle())
+                .searchText(c.getSearchText())
+                .region1(c.getRegion1depthName())
+                .region2(c.getRegion2depthName())
+                .positions(positions)
+                .positionsText(c.getPositionsText())
+                .mode(c.getMode())
+                .teamStatus(c.getTeamStatus())
+                .studyType(c.getStudyType())
+                .capacity(c.getCapacity())
+                // 연령 무관(null/0)은 0 으로 통일
+                .ageMin(c.getAgeMin() == null ? 0 : c.getAgeMin())
+                .ageMax(c.getAgeMax() == null ? 0 : c.getAgeMax())
+                .expectedMonths(c.getExpectedMonths())
+                .startDate(c.getStartDate() == null ? null : c.getStartDate().toString())
+                .location(location)
+                .createdAt(c.getCreatedAt() == null ? null : c.getCreatedAt().toEpochMilli())
+                .build();
+    }
+}
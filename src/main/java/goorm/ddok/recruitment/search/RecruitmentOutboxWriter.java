@@ -0,0 +1,52 @@
+package goorm.ddok.recruitment.search;
+
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.domain.RecruitmentOutbox;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentStatusSyncedEvent;
+import goorm.ddok.recruitment.repository.RecruitmentOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 모집글 변경 → recruitment_outbox 기록 (transactional outbox)
+ * - 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 저장 → 롤백되면 outbox 도 남지 않음
+ * - 실제 색인은 RecruitmentIndexer 가 outbox 를 읽어 처리
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.recruitment.search.enabled", havingValue = "true")
+public class RecruitmentOutboxWriter {
+
+    private final RecruitmentOutboxRepository recruitmentOutboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(RecruitmentChangedEvent e) {
+        if (e.kind() == null || e.id() == null) return;
+        recruitmentOutboxRepository.save(entry(e.kind(), e.id(), Instant.now()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(RecruitmentStatusSyncedEvent e) {
+        if (e.ids() == null || e.ids().isEmpty()) return;
+        Instant now = Instant.now();
+        List<RecruitmentOutbox> entries = e.ids().stream()
+                .map(id -> entry(e.kind(), id, now))
+                .toList();
+        recruitmentOutboxRepository.saveAll(entries);
+    }
+
+    private static RecruitmentOutbox entry(RecruitmentKind kind, Long id, Instant now) {
+        return RecruitmentOutbox.builder()
+                .kind(kind)
+                .recruitmentId(id)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package goorm.ddok.recruitment.search;
+
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 모집글 검색 조건 (목록 검색 API 파라미터를 파싱한 결과)
+ *
+ * @param keyword          검색어 (프로젝트: 대소문자 무시 1개, 스터디: 콤마/공백 토큰 AND, 대소문자 구분)
+ * @param teamStatuses     TeamStatus name
+ * @param positionLike     포지션명 부분 문자열 (프로젝트)
+ * @param studyTypes       StudyType name (스터디)
+ * @param modes            online / offline
+ */
+public record RecruitmentSearchCriteria(
+        RecruitmentKind kind,
+        String keyword,
+        Set<String> teamStatuses,
+        String positionLike,
+        Set<String> studyTypes,
+        Set<String> modes,
+        Integer capacity,
+        Integer ageMin,
+        Integer ageMax,
+        Integer expectedMonth,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,14 @@
+package goorm.ddok.recruitment.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 결과: 현재 페이지의 모집글 id(정렬 순서 유지), 전체 건수, 필터별 facet 건수
+ */
+public record RecruitmentSearchResult(
+        List<Long> ids,
+        long total,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,220 @@
+package goorm.ddok.recruitment.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.json.JsonData;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Elasticsearch 모집글 검색 + facet 집계 (한 번의 요청)
+ *
+ * - 검색어/정원/연령/시작일 은 query, facet 대상 필터(상태/모드/포지션·유형/기간)는 post_filter 로 적용
+ * - facet 은 "자기 자신을 뺀 나머지 필터"를 적용한 filter 집계 → 다중 선택 UI 에서 다른 값의 건수도 보임
+ * - 결과는 id 목록만 반환하고 카드 조회는 호출 측(목록 서비스)에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app.recruitment.search.enabled", havingValue = "true")
+public class RecruitmentSearchService {
+
+    public static final String FACET_TEAM_STATUS = "teamStatus";
+    public static final String FACET_MODE = "mode";
+    public static final String FACET_POSITIONS = "positions";
+    public static final String FACET_STUDY_TYPE = "studyType";
+    public static final String FACET_EXPECTED_MONTHS = "expectedMonths";
+
+    private static final int FACET_SIZE = 50;
+    private static final String BUCKETS = "buckets";
+
+    private final ElasticsearchOperations operations;
+
+    public RecruitmentSearchResult search(RecruitmentSearchCriteria c, Pageable pageable) {
+        Map<String, Query> facetFilters = facetFilters(c);
+        List<String> facets = c.kind() == RecruitmentKind.PROJECT
+                ? List.of(FACET_TEAM_STATUS, FACET_MODE, FACET_POSITIONS, FACET_EXPECTED_MONTHS)
+                : List.of(FACET_TEAM_STATUS, FACET_MODE, FACET_STUDY_TYPE, FACET_EXPECTED_MONTHS);
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(QueryBuilders.bool().filter(baseFilters(c)).build()._toQuery())
+                .withSort(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("recruitmentId").order(SortOrder.Desc)))
+                .withPageable(pageable)
+                .withTrackTotalHits(true);
+
+        if (!facetFilters.isEmpty()) {
+            builder.withFilter(QueryBuilders.bool().filter(new ArrayList<>(facetFilters.values())).build()._toQuery());
+        }
+
+        for (String facet : facets) {
+            List<Query> others = new ArrayList<>();
+            facetFilters.forEach((name, q) -> {
+                if (!name.equals(facet)) others.add(q);
+            });
+            Query scope = others.isEmpty()
+                    ? QueryBuilders.matchAll().build()._toQuery()
+                    : QueryBuilders.bool().filter(others).build()._toQuery();
+
+            builder.withAggregation(facet, Aggregation.of(a -> a
+                    .filter(scope)
+                    .aggregations(BUCKETS, Aggregation.of(t -> t.terms(tt -> tt.field(facet).size(FACET_SIZE))))));
+        }
+
+        SearchHits<RecruitmentDocument> hits = operations.search(builder.build(), RecruitmentDocument.class);
+
+        List<Long> ids = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(RecruitmentDocument::getRecruitmentId)
+                .toList();
+
+        return new RecruitmentSearchResult(ids, hits.getTotalHits(), readFacets(hits, facets));
+    }
+
+    /* ---------- 조건 ---------- */
+
+    private List<Query> baseFilters(RecruitmentSearchCriteria c) {
+        List<Query> filters = new ArrayList<>();
+        filters.add(term("kind", c.kind().name()));
+
+        String keyword = c.keyword();
+        if (keyword != null && !keyword.isBlank()) {
+            if (c.kind() == RecruitmentKind.PROJECT) {
+                filters.add(contains("searchText", keyword.trim(), true));
+            } else {
+                Arrays.stream(keyword.split("[,\\s]+"))
+                        .map(String::trim)
+                        .filter(t -> !t.isEmpty())
+                        .distinct()
+                        .forEach(token -> filters.add(contains("searchText", token, false)));
+            }
+        }
+
+        if (c.capacity() != null) {
+            filters.add(QueryBuilders.term().field("capacity").value(c.capacity()).build()._toQuery());
+        }
+
+        // 연령: 모집글의 하한/상한이 0 이면 무관
+        if (c.ageMin() != null || c.ageMax() != null) {
+            Integer reqMin = c.ageMin();
+            Integer reqMax = c.ageMax();
+            if (reqMin != null && reqMax != null && reqMin > reqMax) {
+                int tmp = reqMin; reqMin = reqMax; reqMax = tmp;
+            }
+            if (reqMin != null && reqMax != null) {
+                filters.add(openOr("ageMin", reqMin, true));
+                filters.add(openOr("ageMax", reqMax, false));
+            } else if (reqMin != null) {
+                filters.add(openOr("ageMax", reqMin, false));
+            } else {
+                filters.add(openOr("ageMin", reqMax, true));
+            }
+        }
+
+        if (c.startDate() != null) {
+            filters.add(QueryBuilders.range().field("startDate").gte(JsonData.of(c.startDate().toString())).build()._toQuery());
+        }
+        return filters;
+    }
+
+    private Map<String, Query> facetFilters(RecruitmentSearchCriteria c) {
+        Map<String, Query> filters = new LinkedHashMap<>();
+        if (c.teamStatuses() != null && !c.teamStatuses().isEmpty()) {
+            filters.put(FACET_TEAM_STATUS, terms("teamStatus", c.teamStatuses()));
+        }
+        if (c.modes() != null && !c.modes().isEmpty()) {
+            filters.put(FACET_MODE, terms("mode", c.modes()));
+        }
+        if (c.positionLike() != null && !c.positionLike().isBlank()) {
+            filters.put(FACET_POSITIONS, contains("positionsText", c.positionLike().trim(), true));
+        }
+        if (c.studyTypes() != null && !c.studyTypes().isEmpty()) {
+            filters.put(FACET_STUDY_TYPE, terms("studyType", c.studyTypes()));
+        }
+        if (c.expectedMonth() != null) {
+            filters.put(FACET_EXPECTED_MONTHS, c.expectedMonth() >= 5
+                    ? QueryBuilders.range().field("expectedMonths").gte(JsonData.of(5)).build()._toQuery()
+                    : QueryBuilders.term().field("expectedMonths").value(c.expectedMonth()).build()._toQuery());
+        }
+        return filters;
+    }
+
+    private static Query term(String field, String value) {
+        return QueryBuilders.term().field(field).value(value).build()._toQuery();
+    }
+
+    private static Query terms(String field, Collection<String> values) {
+        List<FieldValue> fv = values.stream().map(FieldValue::of).toList();
+        return QueryBuilders.terms().field(field).terms(t -> t.value(fv)).build()._toQuery();
+    }
+
+    /** LIKE '%value%' 와 같은 부분 문자열 매칭 */
+    private static Query contains(String field, String value, boolean caseInsensitive) {
+        return QueryBuilders.wildcard()
+                .field(field)
+                .value("*" + escapeWildcard(value) + "*")
+                .caseInsensitive(caseInsensitive)
+                .build()._toQuery();
+    }
+
+    /** field == 0(무관) 또는 (하한이면 field <= v, 상한이면 field >= v) */
+    private static Query openOr(String field, int value, boolean lower) {
+        Query bound = lower
+                ? QueryBuilders.range().field(field).lte(JsonData.of(value)).build()._toQuery()
+                : QueryBuilders.range().field(field).gte(JsonData.of(value)).build()._toQuery();
+        return QueryBuilders.bool()
+                .should(QueryBuilders.term().field(field).value(0).build()._toQuery())
+                .should(bound)
+                .minimumShouldMatch("1")
+                .build()._toQuery();
+    }
+
+    private static String escapeWildcard(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (char ch : value.toCharArray()) {
+            if (ch == '\\' || ch == '*' || ch == '?') sb.append('\\');
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    /* ---------- facet 결과 ---------- */
+
+    private static Map<String, Map<String, Long>> readFacets(SearchHits<?> hits, List<String> facets) {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        if (!(hits.getAggregations() instanceof ElasticsearchAggregations aggs)) return result;
+
+        Map<String, ElasticsearchAggregation> byName = aggs.aggregationsAsMap();
+        for (String facet : facets) {
+            ElasticsearchAggregation agg = byName.get(facet);
+            if (agg == null) continue;
+
+            Aggregate inner = agg.aggregation().getAggregate().filter().aggregations().get(BUCKETS);
+            Map<String, Long> counts = new LinkedHashMap<>();
+            if (inner != null && inner.isSterms()) {
+                inner.sterms().buckets().array()
+                        .forEach(b -> counts.put(b.key().stringValue(), b.docCount()));
+            } else if (inner != null && inner.isLterms()) {
+                inner.lterms().buckets().array()
+                        .forEach(b -> counts.put(String.valueOf(b.key()), b.docCount()));
+            }
+            result.put(facet, counts);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,293 @@
+package goorm.ddok.recruitment.service;
+
+import goorm.ddok.project.domain.ProjectMode;
+import goorm.ddok.project.domain.ProjectRecruitment;
+import goorm.ddok.project.domain.ProjectRecruitmentPosition;
+import goorm.ddok.project.repository.ProjectRecruitmentPositionRepository;
+import goorm.ddok.project.repository.ProjectRecruitmentRepository;
+import goorm.ddok.recruitment.domain.RecruitmentCard;
+import goorm.ddok.recruitment.domain.RecruitmentCardBackfill;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentStatusSyncedEvent;
+import goorm.ddok.recruitment.repository.RecruitmentCardBackfillRepository;
+import goorm.ddok.recruitment.repository.RecruitmentCardRepository;
+import goorm.ddok.study.domain.StudyMode;
+import goorm.ddok.study.domain.StudyRecruitment;
+import goorm.ddok.study.repository.StudyRecruitmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 모집글 → 목록 카드(recruitment_card) 프로젝션
+ *
+ * - RecruitmentChangedEvent 를 커밋 직전(BEFORE_COMMIT)에 받아 같은 트랜잭션에서 카드 upsert / 삭제
+ * - 배치로 바뀐 모집 상태는 syncStatuses() 로 일괄 반영 (상태 변경 Job 트리거에서 호출)
+ *   → 바뀐 id 는 RecruitmentStatusSyncedEvent 로 알림 (검색 색인 outbox 등)
+ * - 서버 시작 시 적재 완료 표시(recruitment_card_backfill)가 없는 종류는 전체 적재, PostgreSQL 이면 검색용 trigram 인덱스 생성
+ *   (적재 도중 실패해도 표시가 없으므로 다음 시작 때 이어서 적재, 이미 있는 카드는 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecruitmentCardProjector {
+
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    private final RecruitmentCardRepository recruitmentCardRepository;
+    private final RecruitmentCardBackfillRepository recruitmentCardBackfillRepository;
+    private final ProjectRecruitmentRepository projectRecruitmentRepository;
+    private final ProjectRecruitmentPositionRepository projectRecruitmentPositionRepository;
+    private final StudyRecruitmentRepository studyRecruitmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(RecruitmentChangedEvent e) {
+        refresh(e.kind(), e.id());
+    }
+
+    /** 모집글 1건의 카드를 원본 기준으로 다시 만든다 (삭제/미존재 시 카드 제거) */
+    public void refresh(RecruitmentKind kind, Long id) {
+        if (kind == null || id == null) return;
+
+        // 쿼리 메서드로 조회해야 벌크 soft delete 가 반영된 DB 상태를 본다
+        RecruitmentCard next = switch (kind) {
+            case PROJECT -> projectRecruitmentRepository.findByIdAndDeletedAtIsNull(id)
+                    .map(p -> fromProject(p, positionNamesOf(List.of(id)).getOrDefault(id, List.of())))
+                    .orElse(null);
+            case STUDY -> studyRecruitmentRepository.findByIdAndDeletedAtIsNull(id)
+                    .map(this::fromStudy)
+                    .orElse(null);
+        };
+
+        Optional<RecruitmentCard> current = recruitmentCardRepository.findByKindAndRecruitmentId(kind, id);
+        if (next == null) {
+            current.ifPresent(recruitmentCardRepository::delete);
+            return;
+        }
+        recruitmentCardRepository.save(current
+                .map(c -> next.toBuilder().id(c.getId()).build())
+                .orElse(next));
+    }
+
+    /** 배치(JpaItemWriter)로 변경된 모집 상태를 카드에 반영 */
+    public int syncStatuses(RecruitmentKind kind) {
+        Integer updated = transactionTemplate.execute(status -> {
+            boolean project = kind == RecruitmentKind.PROJECT;
+            List<Long> ids = project
+                    ? recruitmentCardRepository.findProjectStatusDriftIds()
+                    : recruitmentCardRepository.findStudyStatusDriftIds();
+            if (ids.isEmpty()) return 0;
+
+            int n = project
+                    ? recruitmentCardRepository.syncProjectStatuses()
+                    : recruitmentCardRepository.syncStudyStatuses();
+            eventPublisher.publishEvent(new RecruitmentStatusSyncedEvent(kind, ids));
+            return n;
+        });
+        int n = updated == null ? 0 : updated;
+        if (n > 0) log.info("Recruitment card status synced: kind={}, updated={}", kind, n);
+        return n;
+    }
+
+    /* ---------- 시작 시 준비 ---------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        ensureSearchIndex();
+        backfill();
+    }
+
+    private void ensureSearchIndex() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("""
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recruitment_card_search_trgm
+                        ON recruitment_card USING gin (search_text gin_trgm_ops)
+                    """);
+            jdbcTemplate.execute("""
+                    CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_recruitment_card_search_lower_trgm
+                        ON recruitment_card USING gin (lower(search_text) gin_trgm_ops)
+                    """);
+            log.info("Recruitment card trigram index ready");
+        } catch (Exception e) {
+            log.warn("Recruitment card trigram index setup failed; keyword search falls back to sequential scan", e);
+        }
+    }
+
+    /** 전체 적재 (완료 표시가 없는 종류만, 끝까지 마치면 표시를 남긴다) */
+    public void backfill() {
+        if (!recruitmentCardBackfillRepository.existsById(RecruitmentKind.PROJECT)) {
+            int projects = 0;
+            for (int page = 0; ; page++) {
+                PageRequest pageable = PageRequest.of(page, BACKFILL_PAGE_SIZE, Sort.by("id"));
+                Chunk chunk = transactionTemplate.execute(status -> {
+                    Page<ProjectRecruitment> rows = projectRecruitmentRepository.findByDeletedAtIsNull(pageable);
+                    Map<Long, List<String>> positions = positionNamesOf(rows.map(ProjectRecruitment::getId).getContent());
+                    int saved = saveMissing(RecruitmentKind.PROJECT,
+                            rows.map(p -> fromProject(p, positions.getOrDefault(p.getId(), List.of()))).getContent());
+                    return new Chunk(saved, rows.hasNext());
+                });
+                if (chunk == null) break;
+                projects += chunk.saved();
+                if (!chunk.hasNext()) break;
+            }
+            markBackfilled(RecruitmentKind.PROJECT);
+            log.info("Recruitment cards backfilled: projects={}", projects);
+        }
+
+        if (!recruitmentCardBackfillRepository.existsById(RecruitmentKind.STUDY)) {
+            int studies = 0;
+            for (int page = 0; ; page++) {
+                PageRequest pageable = PageRequest.of(page, BACKFILL_PAGE_SIZE, Sort.by("id"));
+                Chunk chunk = transactionTemplate.execute(status -> {
+                    Page<StudyRecruitment> rows = studyRecruitmentRepository.findByDeletedAtIsNull(pageable);
+                    int saved = saveMissing(RecruitmentKind.STUDY, rows.map(this::fromStudy).getContent());
+                    return new Chunk(saved, rows.hasNext());
+                });
+                if (chunk == null) break;
+                studies += chunk.saved();
+                if (!chunk.hasNext()) break;
+            }
+            markBackfilled(RecruitmentKind.STUDY);
+            log.info("Recruitment cards backfilled: studies={}", studies);
+        }
+    }
+
+    /** 아직 카드가 없는 모집글만 저장 (이전 적재분, 이벤트로 이미 만들어진 카드는 그대로 둔다) */
+    private int saveMissing(RecruitmentKind kind, List<RecruitmentCard> cards) {
+        if (cards.isEmpty()) return 0;
+        Set<Long> existing = new HashSet<>();
+        for (RecruitmentCard c : recruitmentCardRepository.findByKindAndRecruitmentIdIn(
+                kind, cards.stream().map(RecruitmentCard::getRecruitmentId).toList())) {
+            existing.add(c.getRecruitmentId());
+        }
+        List<RecruitmentCard> missing = cards.stream()
+                .filter(c -> !existing.contains(c.getRecruitmentId()))
+                .toList();
+        recruitmentCardRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    private void markBackfilled(RecruitmentKind kind) {
+        recruitmentCardBackfillRepository.save(RecruitmentCardBackfill.builder()
+                .kind(kind)
+                .completedAt(Instant.now())
+                .build());
+    }
+
+    /* ---------- 변환 ---------- */
+
+    private Map<Long, List<String>> positionNamesOf(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) return Map.of();
+        Map<Long, List<String>> byProject = new HashMap<>();
+        for (ProjectRecruitmentPosition pos : projectRecruitmentPositionRepository.findByProjectRecruitment_IdIn(projectIds)) {
+            byProject.computeIfAbsent(pos.getProjectRecruitment().getId(), k -> new ArrayList<>())
+                    .add(pos.getPositionName());
+        }
+        return byProject;
+    }
+
+    private RecruitmentCard fromProject(ProjectRecruitment p, List<String> positionNames) {
+        List<String> positions = positionNames.stream()
+                .filter(s -> s != null && !s.isBlank())
+                .distinct()
+                .sorted(Comparator.naturalOrder())
+                .toList();
+
+        String address = (p.getProjectMode() == ProjectMode.online)
+                ? "online"
+                : shortAddress(p.getRegion1depthName(), p.getRegion2depthName());
+
+        return RecruitmentCard.builder()
+                .kind(RecruitmentKind.PROJECT)
+                .recruitmentId(p.getId())
+                .title(p.getTitle())
+                .teamStatus(String.valueOf(p.getTeamStatus()))
+                .bannerImageUrl(p.getBannerImageUrl())
+                .capacity(p.getCapacity())
+                .mode(String.valueOf(p.getProjectMode()))
+                .address(address)
+                .region1depthName(p.getRegion1depthName())
+                .region2depthName(p.getRegion2depthName())
+                .latitude(p.getLatitude())
+                .longitude(p.getLongitude())
+                .ageMin(p.getAgeMin())
+                .ageMax(p.getAgeMax())
+                .expectedMonths(p.getExpectedMonths())
+                .startDate(p.getStartDate())
+                .positionsText(String.join(RecruitmentCard.SEPARATOR, positions))
+                .searchText(searchText(p.getTitle(), p.getRegion1depthName(), p.getRegion2depthName(),
+                        p.getRegion3depthName(), p.getRoadName(), p.getMainBuildingNo(), p.getSubBuildingNo()))
+                .createdAt(Objects.requireNonNullElseGet(p.getCreatedAt(), Instant::now))
+                .build();
+    }
+
+    private RecruitmentCard fromStudy(StudyRecruitment s) {
+        String address = (s.getMode() == StudyMode.online)
+                ? "online"
+                : shortAddress(s.getRegion1depthName(), s.getRegion2depthName());
+
+        return RecruitmentCard.builder()
+                .kind(RecruitmentKind.STUDY)
+                .recruitmentId(s.getId())
+                .title(s.getTitle())
+                .teamStatus(String.valueOf(s.getTeamStatus()))
+                .bannerImageUrl(s.getBannerImageUrl())
+                .capacity(s.getCapacity())
+                .mode(String.valueOf(s.getMode()))
+                .address(address)
+                .region1depthName(s.getRegion1depthName())
+                .region2depthName(s.getRegion2depthName())
+                .latitude(s.getLatitude())
+                .longitude(s.getLongitude())
+                .ageMin(s.getAgeMin())
+                .ageMax(s.getAgeMax())
+                .expectedMonths(s.getExpectedMonths())
+                .startDate(s.getStartDate())
+                .studyType(s.getStudyType() == null ? null : s.getStudyType().name())
+                .positionsText("")
+                .searchText(searchText(s.getTitle(), s.getRegion1depthName(), s.getRegion2depthName(),
+                        s.getRegion3depthName(), s.getRoadName(), s.getMainBuildingNo(), s.getSubBuildingNo()))
+                .createdAt(Objects.requireNonNullElseGet(s.getCreatedAt(), Instant::now))
+                .build();
+    }
+
+    /** 기존 검색 대상(제목, 주소 요소, "시 구" 연결)을 구분자로 이어 붙임 */
+    private static String searchText(String title, String r1, String r2, String r3,
+                                     String road, String main, String sub) {
+        StringJoiner joiner = new StringJoiner(RecruitmentCard.SEPARATOR);
+        for (String s : new String[]{title, r1, r2, r3, road, main, sub}) {
+            if (s != null && !s.isEmpty()) joiner.add(s);
+        }
+        if (r1 != null || r2 != null) {
+            joiner.add(Objects.toString(r1, "") + " " + Objects.toString(r2, ""));
+        }
+        return joiner.toString();
+    }
+
+    private static String shortAddress(String region1, String region2) {
+        String r1 = region1 == null ? "" : region1.trim();
+        String r2 = region2 == null ? "" : region2.trim();
+        if (r1.isEmpty() && r2.isEmpty()) return "-";
+        return (r1 + " " + r2).trim();
+    }
+
+    private record Chunk(int saved, boolean hasNext) {}
+}
@@ -2,63 +2,169 @@ package goorm.ddok.reputation.batch;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.reputation.dto.response.TemperatureRankResponse;
 import goorm.ddok.reputation.dto.response.TemperatureRegionResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static goorm.ddok.reputation.cache.ReputationRankRedisKeys.*;
 
+/**
+ * 랭킹 캐시 조회 (L1 in-process + L2 Redis)
+ * - L1 은 rank:temperature:* 키별로 역직렬화된 불변 객체를 보관 (요청마다 Redis GET + readValue 하지 않음)
+ * - ReputationRankingWriter 가 RENAME 후 발행하는 무효화 메시지(pub/sub)로 해당 키를 비운다
+ * - L1 은 Caffeine (expireAfterWrite = l1-ttl-ms): 메시지 유실 대비 TTL 이 지나면 L2 에서 다시 읽는다
+ * - hit/miss 는 Caffeine 통계(recordStats)를 그대로 노출
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class ReputationRankingCacheService {
+public class ReputationRankingCacheService implements MessageListener {
+
+    private static final TypeReference<List<TemperatureRankResponse>> RANK_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<TemperatureRegionResponse>> REGION_LIST = new TypeReference<>() {};
 
     private final StringRedisTemplate redis;
     private final ObjectMapper om;
+    private final Cache<String, Entry> l1;
+    /** 무효화 세대: L2 읽는 도중 무효화가 오면 그 결과는 L1 에 넣지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter invalidationCounter;
+
+    public ReputationRankingCacheService(
+            StringRedisTemplate redis,
+            ObjectMapper om,
+            MeterRegistry meterRegistry,
+            @Value("${app.reputation.ranking-cache.l1-ttl-ms:300000}") long l1TtlMs
+    ) {
+        this.redis = redis;
+        this.om = om;
+        this.l1 = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(l1TtlMs))
+                .recordStats()
+                .build();
+        FunctionCounter.builder("reputation.ranking.cache", l1, c -> c.stats().hitCount())
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("reputation.ranking.cache", l1, c -> c.stats().missCount())
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("reputation.ranking.cache.invalidations")
+                .register(meterRegistry);
+        // L1 에 남아 있는 가장 오래된 항목의 나이 (무효화가 제대로 오는지 확인용)
+        Gauge.builder("reputation.ranking.cache.staleness.seconds", this, ReputationRankingCacheService::oldestAgeSeconds)
+                .register(meterRegistry);
+    }
 
     public TemperatureRankResponse getCachedTop1() {
-        String json = redis.opsForValue().get(TOP1_LIVE);
-        if (json == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
-        try {
-            return om.readValue(json, TemperatureRankResponse.class);
-        } catch (Exception e) {
-            throw new GlobalException(ErrorCode.JSON_PARSE_ERROR);
-        }
+        TemperatureRankResponse top1 = read(TOP1_LIVE, TemperatureRankResponse.class, true);
+        if (top1 == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
+        return top1;
     }
 
     /** 널 허용 조회 (컨트롤러에서 200+null 정책 유지용) */
     public TemperatureRankResponse peekCachedTop1() {
-        String json = redis.opsForValue().get(TOP1_LIVE);
-        if (json == null) return null;
-        try {
-            return om.readValue(json, TemperatureRankResponse.class);
-        } catch (Exception e) {
-            return null;
-        }
+        return read(TOP1_LIVE, TemperatureRankResponse.class, false);
     }
 
     public List<TemperatureRankResponse> getCachedTop10() {
-        String json = redis.opsForValue().get(TOP10_LIVE);
-        if (json == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
-        try {
-            return om.readValue(json, new TypeReference<>() {});
-        } catch (Exception e) {
-            throw new GlobalException(ErrorCode.JSON_PARSE_ERROR);
-        }
+        List<TemperatureRankResponse> top10 = read(TOP10_LIVE, RANK_LIST);
+        if (top10 == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
+        return top10;
     }
 
     public List<TemperatureRegionResponse> getCachedRegionTop1() {
-        String json = redis.opsForValue().get(REGION_TOP1_LIVE);
-        if (json == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
-        try {
-            return om.readValue(json, new TypeReference<>() {});
-        } catch (Exception e) {
-            throw new GlobalException(ErrorCode.JSON_PARSE_ERROR);
+        List<TemperatureRegionResponse> regionTop1 = read(REGION_TOP1_LIVE, REGION_LIST);
+        if (regionTop1 == null) throw new GlobalException(ErrorCode.RANKING_NOT_READY);
+        return regionTop1;
+    }
+
+    /** 키 하나(또는 null 이면 전체) 무효화 */
+    public void evict(String key) {
+        generation.incrementAndGet();
+        if (key == null || key.isBlank()) l1.invalidateAll();
+        else l1.invalidate(key);
+        invalidationCounter.increment();
+    }
+
+    /** Redis 구독 콜백: 본문 = 바뀐 LIVE 키 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private <T> T read(String key, Class<T> type, boolean strict) {
+        Entry cached = l1.getIfPresent(key);
+        if (cached != null) return type.cast(cached.value());
+
+        long gen = generation.get();
+        String json = redis.opsForValue().get(key);
+        T value = null;
+        if (json != null) {
+            try {
+                value = om.readValue(json, type);
+            } catch (Exception e) {
+                if (strict) throw new GlobalException(ErrorCode.JSON_PARSE_ERROR);
+                return null;
+            }
+        }
+        store(key, value, gen);
+        return value;
+    }
+
+    private <T> List<T> read(String key, TypeReference<List<T>> type) {
+        Entry cached = l1.getIfPresent(key);
+        if (cached != null) {
+            @SuppressWarnings("unchecked")
+            List<T> list = (List<T>) cached.value();
+            return list;
+        }
+
+        long gen = generation.get();
+        String json = redis.opsForValue().get(key);
+        List<T> value = null;
+        if (json != null) {
+            try {
+                value = List.copyOf(om.readValue(json, type));
+            } catch (Exception e) {
+                throw new GlobalException(ErrorCode.JSON_PARSE_ERROR);
+            }
         }
+        store(key, value, gen);
+        return value;
+    }
+
+    /** 값이 없음(null)도 캐시 (Caffeine 은 null 값을 못 넣으므로 Entry 로 감싼다): 배치가 키를 채우면 무효화 메시지가 온다 */
+    private void store(String key, Object value, long gen) {
+        if (generation.get() != gen) return;
+        l1.put(key, new Entry(value, System.currentTimeMillis()));
     }
+
+    private double oldestAgeSeconds() {
+        long now = System.currentTimeMillis();
+        long oldest = 0L;
+        for (Entry e : l1.asMap().values()) oldest = Math.max(oldest, now - e.loadedAt());
+        return oldest / 1000.0;
+    }
+
+    private record Entry(Object value, long loadedAt) {}
 }
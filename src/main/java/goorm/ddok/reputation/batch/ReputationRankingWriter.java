@@ -11,7 +11,6 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.IntStream;
 
 import static goorm.ddok.reputation.cache.ReputationRankRedisKeys.*;
@@ -28,12 +27,13 @@ public class ReputationRankingWriter {
         try {
             if (top1 == null) {
                 redis.delete(TOP1_LIVE);
+                publishInvalidation(TOP1_LIVE);
                 return;
             }
             String json = om.writeValueAsString(top1);
             redis.opsForValue().set(TOP1_TMP, json, Duration.ofSeconds(DEFAULT_TTL_SECONDS));
-            Objects.requireNonNull(redis.getConnectionFactory()).getConnection()
-                    .rename(TOP1_TMP.getBytes(), TOP1_LIVE.getBytes());
+            redis.rename(TOP1_TMP, TOP1_LIVE);
+            publishInvalidation(TOP1_LIVE);
         } catch (Exception e) {
             log.error("Failed to write TOP1 to Redis", e);
         }
@@ -54,8 +54,8 @@ public class ReputationRankingWriter {
 
             String json = om.writeValueAsString(withUpdated);
             redis.opsForValue().set(TOP10_TMP, json, Duration.ofSeconds(DEFAULT_TTL_SECONDS));
-            Objects.requireNonNull(redis.getConnectionFactory()).getConnection()
-                    .rename(TOP10_TMP.getBytes(), TOP10_LIVE.getBytes());
+            redis.rename(TOP10_TMP, TOP10_LIVE);
+            publishInvalidation(TOP10_LIVE);
         } catch (Exception e) {
             log.error("Failed to write TOP10 to Redis", e);
         }
@@ -74,10 +74,19 @@ public class ReputationRankingWriter {
 
             String json = om.writeValueAsString(withUpdated);
             redis.opsForValue().set(REGION_TOP1_TMP, json, Duration.ofSeconds(DEFAULT_TTL_SECONDS));
-            Objects.requireNonNull(redis.getConnectionFactory()).getConnection()
-                    .rename(REGION_TOP1_TMP.getBytes(), REGION_TOP1_LIVE.getBytes());
+            redis.rename(REGION_TOP1_TMP, REGION_TOP1_LIVE);
+            publishInvalidation(REGION_TOP1_LIVE);
         } catch (Exception e) {
             log.error("Failed to write REGION_TOP1 to Redis", e);
         }
     }
-}
\ No newline at end of file
+
+    /** 각 노드의 L1(ReputationRankingCacheService) 에서 해당 키를 비우도록 알림 */
+    private void publishInvalidation(String liveKey) {
+        try {
+            redis.convertAndSend(INVALIDATE_CHANNEL, liveKey);
+        } catch (Exception e) {
+            log.warn("Failed to publish ranking invalidation: {}", liveKey, e);
+        }
+    }
+}
@@ -12,4 +12,17 @@ public final class ReputationRankRedisKeys {
     public static final String REGION_TOP1_TMP = REGION_TOP1_LIVE + ":tmp";
 
     public static final long DEFAULT_TTL_SECONDS = 4000;
+
+    /** LIVE 키 교체 알림 채널 (본문 = 바뀐 LIVE 키) → 각 노드 L1 무효화 */
+    public static final String INVALIDATE_CHANNEL = "rank:temperature:invalidate";
+
+    /** 실시간 리더보드 (ZSET, member=userId) */
+    public static final String LEADERBOARD = "rank:temperature:zset";
+    public static final String REGION_LEADERBOARD_PREFIX = "rank:temperature:zset:region:";
+    /** userId -> 대표 지역 (HASH, 지역 ZSET 이동용) */
+    public static final String LEADERBOARD_REGION_OF = "rank:temperature:region-of";
+
+    public static String regionLeaderboard(String mainRegion) {
+        return REGION_LEADERBOARD_PREFIX + mainRegion;
+    }
 }
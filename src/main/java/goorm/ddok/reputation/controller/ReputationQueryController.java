@@ -1,7 +1,6 @@
 package goorm.ddok.reputation.controller;
 
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.response.ApiResponseDto;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.reputation.batch.ReputationRankingCacheService;
@@ -23,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,8 +33,7 @@ public class ReputationQueryController {
     private final ReputationQueryService reputationQueryService;
 //    private final ReputationRankingScheduler reputationRankingScheduler;
     private final ReputationRankingCacheService rankingCache;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
     @Operation(
             summary = "전체 온도 랭킹 TOP10 조회",
@@ -89,25 +88,22 @@ public class ReputationQueryController {
     public ApiResponseDto<List<TemperatureRankResponse>> getTop10TemperatureRank(
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        List<TemperatureRankResponse> cached = rankingCache.getCachedTop10();
+        List<TemperatureRankResponse> cached = reputationQueryService.getLiveTopRank(10);
+        if (cached == null) cached = rankingCache.getCachedTop10(); // 리더보드 재적재 전
 
         Long meId = (currentUser != null) ? currentUser.getId() : null;
+        Map<Long, ViewerRelationResolver.Relation> relations = viewerRelationResolver.resolveAll(
+                meId, cached.stream().map(TemperatureRankResponse::getUserId).toList());
 
         List<TemperatureRankResponse> response = cached.stream()
                 .map(r -> {
-                    Long chatRoomId = null;
-                    boolean dmPending = false;
-
-                    if (meId != null && !meId.equals(r.getUserId())) {
-                        chatRoomId = chatRoomService.findPrivateRoomId(meId, r.getUserId()).orElse(null);
-                        dmPending = (chatRoomId != null)
-                                || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, r.getUserId());
-                    }
+                    ViewerRelationResolver.Relation relation =
+                            relations.getOrDefault(r.getUserId(), ViewerRelationResolver.Relation.NONE);
 
                     return r.toBuilder()
                             .IsMine(meId != null && r.getUserId().equals(meId))
-                            .chatRoomId(chatRoomId)
-                            .dmRequestPending(dmPending)
+                            .chatRoomId(relation.chatRoomId())
+                            .dmRequestPending(relation.dmPending())
                             .build();
                 })
                 .toList();
@@ -169,7 +165,10 @@ public class ReputationQueryController {
     public ApiResponseDto<TemperatureRankResponse> getTop1TemperatureRank(
             @AuthenticationPrincipal CustomUserDetails currentUser
     ) {
-        TemperatureRankResponse cached = rankingCache.peekCachedTop1();
+        List<TemperatureRankResponse> live = reputationQueryService.getLiveTopRank(1);
+        TemperatureRankResponse cached = (live == null)
+                ? rankingCache.peekCachedTop1() // 리더보드 재적재 전
+                : live.stream().findFirst().orElse(null);
 
         if (cached == null) {
             return ApiResponseDto.of(200, "조회 결과가 없습니다.", null);
@@ -177,19 +176,12 @@ public class ReputationQueryController {
 
         Long meId = (currentUser != null) ? currentUser.getId() : null;
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-
-        if (meId != null && !meId.equals(cached.getUserId())) {
-            chatRoomId = chatRoomService.findPrivateRoomId(meId, cached.getUserId()).orElse(null);
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, cached.getUserId());
-        }
+        ViewerRelationResolver.Relation relation = viewerRelationResolver.resolve(meId, cached.getUserId());
 
         TemperatureRankResponse response = cached.toBuilder()
                 .IsMine(meId != null && cached.getUserId().equals(meId))
-                .chatRoomId(chatRoomId)
-                .dmRequestPending(dmPending)
+                .chatRoomId(relation.chatRoomId())
+                .dmRequestPending(relation.dmPending())
                 .build();
 
         return ApiResponseDto.of(200, "요청이 성공적으로 처리되었습니다.", response);
@@ -200,25 +192,22 @@ public class ReputationQueryController {
     public ApiResponseDto<List<TemperatureRegionResponse>> getRegionTop1Rank(
             @AuthenticationPrincipal CustomUserDetails currentUser
     ) {
-        List<TemperatureRegionResponse> cached = rankingCache.getCachedRegionTop1(); // ✅ 변경
+        List<TemperatureRegionResponse> cached = reputationQueryService.getLiveRegionTop1Rank();
+        if (cached == null) cached = rankingCache.getCachedRegionTop1(); // 리더보드 재적재 전
 
         Long meId = (currentUser != null) ? currentUser.getId() : null;
+        Map<Long, ViewerRelationResolver.Relation> relations = viewerRelationResolver.resolveAll(
+                meId, cached.stream().map(TemperatureRegionResponse::getUserId).toList());
 
         List<TemperatureRegionResponse> response = cached.stream()
                 .map(r -> {
-                    Long chatRoomId = null;
-                    boolean dmPending = false;
-
-                    if (meId != null && !meId.equals(r.getUserId())) {
-                        chatRoomId = chatRoomService.findPrivateRoomId(meId, r.getUserId()).orElse(null);
-                        dmPending = (chatRoomId != null)
-                                || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, r.getUserId());
-                    }
+                    ViewerRelationResolver.Relation relation =
+                            relations.getOrDefault(r.getUserId(), ViewerRelationResolver.Relation.NONE);
 
                     return r.toBuilder()
                             .IsMine(meId != null && r.getUserId().equals(meId))
-                            .chatRoomId(chatRoomId)
-                            .dmRequestPending(dmPending)
+                            .chatRoomId(relation.chatRoomId())
+                            .dmRequestPending(relation.dmPending())
                             .build();
                 })
                 .toList();
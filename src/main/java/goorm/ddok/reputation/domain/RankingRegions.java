@@ -0,0 +1,41 @@
+package goorm.ddok.reputation.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹용 대표 지역(7개)과 주소 region_1depth_name 표기 매핑
+ */
+public final class RankingRegions {
+    private RankingRegions() {}
+
+    public static final List<String> MAIN_REGIONS = List.of("서울", "경기도", "강원도", "충청도", "경상도", "전라도", "제주도");
+
+    private static final Map<String, String> MAIN_BY_RAW = new HashMap<>();
+
+    static {
+        for (String main : MAIN_REGIONS) {
+            for (String raw : rawRegionsOf(main)) MAIN_BY_RAW.put(raw, main);
+        }
+    }
+
+    public static List<String> rawRegionsOf(String mainRegion) {
+        return switch (mainRegion) {
+            case "서울" -> List.of("서울", "서울시", "서울특별시");
+            case "경기도" -> List.of("경기", "인천", "경기도", "인천광역시");
+            case "강원도" -> List.of("강원", "강원도", "강원특별자치도");
+            case "충청도" -> List.of("충청", "충북", "충남", "세종", "충청북도", "충청남도", "대전", "대전광역시", "세종특별자치시", "세종시");
+            case "경상도" -> List.of("경상", "경상북도", "경상남도", "대구광역시", "부산광역시", "울산광역시", "부산시", "울산시", "대구시", "경북", "경남", "대구", "부산", "울산");
+            case "전라도" -> List.of("전라", "전라북도", "전라남도", "광주광역시", "전남", "전북", "광주", "전북특별자치도");
+            case "제주도" -> List.of("제주", "제주도", "제주특별자치도");
+            default -> List.of();
+        };
+    }
+
+    /** 주소 표기 → 대표 지역 (매핑 없으면 null) */
+    public static String mainRegionOf(String region1DepthName) {
+        if (region1DepthName == null) return null;
+        return MAIN_BY_RAW.get(region1DepthName.trim());
+    }
+}
@@ -24,4 +24,9 @@ public class TemperatureMeResponse {
     private String profileImageUrl;
     private BadgeDto mainBadge;
     private AbandonBadgeDto abandonBadgeDto;
+
+    /** 실시간 리더보드 기준 (미적재 시 null) */
+    private Long rank;
+    private Long rankedCount;
+    private Double topPercent;
 }
@@ -0,0 +1,11 @@
+package goorm.ddok.reputation.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 사용자 온도가 바뀌었음을 알리는 이벤트
+ * - 커밋 이후 온도 리더보드(Redis ZSET)에 반영된다.
+ */
+public record TemperatureChangedEvent(Long userId, BigDecimal temperature, Instant changedAt) {
+}
@@ -2,10 +2,13 @@ package goorm.ddok.reputation.repository;
 
 import goorm.ddok.member.domain.User;
 import goorm.ddok.reputation.domain.UserReputation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -51,4 +54,34 @@ public interface UserReputationRepository extends JpaRepository<UserReputation,
 
     Optional<UserReputation> findFirstByUser_Location_Region1DepthNameInOrderByTemperatureDescUpdatedAtDesc(List<String> regions);
 
+    /** 리더보드 적재용 행 (온도 + 지역) */
+    interface LeaderboardRow {
+        Long getId();
+        Long getUserId();
+        BigDecimal getTemperature();
+        Instant getUpdatedAt();
+        String getRegion1DepthName();
+    }
+
+    @Query("""
+    select ur.id as id, u.id as userId, ur.temperature as temperature, ur.updatedAt as updatedAt,
+           loc.region1DepthName as region1DepthName
+    from UserReputation ur
+    join ur.user u
+    left join u.location loc
+    where ur.id > :afterId
+    order by ur.id asc
+    """)
+    List<LeaderboardRow> findLeaderboardRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+    select ur.id as id, u.id as userId, ur.temperature as temperature, ur.updatedAt as updatedAt,
+           loc.region1DepthName as region1DepthName
+    from UserReputation ur
+    join ur.user u
+    left join u.location loc
+    where u.id = :userId
+    """)
+    Optional<LeaderboardRow> findLeaderboardRowByUserId(@Param("userId") Long userId);
+
 }
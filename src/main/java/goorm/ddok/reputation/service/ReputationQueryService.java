@@ -1,5 +1,6 @@
 package goorm.ddok.reputation.service;
 
+import goorm.ddok.badge.dto.BadgeSummary;
 import goorm.ddok.badge.service.BadgeService;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
@@ -8,6 +9,7 @@ import goorm.ddok.member.domain.User;
 import goorm.ddok.member.domain.UserPosition;
 import goorm.ddok.member.domain.UserPositionType;
 import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.reputation.domain.RankingRegions;
 import goorm.ddok.reputation.domain.UserReputation;
 import goorm.ddok.reputation.dto.response.TemperatureMeResponse;
 import goorm.ddok.reputation.dto.response.TemperatureRankResponse;
@@ -17,8 +19,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Service
@@ -28,6 +31,7 @@ public class ReputationQueryService {
     private final UserReputationRepository userReputationRepository;
     private final BadgeService badgeService;
     private final UserRepository userRepository;
+    private final TemperatureLeaderboardService leaderboard;
 
     @Transactional(readOnly = true)
     public List<TemperatureRankResponse> getTop10TemperatureRank(
@@ -85,11 +89,9 @@ public class ReputationQueryService {
 
     @Transactional(readOnly = true)
     public List<TemperatureRegionResponse> getRegionTop1Rank(CustomUserDetails currentUser) {
-        List<String> mainRegions = List.of("서울", "경기도", "강원도", "충청도", "경상도", "전라도", "제주도");
-
-        return mainRegions.stream()
+        return RankingRegions.MAIN_REGIONS.stream()
                 .map(mainRegion -> {
-                    List<String> rawRegions = getRawRegionsForMain(mainRegion);
+                    List<String> rawRegions = RankingRegions.rawRegionsOf(mainRegion);
 
                     UserReputation top1 = userReputationRepository.findFirstByUser_Location_Region1DepthNameInOrderByTemperatureDescUpdatedAtDesc(rawRegions)
                             .orElse(null);
@@ -116,20 +118,80 @@ public class ReputationQueryService {
                 .toList();
     }
 
-    private List<String> getRawRegionsForMain(String mainRegion) {
-        return switch (mainRegion) {
-            case "서울" -> List.of("서울", "서울시", "서울특별시");
-            case "경기도" -> List.of("경기", "인천", "경기도", "인천광역시");
-            case "강원도" -> List.of("강원", "강원도", "강원특별자치도");
-            case "충청도" -> List.of("충청", "충북", "충남", "세종", "충청북도", "충청남도", "대전", "대전광역시", "세종특별자치시", "세종시");
-            case "경상도" -> List.of("경상", "경상북도", "경상남도", "대구광역시", "부산광역시", "울산광역시", "부산시", "울산시", "대구시", "경북", "경남", "대구", "부산", "울산");
-            case "전라도" -> List.of("전라", "전라북도", "전라남도", "광주광역시", "전남", "전북", "광주", "전북특별자치도");
-            case "제주도" -> List.of("제주", "제주도", "제주특별자치도");
-            default -> List.of();
-        };
+
+
+
+    /* ---------- 실시간 랭킹 (리더보드 ZSET) ----------
+     * 순위/온도는 ZSET 에서, 프로필/배지는 id 로 한 번에 채운다 (쿼리 2회)
+     * 리더보드가 비어 있으면(재적재 전) null → 호출 측이 시간 단위 캐시로 대체
+     * 탈퇴 등으로 사용자를 찾지 못한 항목은 건너뛰고 순위를 다시 매긴다
+     */
+
+    @Transactional(readOnly = true)
+    public List<TemperatureRankResponse> getLiveTopRank(int n) {
+        List<TemperatureLeaderboardService.Entry> entries = leaderboard.top(n);
+        if (entries.isEmpty()) return null;
+
+        Map<Long, User> users = hydrateUsers(entries.stream().map(TemperatureLeaderboardService.Entry::userId).toList());
+        Map<Long, BadgeSummary> badges = badgeService.getBadgeSummaries(users.keySet());
+
+        List<TemperatureRankResponse> result = new ArrayList<>(entries.size());
+        for (TemperatureLeaderboardService.Entry e : entries) {
+            User target = users.get(e.userId());
+            if (target == null) continue;
+            BadgeSummary badge = badges.getOrDefault(target.getId(), BadgeSummary.empty());
+            result.add(TemperatureRankResponse.builder()
+                    .rank(result.size() + 1)
+                    .userId(target.getId())
+                    .nickname(target.getNickname())
+                    .temperature(e.temperature())
+                    .mainPosition(extractMainPosition(target))
+                    .profileImageUrl(target.getProfileImageUrl())
+                    .mainBadge(badge.representative())
+                    .abandonBadge(badge.abandon())
+                    .updatedAt(e.updatedAt())
+                    .build());
+        }
+        return result;
     }
 
+    @Transactional(readOnly = true)
+    public List<TemperatureRegionResponse> getLiveRegionTop1Rank() {
+        Map<String, TemperatureLeaderboardService.Entry> leaders = new LinkedHashMap<>();
+        for (String mainRegion : RankingRegions.MAIN_REGIONS) {
+            leaderboard.topOfRegion(mainRegion, 1).stream().findFirst()
+                    .ifPresent(e -> leaders.put(mainRegion, e));
+        }
+        if (leaders.isEmpty()) return null;
+
+        Map<Long, User> users = hydrateUsers(leaders.values().stream().map(TemperatureLeaderboardService.Entry::userId).toList());
+        Map<Long, BadgeSummary> badges = badgeService.getBadgeSummaries(users.keySet());
+
+        List<TemperatureRegionResponse> result = new ArrayList<>(leaders.size());
+        leaders.forEach((mainRegion, e) -> {
+            User target = users.get(e.userId());
+            if (target == null) return;
+            BadgeSummary badge = badges.getOrDefault(target.getId(), BadgeSummary.empty());
+            result.add(TemperatureRegionResponse.builder()
+                    .region(mainRegion)
+                    .userId(target.getId())
+                    .nickname(target.getNickname())
+                    .temperature(e.temperature())
+                    .mainPosition(extractMainPosition(target))
+                    .profileImageUrl(target.getProfileImageUrl())
+                    .mainBadge(badge.representative())
+                    .abandonBadge(badge.abandon())
+                    .updatedAt(e.updatedAt())
+                    .build());
+        });
+        return result;
+    }
 
+    private Map<Long, User> hydrateUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        return userRepository.findUsersByIdsWithDetails(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+    }
 
     @Transactional(readOnly = true)
     public TemperatureMeResponse getMyTemperature(CustomUserDetails currentUser) {
@@ -147,6 +209,8 @@ public class ReputationQueryService {
         UserReputation reputation = userReputationRepository.findByUser(user)
                 .orElseThrow(() -> new GlobalException(ErrorCode.REPUTATION_NOT_FOUND));
 
+        TemperatureLeaderboardService.Standing standing = leaderboard.standingOf(user.getId()).orElse(null);
+
         return TemperatureMeResponse.builder()
                 .userId(user.getId())
                 .nickname(user.getNickname())
@@ -155,6 +219,9 @@ public class ReputationQueryService {
                 .profileImageUrl(user.getProfileImageUrl())
                 .mainBadge(badgeService.getRepresentativeGoodBadge(user))
                 .abandonBadgeDto(badgeService.getAbandonBadge(user))
+                .rank(standing == null ? null : standing.rank())
+                .rankedCount(standing == null ? null : standing.total())
+                .topPercent(standing == null ? null : standing.topPercent())
                 .build();
 
     }
@@ -0,0 +1,288 @@
+package goorm.ddok.reputation.service;
+
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.map.index.MapPinCategory;
+import goorm.ddok.reputation.domain.RankingRegions;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
+import goorm.ddok.reputation.repository.UserReputationRepository;
+import goorm.ddok.reputation.repository.UserReputationRepository.LeaderboardRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+
+import static goorm.ddok.reputation.cache.ReputationRankRedisKeys.*;
+
+/**
+ * 실시간 온도 리더보드 (Redis ZSET)
+ *
+ * - 전체 ZSET 1개 + 대표 지역별 ZSET 7개, member = userId
+ * - score = 온도(x10) * 10^10 + 갱신 epoch 초 → 온도 내림차순, 동점이면 최근 갱신 우선 (DB 랭킹과 같은 정렬)
+ * - 온도 변경(TemperatureChangedEvent)은 커밋 이후 ZADD, 위치 변경(PLAYER 핀 변경)은 지역 ZSET 간 이동
+ * - 순위/TOP N/내 순위·백분위 조회는 ZREVRANK/ZREVRANGE 로 O(log n)
+ * - 키가 없으면(최초 기동/Redis 초기화) 랭킹 배치에서 DB 로 재적재
+ */
+@Slf4j
+@Service
+public class TemperatureLeaderboardService {
+
+    /** 동점 처리를 위한 epoch 초 자리 (10자리) */
+    private static final double TIE_SPAN = 1e10;
+    /** 지역 매핑이 없는 사용자 표시 (HASH 값) */
+    private static final String NO_REGION = "";
+
+    public record Entry(long rank, Long userId, BigDecimal temperature, Instant updatedAt) {}
+
+    public record Standing(long rank, long total, double topPercent, BigDecimal temperature) {}
+
+    private final StringRedisTemplate redis;
+    private final UserReputationRepository userReputationRepository;
+    private final int rebuildBatchSize;
+
+    public TemperatureLeaderboardService(
+            StringRedisTemplate redis,
+            UserReputationRepository userReputationRepository,
+            @Value("${app.reputation.leaderboard.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.redis = redis;
+        this.userReputationRepository = userReputationRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /* ---------- 조회 ---------- */
+
+    /** 전체 TOP N */
+    public List<Entry> top(int n) {
+        return readTop(LEADERBOARD, n);
+    }
+
+    /** 대표 지역 TOP N */
+    public List<Entry> topOfRegion(String mainRegion, int n) {
+        return readTop(regionLeaderboard(mainRegion), n);
+    }
+
+    /** 전체 기준 내 순위/백분위 (리더보드에 없으면 empty) */
+    public Optional<Standing> standingOf(Long userId) {
+        return readStanding(LEADERBOARD, userId);
+    }
+
+    /* ---------- 증분 반영 ---------- */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(TemperatureChangedEvent e) {
+        if (e.userId() == null || e.temperature() == null) return;
+        try {
+            String member = String.valueOf(e.userId());
+            Object region = redis.opsForHash().get(LEADERBOARD_REGION_OF, member);
+            if (region == null) {
+                // 처음 보는 사용자: 지역까지 DB 에서 확인해 배치
+                userReputationRepository.findLeaderboardRowByUserId(e.userId()).ifPresent(this::place);
+                return;
+            }
+
+            double score = score(e.temperature(), e.changedAt());
+            redis.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                c.zAdd(LEADERBOARD, score, member);
+                if (!region.toString().isEmpty()) c.zAdd(regionLeaderboard(region.toString()), score, member);
+                return null;
+            });
+        } catch (Exception ex) {
+            log.warn("Leaderboard update failed: userId={}", e.userId(), ex);
+        }
+    }
+
+    /** 위치가 바뀐 사용자는 지역 ZSET 을 옮긴다 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MapPinChangedEvent e) {
+        if (e.category() != MapPinCategory.PLAYER || e.id() == null) return;
+        try {
+            userReputationRepository.findLeaderboardRowByUserId(e.id())
+                    .ifPresentOrElse(this::place, () -> remove(e.id()));
+        } catch (Exception ex) {
+            log.warn("Leaderboard region move failed: userId={}", e.id(), ex);
+        }
+    }
+
+    /* ---------- 재적재 ---------- */
+
+    /** 전체 리더보드 키가 없을 때만 DB 에서 다시 적재 (랭킹 배치에서 호출) */
+    public void rebuildIfMissing() {
+        try {
+            if (Boolean.TRUE.equals(redis.hasKey(LEADERBOARD))) return;
+            rebuild();
+        } catch (Exception e) {
+            log.error("Leaderboard rebuild failed", e);
+        }
+    }
+
+    /** tmp 키에 적재한 뒤 RENAME 으로 교체 */
+    public void rebuild() {
+        String tmpSuffix = ":tmp";
+        long afterId = 0L;
+        int total = 0;
+        Set<String> filledRegions = new HashSet<>();
+
+        redis.delete(tmpKeys(tmpSuffix));
+
+        while (true) {
+            List<LeaderboardRow> rows = userReputationRepository
+                    .findLeaderboardRowsAfter(afterId, PageRequest.of(0, rebuildBatchSize));
+            if (rows.isEmpty()) break;
+
+            redis.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                for (LeaderboardRow row : rows) {
+                    String member = String.valueOf(row.getUserId());
+                    double score = score(row.getTemperature(), row.getUpdatedAt());
+                    c.zAdd(LEADERBOARD + tmpSuffix, score, member);
+
+                    String main = RankingRegions.mainRegionOf(row.getRegion1DepthName());
+                    c.hSet(LEADERBOARD_REGION_OF + tmpSuffix, member, main == null ? NO_REGION : main);
+                    if (main != null) {
+                        c.zAdd(regionLeaderboard(main) + tmpSuffix, score, member);
+                        filledRegions.add(main);
+                    }
+                }
+                return null;
+            });
+
+            total += rows.size();
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < rebuildBatchSize) break;
+        }
+
+        if (total == 0) {
+            redis.delete(liveKeys());
+            return;
+        }
+
+        redis.rename(LEADERBOARD + tmpSuffix, LEADERBOARD);
+        redis.rename(LEADERBOARD_REGION_OF + tmpSuffix, LEADERBOARD_REGION_OF);
+        for (String main : RankingRegions.MAIN_REGIONS) {
+            if (filledRegions.contains(main)) {
+                redis.rename(regionLeaderboard(main) + tmpSuffix, regionLeaderboard(main));
+            } else {
+                redis.delete(regionLeaderboard(main));
+            }
+        }
+        log.info("Leaderboard rebuilt: users={}, regions={}", total, filledRegions.size());
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private void place(LeaderboardRow row) {
+        String member = String.valueOf(row.getUserId());
+        double score = score(row.getTemperature(), row.getUpdatedAt());
+        String main = RankingRegions.mainRegionOf(row.getRegion1DepthName());
+
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            c.zAdd(LEADERBOARD, score, member);
+            for (String region : RankingRegions.MAIN_REGIONS) {
+                if (!region.equals(main)) c.zRem(regionLeaderboard(region), member);
+            }
+            if (main != null) c.zAdd(regionLeaderboard(main), score, member);
+            c.hSet(LEADERBOARD_REGION_OF, member, main == null ? NO_REGION : main);
+            return null;
+        });
+    }
+
+    private void remove(Long userId) {
+        String member = String.valueOf(userId);
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            c.zRem(LEADERBOARD, member);
+            for (String region : RankingRegions.MAIN_REGIONS) c.zRem(regionLeaderboard(region), member);
+            c.hDel(LEADERBOARD_REGION_OF, member);
+            return null;
+        });
+    }
+
+    private List<Entry> readTop(String key, int n) {
+        if (n <= 0) return List.of();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet().reverseRangeWithScores(key, 0, n - 1);
+            if (tuples == null || tuples.isEmpty()) return List.of();
+
+            List<Entry> entries = new ArrayList<>(tuples.size());
+            long rank = 1;
+            for (ZSetOperations.TypedTuple<String> t : tuples) {
+                if (t.getValue() == null || t.getScore() == null) continue;
+                entries.add(new Entry(rank++, Long.valueOf(t.getValue()),
+                        temperatureOf(t.getScore()), updatedAtOf(t.getScore())));
+            }
+            return entries;
+        } catch (Exception e) {
+            log.warn("Leaderboard read failed: key={}", key, e);
+            return List.of();
+        }
+    }
+
+    private Optional<Standing> readStanding(String key, Long userId) {
+        if (userId == null) return Optional.empty();
+        try {
+            String member = String.valueOf(userId);
+            List<Object> res = redis.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                c.zRevRank(key, member);
+                c.zScore(key, member);
+                c.zCard(key);
+                return null;
+            });
+
+            if (res.size() < 3 || res.get(0) == null || res.get(1) == null) return Optional.empty();
+            long rank = ((Number) res.get(0)).longValue() + 1;
+            BigDecimal temperature = temperatureOf(((Number) res.get(1)).doubleValue());
+            long total = ((Number) res.get(2)).longValue();
+            double topPercent = total == 0 ? 0.0
+                    : BigDecimal.valueOf(rank * 100.0 / total).setScale(1, RoundingMode.HALF_UP).doubleValue();
+
+            return Optional.of(new Standing(rank, total, topPercent, temperature));
+        } catch (Exception e) {
+            log.warn("Leaderboard standing read failed: key={}, userId={}", key, userId, e);
+            return Optional.empty();
+        }
+    }
+
+    private static double score(BigDecimal temperature, Instant at) {
+        long tenths = temperature.movePointRight(1).setScale(0, RoundingMode.HALF_UP).longValue();
+        long seconds = (at == null) ? 0L : at.getEpochSecond();
+        return tenths * TIE_SPAN + seconds;
+    }
+
+    private static BigDecimal temperatureOf(double score) {
+        return BigDecimal.valueOf((long) Math.floor(score / TIE_SPAN), 1);
+    }
+
+    /** score 의 하위 10자리 = 갱신 epoch 초 (0 이면 알 수 없음) */
+    private static Instant updatedAtOf(double score) {
+        long seconds = (long) (score - Math.floor(score / TIE_SPAN) * TIE_SPAN);
+        return seconds <= 0 ? null : Instant.ofEpochSecond(seconds);
+    }
+
+    private static List<String> tmpKeys(String suffix) {
+        List<String> keys = new ArrayList<>();
+        for (String key : liveKeys()) keys.add(key + suffix);
+        return keys;
+    }
+
+    private static List<String> liveKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(LEADERBOARD);
+        keys.add(LEADERBOARD_REGION_OF);
+        for (String main : RankingRegions.MAIN_REGIONS) keys.add(regionLeaderboard(main));
+        return keys;
+    }
+}
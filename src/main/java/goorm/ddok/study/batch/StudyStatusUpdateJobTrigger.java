@@ -1,5 +1,7 @@
 package goorm.ddok.study.batch;
 
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.service.RecruitmentCardProjector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -25,6 +27,7 @@ public class StudyStatusUpdateJobTrigger {
     private final JobLauncher jobLauncher;
     private final Job studyStatusUpdateJob;
     private final JobExplorer jobExplorer;
+    private final RecruitmentCardProjector recruitmentCardProjector;
 
     @EventListener(ApplicationReadyEvent.class)
     public void runOnceAtStartup() {
@@ -53,6 +56,9 @@ public class StudyStatusUpdateJobTrigger {
                     .toJobParameters();
             JobExecution exec = jobLauncher.run(studyStatusUpdateJob, params);
             log.info("Triggered {} (reason={}) execId={}", name, reason, exec.getId());
+
+            // JpaItemWriter 로 바뀐 상태를 목록 카드에도 반영
+            recruitmentCardProjector.syncStatuses(RecruitmentKind.STUDY);
         } catch (Exception e) {
             log.error("Failed to run {}", name, e);
         }
@@ -69,6 +69,29 @@ public interface StudyRecruitmentRepository extends JpaRepository<StudyRecruitme
             @Param("neLng") BigDecimal neLng
     );
 
+    @Query("""
+        select
+          sr.id as id,
+          sr.title as title,
+          sr.teamStatus as teamStatus,
+          sr.bannerImageUrl as bannerImageUrl,
+          sr.region1depthName as region1depthName,
+          sr.region2depthName as region2depthName,
+          sr.region3depthName as region3depthName,
+          sr.roadName as roadName,
+          sr.mainBuildingNo as mainBuildingNo,
+          sr.subBuildingNo as subBuildingNo,
+          sr.zoneNo as zoneNo,
+          sr.latitude as latitude,
+          sr.longitude as longitude
+        from StudyRecruitment sr
+        where sr.id = :id
+          and sr.deletedAt is null
+          and sr.latitude is not null
+          and sr.longitude is not null
+    """)
+    Optional<MapRow> findMapRowById(@Param("id") Long id);
+
     @Query("""
     select distinct
       sr.id               as id,
@@ -3,12 +3,15 @@ package goorm.ddok.study.service;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.study.domain.StudyRecruitment;
 import goorm.ddok.study.dto.request.StudyDeleteRequest;
 import goorm.ddok.study.repository.StudyParticipantRepository;
 import goorm.ddok.study.repository.StudyRecruitmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class StudyDeleteService {
 
     private final StudyRecruitmentRepository studyRecruitmentRepository;
     private final StudyParticipantRepository studyParticipantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void delete(Long studyId, StudyDeleteRequest req, CustomUserDetails me) {
         // 인증 체크
@@ -53,5 +57,8 @@ public class StudyDeleteService {
             // 이미 삭제되었거나 동시성 이슈 등
             throw new GlobalException(ErrorCode.STUDY_NOT_FOUND);
         }
+
+        eventPublisher.publishEvent(MapPinChangedEvent.study(studyId));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.study(studyId));
     }
 }
\ No newline at end of file
@@ -2,6 +2,13 @@ package goorm.ddok.study.service;
 
 import goorm.ddok.global.dto.PreferredAgesDto;
 import goorm.ddok.project.domain.TeamStatus;
+import goorm.ddok.recruitment.domain.RecruitmentCard;
+import goorm.ddok.recruitment.domain.RecruitmentKind;
+import goorm.ddok.recruitment.dto.response.RecruitmentFacetPageResponse;
+import goorm.ddok.recruitment.repository.RecruitmentCardRepository;
+import goorm.ddok.recruitment.search.RecruitmentSearchCriteria;
+import goorm.ddok.recruitment.search.RecruitmentSearchResult;
+import goorm.ddok.recruitment.search.RecruitmentSearchService;
 import goorm.ddok.study.domain.StudyMode;
 import goorm.ddok.study.domain.StudyRecruitment;
 import goorm.ddok.study.domain.StudyType;
@@ -10,7 +17,11 @@ import goorm.ddok.study.repository.StudyRecruitmentRepository;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,11 +35,19 @@ import java.util.stream.Collectors;
 
 import static org.springframework.util.StringUtils.hasText;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StudyListService {
 
     private final StudyRecruitmentRepository studyRecruitmentRepository;
+    private final RecruitmentCardRepository recruitmentCardRepository;
+    private final ObjectProvider<RecruitmentSearchService> recruitmentSearchService;
+
+    /** 목록/검색을 recruitment_card 읽기 모델에서 조회 (false 면 원본 테이블 조회) */
+    @Value("${app.recruitment.card.enabled:true}")
+    private boolean cardEnabled;
+
     private static final Map<String, StudyType> TYPE_ALIAS = createTypeAlias();
 
     private static Map<String, StudyType> createTypeAlias() {
@@ -70,6 +89,9 @@ public class StudyListService {
     @Transactional(readOnly = true)
     public Page<StudyListResponse> getStudies(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (cardEnabled) {
+            return recruitmentCardRepository.findByKind(RecruitmentKind.STUDY, pageable).map(this::toResponse);
+        }
         Page<StudyRecruitment> rows = studyRecruitmentRepository.findByDeletedAtIsNull(pageable);
         return rows.map(this::toResponse);
     }
@@ -90,6 +112,12 @@ public class StudyListService {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
+        if (cardEnabled) {
+            Specification<RecruitmentCard> cardSpec = buildCardSpec(keyword, statusCsv, typeCsv, capacity, modeCsv,
+                    ageMin, ageMax, expectedMonth, startDate);
+            return recruitmentCardRepository.findAll(cardSpec, pageable).map(this::toResponse);
+        }
+
         Specification<StudyRecruitment> spec = Specification.where(isNotDeleted());
 
         // 키워드(제목 + 주소요소, 콤마/공백 단위 토큰)
@@ -173,6 +201,125 @@ public class StudyListService {
         return rows.map(this::toResponse);
     }
 
+    /**
+     * 검색 + 필터별 facet 건수 (Elasticsearch 한 번 조회)
+     * - 검색 엔진이 꺼져 있거나 실패하면 기존 검색 결과만 반환 (facets = null)
+     */
+    @Transactional(readOnly = true)
+    public RecruitmentFacetPageResponse<StudyListResponse> searchStudiesWithFacets(
+            String keyword, String statusCsv, String typeCsv, Integer capacity, String modeCsv,
+            Integer ageMin, Integer ageMax, Integer expectedMonth, LocalDate startDate,
+            int page, int size
+    ) {
+        RecruitmentSearchService engine = recruitmentSearchService.getIfAvailable();
+        if (engine != null) {
+            var criteria = new RecruitmentSearchCriteria(
+                    RecruitmentKind.STUDY,
+                    keyword,
+                    parseTeamStatuses(statusCsv).stream().map(Enum::name).collect(Collectors.toSet()),
+                    null,
+                    parseStudyTypes(typeCsv).stream().map(Enum::name).collect(Collectors.toSet()),
+                    parseModes(modeCsv).stream().map(Enum::name).collect(Collectors.toSet()),
+                    capacity, ageMin, ageMax, expectedMonth, startDate
+            );
+            try {
+                RecruitmentSearchResult result = engine.search(criteria, PageRequest.of(page, size));
+                List<StudyListResponse> items = loadCardsInOrder(result.ids()).stream().map(this::toResponse).toList();
+                return RecruitmentFacetPageResponse.of(
+                        new PageImpl<>(items, PageRequest.of(page, size), result.total()), result.facets());
+            } catch (Exception e) {
+                log.warn("Study search engine failed, falling back to DB search", e);
+            }
+        }
+
+        Page<StudyListResponse> rows = searchStudies(keyword, statusCsv, typeCsv, capacity, modeCsv,
+                ageMin, ageMax, expectedMonth, startDate, page, size);
+        return RecruitmentFacetPageResponse.of(rows, null);
+    }
+
+    /** 검색 결과 id 순서대로 카드 조회 */
+    private List<RecruitmentCard> loadCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, RecruitmentCard> byId = new HashMap<>();
+        for (RecruitmentCard c : recruitmentCardRepository.findByKindAndRecruitmentIdIn(RecruitmentKind.STUDY, ids)) {
+            byId.put(c.getRecruitmentId(), c);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /** searchStudies 와 같은 조건을 카드 단일 테이블 조건으로 (enum 은 name 문자열로 비교) */
+    private Specification<RecruitmentCard> buildCardSpec(
+            String keyword, String statusCsv, String typeCsv, Integer capacity, String modeCsv,
+            Integer ageMin, Integer ageMax, Integer expectedMonth, LocalDate startDate
+    ) {
+        return (root, q, cb) -> {
+            List<Predicate> preds = new ArrayList<>();
+            preds.add(cb.equal(root.get("kind"), RecruitmentKind.STUDY));
+
+            // 토큰마다 search_text 에 포함 (대소문자 구분은 기존과 동일)
+            if (hasText(keyword)) {
+                for (String token : splitTokens(keyword)) {
+                    preds.add(cb.like(root.get("searchText"), "%" + token + "%"));
+                }
+            }
+
+            var statusSet = parseTeamStatuses(statusCsv);
+            if (!statusSet.isEmpty()) {
+                preds.add(root.get("teamStatus").in(statusSet.stream().map(Enum::name).toList()));
+            }
+
+            var typeSet = parseStudyTypes(typeCsv);
+            if (!typeSet.isEmpty()) {
+                preds.add(root.get("studyType").in(typeSet.stream().map(Enum::name).toList()));
+            }
+
+            var modeSet = parseModes(modeCsv);
+            if (!modeSet.isEmpty()) {
+                preds.add(root.get("mode").in(modeSet.stream().map(Enum::name).toList()));
+            }
+
+            if (capacity != null) {
+                preds.add(cb.equal(root.get("capacity"), capacity));
+            }
+
+            if (ageMin != null || ageMax != null) {
+                Expression<Integer> sMin = root.get("ageMin");
+                Expression<Integer> sMax = root.get("ageMax");
+
+                Integer reqMin = ageMin;
+                Integer reqMax = ageMax;
+                if (reqMin != null && reqMax != null && reqMin > reqMax) {
+                    int tmp = reqMin; reqMin = reqMax; reqMax = tmp;
+                }
+
+                Predicate openMin = cb.or(cb.isNull(sMin), cb.equal(sMin, 0));
+                Predicate openMax = cb.or(cb.isNull(sMax), cb.equal(sMax, 0));
+
+                if (reqMin != null && reqMax != null) {
+                    preds.add(cb.and(
+                            cb.or(openMin, cb.lessThanOrEqualTo(sMin, reqMin)),
+                            cb.or(openMax, cb.greaterThanOrEqualTo(sMax, reqMax))));
+                } else if (reqMin != null) {
+                    preds.add(cb.or(openMax, cb.greaterThanOrEqualTo(sMax, reqMin)));
+                } else {
+                    preds.add(cb.or(openMin, cb.lessThanOrEqualTo(sMin, reqMax)));
+                }
+            }
+
+            if (expectedMonth != null) {
+                preds.add(expectedMonth >= 5
+                        ? cb.greaterThanOrEqualTo(root.get("expectedMonths"), 5)
+                        : cb.equal(root.get("expectedMonths"), expectedMonth));
+            }
+
+            if (startDate != null) {
+                preds.add(cb.greaterThanOrEqualTo(root.get("startDate"), startDate));
+            }
+
+            return cb.and(preds.toArray(new Predicate[0]));
+        };
+    }
+
     private Specification<StudyRecruitment> isNotDeleted() {
         return (root, q, cb) -> cb.isNull(root.get("deletedAt"));
     }
@@ -280,6 +427,26 @@ public class StudyListService {
                 .build();
     }
 
+    /** 카드 → 응답 (주소는 이미 정리되어 저장됨) */
+    private StudyListResponse toResponse(RecruitmentCard c) {
+        return StudyListResponse.builder()
+                .studyId(c.getRecruitmentId())
+                .title(c.getTitle())
+                .teamStatus(c.getTeamStatus())
+                .bannerImageUrl(c.getBannerImageUrl())
+                .capacity(c.getCapacity())
+                .mode(StudyMode.valueOf(c.getMode()))
+                .address(c.getAddress())
+                .studyType(c.getStudyType() == null ? null : StudyType.valueOf(c.getStudyType()))
+                .preferredAges(PreferredAgesDto.of(
+                        (c.getAgeMin() != null && c.getAgeMin() == 0) ? null : c.getAgeMin(),
+                        (c.getAgeMax() != null && c.getAgeMax() == 0) ? null : c.getAgeMax()
+                ))
+                .expectedMonth(c.getExpectedMonths())
+                .startDate(c.getStartDate())
+                .build();
+    }
+
     private String shortAddress(String region1, String region2) {
         String r1 = region1 == null ? "" : region1.trim();
         String r2 = region2 == null ? "" : region2.trim();
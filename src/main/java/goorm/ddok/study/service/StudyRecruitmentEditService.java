@@ -1,8 +1,7 @@
 package goorm.ddok.study.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.dto.LocationDto;
@@ -12,6 +11,8 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.file.FileService;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.global.util.BannerImageService;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.study.domain.*;
 import goorm.ddok.study.dto.UserSummaryDto;
 import goorm.ddok.study.dto.request.StudyRecruitmentUpdateRequest;
@@ -25,6 +26,7 @@ import goorm.ddok.member.domain.UserPositionType;
 import goorm.ddok.reputation.domain.UserReputation;
 import goorm.ddok.reputation.repository.UserReputationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -47,8 +49,8 @@ public class StudyRecruitmentEditService {
     private final BannerImageService bannerImageService;
     private final FileService fileService;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /* =========================
@@ -151,6 +153,8 @@ public class StudyRecruitmentEditService {
         mergeTraits(study, req.getTraits());
 
         StudyRecruitment saved = studyRecruitmentRepository.save(study);
+        eventPublisher.publishEvent(MapPinChangedEvent.study(saved.getId()));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.study(saved.getId()));
         return buildDetailResponse(saved, me.getUser());
     }
 
@@ -285,17 +289,10 @@ public class StudyRecruitmentEditService {
         AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(u);
 
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-
-        if (me != null && !Objects.equals(me.getId(), u.getId())) {
-            Long meId = me.getId();
-            Long otherId = u.getId();
-
-            chatRoomId = chatRoomService.findPrivateRoomId(meId, otherId).orElse(null);
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, otherId);
-        }
+        ViewerRelationResolver.Relation relation =
+                viewerRelationResolver.resolve(me == null ? null : me.getId(), u.getId());
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return UserSummaryDto.builder()
                 .userId(u.getId())
@@ -1,8 +1,7 @@
 package goorm.ddok.study.service;
 
 import goorm.ddok.badge.service.BadgeService;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.dto.LocationDto;
@@ -45,8 +44,7 @@ public class StudyRecruitmentQueryService {
     private final UserReputationRepository userReputationRepository;
     private final TeamRepository teamRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
 
     /** 스터디 상세 조회 (수정페이지와 동일 스키마) */
@@ -170,18 +168,10 @@ public class StudyRecruitmentQueryService {
                 .map(UserReputation::getTemperature)
                 .orElse(null);
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-
-        if (me != null && !Objects.equals(me.getId(), u.getId())) {
-            Long meId = me.getId();
-            Long otherId = u.getId();
-
-            chatRoomId = chatRoomService.findPrivateRoomId(meId, otherId).orElse(null);
-
-            dmPending = (chatRoomId != null)
-                    || dmRequestService.isDmPendingOrAcceptedOrChatExists(meId, otherId);
-        }
+        ViewerRelationResolver.Relation relation =
+                viewerRelationResolver.resolve(me == null ? null : me.getId(), u.getId());
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return UserSummaryDto.builder()
                 .userId(u.getId())
@@ -7,6 +7,8 @@ import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.file.FileService;
 import goorm.ddok.global.security.auth.CustomUserDetails;
 import goorm.ddok.global.util.BannerImageService;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.member.domain.User;
 import goorm.ddok.notification.event.StudyJoinRequestedEvent;
 import goorm.ddok.study.domain.*;
@@ -144,6 +146,9 @@ public class StudyRecruitmentService {
                 .role(ParticipantRole.LEADER)
                 .build());
 
+        eventPublisher.publishEvent(MapPinChangedEvent.study(study.getId()));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.study(study.getId()));
+
         LocationDto location = buildLocationForRead(study);
 
         return StudyRecruitmentCreateResponse.builder()
@@ -4,12 +4,17 @@ import goorm.ddok.team.domain.TeamMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     List<TeamMember> findByTeamId(Long teamId);
+
+    @Query("select distinct tm.user.id from TeamMember tm where tm.team.id = :teamId")
+    List<Long> findDistinctUserIdsByTeamId(@Param("teamId") Long teamId);
     Optional<TeamMember> findByTeamIdAndUserId(Long teamId, Long userId);
 
     /**
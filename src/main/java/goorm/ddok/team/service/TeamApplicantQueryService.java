@@ -2,8 +2,7 @@ package goorm.ddok.team.service;
 
 import goorm.ddok.badge.service.BadgeService;
 import goorm.ddok.chat.dto.response.PaginationResponse;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.exception.ErrorCode;
@@ -30,7 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -42,8 +41,7 @@ public class TeamApplicantQueryService {
     private final TeamMemberRepository teamMemberRepository;
     private final TeamRepository teamRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
     public TeamApplicantsResponse getApplicants(
             Long teamId,
@@ -82,6 +80,9 @@ public class TeamApplicantQueryService {
                             PageRequest.of(page, size)
                     );
 
+            Map<Long, ViewerRelationResolver.Relation> relations = viewerRelationResolver.resolveAll(
+                    currentUserId, apps.stream().map(app -> app.getUser().getId()).toList());
+
             List<TeamApplicantResponse> items = apps.stream()
                     .map(app -> TeamApplicantResponse.builder()
                             .applicantId(app.getId())
@@ -89,7 +90,8 @@ public class TeamApplicantQueryService {
                             .status(goorm.ddok.team.domain.ApplicantStatus.from(app.getApplicationStatus()))
                             .appliedAt(app.getCreatedAt())
                             .IsMine(app.getUser().getId().equals(currentUserId))
-                            .user(toUserResponse(app.getUser(), currentUserId))
+                            .user(toUserResponse(app.getUser(),
+                                    relations.getOrDefault(app.getUser().getId(), ViewerRelationResolver.Relation.NONE)))
                             .build()
                     ).toList();
 
@@ -111,6 +113,9 @@ public class TeamApplicantQueryService {
                             PageRequest.of(page, size)
                     );
 
+            Map<Long, ViewerRelationResolver.Relation> relations = viewerRelationResolver.resolveAll(
+                    currentUserId, apps.stream().map(app -> app.getUser().getId()).toList());
+
             List<TeamApplicantResponse> items = apps.stream()
                     .map(app -> TeamApplicantResponse.builder()
                             .applicantId(app.getId())
@@ -118,7 +123,8 @@ public class TeamApplicantQueryService {
                             .status(goorm.ddok.team.domain.ApplicantStatus.from(app.getStatus()))
                             .appliedAt(app.getCreatedAt())
                             .IsMine(app.getUser().getId().equals(currentUserId))
-                            .user(toUserResponse(app.getUser(), currentUserId))
+                            .user(toUserResponse(app.getUser(),
+                                    relations.getOrDefault(app.getUser().getId(), ViewerRelationResolver.Relation.NONE)))
                             .build()
                     ).toList();
 
@@ -138,7 +144,7 @@ public class TeamApplicantQueryService {
     /**
      * User -> TeamApplicantUserResponse 변환
      */
-    private TeamApplicantUserResponse toUserResponse(goorm.ddok.member.domain.User user, Long currentUserId) {
+    private TeamApplicantUserResponse toUserResponse(goorm.ddok.member.domain.User user, ViewerRelationResolver.Relation relation) {
         // 대표 배지: 착한 배지들 중 tier 가장 높은 것
         BadgeDto mainBadge = badgeService.getGoodBadges(user).stream()
                 .max(Comparator.comparingInt(b -> b.getTier().ordinal()))
@@ -147,16 +153,8 @@ public class TeamApplicantQueryService {
         // 탈주 배지
         AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(user);
 
-        Long chatRoomId = null;
-        if (currentUserId != null && !Objects.equals(currentUserId, user.getId())) {
-            chatRoomId = chatRoomService.findPrivateRoomId(currentUserId, user.getId())
-                    .orElse(null);
-        }
-
-        boolean dmPending = false;
-        if (currentUserId != null && !Objects.equals(currentUserId, user.getId())) {
-            dmPending = dmRequestService.isDmPendingOrAcceptedOrChatExists(currentUserId, user.getId());
-        }
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return TeamApplicantUserResponse.builder()
                 .userId(user.getId())
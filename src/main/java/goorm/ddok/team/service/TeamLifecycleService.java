@@ -7,6 +7,8 @@ import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
 import goorm.ddok.global.exception.ErrorCode;
 import goorm.ddok.global.exception.GlobalException;
 import goorm.ddok.global.security.auth.CustomUserDetails;
+import goorm.ddok.map.event.MapPinChangedEvent;
+import goorm.ddok.recruitment.event.RecruitmentChangedEvent;
 import goorm.ddok.project.domain.ProjectRecruitment;
 import goorm.ddok.project.repository.ProjectRecruitmentRepository;
 import goorm.ddok.study.domain.StudyRecruitment;
@@ -18,6 +20,7 @@ import goorm.ddok.team.dto.response.TeamCloseResponse;
 import goorm.ddok.team.repository.TeamMemberRepository;
 import goorm.ddok.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +39,7 @@ public class TeamLifecycleService {
     private final TeamEvaluationRepository teamEvaluationRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final BadgeService badgeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeamCloseResponse closeTeamAndOpenEvaluation(Long teamId, CustomUserDetails me) {
         if (me == null || me.getUser() == null) throw new GlobalException(ErrorCode.UNAUTHORIZED);
@@ -93,6 +97,8 @@ public class TeamLifecycleService {
 
         pr = pr.toBuilder().teamStatus(goorm.ddok.project.domain.TeamStatus.CLOSED).build();
         projectRecruitmentRepository.save(pr);
+        eventPublisher.publishEvent(MapPinChangedEvent.project(recruitmentId));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.project(recruitmentId));
     }
 
     private void closeStudyRecruitment(Long recruitmentId) {
@@ -107,5 +113,7 @@ public class TeamLifecycleService {
 
         sr = sr.toBuilder().teamStatus(goorm.ddok.study.domain.TeamStatus.CLOSED).build();
         studyRecruitmentRepository.save(sr);
+        eventPublisher.publishEvent(MapPinChangedEvent.study(recruitmentId));
+        eventPublisher.publishEvent(RecruitmentChangedEvent.study(recruitmentId));
     }
 }
\ No newline at end of file
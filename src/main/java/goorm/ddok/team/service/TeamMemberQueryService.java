@@ -2,8 +2,7 @@ package goorm.ddok.team.service;
 
 import goorm.ddok.badge.service.BadgeService;
 import goorm.ddok.chat.dto.response.PaginationResponse;
-import goorm.ddok.chat.service.ChatRoomService;
-import goorm.ddok.chat.service.DmRequestCommandService;
+import goorm.ddok.chat.service.ViewerRelationResolver;
 import goorm.ddok.global.dto.AbandonBadgeDto;
 import goorm.ddok.global.dto.BadgeDto;
 import goorm.ddok.global.exception.ErrorCode;
@@ -31,7 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -44,8 +43,7 @@ public class TeamMemberQueryService {
     private final ProjectRecruitmentRepository projectRecruitmentRepository;
     private final StudyRecruitmentRepository studyRecruitmentRepository;
     private final BadgeService badgeService;
-    private final ChatRoomService chatRoomService;
-    private final DmRequestCommandService dmRequestService;
+    private final ViewerRelationResolver viewerRelationResolver;
 
 
     /**
@@ -82,6 +80,10 @@ public class TeamMemberQueryService {
         Page<TeamMember> members = teamMemberRepository
                 .findByTeam_IdAndDeletedAtIsNull(teamId, PageRequest.of(page, size));
 
+        // 채팅방/DM 상태는 페이지 단위로 한 번에 조회
+        Map<Long, ViewerRelationResolver.Relation> relations = viewerRelationResolver.resolveAll(
+                currentUserId, members.stream().map(m -> m.getUser().getId()).toList());
+
         List<TeamMemberResponse> items = members.stream()
                 .map(m -> TeamMemberResponse.builder()
                         .memberId(m.getId())
@@ -89,7 +91,8 @@ public class TeamMemberQueryService {
                         .role(m.getRole().name())
                         .joinedAt(m.getCreatedAt())
                         .IsMine(m.getUser().getId().equals(currentUserId))
-                        .user(toUserResponse(m.getUser(), currentUserId))
+                        .user(toUserResponse(m.getUser(),
+                                relations.getOrDefault(m.getUser().getId(), ViewerRelationResolver.Relation.NONE)))
                         .build())
                 .toList();
 
@@ -132,21 +135,16 @@ public class TeamMemberQueryService {
      * - 대표 배지: "착한 배지" 중 tier가 가장 높은 것
      * - 탈주 배지: AbandonBadgeDto 조회
      *
-     * @param user 변환할 사용자
+     * @param user     변환할 사용자
+     * @param relation 조회자와의 채팅방/DM 관계
      * @return {@link TeamApplicantUserResponse} 사용자 요약 정보
      */
-    private TeamApplicantUserResponse toUserResponse(User user, Long currentUserId) {
+    private TeamApplicantUserResponse toUserResponse(User user, ViewerRelationResolver.Relation relation) {
         BadgeDto mainBadge = badgeService.getRepresentativeGoodBadge(user);
         AbandonBadgeDto abandonBadge = badgeService.getAbandonBadge(user);
 
-        Long chatRoomId = null;
-        boolean dmPending = false;
-
-        if (currentUserId != null && !Objects.equals(currentUserId, user.getId())) {
-            chatRoomId = chatRoomService.findPrivateRoomId(currentUserId, user.getId())
-                    .orElse(null);
-            dmPending = dmRequestService.isDmPendingOrAcceptedOrChatExists(currentUserId, user.getId());
-        }
+        Long chatRoomId = relation.chatRoomId();
+        boolean dmPending = relation.dmPending();
 
         return TeamApplicantUserResponse.builder()
                 .userId(user.getId())
@@ -0,0 +1,165 @@
+package goorm.ddok.ai.service;
+
+import goorm.ddok.ai.service.provider.AiModelClient;
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiGatewayTest {
+
+    private static final AiModelClient.StreamListener NOOP = new AiModelClient.StreamListener() {
+        @Override public void onDelta(String delta) {}
+        @Override public void onComplete(String fullText) {}
+        @Override public void onError(Throwable error) {}
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakeModel model;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        model = new FakeModel();
+    }
+
+    @Test
+    void rejectsSecondConcurrentCallFromSameUser() {
+        AiGateway gateway = gateway(4, 1);
+
+        gateway.stream(1L, "p", 10, NOOP);
+
+        assertThatThrownBy(() -> gateway.stream(1L, "p", 10, NOOP))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_USER_CONCURRENCY_EXCEEDED);
+        assertThatThrownBy(() -> gateway.generate(1L, "p", 10))
+                .isInstanceOf(GlobalException.class);
+
+        // 다른 사용자는 통과
+        gateway.stream(2L, "p", 10, NOOP);
+        assertThat(admission("rejected_user")).isEqualTo(2);
+        assertThat(inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWhenGlobalPermitsAreExhausted() {
+        AiGateway gateway = gateway(1, 1);
+
+        gateway.stream(1L, "p", 10, NOOP);
+
+        assertThatThrownBy(() -> gateway.stream(2L, "p", 10, NOOP))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_GATEWAY_BUSY);
+        assertThat(admission("rejected_global")).isEqualTo(1);
+
+        // 전역 거절된 사용자의 사용자별 자리는 돌려받았어야 한다
+        model.listeners.get(0).onComplete("done");
+        gateway.stream(2L, "p", 10, NOOP);
+        assertThat(inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void streamPermitIsReleasedExactlyOnce() {
+        AiGateway gateway = gateway(1, 1);
+
+        AiModelClient.Cancellable cancellable = gateway.stream(1L, "p", 10, NOOP);
+        AiModelClient.StreamListener upstream = model.listeners.get(0);
+
+        upstream.onComplete("done");
+        upstream.onError(new RuntimeException("late"));
+        cancellable.cancel();
+        cancellable.cancel();
+
+        assertThat(inFlight()).isZero();
+        assertThat(model.cancelled.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.gateway.latency").tag("mode", "stream").timers())
+                .singleElement()
+                .satisfies(t -> assertThat(t.count()).isEqualTo(1));
+
+        // 반납이 두 번 되었다면 허가가 2개가 되어 두 번째 호출도 통과한다
+        gateway.stream(2L, "p", 10, NOOP);
+        assertThatThrownBy(() -> gateway.stream(3L, "p", 10, NOOP))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_GATEWAY_BUSY);
+    }
+
+    @Test
+    void cancelReleasesPermitAndCancelsUpstream() {
+        AiGateway gateway = gateway(1, 1);
+
+        gateway.stream(1L, "p", 10, NOOP).cancel();
+
+        assertThat(inFlight()).isZero();
+        assertThat(model.cancelled.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.gateway.latency").tag("result", "cancelled").timer().count()).isEqualTo(1);
+        gateway.stream(1L, "p", 10, NOOP);
+    }
+
+    @Test
+    void permitIsReleasedWhenUpstreamThrows() {
+        AiGateway gateway = gateway(1, 1);
+        model.failOnStream = true;
+
+        assertThatThrownBy(() -> gateway.stream(1L, "p", 10, NOOP)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> gateway.generate(1L, "p", 10)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(inFlight()).isZero();
+        model.failOnStream = false;
+        gateway.stream(1L, "p", 10, NOOP);
+    }
+
+    @Test
+    void generateReleasesPermitOnReturn() {
+        AiGateway gateway = gateway(1, 1);
+
+        assertThat(gateway.generate(1L, "p", 10)).isEqualTo("generated");
+        assertThat(gateway.generate(1L, "p", 10)).isEqualTo("generated");
+        assertThat(inFlight()).isZero();
+        assertThat(admission("admitted")).isEqualTo(2);
+    }
+
+    /* ---------- 지원 ---------- */
+
+    private AiGateway gateway(int maxConcurrent, int perUserConcurrent) {
+        return new AiGateway(model, meterRegistry, maxConcurrent, perUserConcurrent, 0);
+    }
+
+    private double admission(String result) {
+        return meterRegistry.get("ai.gateway.admission").tag("result", result).counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("ai.gateway.in_flight").gauge().value();
+    }
+
+    /** 스트림을 끝내지 않고 리스너만 잡아 두는 모델 (완료/실패는 테스트가 직접 호출) */
+    private static final class FakeModel implements AiModelClient {
+        final List<StreamListener> listeners = new CopyOnWriteArrayList<>();
+        final AtomicInteger cancelled = new AtomicInteger();
+        volatile boolean failOnStream;
+
+        @Override
+        public String generate(String prompt, int maxTokens) {
+            if (failOnStream) throw new IllegalStateException("upstream down");
+            return "generated";
+        }
+
+        @Override
+        public Cancellable stream(String prompt, int maxTokens, StreamListener listener) {
+            if (failOnStream) throw new IllegalStateException("upstream down");
+            listeners.add(listener);
+            return cancelled::incrementAndGet;
+        }
+    }
+}
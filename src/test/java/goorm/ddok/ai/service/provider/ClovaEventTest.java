@@ -0,0 +1,82 @@
+package goorm.ddok.ai.service.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClovaEventTest {
+
+    @Test
+    void parsesDelta() throws IOException {
+        ClovaStreamClient.ClovaEvent e = ClovaStreamClient.ClovaEvent.parse(
+                "{\"message\":{\"role\":\"assistant\",\"content\":\"안녕\"},\"index\":0,\"aiFilter\":[{\"name\":\"x\",\"score\":\"1\"}]}");
+
+        assertThat(e).isNotNull();
+        assertThat(e.hasMessage).isTrue();
+        assertThat(e.content).isEqualTo("안녕");
+        assertThat(e.finishReason()).isNull();
+        assertThat(e.hasResult).isFalse();
+    }
+
+    @Test
+    void parsesFinalMessageWithUsage() throws IOException {
+        ClovaStreamClient.ClovaEvent e = ClovaStreamClient.ClovaEvent.parse(
+                "{\"message\":{\"content\":\"완성본\"},\"finishReason\":\"stop\",\"usage\":{\"promptTokens\":12,\"completionTokens\":34,\"totalTokens\":46}}");
+
+        assertThat(e.hasMessage).isTrue();
+        assertThat(e.content).isEqualTo("완성본");
+        assertThat(e.finishReason()).isEqualTo("stop");
+        assertThat(e.promptTokens).isEqualTo(12);
+        assertThat(e.completionTokens).isEqualTo(34);
+    }
+
+    @Test
+    void parsesResultObject() throws IOException {
+        ClovaStreamClient.ClovaEvent e = ClovaStreamClient.ClovaEvent.parse(
+                "{\"event\":\"result\",\"result\":{\"message\":{\"content\":\"결과\"},\"finishReason\":\"length\",\"usage\":{\"promptTokens\":3,\"completionTokens\":5}}}");
+
+        assertThat(e.event).isEqualTo("result");
+        assertThat(e.hasMessage).isFalse();
+        assertThat(e.hasResult).isTrue();
+        assertThat(e.resultContent).isEqualTo("결과");
+        assertThat(e.finishReason()).isEqualTo("length");
+        assertThat(e.promptTokens).isEqualTo(3);
+        assertThat(e.completionTokens).isEqualTo(5);
+    }
+
+    @Test
+    void parsesStringResultAndOutput() throws IOException {
+        ClovaStreamClient.ClovaEvent text = ClovaStreamClient.ClovaEvent.parse("{\"result\":\"문자열 결과\"}");
+        ClovaStreamClient.ClovaEvent output = ClovaStreamClient.ClovaEvent.parse("{\"event\":\"result\",\"output\":\"출력\"}");
+
+        assertThat(text.hasResult).isFalse();
+        assertThat(text.resultText).isEqualTo("문자열 결과");
+        assertThat(output.output).isEqualTo("출력");
+    }
+
+    @Test
+    void skipsUnknownAndNonStringFields() throws IOException {
+        ClovaStreamClient.ClovaEvent e = ClovaStreamClient.ClovaEvent.parse(
+                "{\"id\":1,\"seed\":[1,2],\"message\":{\"content\":null,\"toolCalls\":[{\"a\":{}}]},\"finishReason\":null,\"usage\":\"n/a\"}");
+
+        assertThat(e.hasMessage).isTrue();
+        assertThat(e.content).isNull();
+        assertThat(e.finishReason()).isNull();
+        assertThat(e.promptTokens).isZero();
+    }
+
+    @Test
+    void returnsNullForNonObject() throws IOException {
+        assertThat(ClovaStreamClient.ClovaEvent.parse("[1,2]")).isNull();
+        assertThat(ClovaStreamClient.ClovaEvent.parse("\"keepalive\"")).isNull();
+    }
+
+    @Test
+    void throwsOnMalformedLine() {
+        assertThatThrownBy(() -> ClovaStreamClient.ClovaEvent.parse("not json")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> ClovaStreamClient.ClovaEvent.parse("{\"message\":{\"content\":\"잘림")).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,226 @@
+package goorm.ddok.ai.service.provider;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClovaStreamClient 를 로컬 SSE 서버(JDK HttpServer)에 붙여 스트림 처리 확인
+ */
+class ClovaStreamClientTest {
+
+    private HttpServer server;
+    private ClovaStreamClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicReference<String> requestPath = new AtomicReference<>();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
+    /** 현재 테스트의 SSE 응답 */
+    private volatile SseScript script;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            requestPath.set(exchange.getRequestURI().getPath());
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            exchange.getRequestBody().readAllBytes();
+            try {
+                script.respond(exchange);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new ClovaStreamClient(meterRegistry, 4, 2, 1_000, 1_000, 5_000, 10_000);
+        ReflectionTestUtils.setField(client, "streamUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        ReflectionTestUtils.setField(client, "model", "HCX-005");
+        ReflectionTestUtils.setField(client, "studioApiKey", "test-key");
+        ReflectionTestUtils.setField(client, "defaultMaxTokens", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void streamDeliversDeltasInOrderThenFinalText() throws Exception {
+        script = exchange -> {
+            startSse(exchange);
+            send(exchange, "event: token");
+            send(exchange, "data: {\"message\":{\"content\":\"안\"}}");
+            send(exchange, "");
+            send(exchange, "data: not json");
+            send(exchange, "data: {\"message\":{\"content\":\"녕\"}}");
+            send(exchange, ": keepalive");
+            send(exchange, "data: {\"message\":{\"content\":\"하세요\"}}");
+            send(exchange, "data: {\"message\":{\"content\":\"안녕하세요!\"},\"finishReason\":\"stop\",\"usage\":{\"promptTokens\":7,\"completionTokens\":4}}");
+            send(exchange, "data: {\"message\":{\"content\":\"무시\"}}");
+        };
+        RecordingListener listener = new RecordingListener();
+
+        client.stream("프롬프트", 50, listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.deltas).containsExactly("안", "녕", "하세요");
+        assertThat(listener.completed.get()).isEqualTo("안녕하세요!");
+        assertThat(listener.error.get()).isNull();
+        assertThat(requestPath.get()).isEqualTo("/v3/chat-completions/HCX-005");
+        assertThat(authorization.get()).isEqualTo("Bearer test-key");
+        assertThat(meterRegistry.get("ai.tokens").tag("type", "prompt").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("ai.tokens").tag("type", "completion").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void streamUsesResultEventAsFinalText() throws Exception {
+        script = exchange -> {
+            startSse(exchange);
+            send(exchange, "data: {\"message\":{\"content\":\"초안\"}}");
+            send(exchange, "data: {\"event\":\"result\",\"result\":{\"message\":{\"content\":\"최종\"}}}");
+        };
+        RecordingListener listener = new RecordingListener();
+
+        client.stream("프롬프트", 50, listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.deltas).containsExactly("초안");
+        assertThat(listener.completed.get()).isEqualTo("최종");
+    }
+
+    @Test
+    void generateReturnsAccumulatedTextUntilDone() {
+        script = exchange -> {
+            startSse(exchange);
+            send(exchange, "data: {\"message\":{\"content\":\"A\"}}");
+            send(exchange, "data: {\"message\":{\"content\":\"B\"}}");
+            send(exchange, "data: [DONE]");
+            send(exchange, "data: {\"message\":{\"content\":\"C\"}}");
+        };
+
+        assertThat(client.generate("프롬프트", 0)).isEqualTo("AB");
+    }
+
+    @Test
+    void streamReportsHttpErrors() throws Exception {
+        script = exchange -> exchange.sendResponseHeaders(500, -1);
+        RecordingListener listener = new RecordingListener();
+
+        client.stream("프롬프트", 50, listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.error.get()).hasMessageContaining("HTTP 500");
+        assertThat(listener.completed.get()).isNull();
+    }
+
+    @Test
+    void cancelStopsTheStreamWithoutCallbacks() throws Exception {
+        CountDownLatch firstSent = new CountDownLatch(1);
+        CountDownLatch releaseServer = new CountDownLatch(1);
+        script = exchange -> {
+            startSse(exchange);
+            send(exchange, "data: {\"message\":{\"content\":\"첫 조각\"}}");
+            firstSent.countDown();
+            try {
+                releaseServer.await(5, TimeUnit.SECONDS);
+                send(exchange, "data: {\"message\":{\"content\":\"늦은 조각\"}}");
+                send(exchange, "data: {\"message\":{\"content\":\"끝\"},\"finishReason\":\"stop\"}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignore) {
+                // 클라이언트가 끊은 경우
+            }
+        };
+        RecordingListener listener = new RecordingListener();
+
+        AiModelClient.Cancellable cancellable = client.stream("프롬프트", 50, listener);
+        assertThat(firstSent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.firstDelta.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cancellable.cancel();
+        releaseServer.countDown();
+
+        assertThat(listener.done.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(listener.deltas).containsExactly("첫 조각");
+        assertThat(listener.completed.get()).isNull();
+        assertThat(listener.error.get()).isNull();
+    }
+
+    @Test
+    void disabledWithoutApiKey() {
+        ReflectionTestUtils.setField(client, "studioApiKey", "");
+        RecordingListener listener = new RecordingListener();
+
+        client.stream("프롬프트", 50, listener);
+
+        assertThat(listener.done.getCount()).isZero();
+        assertThat(client.cacheable(listener.completed.get())).isFalse();
+        assertThat(requestPath.get()).isNull();
+    }
+
+    /* ---------- 지원 ---------- */
+
+    @FunctionalInterface
+    private interface SseScript {
+        void respond(HttpExchange exchange) throws IOException;
+    }
+
+    private static void startSse(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+    }
+
+    private static void send(HttpExchange exchange, String line) throws IOException {
+        OutputStream out = exchange.getResponseBody();
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static final class RecordingListener implements AiModelClient.StreamListener {
+        final List<String> deltas = new CopyOnWriteArrayList<>();
+        final AtomicReference<String> completed = new AtomicReference<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch firstDelta = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void onDelta(String delta) {
+            deltas.add(delta);
+            firstDelta.countDown();
+        }
+
+        @Override
+        public void onComplete(String fullText) {
+            completed.set(fullText);
+            done.countDown();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error.set(error);
+            done.countDown();
+        }
+    }
+}
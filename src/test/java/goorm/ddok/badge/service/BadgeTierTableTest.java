@@ -0,0 +1,110 @@
+package goorm.ddok.badge.service;
+
+import goorm.ddok.badge.domain.BadgeTier;
+import goorm.ddok.badge.domain.BadgeTierRule;
+import goorm.ddok.badge.domain.BadgeType;
+import goorm.ddok.badge.repository.BadgeTierRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BadgeTierTableTest {
+
+    private BadgeTierRuleRepository repository;
+    private BadgeTierTable table;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BadgeTierRuleRepository.class);
+        table = new BadgeTierTable(repository);
+    }
+
+    @Test
+    void resolvesTierAtAndAroundEachBoundary() {
+        // DB 순서와 무관하게 정렬되어야 한다
+        when(repository.findAll()).thenReturn(List.of(
+                rule(BadgeType.complete, BadgeTier.gold, 10),
+                rule(BadgeType.complete, BadgeTier.bronze, 0),
+                rule(BadgeType.complete, BadgeTier.silver, 5)
+        ));
+
+        assertThat(table.resolve(BadgeType.complete, -1)).isEqualTo(BadgeTier.bronze);
+        assertThat(table.resolve(BadgeType.complete, 0)).isEqualTo(BadgeTier.bronze);
+        assertThat(table.resolve(BadgeType.complete, 4)).isEqualTo(BadgeTier.bronze);
+        assertThat(table.resolve(BadgeType.complete, 5)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.complete, 9)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.complete, 10)).isEqualTo(BadgeTier.gold);
+        assertThat(table.resolve(BadgeType.complete, Integer.MAX_VALUE)).isEqualTo(BadgeTier.gold);
+    }
+
+    @Test
+    void belowLowestRuleOrWithoutRulesIsBronze() {
+        when(repository.findAll()).thenReturn(List.of(
+                rule(BadgeType.login, BadgeTier.silver, 3),
+                rule(BadgeType.login, BadgeTier.gold, 7)
+        ));
+
+        assertThat(table.resolve(BadgeType.login, 2)).isEqualTo(BadgeTier.bronze);
+        assertThat(table.resolve(BadgeType.login, 3)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.abandon, 100)).isEqualTo(BadgeTier.bronze);
+    }
+
+    @Test
+    void duplicateRequiredCntResolvesToHigherTier() {
+        when(repository.findAll()).thenReturn(List.of(
+                rule(BadgeType.leader_complete, BadgeTier.gold, 5),
+                rule(BadgeType.leader_complete, BadgeTier.bronze, 0),
+                rule(BadgeType.leader_complete, BadgeTier.silver, 5),
+                rule(BadgeType.leader_complete, BadgeTier.bronze, 5),
+                rule(BadgeType.leader_complete, BadgeTier.silver, 0)
+        ));
+
+        assertThat(table.resolve(BadgeType.leader_complete, 0)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.leader_complete, 4)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.leader_complete, 5)).isEqualTo(BadgeTier.gold);
+        assertThat(table.resolve(BadgeType.leader_complete, 6)).isEqualTo(BadgeTier.gold);
+    }
+
+    @Test
+    void keepsBadgeTypesSeparate() {
+        when(repository.findAll()).thenReturn(List.of(
+                rule(BadgeType.complete, BadgeTier.gold, 10),
+                rule(BadgeType.login, BadgeTier.gold, 30)
+        ));
+
+        assertThat(table.resolve(BadgeType.complete, 10)).isEqualTo(BadgeTier.gold);
+        assertThat(table.resolve(BadgeType.login, 10)).isEqualTo(BadgeTier.bronze);
+    }
+
+    @Test
+    void loadsOnceLazilyAndReloadReplacesRules() {
+        List<BadgeTierRule> rules = new ArrayList<>(List.of(rule(BadgeType.complete, BadgeTier.silver, 5)));
+        when(repository.findAll()).thenAnswer(inv -> List.copyOf(rules));
+
+        assertThat(table.resolve(BadgeType.complete, 5)).isEqualTo(BadgeTier.silver);
+        assertThat(table.resolve(BadgeType.complete, 6)).isEqualTo(BadgeTier.silver);
+        verify(repository, times(1)).findAll();
+
+        rules.add(rule(BadgeType.complete, BadgeTier.gold, 6));
+        assertThat(table.resolve(BadgeType.complete, 6)).isEqualTo(BadgeTier.silver);
+
+        assertThat(table.reload()).isEqualTo(2);
+        assertThat(table.resolve(BadgeType.complete, 6)).isEqualTo(BadgeTier.gold);
+    }
+
+    private static BadgeTierRule rule(BadgeType type, BadgeTier tier, int requiredCnt) {
+        return BadgeTierRule.builder()
+                .badgeType(type)
+                .tier(tier)
+                .requiredCnt(requiredCnt)
+                .build();
+    }
+}
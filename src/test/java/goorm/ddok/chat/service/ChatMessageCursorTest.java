@@ -0,0 +1,252 @@
+package goorm.ddok.chat.service;
+
+import goorm.ddok.chat.domain.ChatContentType;
+import goorm.ddok.chat.domain.ChatRoom;
+import goorm.ddok.chat.dto.response.ChatMessageListResponse;
+import goorm.ddok.chat.dto.response.ChatMessageResponse;
+import goorm.ddok.chat.repository.ChatMessageRepository;
+import goorm.ddok.chat.repository.ChatRepository;
+import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import goorm.ddok.chat.repository.projection.MessageViewImpl;
+import goorm.ddok.chat.search.ChatMessageSearchEngine;
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
+import goorm.ddok.member.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * getChatMessagesByCursor 키셋 경계 (커서 시각/방향/hasMore/대기 중 커서)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatMessageCursorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private ChatRepository chatRepository;
+    @Mock private ChatRoomMemberRepository chatRoomMemberRepository;
+    @Mock private ChatMessageRepository chatMessageRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ChatMessageSearchEngine chatMessageSearchEngine;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final ChatPendingMessages pendingMessages = new ChatPendingMessages();
+    private final ChatRoom room = ChatRoom.builder().id(ROOM_ID).build();
+    private ChatMessageService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChatMessageService(chatRepository, chatRoomMemberRepository, chatMessageRepository,
+                userRepository, chatMessageSearchEngine, eventPublisher, pendingMessages);
+        when(chatRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(chatRoomMemberRepository.existsByRoom_IdAndUser_IdAndDeletedAtIsNull(ROOM_ID, USER_ID)).thenReturn(true);
+    }
+
+    @Test
+    void firstPageStartsFromLatestAndReportsHasMore() {
+        when(chatMessageRepository.sliceViewsBefore(eq(room), any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 4))))
+                .thenReturn(views(50, 49, 48, 47));
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, null, 3, null);
+
+        assertThat(ids(res)).containsExactly(50L, 49L, 48L);
+        assertThat(res.getCursor().getHasMore()).isTrue();
+        assertThat(res.getCursor().getNextBeforeMessageId()).isEqualTo(48L);
+        assertThat(res.getCursor().getNextAfterMessageId()).isEqualTo(50L);
+        assertThat(res.getPagination()).isNull();
+    }
+
+    @Test
+    void exactlyPageSizeRowsMeansNoMore() {
+        when(chatMessageRepository.sliceViewsBefore(eq(room), any(), eq(Long.MAX_VALUE), any()))
+                .thenReturn(views(50, 49, 48));
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, null, 3, null);
+
+        assertThat(ids(res)).containsExactly(50L, 49L, 48L);
+        assertThat(res.getCursor().getHasMore()).isFalse();
+    }
+
+    @Test
+    void beforeCursorSeeksOnCreatedAtAndId() {
+        Instant at = T0.plusSeconds(30);
+        when(chatMessageRepository.findCreatedAtInRoom(30L, ROOM_ID)).thenReturn(Optional.of(at));
+        when(chatMessageRepository.sliceViewsBefore(room, at, 30L, PageRequest.of(0, 3)))
+                .thenReturn(views(29, 28));
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, 30L, null, 2, null);
+
+        assertThat(ids(res)).containsExactly(29L, 28L);
+        assertThat(res.getCursor().getHasMore()).isFalse();
+        assertThat(res.getCursor().getNextBeforeMessageId()).isEqualTo(28L);
+    }
+
+    @Test
+    void afterCursorIsReturnedNewestFirst() {
+        Instant at = T0.plusSeconds(30);
+        when(chatMessageRepository.findCreatedAtInRoom(30L, ROOM_ID)).thenReturn(Optional.of(at));
+        // after 는 오래된 순으로 size+1 개를 읽는다
+        when(chatMessageRepository.sliceViewsAfter(room, at, 30L, PageRequest.of(0, 3)))
+                .thenReturn(views(31, 32, 33));
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, 30L, 2, null);
+
+        assertThat(ids(res)).containsExactly(32L, 31L);
+        assertThat(res.getCursor().getHasMore()).isTrue();
+        assertThat(res.getCursor().getNextAfterMessageId()).isEqualTo(32L);
+        assertThat(res.getCursor().getNextBeforeMessageId()).isEqualTo(31L);
+    }
+
+    @Test
+    void afterTakesPrecedenceOverBefore() {
+        Instant at = T0.plusSeconds(30);
+        when(chatMessageRepository.findCreatedAtInRoom(30L, ROOM_ID)).thenReturn(Optional.of(at));
+        when(chatMessageRepository.sliceViewsAfter(room, at, 30L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        service.getChatMessagesByCursor(USER_ID, ROOM_ID, 99L, 30L, 2, null);
+
+        verify(chatMessageRepository, never()).sliceViewsBefore(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void emptyPageKeepsIncomingCursors() {
+        Instant at = T0.plusSeconds(30);
+        when(chatMessageRepository.findCreatedAtInRoom(30L, ROOM_ID)).thenReturn(Optional.of(at));
+        when(chatMessageRepository.sliceViewsAfter(room, at, 30L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, 30L, 2, null);
+
+        assertThat(res.getMessages()).isEmpty();
+        assertThat(res.getCursor().getHasMore()).isFalse();
+        assertThat(res.getCursor().getNextAfterMessageId()).isEqualTo(30L);
+        assertThat(res.getCursor().getNextBeforeMessageId()).isNull();
+    }
+
+    @Test
+    void pendingCursorUsesQueuedCreatedAt() {
+        Instant queuedAt = T0.plusSeconds(60);
+        pendingMessages.add(60L, ROOM_ID, queuedAt);
+        when(chatMessageRepository.sliceViewsAfter(room, queuedAt, 60L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        ChatMessageListResponse res = service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, 60L, 2, null);
+
+        assertThat(res.getMessages()).isEmpty();
+        verify(chatMessageRepository).sliceViewsAfter(room, queuedAt, 60L, PageRequest.of(0, 3));
+        verify(chatMessageRepository, never()).findCreatedAtInRoom(anyLong(), anyLong());
+    }
+
+    @Test
+    void pendingCursorFromAnotherRoomIsNotUsed() {
+        pendingMessages.add(60L, 999L, T0.plusSeconds(60));
+        when(chatMessageRepository.findCreatedAtInRoom(60L, ROOM_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getChatMessagesByCursor(USER_ID, ROOM_ID, 60L, null, 2, null))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    void flushedCursorFallsBackToRepository() {
+        Instant at = T0.plusSeconds(60);
+        pendingMessages.add(60L, ROOM_ID, at);
+        pendingMessages.remove(60L);
+        when(chatMessageRepository.findCreatedAtInRoom(60L, ROOM_ID)).thenReturn(Optional.of(at));
+        when(chatMessageRepository.sliceViewsBefore(room, at, 60L, PageRequest.of(0, 3))).thenReturn(views(59));
+
+        assertThat(ids(service.getChatMessagesByCursor(USER_ID, ROOM_ID, 60L, null, 2, null))).containsExactly(59L);
+    }
+
+    @Test
+    void unknownAfterCursorIsRejected() {
+        // 다른 노드의 write-behind 큐에만 있는 id 도 여기 해당: 빈 페이지(hasMore=false)로 답하지 않는다
+        when(chatMessageRepository.findCreatedAtInRoom(404L, ROOM_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, 404L, 2, null))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(chatMessageRepository).findCreatedAtInRoom(404L, ROOM_ID);
+        verifyNoMoreInteractions(chatMessageRepository);
+    }
+
+    @Test
+    void unknownBeforeCursorIsRejected() {
+        when(chatMessageRepository.findCreatedAtInRoom(404L, ROOM_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getChatMessagesByCursor(USER_ID, ROOM_ID, 404L, null, 2, null))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    void keywordGoesThroughSearchEngine() {
+        when(chatMessageSearchEngine.searchSlice(eq(room), eq("회의"), any(), eq(Long.MAX_VALUE), eq(false), eq(3)))
+                .thenReturn(views(5));
+
+        assertThat(ids(service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, null, 2, "회의"))).containsExactly(5L);
+        verify(chatMessageRepository, never()).sliceViewsBefore(any(), any(), anyLong(), any());
+        verify(chatMessageRepository, never()).sliceViewsBeforeWithKeyword(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void keywordAfterCursorGoesThroughSearchEngineInAscendingOrder() {
+        when(chatMessageRepository.findCreatedAtInRoom(5L, ROOM_ID)).thenReturn(Optional.of(T0.plusSeconds(5)));
+        when(chatMessageSearchEngine.searchSlice(eq(room), eq("회의"), eq(T0.plusSeconds(5)), eq(5L), eq(true), eq(3)))
+                .thenReturn(views(6, 7));
+
+        assertThat(ids(service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, 5L, 2, "회의"))).containsExactly(7L, 6L);
+        verify(chatMessageRepository, never()).sliceViewsAfterWithKeyword(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void nonMemberIsRejected() {
+        when(chatRoomMemberRepository.existsByRoom_IdAndUser_IdAndDeletedAtIsNull(ROOM_ID, USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.getChatMessagesByCursor(USER_ID, ROOM_ID, null, null, 2, null))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_CHAT_MEMBER);
+    }
+
+    /* ---------- 지원 ---------- */
+
+    /** id 순서대로 행 생성 (createdAt = T0 + id 초) */
+    private static List<ChatMessageRepository.MessageView> views(long... ids) {
+        List<ChatMessageRepository.MessageView> rows = new ArrayList<>();
+        for (long id : ids) {
+            rows.add(new MessageViewImpl(id, 2L, "sender", ChatContentType.TEXT, "m" + id, null, T0.plusSeconds(id)));
+        }
+        return rows;
+    }
+
+    private static List<Long> ids(ChatMessageListResponse res) {
+        return res.getMessages().stream().map(ChatMessageResponse::getMessageId).toList();
+    }
+}
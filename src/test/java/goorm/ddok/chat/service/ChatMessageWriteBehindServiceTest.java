@@ -0,0 +1,180 @@
+package goorm.ddok.chat.service;
+
+import goorm.ddok.chat.domain.ChatContentType;
+import goorm.ddok.chat.dto.request.ChatMessageRequest;
+import goorm.ddok.chat.dto.response.ChatMessageResponse;
+import goorm.ddok.chat.repository.ChatRoomMemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriteBehindServiceTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long MISSING_ROOM_ID = 999L;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ChatPendingMessages pendingMessages;
+    private ChatMessageWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:write_behind_" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = spy(new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        pendingMessages = new ChatPendingMessages();
+
+        jdbcTemplate.execute("create sequence chat_message_seq start with 50 increment by 50");
+        jdbcTemplate.execute("create table chat_room (id bigint primary key, last_message_at timestamp with time zone)");
+        jdbcTemplate.execute("create table chat_message (id bigint primary key, "
+                + "room_id bigint not null references chat_room(id), sender_id bigint, content_type varchar(20) not null, "
+                + "content_text text, file_url text, reply_to_id bigint, created_at timestamp with time zone not null, "
+                + "updated_at timestamp with time zone, deleted_at timestamp with time zone)");
+        jdbcTemplate.execute("create table chat_message_dead_letter (id bigint generated by default as identity primary key, "
+                + "message_id bigint not null, room_id bigint not null, sender_id bigint not null, content_type varchar(20) not null, "
+                + "content_text text, file_url text, reply_to_id bigint, created_at timestamp with time zone not null, "
+                + "error varchar(500), failed_at timestamp with time zone not null)");
+        jdbcTemplate.update("insert into chat_room (id) values (?)", ROOM_ID);
+
+        ChatRoomMemberRepository chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+        when(chatRoomMemberRepository.findActiveMemberNickname(anyLong(), anyLong())).thenReturn(Optional.of("nick"));
+
+        service = new ChatMessageWriteBehindService(
+                mock(ChatMessageService.class), chatRoomMemberRepository, jdbcTemplate, transactionTemplate,
+                mock(ApplicationEventPublisher.class), pendingMessages, true, 200, 20, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void rejectedRowGoesToDeadLetterTableAndOthersAreSaved() {
+        service.start();
+
+        ChatMessageResponse a = send(ROOM_ID, "a");
+        ChatMessageResponse rejected = send(MISSING_ROOM_ID, "secret");
+        ChatMessageResponse c = send(ROOM_ID, "c");
+
+        await(() -> count("chat_message") == 2 && count("chat_message_dead_letter") == 1);
+
+        assertThat(jdbcTemplate.queryForList("select id from chat_message order by id", Long.class))
+                .containsExactly(a.getMessageId(), c.getMessageId());
+        Map<String, Object> letter = jdbcTemplate.queryForMap(
+                "select message_id, room_id, content_text, error from chat_message_dead_letter");
+        assertThat(((Number) letter.get("message_id")).longValue()).isEqualTo(rejected.getMessageId());
+        assertThat(((Number) letter.get("room_id")).longValue()).isEqualTo(MISSING_ROOM_ID);
+        assertThat(letter.get("content_text")).isEqualTo("secret");
+        assertThat(letter.get("error")).isNotNull();
+        assertThat(pendingMessages.findCreatedAtInRoom(rejected.getMessageId(), MISSING_ROOM_ID)).isEmpty();
+    }
+
+    @Test
+    void transientFailuresAreRetriedInsteadOfDeadLettered() {
+        doThrow(new CannotGetJdbcConnectionException("db down"))
+                .doThrow(new CannotCreateTransactionException("db down"))
+                .doCallRealMethod()
+                .when(transactionTemplate).executeWithoutResult(any());
+        service.start();
+
+        ChatMessageResponse a = send(ROOM_ID, "a");
+        ChatMessageResponse b = send(ROOM_ID, "b");
+
+        await(() -> count("chat_message") == 2);
+
+        verify(transactionTemplate, atLeast(3)).executeWithoutResult(any());
+        assertThat(count("chat_message_dead_letter")).isZero();
+        assertThat(pendingMessages.findCreatedAtInRoom(a.getMessageId(), ROOM_ID)).isEmpty();
+        assertThat(pendingMessages.findCreatedAtInRoom(b.getMessageId(), ROOM_ID)).isEmpty();
+    }
+
+    @Test
+    void shutdownDuringBackoffFlushesTheHeldBatch() {
+        doThrow(new CannotGetJdbcConnectionException("db down"))
+                .doCallRealMethod()
+                .when(transactionTemplate).executeWithoutResult(any());
+        service.start();
+
+        send(ROOM_ID, "a");
+        send(ROOM_ID, "b");
+        // 첫 flush 실패 → 백오프 중 종료
+        verify(transactionTemplate, timeout(2_000)).executeWithoutResult(any());
+        service.shutdown();
+
+        assertThat(count("chat_message")).isEqualTo(2);
+        assertThat(count("chat_message_dead_letter")).isZero();
+    }
+
+    @Test
+    void classifiesConnectionAndLockFailuresAsTransient() {
+        assertThat(ChatMessageWriteBehindService.isTransient(new CannotGetJdbcConnectionException("x"))).isTrue();
+        assertThat(ChatMessageWriteBehindService.isTransient(new CannotCreateTransactionException("x"))).isTrue();
+        assertThat(ChatMessageWriteBehindService.isTransient(new CannotAcquireLockException("x"))).isTrue();
+        assertThat(ChatMessageWriteBehindService.isTransient(
+                new RuntimeException(new SQLTransientConnectionException("pool timeout")))).isTrue();
+        assertThat(ChatMessageWriteBehindService.isTransient(
+                new RuntimeException(new SQLException("connection refused", "08001")))).isTrue();
+
+        assertThat(ChatMessageWriteBehindService.isTransient(new DataIntegrityViolationException("fk"))).isFalse();
+        assertThat(ChatMessageWriteBehindService.isTransient(
+                new RuntimeException(new SQLException("fk violation", "23503")))).isFalse();
+    }
+
+    /* ---------- 지원 ---------- */
+
+    private ChatMessageResponse send(long roomId, String text) {
+        return service.send(7L, roomId, ChatMessageRequest.builder()
+                .contentType(ChatContentType.TEXT)
+                .contentText(text)
+                .build());
+    }
+
+    private int count(String table) {
+        Integer n = jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+        return n == null ? 0 : n;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
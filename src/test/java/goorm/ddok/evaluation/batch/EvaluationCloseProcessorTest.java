@@ -0,0 +1,266 @@
+package goorm.ddok.evaluation.batch;
+
+import goorm.ddok.evaluation.domain.EvaluationStatus;
+import goorm.ddok.evaluation.domain.TeamEvaluation;
+import goorm.ddok.evaluation.repository.TeamEvaluationRepository;
+import goorm.ddok.evaluation.repository.TeamEvaluationScoreRepository;
+import goorm.ddok.member.domain.User;
+import goorm.ddok.member.repository.UserRepository;
+import goorm.ddok.reputation.domain.UserReputation;
+import goorm.ddok.reputation.event.TemperatureChangedEvent;
+import goorm.ddok.reputation.repository.UserReputationRepository;
+import goorm.ddok.team.domain.Team;
+import goorm.ddok.team.repository.TeamMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Processor + Writer 의 온도 결과가 기존 EvaluationCloseTasklet 과 같은지
+ * (Tasklet 의 자동 입력/온도 루프를 아래 legacy() 에 그대로 옮겨 기준으로 사용)
+ */
+class EvaluationCloseProcessorTest {
+
+    private static final BigDecimal DEFAULT_TEMPERATURE = BigDecimal.valueOf(36.5);
+    private static final double C = 10.0;
+
+    private TeamEvaluationRepository evaluationRepository;
+    private TeamEvaluationScoreRepository scoreRepository;
+    private TeamMemberRepository teamMemberRepository;
+    private UserRepository userRepository;
+    private UserReputationRepository userReputationRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    private EvaluationCloseProcessor processor;
+    private EvaluationCloseWriter writer;
+
+    /** 테스트 DB 상태: 존재하는 사용자, 사용자별 평판 온도, Writer 가 저장한 온도 */
+    private final Set<Long> users = new HashSet<>();
+    private final Map<Long, BigDecimal> reputations = new HashMap<>();
+    private final Map<Long, BigDecimal> saved = new HashMap<>();
+    private final List<TemperatureChangedEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        evaluationRepository = mock(TeamEvaluationRepository.class);
+        scoreRepository = mock(TeamEvaluationScoreRepository.class);
+        teamMemberRepository = mock(TeamMemberRepository.class);
+        userRepository = mock(UserRepository.class);
+        userReputationRepository = mock(UserReputationRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        processor = new EvaluationCloseProcessor(evaluationRepository, scoreRepository, teamMemberRepository);
+        writer = new EvaluationCloseWriter(evaluationRepository, scoreRepository, userRepository,
+                userReputationRepository, eventPublisher);
+
+        when(userReputationRepository.findAllByUser_IdIn(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream()
+                    .filter(reputations::containsKey)
+                    .map(id -> UserReputation.builder().user(user(id)).temperature(reputations.get(id)).build())
+                    .toList();
+        });
+        when(userRepository.findAllById(anyIterable())).thenAnswer(inv -> {
+            Iterable<Long> ids = inv.getArgument(0);
+            List<User> found = new ArrayList<>();
+            for (Long id : ids) if (users.contains(id)) found.add(user(id));
+            return found;
+        });
+        when(userReputationRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+            Iterable<UserReputation> reps = inv.getArgument(0);
+            for (UserReputation rep : reps) saved.put(rep.getUser().getId(), rep.getTemperature());
+            return reps;
+        });
+        doAnswer(inv -> events.add(inv.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void planCountsExistingAndAutoEvaluatorsPerTarget() {
+        // 3 명 팀, 1→2, 3→2 제출, 팀을 떠난 9 도 2 를 평가, 2 의 자기 평가 행
+        round(1L, 100L, List.of(3L, 1L, 2L), pairs(1, 2, 3, 2, 9, 2, 2, 2));
+
+        EvaluationClosePlan plan = processor.process(1L);
+
+        assertThat(plan.teamId()).isEqualTo(100L);
+        assertThat(plan.targets()).containsExactly(
+                new EvaluationClosePlan.TargetUpdate(1L, 0, 2),
+                new EvaluationClosePlan.TargetUpdate(3L, 0, 2));
+    }
+
+    @Test
+    void skipsMissingOrAlreadyClosedRounds() {
+        when(evaluationRepository.findById(1L)).thenReturn(Optional.empty());
+        when(evaluationRepository.findById(2L)).thenReturn(Optional.of(TeamEvaluation.builder()
+                .id(2L).team(Team.builder().id(100L).build()).status(EvaluationStatus.CLOSED).build()));
+
+        assertThat(processor.process(1L)).isNull();
+        assertThat(processor.process(2L)).isNull();
+    }
+
+    @Test
+    void teamsWithFewerThanTwoMembersHaveNoTargets() {
+        round(1L, 100L, List.of(), List.of());
+        round(2L, 200L, List.of(5L), List.of());
+
+        assertThat(processor.process(1L).targets()).isEmpty();
+        assertThat(processor.process(2L).targets()).isEmpty();
+    }
+
+    @Test
+    void matchesLegacyTaskletTemperatures() {
+        Random random = new Random(17);
+        for (int scenario = 0; scenario < 300; scenario++) {
+            users.clear();
+            reputations.clear();
+            saved.clear();
+            events.clear();
+
+            List<Long> members = randomMembers(random);
+            List<long[]> submitted = randomPairs(random, members);
+            seedUsers(random, members);
+            Map<Long, BigDecimal> before = new HashMap<>(reputations);
+
+            long evaluationId = scenario + 1;
+            round(evaluationId, 100L + scenario, members, submitted);
+
+            EvaluationClosePlan plan = processor.process(evaluationId);
+            writer.write(new Chunk<>(List.of(plan)));
+
+            Map<Long, BigDecimal> expected = legacy(members, submitted, before);
+            assertThat(saved).as("scenario %d members=%s", scenario, members).isEqualTo(expected);
+            assertThat(events).hasSize(expected.size());
+        }
+    }
+
+    @Test
+    void sameTargetInSeveralRoundsOfAChunkAccumulatesInOrder() {
+        List<Long> members = List.of(1L, 2L, 3L, 4L);
+        List<long[]> first = pairs(1, 2, 3, 2);
+        List<long[]> second = pairs(4, 1);
+        users.addAll(members);
+        reputations.put(1L, new BigDecimal("80.0"));
+        reputations.put(2L, new BigDecimal("12.3"));
+        Map<Long, BigDecimal> before = new HashMap<>(reputations);
+
+        round(1L, 100L, members, first);
+        round(2L, 100L, members, second);
+        writer.write(new Chunk<>(List.of(processor.process(1L), processor.process(2L))));
+
+        Map<Long, BigDecimal> expected = legacy(members, first, before);
+        Map<Long, BigDecimal> afterFirst = new HashMap<>(before);
+        afterFirst.putAll(expected);
+        expected.putAll(legacy(members, second, afterFirst));
+
+        assertThat(saved).isEqualTo(expected);
+    }
+
+    /* ---------- 기존 Tasklet 기준 구현 ---------- */
+
+    /**
+     * EvaluationCloseTasklet.run 의 라운드 1개 처리에서 온도 부분만 옮긴 것
+     * (members 순서대로 evaluator x target 을 돌며 미제출 쌍마다 한 단계씩 반영)
+     */
+    private Map<Long, BigDecimal> legacy(List<Long> members, List<long[]> submitted, Map<Long, BigDecimal> temps) {
+        Set<String> existingPairs = new HashSet<>();
+        Map<Long, Set<Long>> distinctEvaluatorsByTarget = new HashMap<>();
+        for (long[] s : submitted) {
+            existingPairs.add(s[0] + "-" + s[1]);
+            distinctEvaluatorsByTarget.computeIfAbsent(s[1], k -> new HashSet<>()).add(s[0]);
+        }
+
+        Map<Long, BigDecimal> repCache = new HashMap<>();
+        for (Long evaluatorId : members) {
+            for (Long targetId : members) {
+                if (Objects.equals(evaluatorId, targetId)) continue;
+                if (existingPairs.contains(evaluatorId + "-" + targetId)) continue;
+
+                BigDecimal rep = repCache.computeIfAbsent(targetId, tid ->
+                        users.contains(tid) ? temps.getOrDefault(tid, DEFAULT_TEMPERATURE) : null);
+                if (rep == null) continue;
+
+                Set<Long> set = distinctEvaluatorsByTarget.computeIfAbsent(targetId, k -> new HashSet<>());
+                if (!set.add(evaluatorId)) continue;
+                long n = set.size();
+
+                double alpha = 1.0 / (n + C);
+                double current = rep.doubleValue();
+                double updated = current + alpha * (30.0 - current);
+                if (updated < 0.0) updated = 0.0;
+                if (updated > 100.0) updated = 100.0;
+                repCache.put(targetId, BigDecimal.valueOf(updated).setScale(1, RoundingMode.HALF_UP));
+            }
+        }
+        return repCache;
+    }
+
+    /* ---------- 지원 ---------- */
+
+    private void round(Long evaluationId, Long teamId, List<Long> members, List<long[]> submitted) {
+        when(evaluationRepository.findById(evaluationId)).thenReturn(Optional.of(TeamEvaluation.builder()
+                .id(evaluationId).team(Team.builder().id(teamId).build()).status(EvaluationStatus.OPEN).build()));
+        when(teamMemberRepository.findDistinctUserIdsByTeamId(teamId)).thenReturn(members);
+        List<Object[]> rows = new ArrayList<>();
+        for (long[] s : submitted) rows.add(new Object[]{s[0], s[1]});
+        when(scoreRepository.findSubmittedPairs(evaluationId)).thenReturn(rows);
+    }
+
+    private static List<Long> randomMembers(Random random) {
+        List<Long> pool = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) pool.add(id);
+        Collections.shuffle(pool, random);
+        return new ArrayList<>(pool.subList(0, random.nextInt(8)));
+    }
+
+    /** 팀 내 쌍(자기 평가 포함) + 팀을 떠난 평가자/대상의 쌍, 중복 없음 (select distinct) */
+    private static List<long[]> randomPairs(Random random, List<Long> members) {
+        Set<String> seen = new HashSet<>();
+        List<long[]> pairs = new ArrayList<>();
+        for (Long e : members) {
+            for (Long t : members) {
+                if (random.nextDouble() < (e.equals(t) ? 0.1 : 0.4) && seen.add(e + "-" + t)) pairs.add(new long[]{e, t});
+            }
+        }
+        for (int i = 0; i < random.nextInt(3) && !members.isEmpty(); i++) {
+            Long member = members.get(random.nextInt(members.size()));
+            long outsider = 50 + random.nextInt(3);
+            long[] pair = random.nextBoolean() ? new long[]{outsider, member} : new long[]{member, outsider};
+            if (seen.add(pair[0] + "-" + pair[1])) pairs.add(pair);
+        }
+        return pairs;
+    }
+
+    /** 대부분 존재하는 사용자, 일부는 평판 행 없음, 가끔 탈퇴(없는 사용자) */
+    private void seedUsers(Random random, List<Long> members) {
+        for (Long id : members) {
+            if (random.nextDouble() < 0.1) continue;
+            users.add(id);
+            if (random.nextDouble() < 0.7) {
+                reputations.put(id, BigDecimal.valueOf(random.nextInt(1001), 1));
+            }
+        }
+    }
+
+    private static List<long[]> pairs(long... flat) {
+        List<long[]> out = new ArrayList<>();
+        for (int i = 0; i < flat.length; i += 2) out.add(new long[]{flat[i], flat[i + 1]});
+        return out;
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).build();
+    }
+}
@@ -0,0 +1,85 @@
+package goorm.ddok.global.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PathPatternTrie 가 기존 AntPathMatcher 스트림과 같은 결과를 내는지 (JwtAuthenticationFilter 의 두 제외 목록)
+ */
+class PathPatternTrieTest {
+
+    private static final AntPathMatcher ANT = new AntPathMatcher();
+
+    private static final PathPatternTrie WS = new PathPatternTrie(JwtAuthenticationFilter.WS_SKIP_PATTERNS);
+    private static final PathPatternTrie PUBLIC = new PathPatternTrie(JwtAuthenticationFilter.PUBLIC_SKIP_PATTERNS);
+
+    static Stream<String> paths() {
+        return Stream.of(
+                // WS / SockJS
+                "/ws", "/ws/", "/ws/chats", "/ws/chats/", "/ws/chats/123/abc/websocket",
+                "/wsx", "/ws-chats", "/sockjs", "/sockjs/info",
+                "/info", "/info/", "/api/info", "/api/info/", "/a/b/c/info", "/information", "/api/infox",
+                "/ws/chats/info", "/ws/123/abc/xhr", "/ws/123/abc/xhr_send", "/ws/123/abc/xhr_streaming",
+                "/ws/iframe.html", "/x/iframe.html/", "/websocket", "/api/websocket/extra",
+                // Swagger / H2
+                "/swagger-ui.html", "/swagger-ui.html/", "/swagger-ui", "/swagger-ui/", "/swagger-ui/index.html",
+                "/v3/api-docs", "/v3/api-docs/", "/v3/api-docs.yaml", "/v3/api-docs/swagger-config",
+                "/v3/api-docsx", "/webjars/x.js", "/h2-console", "/h2-console/login.do",
+                // Public API
+                "/api/auth/signin", "/api/auth/signin/", "/api/auth/signin/kakao", "/api/auth/signin/kakao/callback",
+                "/api/auth/signin/other", "/api/auth/signout", "/api/auth/token", "/api/auth/password/reset",
+                "/api/teams/count", "/api/teams/count/", "/api/teams/1/count", "/API/auth/signin",
+                // 경계
+                "/", "//ws", "/api//auth/signin", "/api/projects", "/api/chats/rooms/1/messages"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("paths")
+    void wsSkipListMatchesAntPathMatcher(String path) {
+        assertThat(WS.matches(path)).isEqualTo(antMatches(JwtAuthenticationFilter.WS_SKIP_PATTERNS, path));
+    }
+
+    @ParameterizedTest
+    @MethodSource("paths")
+    void publicSkipListMatchesAntPathMatcher(String path) {
+        assertThat(PUBLIC.matches(path)).isEqualTo(antMatches(JwtAuthenticationFilter.PUBLIC_SKIP_PATTERNS, path));
+    }
+
+    @Test
+    void doubleStarMatchesZeroOrMoreSegments() {
+        assertThat(WS.matches("/info")).isTrue();
+        assertThat(WS.matches("/a/b/c/info")).isTrue();
+        assertThat(WS.matches("/ws")).isTrue();
+        assertThat(WS.matches("/ws/chats/1")).isTrue();
+        assertThat(WS.matches("/api/projects")).isFalse();
+    }
+
+    @Test
+    void wildcardPatternsFallBackToAntPathMatcher() {
+        PathPatternTrie trie = new PathPatternTrie(List.of("/api/*/count", "/files/{id}", "/img/?.png"));
+
+        for (String path : List.of("/api/teams/count", "/api/count", "/files/1", "/files/1/2", "/img/a.png", "/img/ab.png")) {
+            assertThat(trie.matches(path)).as(path).isEqualTo(antMatches(List.of("/api/*/count", "/files/{id}", "/img/?.png"), path));
+        }
+    }
+
+    @Test
+    void rejectsNullAndRelativePaths() {
+        assertThat(WS.matches(null)).isFalse();
+        assertThat(PUBLIC.matches("")).isFalse();
+        assertThat(PUBLIC.matches("api/auth/signin")).isFalse();
+    }
+
+    /** 변경 전 필터의 매칭 방식 */
+    private static boolean antMatches(List<String> patterns, String path) {
+        return patterns.stream().anyMatch(p -> ANT.match(p, path));
+    }
+}
@@ -0,0 +1,176 @@
+package goorm.ddok.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드(각자 simple broker + ClusterMessagingTemplate)를 메모리 pub/sub 으로 묶어 전파 확인
+ * (Redis 대신 발행 즉시 모든 노드의 onMessage 를 호출)
+ */
+class ClusterMessagingTemplateTest {
+
+    private static final String TOPIC = "ws:broadcast";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(n -> n.broker.stop());
+    }
+
+    @Test
+    void messageSentOnOneNodeReachesSubscriberOnAnother() {
+        InMemoryPubSub pubSub = new InMemoryPubSub();
+        Node a = node(pubSub);
+        Node b = node(pubSub);
+        b.subscribe("session-b", "sub-0", "/sub/chats/1");
+
+        a.template.convertAndSend("/sub/chats/1", Map.of("content", "안녕"));
+
+        assertThat(b.payloads("session-b")).containsExactly("{\"content\":\"안녕\"}");
+        assertThat(a.payloads("session-b")).isEmpty();
+        assertThat(pubSub.published).hasSize(1);
+    }
+
+    @Test
+    void publishingNodeAlsoDeliversToItsOwnSubscribersOnce() {
+        InMemoryPubSub pubSub = new InMemoryPubSub();
+        Node a = node(pubSub);
+        Node b = node(pubSub);
+        a.subscribe("session-a", "sub-0", "/sub/chats/1");
+        b.subscribe("session-b", "sub-0", "/sub/chats/1");
+
+        a.template.convertAndSend("/sub/chats/1", Map.of("content", "x"));
+
+        assertThat(a.payloads("session-a")).hasSize(1);
+        assertThat(b.payloads("session-b")).hasSize(1);
+    }
+
+    @Test
+    void userDestinationsAreRelayedUnresolved() throws Exception {
+        InMemoryPubSub pubSub = new InMemoryPubSub();
+        Node a = node(pubSub);
+        node(pubSub);
+
+        a.template.convertAndSendToUser("7", "/queue/notifications", Map.of("id", 1));
+
+        assertThat(pubSub.published).hasSize(1);
+        ClusterMessagingTemplate.Envelope envelope =
+                objectMapper.readValue(pubSub.published.get(0), ClusterMessagingTemplate.Envelope.class);
+        assertThat(envelope.destination()).isEqualTo("/user/7/queue/notifications");
+        assertThat(envelope.contentType()).startsWith("application/json");
+    }
+
+    @Test
+    void nonRelayableDestinationsStayLocal() {
+        InMemoryPubSub pubSub = new InMemoryPubSub();
+        Node a = node(pubSub);
+
+        a.template.convertAndSend("/pub/chats/1", Map.of("content", "x"));
+
+        assertThat(pubSub.published).isEmpty();
+    }
+
+    @Test
+    void deliversLocallyWhenPublishFails() {
+        InMemoryPubSub pubSub = new InMemoryPubSub();
+        pubSub.failing = true;
+        Node a = node(pubSub);
+        Node b = node(pubSub);
+        a.subscribe("session-a", "sub-0", "/sub/chats/1");
+        b.subscribe("session-b", "sub-0", "/sub/chats/1");
+
+        a.template.convertAndSend("/sub/chats/1", Map.of("content", "x"));
+
+        assertThat(a.payloads("session-a")).containsExactly("{\"content\":\"x\"}");
+        assertThat(b.payloads("session-b")).isEmpty();
+    }
+
+    /* ---------- 지원 ---------- */
+
+    private Node node(InMemoryPubSub pubSub) {
+        Node node = new Node(pubSub);
+        pubSub.nodes.add(node.template);
+        nodes.add(node);
+        return node;
+    }
+
+    /** 노드 하나: clientInbound/clientOutbound/broker 채널 + simple broker (모두 동기 채널) */
+    private final class Node {
+        final ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        final SimpleBrokerMessageHandler broker;
+        final ClusterMessagingTemplate template;
+        final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+
+        Node(InMemoryPubSub pubSub) {
+            broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/sub", "/queue"));
+            broker.start();
+            clientOutbound.subscribe(outbound::add);
+
+            template = new ClusterMessagingTemplate(brokerChannel, pubSub, objectMapper, TOPIC);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            template.setUserDestinationPrefix("/user/");
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) {
+            clientInbound.send(frame(SimpMessageType.CONNECT, sessionId, null, null));
+            clientInbound.send(frame(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, destination));
+        }
+
+        List<String> payloads(String sessionId) {
+            return outbound.stream()
+                    .filter(m -> SimpMessageHeaderAccessor.getMessageType(m.getHeaders()) == SimpMessageType.MESSAGE)
+                    .filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders())))
+                    .map(m -> new String((byte[]) m.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+
+        private Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+            accessor.setSessionId(sessionId);
+            if (subscriptionId != null) accessor.setSubscriptionId(subscriptionId);
+            if (destination != null) accessor.setDestination(destination);
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+
+    /** Redis pub/sub 대역: 발행하면 구독 중인 모든 노드(자신 포함)에 바로 전달 */
+    private static final class InMemoryPubSub extends StringRedisTemplate {
+        final List<ClusterMessagingTemplate> nodes = new CopyOnWriteArrayList<>();
+        final List<String> published = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        @Override
+        public Long convertAndSend(String channel, Object message) {
+            if (failing) throw new IllegalStateException("redis down");
+            String body = message.toString();
+            published.add(body);
+            for (ClusterMessagingTemplate node : nodes) {
+                node.onMessage(new DefaultMessage(
+                        channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+            }
+            return (long) nodes.size();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package goorm.ddok.global.websocket;
+
+import goorm.ddok.chat.service.ChatRoomMembershipCache;
+import goorm.ddok.global.exception.ErrorCode;
+import goorm.ddok.global.exception.GlobalException;
+import goorm.ddok.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private ChatRoomMembershipCache membershipCache;
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = mock(ChatRoomMembershipCache.class);
+        interceptor = new StompAuthChannelInterceptor(mock(JwtTokenProvider.class), membershipCache);
+    }
+
+    @Test
+    void rejectsSubscriptionsToBrokerSystemDestinations() {
+        for (String dest : new String[]{"/sub/_system/unresolved-user", "/sub/_system/user-registry", "/sub/_system/anything/else"}) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(1L, dest), channel))
+                    .as(dest)
+                    .isInstanceOf(GlobalException.class)
+                    .extracting(e -> ((GlobalException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    @Test
+    void allowsUserDestinationsAndMemberRooms() {
+        when(membershipCache.isActiveMember(5L, 1L)).thenReturn(true);
+
+        Message<byte[]> user = subscribe(1L, "/user/queue/notifications");
+        Message<byte[]> room = subscribe(1L, "/sub/chats/5");
+
+        assertThat(interceptor.preSend(user, channel)).isSameAs(user);
+        assertThat(interceptor.preSend(room, channel)).isSameAs(room);
+    }
+
+    @Test
+    void rejectsNonMemberRoomSubscription() {
+        when(membershipCache.isActiveMember(5L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(1L, "/sub/chats/5"), channel))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    void rejectsSubscriptionWithoutAuthenticatedSession() {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(null, "/sub/_system/user-registry"), channel))
+                .isInstanceOf(GlobalException.class)
+                .extracting(e -> ((GlobalException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UNAUTHORIZED);
+    }
+
+    private static Message<byte[]> subscribe(Long userId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        Map<String, Object> session = new HashMap<>();
+        if (userId != null) session.put("userId", userId);
+        accessor.setSessionAttributes(session);
+        accessor.setSessionId("s1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
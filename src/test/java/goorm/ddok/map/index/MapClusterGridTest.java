@@ -0,0 +1,90 @@
+package goorm.ddok.map.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MapClusterGridTest {
+
+    @Test
+    void aggregatesCountCentroidAndBoundsPerCell() {
+        MapClusterGrid grid = new MapClusterGrid(0.1);
+        grid.add(MapPinCategory.PROJECT, 1, 37.51, 127.01);
+        grid.add(MapPinCategory.PROJECT, 2, 37.53, 127.05);
+        grid.add(MapPinCategory.PROJECT, 3, 37.55, 127.03);
+
+        List<MapClusterGrid.Cell> cells = grid.result();
+
+        assertThat(cells).hasSize(1);
+        MapClusterGrid.Cell cell = cells.get(0);
+        assertThat(cell.getCategory()).isEqualTo(MapPinCategory.PROJECT);
+        assertThat(cell.getCount()).isEqualTo(3);
+        assertThat(cell.getLastId()).isEqualTo(3);
+        assertThat(cell.getCentroidLat()).isCloseTo(37.53, within(1e-9));
+        assertThat(cell.getCentroidLng()).isCloseTo(127.03, within(1e-9));
+        assertThat(cell.getMinLat()).isEqualTo(37.51);
+        assertThat(cell.getMaxLat()).isEqualTo(37.55);
+        assertThat(cell.getMinLng()).isEqualTo(127.01);
+        assertThat(cell.getMaxLng()).isEqualTo(127.05);
+    }
+
+    @Test
+    void separatesCategoriesInTheSameCell() {
+        MapClusterGrid grid = new MapClusterGrid(0.1);
+        for (MapPinCategory category : MapPinCategory.values()) {
+            grid.add(category, category.ordinal(), 37.51, 127.01);
+        }
+
+        assertThat(grid.result())
+                .extracting(MapClusterGrid.Cell::getCategory)
+                .containsExactlyInAnyOrder(MapPinCategory.values());
+    }
+
+    @Test
+    void splitsCellsAcrossZeroAndNegativeCoordinates() {
+        MapClusterGrid grid = new MapClusterGrid(0.1);
+        grid.add(MapPinCategory.STUDY, 1, -0.01, -0.01);
+        grid.add(MapPinCategory.STUDY, 2, -0.01, 0.01);
+        grid.add(MapPinCategory.STUDY, 3, 0.01, -0.01);
+        grid.add(MapPinCategory.STUDY, 4, 0.01, 0.01);
+        grid.add(MapPinCategory.STUDY, 5, -0.02, -0.02);
+        grid.add(MapPinCategory.STUDY, 6, -33.86, -151.21);
+        grid.add(MapPinCategory.STUDY, 7, -33.86, 151.21);
+
+        List<MapClusterGrid.Cell> cells = grid.result();
+
+        assertThat(cells).hasSize(6);
+        assertThat(cells.get(0).getCount()).isEqualTo(2);
+        assertThat(cells.get(0).getMaxLat()).isEqualTo(-0.01);
+        assertThat(cells.get(0).getMinLng()).isEqualTo(-0.02);
+    }
+
+    @Test
+    void separatesCellsAtTheDateLine() {
+        MapClusterGrid grid = new MapClusterGrid(0.5);
+        grid.add(MapPinCategory.CAFE, 1, 10.0, 179.9);
+        grid.add(MapPinCategory.CAFE, 2, 10.0, -179.9);
+        grid.add(MapPinCategory.CAFE, 3, -89.9, -179.9);
+        grid.add(MapPinCategory.CAFE, 4, 89.9, 179.9);
+
+        assertThat(grid.result()).hasSize(4).allSatisfy(c -> assertThat(c.getCount()).isEqualTo(1));
+    }
+
+    @Test
+    void resultIsSortedByCountDescending() {
+        MapClusterGrid grid = new MapClusterGrid(1.0);
+        grid.add(MapPinCategory.PLAYER, 1, 10.5, 10.5);
+        for (int i = 0; i < 3; i++) grid.add(MapPinCategory.PLAYER, 10 + i, 20.5, 20.5);
+        for (int i = 0; i < 2; i++) grid.add(MapPinCategory.PLAYER, 20 + i, -20.5, -20.5);
+
+        assertThat(grid.result()).extracting(MapClusterGrid.Cell::getCount).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void emptyGridHasNoCells() {
+        assertThat(new MapClusterGrid(0.1).result()).isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package goorm.ddok.map.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapSpatialIndexTest {
+
+    private static final Set<MapPinCategory> ALL = EnumSet.allOf(MapPinCategory.class);
+
+    @Test
+    void matchesBruteForceAcrossAllQuadrants() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, Integer.MAX_VALUE);
+        Random random = new Random(42);
+        List<MapPin> all = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            // 적도/본초자오선/날짜변경선 주변에 몰리게
+            double lat = (random.nextDouble() - 0.5) * (i % 2 == 0 ? 2 : 170);
+            double lng = (i % 3 == 0) ? 179.5 + random.nextDouble() * 0.5 - (random.nextBoolean() ? 359.5 : 0)
+                                      : (random.nextDouble() - 0.5) * (i % 5 == 0 ? 2 : 358);
+            all.add(pin(MapPinCategory.values()[i % 4], i, lat, lng));
+        }
+        index.replaceAll(all);
+
+        double[][] boxes = {
+                {-0.3, -0.3, 0.3, 0.3},          // 원점 주변 (네 사분면)
+                {-0.05, -0.05, 0.0, 0.0},        // 셀 경계에 딱 맞는 음수 영역
+                {-1, 179.5, 1, 180},              // 동쪽 날짜변경선
+                {-1, -180, 1, -179.5},            // 서쪽 날짜변경선
+                {-85, -179, 85, 179},             // 저줌 (전체 셀 순회 분기)
+                {-34.1, -58.6, -33.9, -58.3},     // 남서 반구
+                {10, 10, 10.01, 10.01}            // 빈 영역
+        };
+        for (double[] b : boxes) {
+            List<Long> expected = all.stream()
+                    .filter(p -> p.getLatitude() >= b[0] && p.getLatitude() <= b[2]
+                            && p.getLongitude() >= b[1] && p.getLongitude() <= b[3])
+                    .map(MapPin::getId)
+                    .toList();
+
+            List<Long> actual = index.query(b[0], b[1], b[2], b[3], ALL, null, null).stream()
+                    .map(MapPin::getId)
+                    .toList();
+
+            assertThat(actual).as("bbox %s", Arrays.toString(b)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void boundsAreInclusiveAndCellsSplitAtZero() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 100);
+        index.replaceAll(List.of(
+                pin(MapPinCategory.PROJECT, 1, -0.01, -0.01),
+                pin(MapPinCategory.PROJECT, 2, -0.01, 0.01),
+                pin(MapPinCategory.PROJECT, 3, 0.01, -0.01),
+                pin(MapPinCategory.PROJECT, 4, 0.01, 0.01),
+                pin(MapPinCategory.PROJECT, 5, 0.0, 0.0)
+        ));
+
+        assertThat(ids(index.query(-0.02, -0.02, 0.02, 0.02, ALL, null, null))).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(ids(index.query(0.0, 0.0, 0.01, 0.01, ALL, null, null))).containsExactlyInAnyOrder(4L, 5L);
+        assertThat(ids(index.query(-0.01, -0.01, 0.0, 0.0, ALL, null, null))).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(ids(index.query(-0.02, 0.005, -0.005, 0.02, ALL, null, null))).containsExactly(2L);
+    }
+
+    @Test
+    void capsResultsInCategoryOrderWithoutCenter() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 3);
+        index.replaceAll(List.of(
+                pin(MapPinCategory.CAFE, 1, 37.50, 127.00),
+                pin(MapPinCategory.PLAYER, 2, 37.50, 127.00),
+                pin(MapPinCategory.STUDY, 3, 37.50, 127.00),
+                pin(MapPinCategory.PROJECT, 4, 37.50, 127.00),
+                pin(MapPinCategory.PROJECT, 5, 37.51, 127.01)
+        ));
+
+        List<MapPin> result = index.query(37.4, 126.9, 37.6, 127.1, ALL, null, null);
+
+        assertThat(result).extracting(MapPin::getCategory)
+                .containsExactly(MapPinCategory.PROJECT, MapPinCategory.PROJECT, MapPinCategory.STUDY);
+    }
+
+    @Test
+    void capsResultsByDistanceWithCenter() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 2);
+        index.replaceAll(List.of(
+                pin(MapPinCategory.PROJECT, 1, -33.90, 151.30),
+                pin(MapPinCategory.CAFE, 2, -33.86, 151.21),
+                pin(MapPinCategory.STUDY, 3, -33.866, 151.206),
+                pin(MapPinCategory.PLAYER, 4, -33.70, 151.00)
+        ));
+
+        List<MapPin> result = index.query(-34.0, 150.9, -33.6, 151.4, ALL, -33.865, 151.205);
+
+        assertThat(ids(result)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void appliesCategoryFilterBeforeCap() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 2);
+        index.replaceAll(List.of(
+                pin(MapPinCategory.PROJECT, 1, 37.50, 127.00),
+                pin(MapPinCategory.PROJECT, 2, 37.50, 127.00),
+                pin(MapPinCategory.PROJECT, 3, 37.50, 127.00),
+                pin(MapPinCategory.CAFE, 4, 37.52, 127.02)
+        ));
+
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, EnumSet.of(MapPinCategory.CAFE), null, null)))
+                .containsExactly(4L);
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, EnumSet.of(MapPinCategory.CAFE), 37.5, 127.0)))
+                .containsExactly(4L);
+    }
+
+    @Test
+    void upsertMovesPinAndRemoveDropsIt() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 100);
+        index.replaceAll(List.of(pin(MapPinCategory.STUDY, 7, 37.5, 127.0)));
+
+        index.upsert(pin(MapPinCategory.STUDY, 7, -37.5, -127.0));
+        // 같은 id 라도 카테고리가 다르면 다른 핀
+        index.upsert(pin(MapPinCategory.CAFE, 7, 37.5, 127.0));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.query(37.4, 126.9, 37.6, 127.1, ALL, null, null))
+                .extracting(MapPin::getCategory).containsExactly(MapPinCategory.CAFE);
+        assertThat(ids(index.query(-37.6, -127.1, -37.4, -126.9, ALL, null, null))).containsExactly(7L);
+
+        index.remove(MapPinCategory.STUDY, 7);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.query(-37.6, -127.1, -37.4, -126.9, ALL, null, null)).isEmpty();
+    }
+
+    @Test
+    void clusterCountsOnlyPinsInsideBoundsAndCategories() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 1);
+        index.replaceAll(List.of(
+                pin(MapPinCategory.PROJECT, 1, -0.02, -0.02),
+                pin(MapPinCategory.PROJECT, 2, -0.03, -0.03),
+                pin(MapPinCategory.PROJECT, 3, 0.02, 0.02),
+                pin(MapPinCategory.CAFE, 4, -0.02, -0.02),
+                pin(MapPinCategory.STUDY, 5, 5.0, 5.0)
+        ));
+
+        List<MapClusterGrid.Cell> cells = index.cluster(-1, -1, 1, 1, EnumSet.of(MapPinCategory.PROJECT), 0.1);
+
+        // maxResults 는 클러스터 집계에 적용되지 않는다
+        assertThat(cells).extracting(MapClusterGrid.Cell::getCount).containsExactly(2, 1);
+        assertThat(cells).allSatisfy(c -> assertThat(c.getCategory()).isEqualTo(MapPinCategory.PROJECT));
+    }
+
+    @Test
+    void notReadyUntilFirstLoad() {
+        MapSpatialIndex index = new MapSpatialIndex(0.05, 10);
+        assertThat(index.isReady()).isFalse();
+
+        index.replaceAll(List.of());
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.query(-90, -180, 90, 180, ALL, null, null)).isEmpty();
+    }
+
+    private static List<Long> ids(List<MapPin> pins) {
+        return pins.stream().map(MapPin::getId).toList();
+    }
+
+    private static MapPin pin(MapPinCategory category, long id, double lat, double lng) {
+        return MapPin.builder()
+                .category(category)
+                .id(id)
+                .latitude(lat)
+                .longitude(lng)
+                .title(category.getKey() + "-" + id)
+                .build();
+    }
+}
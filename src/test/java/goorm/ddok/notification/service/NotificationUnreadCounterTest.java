@@ -0,0 +1,139 @@
+package goorm.ddok.notification.service;
+
+import goorm.ddok.notification.dto.NotificationPayload;
+import goorm.ddok.notification.event.NotificationReadEvent;
+import goorm.ddok.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽음 처리(-n)가 커밋 직전에 반영되고, 커밋/롤백 이후 처리가 저장(+n)과 같은지
+ */
+class NotificationUnreadCounterTest {
+
+    private static final long USER_ID = 7L;
+    private static final String KEY = "noti:unread:7";
+
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> values;
+    private NotificationRepository notificationRepository;
+    private NotificationPushService pushService;
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.opsForSet()).thenReturn(mock(SetOperations.class));
+        notificationRepository = mock(NotificationRepository.class);
+        pushService = mock(NotificationPushService.class);
+        counter = new NotificationUnreadCounter(redis, notificationRepository, pushService,
+                new SimpleMeterRegistry(), 3600, 100);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void readDecrementsBeforeCommitAndPushesAfterCommit() {
+        scriptReturns(4L);
+
+        counter.on(new NotificationReadEvent(USER_ID, 2));
+
+        verify(redis).execute(any(RedisScript.class), eq(List.of(KEY)), eq("-2"), anyString());
+        verify(pushService, never()).pushToUser(anyLong(), any());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(pushedCount()).isEqualTo(4L);
+        verify(redis, never()).delete(anyString());
+    }
+
+    @Test
+    void keyMissingAtCommitIsEvictedAndReloadedInsteadOfDecremented() {
+        // 커밋 직전엔 키가 없었고, 커밋~리스너 사이 get() 이 읽음 반영된 DB 값을 채웠다고 가정
+        scriptReturns(-1L);
+        when(notificationRepository.countByReceiver_IdAndReadFalse(USER_ID)).thenReturn(3L);
+
+        counter.on(new NotificationReadEvent(USER_ID, 1));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        InOrder order = inOrder(redis, values);
+        order.verify(redis).delete(KEY);
+        order.verify(values).setIfAbsent(eq(KEY), eq("3"), any(Duration.class));
+        assertThat(pushedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void rollbackEvictsTheAppliedDecrement() {
+        scriptReturns(0L);
+
+        counter.on(new NotificationReadEvent(USER_ID, 1));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(redis).delete(KEY);
+        verify(pushService, never()).pushToUser(anyLong(), any());
+    }
+
+    @Test
+    void outsideTransactionAppliesAndPushesImmediately() {
+        TransactionSynchronizationManager.clearSynchronization();
+        scriptReturns(5L);
+        try {
+            counter.on(new NotificationReadEvent(USER_ID, 1));
+        } finally {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        assertThat(pushedCount()).isEqualTo(5L);
+    }
+
+    /* ---------- 지원 ---------- */
+
+    @SuppressWarnings("unchecked")
+    private void scriptReturns(Long value) {
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(value);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private Long pushedCount() {
+        ArgumentCaptor<NotificationPayload> payload = ArgumentCaptor.forClass(NotificationPayload.class);
+        verify(pushService).pushToUser(eq(USER_ID), payload.capture());
+        return payload.getValue().getUnreadCount();
+    }
+}